@@ -33,12 +33,25 @@ CREATE TABLE routine
     reminder_minutes INT UNSIGNED                                        NULL,
     memo             TEXT                                                NULL,
     shared_count     INT UNSIGNED       DEFAULT 0                        NOT NULL,
+    active_until     DATE                                                NULL,
     created_at       DATETIME                                            NOT NULL,
     updated_at       DATETIME                                            NOT NULL,
     deleted_at       DATETIME                                            NULL,
     FOREIGN KEY (user_id) REFERENCES users (id)
 );
 
+CREATE TABLE routine_weekday
+(
+    id          BIGINT PRIMARY KEY AUTO_INCREMENT,
+    routine_id  BIGINT                                                                             NOT NULL,
+    day_of_week ENUM ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY') NOT NULL,
+    created_at  DATETIME                                                                           NOT NULL,
+    updated_at  DATETIME                                                                           NOT NULL,
+    deleted_at  DATETIME                                                                           NULL,
+    FOREIGN KEY (routine_id) REFERENCES routine (id),
+    CONSTRAINT routine_weekday_routine_day_uk UNIQUE (routine_id, day_of_week)
+);
+
 CREATE TABLE social
 (
     id           BIGINT PRIMARY KEY auto_increment,
@@ -48,11 +61,18 @@ CREATE TABLE social
     content      VARCHAR(255) NOT NULL,
     is_anonymous BOOLEAN      NOT NULL,
     like_count   int          NOT NULL DEFAULT 0,
+    comment_count int         NOT NULL DEFAULT 0,
+    view_count   BIGINT       NOT NULL DEFAULT 0,
+    category_mask BIGINT      NOT NULL DEFAULT 0,
+    report_count BIGINT       NOT NULL DEFAULT 0,
+    hidden_at    DATETIME     NULL,
     created_at   DATETIME     NOT NULL,
     updated_at   DATETIME     NOT NULL,
     deleted_at   DATETIME     NULL,
     FOREIGN KEY (user_id) REFERENCES users (id),
-    FOREIGN KEY (routine_id) REFERENCES routine (id)
+    FOREIGN KEY (routine_id) REFERENCES routine (id),
+    INDEX social_report_count_idx (report_count, id),
+    FULLTEXT INDEX social_title_content_fulltext (title, content) WITH PARSER ngram
 );
 
 CREATE TABLE routine_record
@@ -60,12 +80,30 @@ CREATE TABLE routine_record
     id           BIGINT PRIMARY KEY AUTO_INCREMENT,
     routine_id   BIGINT   NULL,
     record_at    DATETIME NOT NULL,
+    record_date  DATE     NOT NULL,
     is_all_day   BOOLEAN  NOT NULL,
     is_completed BOOLEAN  NOT NULL DEFAULT false,
     created_at   DATETIME NOT NULL,
     updated_at   DATETIME NOT NULL,
     deleted_at   DATETIME NULL,
-    FOREIGN KEY (routine_id) REFERENCES routine (id) ON DELETE SET NULL
+    FOREIGN KEY (routine_id) REFERENCES routine (id) ON DELETE SET NULL,
+    CONSTRAINT routine_record_routine_date_uk UNIQUE (routine_id, record_date)
+);
+
+CREATE TABLE routine_stats
+(
+    routine_id         BIGINT PRIMARY KEY,
+    current_streak     INT           NOT NULL DEFAULT 0,
+    longest_streak     INT           NOT NULL DEFAULT 0,
+    streak_end_date    DATE          NULL,
+    completion_bitmap  VARBINARY(16) NOT NULL,
+    bitmap_anchor_date DATE          NULL,
+    needs_recompute    BOOLEAN       NOT NULL DEFAULT false,
+    created_at         DATETIME      NOT NULL,
+    updated_at         DATETIME      NOT NULL,
+    deleted_at         DATETIME      NULL,
+    FOREIGN KEY (routine_id) REFERENCES routine (id),
+    INDEX routine_stats_needs_recompute_idx (needs_recompute, routine_id)
 );
 
 CREATE TABLE comment
@@ -81,7 +119,8 @@ CREATE TABLE comment
     deleted_at DATETIME NULL,
     FOREIGN KEY (user_id) REFERENCES users (id),
     FOREIGN KEY (social_id) REFERENCES social (id),
-    FOREIGN KEY (parent_id) REFERENCES comment (id)
+    FOREIGN KEY (parent_id) REFERENCES comment (id),
+    INDEX comment_social_parent_idx (social_id, parent_id, id)
 );
 
 CREATE TABLE comment_likes
@@ -116,7 +155,9 @@ CREATE TABLE likes
     updated_at DATETIME NOT NULL,
     deleted_at DATETIME NULL,
     FOREIGN KEY (user_id) REFERENCES users (id),
-    FOREIGN KEY (social_id) REFERENCES social (id)
+    FOREIGN KEY (social_id) REFERENCES social (id),
+    CONSTRAINT likes_user_social_unique UNIQUE (user_id, social_id),
+    INDEX likes_social_id_idx (social_id, id, user_id)
 );
 
 CREATE TABLE shared_routine
@@ -209,7 +250,45 @@ CREATE TABLE follow
     followed_id BIGINT   NOT NULL,
     follower_id BIGINT   NOT NULL,
     FOREIGN KEY (followed_id) REFERENCES users (id),
-    FOREIGN KEY (follower_id) REFERENCES users (id)
+    FOREIGN KEY (follower_id) REFERENCES users (id),
+    INDEX follow_followed_id_idx (followed_id, id, follower_id),
+    INDEX follow_follower_id_idx (follower_id, id, followed_id),
+    INDEX follow_follower_followed_idx (follower_id, followed_id)
+);
+
+CREATE TABLE social_card
+(
+    social_id  BIGINT PRIMARY KEY,
+    images     JSON     NOT NULL,
+    categories JSON     NOT NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    deleted_at DATETIME NULL,
+    FOREIGN KEY (social_id) REFERENCES social (id)
+);
+
+CREATE TABLE social_comment_cascade
+(
+    social_id          BIGINT PRIMARY KEY,
+    comment_deleted_at DATETIME NOT NULL,
+    created_at         DATETIME NOT NULL,
+    updated_at         DATETIME NOT NULL,
+    deleted_at         DATETIME NULL,
+    FOREIGN KEY (social_id) REFERENCES social (id),
+    INDEX social_comment_cascade_created_at_idx (created_at)
+);
+
+CREATE TABLE user_stats
+(
+    user_id             BIGINT PRIMARY KEY,
+    follower_count      INT      NOT NULL DEFAULT 0,
+    following_count     INT      NOT NULL DEFAULT 0,
+    post_count          INT      NOT NULL DEFAULT 0,
+    routine_share_count INT      NOT NULL DEFAULT 0,
+    created_at          DATETIME NOT NULL,
+    updated_at          DATETIME NOT NULL,
+    deleted_at          DATETIME NULL,
+    FOREIGN KEY (user_id) REFERENCES users (id)
 );
 
 CREATE TABLE social_category_link
@@ -221,7 +300,8 @@ CREATE TABLE social_category_link
     social_id          BIGINT   NOT NULL,
     social_category_id BIGINT   NOT NULL,
     FOREIGN KEY (social_id) REFERENCES social (id),
-    FOREIGN KEY (social_category_id) REFERENCES social_category (id)
+    FOREIGN KEY (social_category_id) REFERENCES social_category (id),
+    INDEX social_category_link_social_category_idx (social_id, social_category_id)
 );
 
 INSERT INTO social_category (name, created_at, updated_at)
@@ -254,7 +334,8 @@ CREATE TABLE report
     updated_at  DATETIME                                                                                                      NOT NULL,
     deleted_at  DATETIME                                                                                                      NULL,
     FOREIGN KEY (user_id) REFERENCES users (id),
-    FOREIGN KEY (social_id) REFERENCES social (id)
+    FOREIGN KEY (social_id) REFERENCES social (id),
+    CONSTRAINT report_user_social_unique UNIQUE (user_id, social_id)
 );
 
 CREATE TABLE diary
@@ -0,0 +1,21 @@
+-- 신고 누적으로 게시글을 숨기기 위한 컬럼을 추가하고, 같은 사용자가 같은 게시글을 중복 신고한 행을 정리한 뒤
+-- (user_id, social_id) 유니크 제약을 추가합니다. 가장 먼저 접수된 신고만 남기고, 남은 신고 수로 모든 게시글의
+-- report_count 를 채웁니다.
+
+ALTER TABLE social
+    ADD COLUMN report_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN hidden_at DATETIME NULL,
+    ADD INDEX social_report_count_idx (report_count, id);
+
+DELETE r
+FROM report r
+         JOIN report kept
+              ON kept.user_id = r.user_id
+                  AND kept.social_id = r.social_id
+                  AND kept.id < r.id;
+
+UPDATE social s
+SET s.report_count = (SELECT COUNT(*) FROM report r WHERE r.social_id = s.id);
+
+ALTER TABLE report
+    ADD CONSTRAINT report_user_social_unique UNIQUE (user_id, social_id);
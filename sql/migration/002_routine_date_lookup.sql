@@ -0,0 +1,50 @@
+-- 날짜별 루틴 조회를 인덱스로 처리하기 위해 요일 테이블, 기록 날짜, 유효 종료일을 추가하고 기존 데이터를 채웁니다.
+-- 요일 행은 days_of_week 비트마스크(월요일 0번 비트 ~ 일요일 6번 비트)에서 만들고, 유효 종료일은 Routine.syncActiveUntil 과
+-- 같은 규칙으로 계산합니다. 삭제 시각보다 이른 시각의 루틴은 삭제 당일까지, 종일 루틴이거나 그 외의 경우는 전날까지 유효합니다.
+
+ALTER TABLE routine
+    ADD COLUMN active_until DATE NULL AFTER shared_count;
+
+CREATE TABLE routine_weekday
+(
+    id          BIGINT PRIMARY KEY AUTO_INCREMENT,
+    routine_id  BIGINT                                                                             NOT NULL,
+    day_of_week ENUM ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY') NOT NULL,
+    created_at  DATETIME                                                                           NOT NULL,
+    updated_at  DATETIME                                                                           NOT NULL,
+    deleted_at  DATETIME                                                                           NULL,
+    FOREIGN KEY (routine_id) REFERENCES routine (id),
+    CONSTRAINT routine_weekday_routine_day_uk UNIQUE (routine_id, day_of_week)
+);
+
+ALTER TABLE routine_record
+    ADD COLUMN record_date DATE NULL AFTER record_at;
+
+INSERT INTO routine_weekday (routine_id, day_of_week, created_at, updated_at)
+SELECT r.id, d.day_of_week, NOW(), NOW()
+FROM routine r
+         JOIN (SELECT 0 AS bit_index, 'MONDAY' AS day_of_week
+               UNION ALL SELECT 1, 'TUESDAY'
+               UNION ALL SELECT 2, 'WEDNESDAY'
+               UNION ALL SELECT 3, 'THURSDAY'
+               UNION ALL SELECT 4, 'FRIDAY'
+               UNION ALL SELECT 5, 'SATURDAY'
+               UNION ALL SELECT 6, 'SUNDAY') d
+              ON r.days_of_week & (1 << d.bit_index) > 0
+WHERE NOT EXISTS (SELECT 1
+                  FROM routine_weekday w
+                  WHERE w.routine_id = r.id
+                    AND w.day_of_week = d.day_of_week);
+
+UPDATE routine_record
+SET record_date = DATE(record_at);
+
+ALTER TABLE routine_record
+    MODIFY record_date DATE NOT NULL,
+    ADD INDEX routine_record_routine_date_idx (routine_id, record_date);
+
+UPDATE routine
+SET active_until = IF(time IS NOT NULL AND time < TIME(deleted_at),
+                      DATE(deleted_at),
+                      DATE(deleted_at) - INTERVAL 1 DAY)
+WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,14 @@
+-- 같은 루틴의 같은 날짜에 쌓인 중복 기록을 정리하고 (routine_id, record_date) 유니크 제약으로 바꿉니다.
+-- 가장 최근에 변경된 기록만 남기며, 변경 시각이 같으면 나중에 생성된 기록을 남깁니다.
+
+DELETE r
+FROM routine_record r
+         JOIN routine_record kept
+              ON kept.routine_id = r.routine_id
+                  AND kept.record_date = r.record_date
+                  AND (kept.updated_at > r.updated_at
+                      OR (kept.updated_at = r.updated_at AND kept.id > r.id));
+
+ALTER TABLE routine_record
+    DROP INDEX routine_record_routine_date_idx,
+    ADD CONSTRAINT routine_record_routine_date_uk UNIQUE (routine_id, record_date);
@@ -0,0 +1,20 @@
+-- 게시글 좋아요를 (user_id, social_id) 유니크 제약으로 보호합니다.
+-- 좋아요는 취소나 게시글 삭제 시 행을 삭제하므로, 이전에 soft delete 된 행을 먼저 지웁니다. 이어서 같은 사용자의
+-- 같은 게시글 좋아요 중 가장 먼저 생성된 행만 남기고, 남은 좋아요 수로 모든 게시글의 like_count 를 다시 맞춥니다.
+
+DELETE
+FROM likes
+WHERE deleted_at IS NOT NULL;
+
+DELETE l
+FROM likes l
+         JOIN likes kept
+              ON kept.user_id = l.user_id
+                  AND kept.social_id = l.social_id
+                  AND kept.id < l.id;
+
+UPDATE social s
+SET s.like_count = (SELECT COUNT(*) FROM likes l WHERE l.social_id = s.id);
+
+ALTER TABLE likes
+    ADD CONSTRAINT likes_user_social_unique UNIQUE (user_id, social_id);
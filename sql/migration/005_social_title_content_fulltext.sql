@@ -0,0 +1,5 @@
+-- 게시글 검색이 MATCH ... AGAINST 로 처리되도록 제목과 본문에 ngram 파서 FULLTEXT 인덱스를 추가합니다.
+-- FULLTEXT 인덱스가 없으면 MySQL 은 검색 쿼리를 거부하므로, 검색 기능을 배포하기 전에 적용해야 합니다.
+
+ALTER TABLE social
+    ADD FULLTEXT INDEX social_title_content_fulltext (title, content) WITH PARSER ngram;
@@ -0,0 +1,8 @@
+-- 게시글의 댓글 수를 social.comment_count 에 저장하기 위해 컬럼을 추가하고, 삭제되지 않은 댓글 수로 모든 게시글의 값을 채웁니다.
+-- 이후의 어긋남은 SocialReconcileService 가 매일 보정합니다.
+
+ALTER TABLE social
+    ADD COLUMN comment_count INT NOT NULL DEFAULT 0 AFTER like_count;
+
+UPDATE social s
+SET s.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.social_id = s.id AND c.deleted_at IS NULL);
@@ -0,0 +1,12 @@
+-- 카테고리 필터링을 위한 social.category_mask 컬럼을 추가하고, social_category_link 로 모든 게시글의 값을 채웁니다.
+-- SocialCategoryBitmask 와 같이 카테고리 ID n 은 (n - 1) 번째 비트이며, 비트마스크로 표현할 수 없는 ID(64 이상)는 제외합니다.
+
+ALTER TABLE social
+    ADD COLUMN category_mask BIGINT NOT NULL DEFAULT 0 AFTER comment_count;
+
+UPDATE social s
+SET s.category_mask = (SELECT COALESCE(BIT_OR(1 << (l.social_category_id - 1)), 0)
+                       FROM social_category_link l
+                       WHERE l.social_id = s.id
+                         AND l.deleted_at IS NULL
+                         AND l.social_category_id BETWEEN 1 AND 63);
@@ -0,0 +1,4 @@
+-- Redis 에 모은 고유 조회 수를 주기적으로 저장하기 위한 social.view_count 컬럼을 추가합니다.
+
+ALTER TABLE social
+    ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0 AFTER comment_count;
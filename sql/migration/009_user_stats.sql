@@ -0,0 +1,15 @@
+-- 프로필 집계 값을 저장하는 user_stats 테이블을 추가합니다.
+-- 기존 사용자의 행은 UserStatsReconcileService 의 야간 작업이 생성하고 값을 채웁니다.
+
+CREATE TABLE user_stats
+(
+    user_id             BIGINT PRIMARY KEY,
+    follower_count      INT      NOT NULL DEFAULT 0,
+    following_count     INT      NOT NULL DEFAULT 0,
+    post_count          INT      NOT NULL DEFAULT 0,
+    routine_share_count INT      NOT NULL DEFAULT 0,
+    created_at          DATETIME NOT NULL,
+    updated_at          DATETIME NOT NULL,
+    deleted_at          DATETIME NULL,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,13 @@
+-- 피드 카드 읽기 모델인 social_card 테이블을 추가합니다.
+-- 게시글 작성/수정 시 카드가 함께 갱신되며, 기존 게시글의 카드는 SocialCardBackfillService 의 야간 작업이 생성합니다.
+
+CREATE TABLE social_card
+(
+    social_id  BIGINT PRIMARY KEY,
+    images     JSON     NOT NULL,
+    categories JSON     NOT NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    deleted_at DATETIME NULL,
+    FOREIGN KEY (social_id) REFERENCES social (id)
+);
@@ -0,0 +1,13 @@
+-- 댓글이 많은 게시글의 댓글 일괄 삭제 작업을 기록하는 social_comment_cascade 테이블을 추가합니다.
+-- 게시글 삭제 트랜잭션에서 행이 저장되므로, 테이블이 없으면 댓글이 많은 게시글을 삭제할 수 없습니다.
+
+CREATE TABLE social_comment_cascade
+(
+    social_id          BIGINT PRIMARY KEY,
+    comment_deleted_at DATETIME NOT NULL,
+    created_at         DATETIME NOT NULL,
+    updated_at         DATETIME NOT NULL,
+    deleted_at         DATETIME NULL,
+    FOREIGN KEY (social_id) REFERENCES social (id),
+    INDEX social_comment_cascade_created_at_idx (created_at)
+);
@@ -0,0 +1,24 @@
+-- 루틴별 집계 값을 저장하는 routine_stats 테이블을 추가합니다. 루틴 생성 시 집계 행이 함께 저장되므로,
+-- 이 테이블이 없으면 루틴을 생성할 수 없습니다. 기존 루틴의 행은 재계산 대상으로 생성해 두고, 값은
+-- RoutineStatsRecomputeService 의 재계산 작업이 루틴 기록으로 채웁니다.
+
+CREATE TABLE routine_stats
+(
+    routine_id         BIGINT PRIMARY KEY,
+    current_streak     INT           NOT NULL DEFAULT 0,
+    longest_streak     INT           NOT NULL DEFAULT 0,
+    streak_end_date    DATE          NULL,
+    completion_bitmap  VARBINARY(16) NOT NULL,
+    bitmap_anchor_date DATE          NULL,
+    needs_recompute    BOOLEAN       NOT NULL DEFAULT false,
+    created_at         DATETIME      NOT NULL,
+    updated_at         DATETIME      NOT NULL,
+    deleted_at         DATETIME      NULL,
+    FOREIGN KEY (routine_id) REFERENCES routine (id),
+    INDEX routine_stats_needs_recompute_idx (needs_recompute, routine_id)
+);
+
+INSERT INTO routine_stats
+    (routine_id, current_streak, longest_streak, completion_bitmap, needs_recompute, created_at, updated_at)
+SELECT r.id, 0, 0, X'', TRUE, NOW(), NOW()
+FROM routine r;
@@ -0,0 +1,4 @@
+-- 게시글의 최상위 댓글 키셋 조회와 답글 조회가 (social_id, parent_id, id) 인덱스 범위 스캔으로 처리되도록 인덱스를 추가합니다.
+
+ALTER TABLE comment
+    ADD INDEX comment_social_parent_idx (social_id, parent_id, id);
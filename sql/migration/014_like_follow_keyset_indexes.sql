@@ -0,0 +1,10 @@
+-- 좋아요한 사용자, 팔로워, 팔로잉 목록의 키셋 조회가 테이블 행을 읽지 않고 인덱스만으로 처리되도록 커버링 인덱스를 추가합니다.
+-- follow_follower_followed_idx 는 팔로우 여부 확인에 사용합니다.
+
+ALTER TABLE likes
+    ADD INDEX likes_social_id_idx (social_id, id, user_id);
+
+ALTER TABLE follow
+    ADD INDEX follow_followed_id_idx (followed_id, id, follower_id),
+    ADD INDEX follow_follower_id_idx (follower_id, id, followed_id),
+    ADD INDEX follow_follower_followed_idx (follower_id, followed_id);
@@ -0,0 +1,4 @@
+-- 게시글 ID 목록으로 카테고리 링크를 조회하는 쿼리가 인덱스로 처리되도록 (social_id, social_category_id) 인덱스를 추가합니다.
+
+ALTER TABLE social_category_link
+    ADD INDEX social_category_link_social_category_idx (social_id, social_category_id);
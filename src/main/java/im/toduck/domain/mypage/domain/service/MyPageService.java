@@ -8,15 +8,19 @@ import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.domain.user.persistence.repository.UserRepository;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
+import im.toduck.global.moderation.ForbiddenWordFilter;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class MyPageService {
 	private final UserRepository userRepository;
+	private final ForbiddenWordFilter forbiddenWordFilter;
 
 	@Transactional
 	public void updateUniqueNickname(User user, String nickname) {
+		forbiddenWordFilter.validate(nickname);
+
 		try {
 			userRepository.updateNickname(user, nickname);
 		} catch (DataIntegrityViolationException e) {
@@ -29,7 +29,8 @@ public interface MyPageApi {
 			description = "닉네임 변경 성공, 빈 content 객체를 반환합니다."
 		),
 		errors = {
-			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.EXISTS_USER_NICKNAME)
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.EXISTS_USER_NICKNAME),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.FORBIDDEN_WORD_INCLUDED)
 		}
 	)
 	ResponseEntity<ApiResponse<Map<String, Object>>> updateNickname(
@@ -2,18 +2,26 @@ package im.toduck.domain.routine.common.mapper;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.entity.RoutineRecord;
+import im.toduck.domain.routine.persistence.entity.RoutineStats;
 import im.toduck.domain.routine.persistence.vo.PlanCategoryColor;
 import im.toduck.domain.routine.persistence.vo.RoutineMemo;
 import im.toduck.domain.routine.presentation.dto.request.RoutineCreateRequest;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineAvailableListResponse;
+import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordRangeReadResponse;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordReadListResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineCreateResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineDetailResponse;
+import im.toduck.domain.routine.presentation.dto.response.RoutineStatsResponse;
 import im.toduck.domain.social.presentation.dto.response.UserProfileRoutineListResponse;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.helper.DaysOfWeekBitmask;
@@ -69,6 +77,77 @@ public class RoutineMapper {
 			.build();
 	}
 
+	/**
+	 * 기간의 루틴과 루틴 기록으로 날짜별 루틴 목록을 만듭니다. 날짜마다의 구성은 {@link #toMyRoutineRecordReadListResponse} 와 같습니다.
+	 * <p>
+	 * 루틴마다 반복 요일 비트마스크와 유효 기간을 배열로 한 번만 꺼내 두고, 날짜마다 요일 비트와 AND 연산해 반복 여부를 확인합니다.
+	 * 이미 기록이 있는 루틴은 날짜마다 재사용하는 {@link BitSet} 으로 걸러냅니다.
+	 */
+	public static MyRoutineRecordRangeReadResponse toMyRoutineRecordRangeReadResponse(
+		final LocalDate startDate,
+		final LocalDate endDate,
+		final List<Routine> routines,
+		final List<RoutineRecord> routineRecords
+	) {
+		int routineCount = routines.size();
+		byte[] dayBitmasks = new byte[routineCount];
+		LocalDate[] firstDates = new LocalDate[routineCount];
+		LocalDate[] lastDates = new LocalDate[routineCount];
+		Map<Long, Integer> routineIndexes = new HashMap<>(routineCount * 2);
+		for (int i = 0; i < routineCount; i++) {
+			Routine routine = routines.get(i);
+			dayBitmasks[i] = routine.getDaysOfWeekBitmask().getValue();
+			firstDates[i] = routine.getCreatedAt().toLocalDate();
+			lastDates[i] = routine.getActiveUntil();
+			routineIndexes.put(routine.getId(), i);
+		}
+
+		Map<LocalDate, List<RoutineRecord>> recordsByDate = new HashMap<>();
+		for (RoutineRecord record : routineRecords) {
+			recordsByDate.computeIfAbsent(record.getRecordDate(), date -> new ArrayList<>()).add(record);
+		}
+
+		List<MyRoutineRecordReadListResponse> dailyRoutines =
+			new ArrayList<>((int)ChronoUnit.DAYS.between(startDate, endDate) + 1);
+		BitSet recordedRoutines = new BitSet(routineCount);
+		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+			List<RoutineRecord> records = recordsByDate.getOrDefault(date, List.of());
+			recordedRoutines.clear();
+			for (RoutineRecord record : records) {
+				Integer index = routineIndexes.get(record.getRoutine().getId());
+				if (index != null) {
+					recordedRoutines.set(index);
+				}
+			}
+
+			byte dayBitmask = DaysOfWeekBitmask.getDayBitmask(date.getDayOfWeek());
+			List<MyRoutineRecordReadListResponse.MyRoutineReadResponse> routineResponses = new ArrayList<>();
+			for (int i = 0; i < routineCount; i++) {
+				if (recordedRoutines.get(i)
+					|| (dayBitmasks[i] & dayBitmask) == 0
+					|| firstDates[i].isAfter(date)
+					|| (lastDates[i] != null && lastDates[i].isBefore(date))) {
+					continue;
+				}
+				routineResponses.add(toMyRoutineRecordReadResponse(routines.get(i), INCOMPLETE_STATUS));
+			}
+			for (RoutineRecord record : records) {
+				routineResponses.add(toMyRoutineRecordReadResponse(record.getRoutine(), record.getIsCompleted()));
+			}
+
+			dailyRoutines.add(MyRoutineRecordReadListResponse.builder()
+				.queryDate(date)
+				.routines(routineResponses)
+				.build());
+		}
+
+		return MyRoutineRecordRangeReadResponse.builder()
+			.queryStartDate(startDate)
+			.queryEndDate(endDate)
+			.dailyRoutines(dailyRoutines)
+			.build();
+	}
+
 	private static MyRoutineRecordReadListResponse.MyRoutineReadResponse toMyRoutineRecordReadResponse(
 		final Routine routine,
 		final boolean isCompleted
@@ -100,6 +179,21 @@ public class RoutineMapper {
 			.build();
 	}
 
+	public static RoutineStatsResponse toRoutineStatsResponse(
+		final Routine routine,
+		final RoutineStats routineStats,
+		final LocalDate today
+	) {
+		return RoutineStatsResponse.builder()
+			.routineId(routine.getId())
+			.currentStreak(routineStats.getCurrentStreakOn(routine, today))
+			.longestStreak(routineStats.getLongestStreak())
+			.completionRateLast7Days(routineStats.getCompletionRateOn(routine, today, 7))
+			.completionRateLast30Days(routineStats.getCompletionRateOn(routine, today, 30))
+			.completionRateLast90Days(routineStats.getCompletionRateOn(routine, today, 90))
+			.build();
+	}
+
 	public static MyRoutineAvailableListResponse toMyRoutineAvailableListResponse(final List<Routine> routines) {
 		List<MyRoutineAvailableListResponse.MyRoutineAvailableResponse> routineResponses = routines.stream()
 			.map(RoutineMapper::toMyRoutineRecordReadResponse)
@@ -0,0 +1,126 @@
+package im.toduck.domain.routine.domain.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordReadListResponse;
+import im.toduck.global.util.TransactionSynchronizationUtil;
+import im.toduck.infra.redis.agenda.AgendaLookup;
+import im.toduck.infra.redis.agenda.RoutineAgendaCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 홈 화면의 날짜별 본인 루틴 목록을 (사용자, 날짜) 단위로 캐시하는 서비스입니다.
+ * <p>
+ * 캐시에 없을 때만 트랜잭션을 열어 루틴 기록과 기록되지 않은 루틴을 조회하므로, 캐시 적중 시에는 DB 커넥션을 사용하지 않습니다.
+ * 루틴 기록 변경은 해당 날짜만, 루틴 생성과 삭제는 사용자의 모든 날짜를 커밋 이후 무효화합니다.
+ * 적중률과 적중/미적중별 평균 조회 시간은 {@link #reportStats()} 가 주기적으로 로그로 남깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoutineAgendaService {
+	private final RoutineAgendaCacheService routineAgendaCacheService;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder hitNanos = new LongAdder();
+	private final LongAdder missNanos = new LongAdder();
+
+	/**
+	 * 날짜의 루틴 목록을 캐시에서 조회하고, 없으면 {@code loader} 로 조회해 캐시에 저장합니다.
+	 *
+	 * @param loader 트랜잭션 안에서 DB 로부터 루틴 목록을 조회하는 함수
+	 */
+	public MyRoutineRecordReadListResponse getAgenda(
+		final Long userId,
+		final LocalDate date,
+		final Supplier<MyRoutineRecordReadListResponse> loader
+	) {
+		long startedAt = System.nanoTime();
+		AgendaLookup lookup = routineAgendaCacheService.lookup(userId, date);
+
+		if (lookup.isHit()) {
+			MyRoutineRecordReadListResponse cached = deserialize(lookup.agenda());
+			if (cached != null) {
+				hitCount.increment();
+				hitNanos.add(System.nanoTime() - startedAt);
+				return cached;
+			}
+		}
+
+		MyRoutineRecordReadListResponse agenda = transactionTemplate.execute(status -> loader.get());
+		String serialized = serialize(agenda);
+		if (serialized != null) {
+			routineAgendaCacheService.store(userId, lookup.version(), date, serialized);
+		}
+
+		missCount.increment();
+		missNanos.add(System.nanoTime() - startedAt);
+		return agenda;
+	}
+
+	public void evictDate(final Long userId, final LocalDate date) {
+		TransactionSynchronizationUtil.runAfterCommit(() -> routineAgendaCacheService.evict(userId, date));
+	}
+
+	public void evictAll(final Long userId) {
+		TransactionSynchronizationUtil.runAfterCommit(() -> routineAgendaCacheService.evictAll(userId));
+	}
+
+	/**
+	 * 지난 집계 이후의 캐시 적중률과 평균 조회 시간을 로그로 남기고 집계를 초기화합니다.
+	 */
+	@Scheduled(cron = "0 */10 * * * *")
+	public void reportStats() {
+		long hits = hitCount.sumThenReset();
+		long misses = missCount.sumThenReset();
+		long hitTotalNanos = hitNanos.sumThenReset();
+		long missTotalNanos = missNanos.sumThenReset();
+
+		long requests = hits + misses;
+		if (requests == 0) {
+			return;
+		}
+
+		log.info("루틴 일정 캐시 통계 - Requests: {}, HitRate: {}%, 평균 조회 시간 hit/miss(us): {}/{}",
+			requests,
+			Math.round(hits * 1000.0 / requests) / 10.0,
+			averageMicros(hitTotalNanos, hits),
+			averageMicros(missTotalNanos, misses));
+	}
+
+	private long averageMicros(final long totalNanos, final long count) {
+		return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos / count);
+	}
+
+	private String serialize(final MyRoutineRecordReadListResponse agenda) {
+		try {
+			return objectMapper.writeValueAsString(agenda);
+		} catch (JsonProcessingException e) {
+			log.warn("루틴 일정 직렬화 실패 - Date: {}", agenda.queryDate(), e);
+			return null;
+		}
+	}
+
+	private MyRoutineRecordReadListResponse deserialize(final String agenda) {
+		try {
+			return objectMapper.readValue(agenda, MyRoutineRecordReadListResponse.class);
+		} catch (JsonProcessingException e) {
+			log.warn("루틴 일정 역직렬화 실패, DB 에서 다시 조회합니다.", e);
+			return null;
+		}
+	}
+}
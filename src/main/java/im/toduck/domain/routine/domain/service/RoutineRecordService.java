@@ -1,12 +1,12 @@
 package im.toduck.domain.routine.domain.service;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import im.toduck.domain.routine.common.mapper.RoutineRecordMapper;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.entity.RoutineRecord;
 import im.toduck.domain.routine.persistence.repository.RoutineRecordRepository;
@@ -19,33 +19,35 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RoutineRecordService {
 	private final RoutineRecordRepository routineRecordRepository;
+	private final RoutineAgendaService routineAgendaService;
+	private final RoutineStatsService routineStatsService;
 
 	public List<RoutineRecord> getRecords(final User user, final LocalDate date) {
 		return routineRecordRepository.findRoutineRecordsForUserAndDate(user, date);
 	}
 
-	@Transactional
-	public void create(
-		final Routine routine,
-		final LocalDate date,
-		final boolean isCompleted
+	public List<RoutineRecord> getRecordsForDateRange(
+		final User user,
+		final LocalDate startDate,
+		final LocalDate endDate
 	) {
-		RoutineRecord routineRecord = RoutineRecordMapper.toRoutineRecord(routine, date, isCompleted);
-		routineRecordRepository.save(routineRecord);
+		return routineRecordRepository.findRoutineRecordsForUserAndDateRange(user, startDate, endDate);
+	}
+
+	public List<RoutineRecord> getRecords(final Collection<Routine> routines, final Collection<LocalDate> dates) {
+		return routineRecordRepository.findAllByRoutineInAndRecordDateIn(routines, dates);
 	}
 
+	/**
+	 * 루틴 기록의 완료 상태를 저장합니다. 기록이 없으면 생성하고, 있으면 완료 상태만 변경합니다.
+	 */
 	@Transactional
-	public boolean updateIfPresent(
-		final Routine routine,
-		final LocalDate date,
-		final boolean isCompleted
-	) {
-		return routineRecordRepository.findByRoutineAndRecordDate(routine, date)
-			.map(record -> {
-				record.changeCompletion(isCompleted);
-				return true;
-			})
-			.orElse(false);
+	public void upsertCompletions(final List<RoutineRecord> routineRecords) {
+		routineRecords.forEach(record ->
+			routineAgendaService.evictDate(record.getRoutine().getUser().getId(), record.getRecordDate())
+		);
+		routineStatsService.applyCompletions(routineRecords);
+		routineRecordRepository.upsertCompletions(routineRecords);
 	}
 
 	public void removeIncompletedFuturesByRoutine(final Routine routine) {
@@ -54,5 +56,6 @@ public class RoutineRecordService {
 
 	public void removeAllByRoutine(final Routine routine) {
 		routineRecordRepository.deleteAllByRoutine(routine);
+		routineStatsService.markNeedsRecompute(routine);
 	}
 }
@@ -1,6 +1,7 @@
 package im.toduck.domain.routine.domain.service;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,7 @@ import im.toduck.domain.routine.persistence.entity.RoutineRecord;
 import im.toduck.domain.routine.persistence.repository.RoutineRepository;
 import im.toduck.domain.routine.presentation.dto.request.RoutineCreateRequest;
 import im.toduck.domain.routine.presentation.dto.response.RoutineCreateResponse;
+import im.toduck.domain.user.domain.service.UserStatsService;
 import im.toduck.domain.user.persistence.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +24,18 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class RoutineService {
 	private final RoutineRepository routineRepository;
+	private final UserStatsService userStatsService;
+	private final RoutineAgendaService routineAgendaService;
+	private final RoutineStatsService routineStatsService;
 
 	@Transactional
 	public RoutineCreateResponse create(final User user, final RoutineCreateRequest request) {
 		Routine routine = RoutineMapper.toRoutine(user, request);
+		Routine savedRoutine = routineRepository.save(routine);
+		routineStatsService.create(savedRoutine);
+		routineAgendaService.evictAll(user.getId());
 
-		return RoutineMapper.toRoutineCreateResponse(
-			routineRepository.save(routine)
-		);
+		return RoutineMapper.toRoutineCreateResponse(savedRoutine);
 	}
 
 	public List<Routine> getUnrecordedRoutinesForDate(
@@ -41,6 +47,14 @@ public class RoutineService {
 		return routineRepository.findUnrecordedRoutinesForDate(user, date, routineRecords);
 	}
 
+	public List<Routine> getRoutinesForDateRange(
+		final User user,
+		final LocalDate startDate,
+		final LocalDate endDate
+	) {
+		return routineRepository.findRoutinesForDateRange(user, startDate, endDate);
+	}
+
 	public Optional<Routine> getUserRoutine(final User user, final Long id) {
 		return routineRepository.findByIdAndUserAndDeletedAtIsNull(id, user);
 	}
@@ -49,8 +63,8 @@ public class RoutineService {
 		return routineRepository.findByIdAndUser(id, user);
 	}
 
-	public boolean canCreateRecordForDate(final Routine routine, final LocalDate date) {
-		return routineRepository.isActiveForDate(routine, date);
+	public List<Routine> getUserRoutinesIncludingDeleted(final User user, final Collection<Long> ids) {
+		return routineRepository.findAllByIdInAndUser(ids, user);
 	}
 
 	public List<Routine> getAvailableRoutine(final User user) {
@@ -68,13 +82,19 @@ public class RoutineService {
 
 	@Transactional
 	public void remove(final Routine routine) {
+		boolean wasShared = Boolean.TRUE.equals(routine.getIsPublic()) && !routine.isInDeletedState();
 		routine.delete();
 		routineRepository.save(routine);
+		if (wasShared) {
+			userStatsService.decreaseRoutineShareCount(routine.getUser().getId(), routine.getSharedCount());
+		}
+		routineAgendaService.evictAll(routine.getUser().getId());
 	}
 
 	@Transactional
 	public void incrementSharedCountAtomically(final Routine sourceRoutine) {
 		routineRepository.incrementSharedCountAtomically(sourceRoutine.getId());
+		userStatsService.increaseRoutineShareCount(sourceRoutine.getUser().getId(), 1);
 	}
 
 	@Transactional(readOnly = true)
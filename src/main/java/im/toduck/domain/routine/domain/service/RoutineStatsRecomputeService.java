@@ -0,0 +1,116 @@
+package im.toduck.domain.routine.domain.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import im.toduck.domain.routine.persistence.entity.Routine;
+import im.toduck.domain.routine.persistence.entity.RoutineRecord;
+import im.toduck.domain.routine.persistence.entity.RoutineStats;
+import im.toduck.domain.routine.persistence.repository.RoutineRecordRepository;
+import im.toduck.domain.routine.persistence.repository.RoutineRepository;
+import im.toduck.domain.routine.persistence.repository.RoutineStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * routine_stats 의 집계 값을 루틴 기록 기준으로 다시 계산하는 서비스입니다.
+ * <p>
+ * 지난 날짜의 완료 상태 변경처럼 증분으로 반영할 수 없어 재계산 대상으로 표시된 행은 매분 처리합니다.
+ * 집계 행이 없는 기존 루틴은 매일 루틴 ID 구간 단위로 재계산 대상 행을 생성해 두고, 값은 재계산 작업이 채웁니다.
+ * 모든 작업은 청크마다 별도의 트랜잭션에서 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoutineStatsRecomputeService {
+	private static final int RECOMPUTE_CHUNK_SIZE = 100;
+	private static final long BACKFILL_CHUNK_SIZE = 500L;
+
+	private final RoutineRepository routineRepository;
+	private final RoutineRecordRepository routineRecordRepository;
+	private final RoutineStatsRepository routineStatsRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Scheduled(cron = "0 * * * * *")
+	public void recomputeStaleStats() {
+		int recomputedCount = 0;
+		int chunkRecomputedCount;
+
+		do {
+			Integer count = transactionTemplate.execute(status -> recomputeStaleChunk());
+			chunkRecomputedCount = count == null ? 0 : count;
+			recomputedCount += chunkRecomputedCount;
+		} while (chunkRecomputedCount == RECOMPUTE_CHUNK_SIZE);
+
+		if (recomputedCount > 0) {
+			log.info("루틴 집계 값 재계산 완료 - RecomputedCount: {}", recomputedCount);
+		}
+	}
+
+	@Scheduled(cron = "0 30 4 * * *")
+	public void backfillRoutineStats() {
+		long maxRoutineId = routineRepository.findMaxIdIncludingDeleted();
+		int createdCount = 0;
+
+		for (long fromId = 0; fromId < maxRoutineId; fromId += BACKFILL_CHUNK_SIZE) {
+			long chunkFromId = fromId;
+			long chunkToId = Math.min(fromId + BACKFILL_CHUNK_SIZE, maxRoutineId);
+
+			Integer chunkCreatedCount = transactionTemplate.execute(
+				status -> routineStatsRepository.insertMissingRoutineStats(chunkFromId, chunkToId)
+			);
+			createdCount += chunkCreatedCount == null ? 0 : chunkCreatedCount;
+		}
+
+		log.info("루틴 집계 값 백필 완료 - MaxRoutineId: {}, CreatedCount: {}", maxRoutineId, createdCount);
+	}
+
+	/**
+	 * 재계산 대상 행을 잠그는 조회로 트랜잭션을 시작한 뒤 다시 계산합니다. 잠금 없이 읽은 값에 의존하지 않으므로
+	 * 다른 작업이 먼저 처리한 행은 조회 결과에 포함되지 않습니다.
+	 */
+	private int recomputeStaleChunk() {
+		List<RoutineStats> routineStats =
+			routineStatsRepository.findAllNeedingRecomputeForUpdate(PageRequest.of(0, RECOMPUTE_CHUNK_SIZE));
+		if (routineStats.isEmpty()) {
+			return 0;
+		}
+
+		List<Routine> routines = routineRepository.findAllById(routineStats.stream()
+			.map(RoutineStats::getRoutineId)
+			.toList());
+		recompute(routines, routineStats);
+
+		return routineStats.size();
+	}
+
+	private void recompute(final List<Routine> routines, final List<RoutineStats> routineStats) {
+		if (routines.isEmpty()) {
+			return;
+		}
+
+		LocalDate today = LocalDate.now();
+		Map<Long, RoutineStats> statsByRoutineId = routineStats.stream()
+			.collect(Collectors.toMap(RoutineStats::getRoutineId, Function.identity()));
+		Map<Long, List<LocalDate>> completedDatesByRoutineId =
+			routineRecordRepository.findAllByRoutineInAndIsCompletedTrue(routines).stream()
+				.collect(Collectors.groupingBy(
+					record -> record.getRoutine().getId(),
+					Collectors.mapping(RoutineRecord::getRecordDate, Collectors.toList())
+				));
+
+		routines.forEach(routine -> statsByRoutineId.get(routine.getId()).recompute(
+			routine,
+			completedDatesByRoutineId.getOrDefault(routine.getId(), List.of()),
+			today
+		));
+	}
+}
@@ -0,0 +1,78 @@
+package im.toduck.domain.routine.domain.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.routine.persistence.entity.Routine;
+import im.toduck.domain.routine.persistence.entity.RoutineRecord;
+import im.toduck.domain.routine.persistence.entity.RoutineStats;
+import im.toduck.domain.routine.persistence.repository.RoutineRecordRepository;
+import im.toduck.domain.routine.persistence.repository.RoutineStatsRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 루틴별 집계 값(routine_stats)을 조회하고 갱신하는 서비스입니다.
+ * <p>
+ * 완료 상태 변경은 같은 트랜잭션에서 집계 행을 잠근 뒤 증분으로 반영하므로, 조회 시 루틴 기록을 다시 읽지 않습니다.
+ * 재계산이 필요한 행과 집계 행이 없는 기존 루틴은 {@link RoutineStatsRecomputeService} 가 주기적으로 채웁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoutineStatsService {
+	private final RoutineStatsRepository routineStatsRepository;
+	private final RoutineRecordRepository routineRecordRepository;
+
+	@Transactional
+	public void create(final Routine routine) {
+		routineStatsRepository.save(RoutineStats.from(routine));
+	}
+
+	/**
+	 * 루틴 기록의 완료 상태 변경을 집계 값에 반영합니다. 집계 행이 없는 루틴은 백필에서 기록 전체로 계산되므로 건너뜁니다.
+	 */
+	@Transactional
+	public void applyCompletions(final List<RoutineRecord> routineRecords) {
+		Map<Long, RoutineStats> statsByRoutineId = routineStatsRepository.findAllForUpdate(
+			routineRecords.stream()
+				.map(record -> record.getRoutine().getId())
+				.collect(Collectors.toSet())
+		).stream().collect(Collectors.toMap(RoutineStats::getRoutineId, Function.identity()));
+
+		routineRecords.forEach(record -> {
+			RoutineStats routineStats = statsByRoutineId.get(record.getRoutine().getId());
+			if (routineStats != null) {
+				routineStats.applyCompletion(record.getRoutine(), record.getRecordDate(), record.getIsCompleted());
+			}
+		});
+	}
+
+	@Transactional
+	public void markNeedsRecompute(final Routine routine) {
+		routineStatsRepository.markNeedsRecompute(routine.getId());
+	}
+
+	/**
+	 * 루틴의 집계 값을 조회합니다. 아직 반영되지 않은 변경이 있거나 집계 행이 없으면 루틴 기록으로 계산한 값을 반환합니다.
+	 */
+	@Transactional(readOnly = true)
+	public RoutineStats getStats(final Routine routine) {
+		return routineStatsRepository.findById(routine.getId())
+			.filter(routineStats -> !routineStats.isNeedsRecompute())
+			.orElseGet(() -> {
+				List<LocalDate> completedDates =
+					routineRecordRepository.findAllByRoutineInAndIsCompletedTrue(List.of(routine)).stream()
+						.map(RoutineRecord::getRecordDate)
+						.toList();
+
+				RoutineStats routineStats = RoutineStats.from(routine);
+				routineStats.recompute(routine, completedDates, LocalDate.now());
+				return routineStats;
+			});
+	}
+}
@@ -1,21 +1,34 @@
 package im.toduck.domain.routine.domain.usecase;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.transaction.annotation.Transactional;
 
 import im.toduck.domain.routine.common.mapper.RoutineMapper;
+import im.toduck.domain.routine.common.mapper.RoutineRecordMapper;
+import im.toduck.domain.routine.domain.service.RoutineAgendaService;
 import im.toduck.domain.routine.domain.service.RoutineRecordService;
 import im.toduck.domain.routine.domain.service.RoutineService;
+import im.toduck.domain.routine.domain.service.RoutineStatsService;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.entity.RoutineRecord;
+import im.toduck.domain.routine.presentation.dto.request.RoutineBulkCompletionRequest;
+import im.toduck.domain.routine.presentation.dto.request.RoutineBulkCompletionRequest.RoutineCompletionItem;
 import im.toduck.domain.routine.presentation.dto.request.RoutineCreateRequest;
 import im.toduck.domain.routine.presentation.dto.request.RoutinePutCompletionRequest;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineAvailableListResponse;
+import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordRangeReadResponse;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordReadListResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineCreateResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineDetailResponse;
+import im.toduck.domain.routine.presentation.dto.response.RoutineStatsResponse;
 import im.toduck.domain.user.domain.service.UserService;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.annotation.UseCase;
@@ -28,9 +41,13 @@ import lombok.extern.slf4j.Slf4j;
 @UseCase
 @RequiredArgsConstructor
 public class RoutineUseCase {
+	private static final long MAX_RANGE_DAYS = 31;
+
 	private final UserService userService;
 	private final RoutineService routineService;
 	private final RoutineRecordService routineRecordService;
+	private final RoutineAgendaService routineAgendaService;
+	private final RoutineStatsService routineStatsService;
 
 	@Transactional
 	public RoutineCreateResponse createRoutine(final Long userId, final RoutineCreateRequest request) {
@@ -43,51 +60,131 @@ public class RoutineUseCase {
 		return routineCreateResponse;
 	}
 
-	@Transactional(readOnly = true)
 	public MyRoutineRecordReadListResponse readMyRoutineRecordList(final Long userId, final LocalDate date) {
+		MyRoutineRecordReadListResponse response = routineAgendaService.getAgenda(
+			userId,
+			date,
+			() -> loadMyRoutineRecordList(userId, date)
+		);
+
+		log.info("본인 루틴 기록 목록 조회 - UserId: {}, 조회한 날짜: {}", userId, date);
+		return response;
+	}
+
+	private MyRoutineRecordReadListResponse loadMyRoutineRecordList(final Long userId, final LocalDate date) {
 		User user = userService.getUserById(userId)
 			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
 
 		List<RoutineRecord> routineRecords = routineRecordService.getRecords(user, date);
 		List<Routine> routines = routineService.getUnrecordedRoutinesForDate(user, date, routineRecords);
 
-		log.info("본인 루틴 기록 목록 조회 - UserId: {}, 조회한 날짜: {}", userId, date);
 		return RoutineMapper.toMyRoutineRecordReadListResponse(date, routines, routineRecords);
 	}
 
+	/**
+	 * 주간, 월간 화면을 위해 기간의 날짜별 루틴 목록을 조회합니다.
+	 * 루틴과 루틴 기록을 각각 한 번씩만 조회하고, 날짜별 반복 여부는 메모리에서 계산합니다.
+	 */
+	@Transactional(readOnly = true)
+	public MyRoutineRecordRangeReadResponse readMyRoutineRecordRange(
+		final Long userId,
+		final LocalDate startDate,
+		final LocalDate endDate
+	) {
+		if (endDate.isBefore(startDate) || ChronoUnit.DAYS.between(startDate, endDate) >= MAX_RANGE_DAYS) {
+			log.info("본인 루틴 기록 기간 조회 실패 - UserId: {}, 기간: {} ~ {}", userId, startDate, endDate);
+			throw CommonException.from(ExceptionCode.ROUTINE_INVALID_DATE_RANGE);
+		}
+
+		User user = userService.getUserById(userId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+
+		List<Routine> routines = routineService.getRoutinesForDateRange(user, startDate, endDate);
+		List<RoutineRecord> routineRecords = routineRecordService.getRecordsForDateRange(user, startDate, endDate);
+
+		log.info("본인 루틴 기록 기간 조회 - UserId: {}, 기간: {} ~ {}", userId, startDate, endDate);
+		return RoutineMapper.toMyRoutineRecordRangeReadResponse(startDate, endDate, routines, routineRecords);
+	}
+
 	@Transactional
 	public void updateRoutineCompletion(
 		final Long userId,
 		final Long routineId,
 		final RoutinePutCompletionRequest request
 	) {
+		RoutineCompletionItem completion =
+			new RoutineCompletionItem(routineId, request.routineDate(), request.isCompleted());
+		applyCompletions(userId, List.of(completion));
+
+		log.info(
+			"루틴 상태 변경 성공 - 사용자 Id: {}, 루틴 Id: {}, 루틴 날짜: {}, 완료상태: {}",
+			userId, routineId, request.routineDate(), request.isCompleted()
+		);
+	}
+
+	@Transactional
+	public void updateRoutineCompletions(final Long userId, final RoutineBulkCompletionRequest request) {
+		applyCompletions(userId, request.completions());
+
+		log.info("루틴 상태 일괄 변경 성공 - 사용자 Id: {}, 변경 수: {}", userId, request.completions().size());
+	}
+
+	/**
+	 * 완료 상태 변경 요청을 한 번에 검증하고 저장합니다.
+	 * <p>
+	 * 요청된 루틴을 한 번에 조회한 뒤 메모리에서 날짜별 반복 여부를 확인합니다. 반복되지 않는 날짜라도 이미 기록이 있으면
+	 * (반복 요일 변경 전의 기록 등) 완료 상태를 변경할 수 있으므로, 그런 항목이 있을 때만 기존 기록을 조회합니다.
+	 * 검증을 통과하면 모든 항목을 upsert 하므로, 같은 요청이 동시에 들어와도 기록은 하나만 남습니다.
+	 * 같은 루틴과 날짜가 여러 번 포함되면 마지막 항목을 사용합니다.
+	 */
+	private void applyCompletions(final Long userId, final List<RoutineCompletionItem> completions) {
 		User user = userService.getUserById(userId)
 			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
-		Routine routine = routineService.getUserRoutineIncludingDeleted(user, routineId)
-			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_ROUTINE));
-
-		LocalDate date = request.routineDate();
-		boolean isCompleted = request.isCompleted();
 
-		if (routineRecordService.updateIfPresent(routine, date, isCompleted)) {
-			log.info(
-				"루틴 상태 변경 성공(기록 수정) - 사용자 Id: {}, 루틴 Id: {}, 루틴 날짜: {}, 완료상태: {}",
-				userId, routineId, date, isCompleted
-			);
-			return;
+		Map<RecordKey, RoutineCompletionItem> completionsByKey = new LinkedHashMap<>();
+		completions.forEach(completion -> completionsByKey.put(RecordKey.from(completion), completion));
+
+		Set<Long> routineIds = completionsByKey.keySet().stream()
+			.map(RecordKey::routineId)
+			.collect(Collectors.toSet());
+		Map<Long, Routine> routines = routineService.getUserRoutinesIncludingDeleted(user, routineIds).stream()
+			.collect(Collectors.toMap(Routine::getId, Function.identity()));
+		if (routines.size() != routineIds.size()) {
+			log.info("루틴 상태 변경 실패 - 사용자 Id: {}, 요청 루틴 Id: {}", userId, routineIds);
+			throw CommonException.from(ExceptionCode.NOT_FOUND_ROUTINE);
 		}
 
-		// TODO: 이때는 루틴이 삭제 상태인 경우 삭제시점 이전 데이터만 반복 가능
-		if (!routineService.canCreateRecordForDate(routine, date)) {
-			log.info("루틴 상태 변경 실패 - 사용자 Id: {}, 루틴 Id: {}, 루틴 날짜: {}", userId, routineId, date);
+		List<RecordKey> unscheduledKeys = completionsByKey.keySet().stream()
+			.filter(key -> !routines.get(key.routineId()).isActiveOn(key.date()))
+			.toList();
+		if (!unscheduledKeys.isEmpty() && !allRecorded(routines, unscheduledKeys)) {
+			log.info("루틴 상태 변경 실패 - 사용자 Id: {}, 유효하지 않은 루틴 날짜: {}", userId, unscheduledKeys);
 			throw CommonException.from(ExceptionCode.ROUTINE_INVALID_DATE);
 		}
 
-		routineRecordService.create(routine, date, isCompleted);
-		log.info(
-			"루틴 상태 변경 성공(기록 생성) - 사용자 Id: {}, 루틴 Id: {}, 루틴 날짜: {}, 완료상태: {}",
-			userId, routineId, date, isCompleted
-		);
+		List<RoutineRecord> routineRecords = completionsByKey.values().stream()
+			.map(completion -> RoutineRecordMapper.toRoutineRecord(
+				routines.get(completion.routineId()),
+				completion.routineDate(),
+				completion.isCompleted()
+			))
+			.toList();
+		routineRecordService.upsertCompletions(routineRecords);
+	}
+
+	private boolean allRecorded(final Map<Long, Routine> routines, final List<RecordKey> keys) {
+		List<Routine> keyRoutines = keys.stream()
+			.map(key -> routines.get(key.routineId()))
+			.distinct()
+			.toList();
+		Set<LocalDate> keyDates = keys.stream()
+			.map(RecordKey::date)
+			.collect(Collectors.toSet());
+
+		Set<RecordKey> recordedKeys = routineRecordService.getRecords(keyRoutines, keyDates).stream()
+			.map(record -> new RecordKey(record.getRoutine().getId(), record.getRecordDate()))
+			.collect(Collectors.toSet());
+		return recordedKeys.containsAll(keys);
 	}
 
 	@Transactional(readOnly = true)
@@ -100,6 +197,23 @@ public class RoutineUseCase {
 		return RoutineMapper.toRoutineDetailResponse(routine);
 	}
 
+	@Transactional(readOnly = true)
+	public RoutineStatsResponse readStats(final Long userId, final Long routineId) {
+		User user = userService.getUserById(userId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+		Routine routine = routineService.getUserRoutineIncludingDeleted(user, routineId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_ROUTINE));
+
+		RoutineStatsResponse response = RoutineMapper.toRoutineStatsResponse(
+			routine,
+			routineStatsService.getStats(routine),
+			LocalDate.now()
+		);
+
+		log.info("루틴 통계 조회 - 사용자 Id: {}, 루틴 Id: {}", userId, routineId);
+		return response;
+	}
+
 	@Transactional(readOnly = true)
 	public MyRoutineAvailableListResponse readMyAvailableRoutineList(final Long userId) {
 		User user = userService.getUserById(userId)
@@ -130,4 +244,10 @@ public class RoutineUseCase {
 	}
 
 	// TODO: 삭제된 루틴에 대해서는 루틴 수정 금지 필요
+
+	private record RecordKey(Long routineId, LocalDate date) {
+		static RecordKey from(final RoutineCompletionItem completion) {
+			return new RecordKey(completion.routineId(), completion.routineDate());
+		}
+	}
 }
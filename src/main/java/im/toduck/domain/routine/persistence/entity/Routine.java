@@ -1,7 +1,10 @@
 package im.toduck.domain.routine.persistence.entity;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.annotations.ColumnDefault;
 
@@ -12,6 +15,7 @@ import im.toduck.domain.routine.persistence.vo.RoutineMemo;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.base.entity.BaseEntity;
 import im.toduck.global.helper.DaysOfWeekBitmask;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Embedded;
@@ -24,6 +28,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Getter;
@@ -71,10 +78,19 @@ public class Routine extends BaseEntity {
 	@ColumnDefault("0")
 	private Integer sharedCount = 0;
 
+	/**
+	 * 루틴이 마지막으로 반복되는 날짜입니다. 삭제되지 않은 루틴은 null 이며, 삭제 시각을 기준으로 {@link #syncActiveUntil()} 에서 계산됩니다.
+	 */
+	@Column(name = "active_until")
+	private LocalDate activeUntil;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", nullable = false)
 	private User user;
 
+	@OneToMany(mappedBy = "routine", cascade = CascadeType.PERSIST)
+	private List<RoutineWeekday> weekdays = new ArrayList<>();
+
 	@Builder
 	private Routine(
 		PlanCategory category,
@@ -96,6 +112,8 @@ public class Routine extends BaseEntity {
 		this.time = time;
 		this.daysOfWeekBitmask = daysOfWeekBitmask;
 		this.user = user;
+		daysOfWeekBitmask.getDaysOfWeek()
+			.forEach(dayOfWeek -> this.weekdays.add(new RoutineWeekday(this, dayOfWeek)));
 	}
 
 	public String getColorValue() {
@@ -108,10 +126,37 @@ public class Routine extends BaseEntity {
 
 	public void delete() {
 		this.deletedAt = LocalDateTime.now();
+		syncActiveUntil();
 	}
 
 	public Boolean isInDeletedState() {
 		return deletedAt != null;
 	}
 
+	/**
+	 * 루틴이 주어진 날짜에 반복되는지 확인합니다. 생성일 이후이고, 반복 요일이며, 삭제된 경우 마지막 반복 날짜 이전이어야 합니다.
+	 */
+	public boolean isActiveOn(final LocalDate date) {
+		return daysOfWeekBitmask.includesDayOf(date)
+			&& !getCreatedAt().toLocalDate().isAfter(date)
+			&& (activeUntil == null || !activeUntil.isBefore(date));
+	}
+
+	/**
+	 * 삭제 시각 이전에 시작하는 반복만 유효하므로, 루틴 시간이 삭제 시각보다 이르면 삭제된 날짜까지,
+	 * 그렇지 않거나 종일 루틴이면 삭제 전날까지 반복됩니다.
+	 */
+	@PrePersist
+	@PreUpdate
+	private void syncActiveUntil() {
+		if (deletedAt == null) {
+			activeUntil = null;
+			return;
+		}
+
+		LocalDate deletedDate = deletedAt.toLocalDate();
+		boolean startsBeforeDeletion = time != null && time.isBefore(deletedAt.toLocalTime());
+		activeUntil = startsBeforeDeletion ? deletedDate : deletedDate.minusDays(1);
+	}
+
 }
@@ -1,5 +1,6 @@
 package im.toduck.domain.routine.persistence.entity;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import im.toduck.global.base.entity.BaseEntity;
@@ -12,13 +13,20 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "routine_record")
+@Table(
+	name = "routine_record",
+	uniqueConstraints = @UniqueConstraint(
+		name = "routine_record_routine_date_uk",
+		columnNames = {"routine_id", "record_date"}
+	)
+)
 @NoArgsConstructor
 public class RoutineRecord extends BaseEntity {
 
@@ -33,6 +41,13 @@ public class RoutineRecord extends BaseEntity {
 	@Column(name = "record_at", nullable = false)
 	private LocalDateTime recordAt;
 
+	/**
+	 * 기록 날짜입니다. 루틴마다 하루에 하나의 기록만 존재하도록 (routine_id, record_date) 고유 키를 두고,
+	 * 날짜 단위 조회와 완료 상태 upsert 가 이 키를 사용합니다.
+	 */
+	@Column(name = "record_date", nullable = false)
+	private LocalDate recordDate;
+
 	@Column(name = "is_all_day", nullable = false)
 	private Boolean isAllDay;
 
@@ -43,6 +58,7 @@ public class RoutineRecord extends BaseEntity {
 	private RoutineRecord(Routine routine, LocalDateTime recordAt, Boolean isAllDay, Boolean isCompleted) {
 		this.routine = routine;
 		this.recordAt = recordAt;
+		this.recordDate = recordAt.toLocalDate();
 		this.isAllDay = isAllDay;
 		this.isCompleted = isCompleted;
 	}
@@ -0,0 +1,243 @@
+package im.toduck.domain.routine.persistence.entity;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+
+import org.springframework.data.domain.Persistable;
+
+import im.toduck.global.base.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 루틴 통계(연속 달성, 기간별 달성률) 조회에 사용되는 루틴별 집계 값입니다.
+ * <p>
+ * routine_record 를 원본으로 하는 비정규화 값이며, 완료 상태가 바뀔 때 {@link #applyCompletion} 으로 증분 갱신합니다.
+ * 연속 달성은 반복 요일만 세므로 반복하지 않는 요일은 연속을 끊지 않습니다.
+ * 최근 완료 여부는 {@code bitmapAnchorDate} 를 0번 비트로 하루 전마다 한 비트씩, 최대 {@value #TRACKED_DAYS}일을 저장합니다.
+ * 마지막 연속 구간 이전 날짜의 변경이나 완료 취소처럼 증분으로 반영할 수 없는 변경은 {@code needsRecompute} 로 표시하고,
+ * 기록 전체를 기준으로 {@link #recompute} 합니다. 행은 루틴 ID 를 기본 키로 사용하며, 저장 시 merge 를 위한 조회가
+ * 실행되지 않도록 저장되거나 조회되기 전까지는 새 엔티티로 취급합니다.
+ */
+@Entity
+@Table(
+	name = "routine_stats",
+	indexes = @Index(name = "routine_stats_needs_recompute_idx", columnList = "needs_recompute, routine_id")
+)
+@NoArgsConstructor
+@Getter
+public class RoutineStats extends BaseEntity implements Persistable<Long> {
+	public static final int TRACKED_DAYS = 128;
+
+	@Id
+	@Column(name = "routine_id")
+	private Long routineId;
+
+	@Column(name = "current_streak", nullable = false)
+	private int currentStreak;
+
+	@Column(name = "longest_streak", nullable = false)
+	private int longestStreak;
+
+	/**
+	 * 현재 연속 구간의 마지막 완료 날짜입니다. 반복 요일 중 가장 최근에 완료한 날짜와 같습니다.
+	 */
+	@Column(name = "streak_end_date")
+	private LocalDate streakEndDate;
+
+	@Column(name = "completion_bitmap", nullable = false, length = TRACKED_DAYS / Byte.SIZE)
+	private byte[] completionBitmap = new byte[0];
+
+	@Column(name = "bitmap_anchor_date")
+	private LocalDate bitmapAnchorDate;
+
+	@Column(name = "needs_recompute", nullable = false)
+	private boolean needsRecompute;
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean persisted;
+
+	private RoutineStats(final Long routineId) {
+		this.routineId = routineId;
+	}
+
+	/**
+	 * 완료 기록이 없는 루틴의 집계 값을 생성합니다.
+	 */
+	public static RoutineStats from(final Routine routine) {
+		return new RoutineStats(routine.getId());
+	}
+
+	/**
+	 * 한 날짜의 완료 상태 변경을 반영합니다.
+	 * <p>
+	 * 마지막 연속 구간 이후 반복 요일을 완료한 경우에만 연속 달성을 직접 갱신합니다. 다음 반복 요일이면 연속을 잇고,
+	 * 그 사이 반복 요일을 놓쳤다면 새 연속을 시작합니다. 그 밖의 변경은 재계산 대상으로 표시합니다.
+	 */
+	public void applyCompletion(final Routine routine, final LocalDate date, final boolean isCompleted) {
+		if (bitmapAnchorDate == null || date.isAfter(bitmapAnchorDate)) {
+			moveAnchorTo(date);
+		}
+
+		long offset = offsetOf(date);
+		if (offset >= TRACKED_DAYS) {
+			needsRecompute = true;
+			return;
+		}
+
+		BitSet bits = BitSet.valueOf(completionBitmap);
+		if (bits.get((int)offset) == isCompleted) {
+			return;
+		}
+		bits.set((int)offset, isCompleted);
+		completionBitmap = bits.toByteArray();
+
+		if (needsRecompute || !routine.getDaysOfWeekBitmask().includesDayOf(date)) {
+			return;
+		}
+
+		if (isCompleted && (streakEndDate == null || date.isAfter(streakEndDate))) {
+			extendStreak(routine, date);
+			return;
+		}
+		needsRecompute = true;
+	}
+
+	/**
+	 * 루틴의 모든 완료 날짜를 기준으로 집계 값을 다시 계산합니다.
+	 */
+	public void recompute(final Routine routine, final Collection<LocalDate> completedDates, final LocalDate today) {
+		currentStreak = 0;
+		longestStreak = 0;
+		streakEndDate = null;
+		bitmapAnchorDate = completedDates.stream()
+			.max(Comparator.naturalOrder())
+			.filter(date -> date.isAfter(today))
+			.orElse(today);
+
+		BitSet bits = new BitSet();
+		completedDates.stream()
+			.sorted()
+			.forEach(date -> {
+				long offset = offsetOf(date);
+				if (offset < TRACKED_DAYS) {
+					bits.set((int)offset);
+				}
+				if (routine.getDaysOfWeekBitmask().includesDayOf(date)) {
+					extendStreak(routine, date);
+				}
+			});
+
+		completionBitmap = bits.toByteArray();
+		needsRecompute = false;
+	}
+
+	/**
+	 * 오늘 기준 연속 달성 일수를 반환합니다. 오늘은 아직 완료하지 않았더라도 연속이 끊기지 않지만,
+	 * 마지막 연속 구간 이후 지나간 반복 요일을 완료하지 않았다면 0 입니다.
+	 */
+	public int getCurrentStreakOn(final Routine routine, final LocalDate today) {
+		if (streakEndDate == null || routine.getDaysOfWeekBitmask().nextDateAfter(streakEndDate).isBefore(today)) {
+			return 0;
+		}
+		return currentStreak;
+	}
+
+	/**
+	 * 오늘을 포함한 최근 {@code days} 일 동안 루틴이 반복된 날짜 중 완료한 날짜의 비율(%)을 반환합니다.
+	 * 오늘은 완료한 경우에만 반복된 날짜로 셉니다.
+	 */
+	public double getCompletionRateOn(final Routine routine, final LocalDate today, final int days) {
+		if (days > TRACKED_DAYS) {
+			throw new IllegalArgumentException("Completion rate can be calculated up to " + TRACKED_DAYS + " days");
+		}
+
+		BitSet bits = BitSet.valueOf(completionBitmap);
+		int scheduledCount = 0;
+		int completedCount = 0;
+		for (int i = 0; i < days; i++) {
+			LocalDate date = today.minusDays(i);
+			if (!routine.isActiveOn(date)) {
+				continue;
+			}
+
+			boolean completed = isCompleted(bits, date);
+			if (completed) {
+				completedCount++;
+			}
+			if (completed || !date.equals(today)) {
+				scheduledCount++;
+			}
+		}
+
+		return scheduledCount == 0 ? 0.0 : Math.round(completedCount * 1000.0 / scheduledCount) / 10.0;
+	}
+
+	private void extendStreak(final Routine routine, final LocalDate date) {
+		boolean continues = streakEndDate != null
+			&& routine.getDaysOfWeekBitmask().nextDateAfter(streakEndDate).equals(date);
+
+		currentStreak = continues ? currentStreak + 1 : 1;
+		longestStreak = Math.max(longestStreak, currentStreak);
+		streakEndDate = date;
+	}
+
+	private boolean isCompleted(final BitSet bits, final LocalDate date) {
+		if (bitmapAnchorDate == null) {
+			return false;
+		}
+
+		long offset = offsetOf(date);
+		return offset >= 0 && offset < TRACKED_DAYS && bits.get((int)offset);
+	}
+
+	private void moveAnchorTo(final LocalDate date) {
+		if (bitmapAnchorDate == null) {
+			bitmapAnchorDate = date;
+			return;
+		}
+
+		long shift = ChronoUnit.DAYS.between(bitmapAnchorDate, date);
+		BitSet bits = BitSet.valueOf(completionBitmap);
+		BitSet shifted = new BitSet();
+		for (int i = bits.nextSetBit(0); i >= 0 && i + shift < TRACKED_DAYS; i = bits.nextSetBit(i + 1)) {
+			shifted.set((int)(i + shift));
+		}
+
+		completionBitmap = shifted.toByteArray();
+		bitmapAnchorDate = date;
+	}
+
+	private long offsetOf(final LocalDate date) {
+		return ChronoUnit.DAYS.between(date, bitmapAnchorDate);
+	}
+
+	@Override
+	public Long getId() {
+		return routineId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		this.persisted = true;
+	}
+}
@@ -0,0 +1,56 @@
+package im.toduck.domain.routine.persistence.entity;
+
+import java.time.DayOfWeek;
+
+import im.toduck.global.base.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 루틴의 반복 요일 하나를 나타냅니다.
+ * <p>
+ * routine.days_of_week 비트마스크를 요일별 행으로 풀어 둔 것으로, 날짜의 루틴을 조회할 때 비트 연산 대신
+ * (routine_id, day_of_week) 고유 키로 요일을 확인합니다. 루틴 생성 시 함께 저장되며, 반복 요일은 생성 이후 바뀌지 않습니다.
+ */
+@Entity
+@Getter
+@Table(
+	name = "routine_weekday",
+	uniqueConstraints = @UniqueConstraint(
+		name = "routine_weekday_routine_day_uk",
+		columnNames = {"routine_id", "day_of_week"}
+	)
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoutineWeekday extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "routine_id", nullable = false)
+	private Routine routine;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "day_of_week", nullable = false, length = 9)
+	private DayOfWeek dayOfWeek;
+
+	RoutineWeekday(final Routine routine, final DayOfWeek dayOfWeek) {
+		this.routine = routine;
+		this.dayOfWeek = dayOfWeek;
+	}
+}
@@ -1,5 +1,9 @@
 package im.toduck.domain.routine.persistence.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +14,11 @@ import im.toduck.domain.routine.persistence.repository.querydsl.RoutineRecordRep
 @Repository
 public interface RoutineRecordRepository extends JpaRepository<RoutineRecord, Long>, RoutineRecordRepositoryCustom {
 	void deleteAllByRoutine(final Routine routine);
+
+	List<RoutineRecord> findAllByRoutineInAndRecordDateIn(
+		final Collection<Routine> routines,
+		final Collection<LocalDate> recordDates
+	);
+
+	List<RoutineRecord> findAllByRoutineInAndIsCompletedTrue(final Collection<Routine> routines);
 }
@@ -1,5 +1,6 @@
 package im.toduck.domain.routine.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,8 @@ import im.toduck.domain.user.persistence.entity.User;
 public interface RoutineRepository extends JpaRepository<Routine, Long>, RoutineRepositoryCustom {
 	Optional<Routine> findByIdAndUser(Long id, User user);
 
+	List<Routine> findAllByIdInAndUser(Collection<Long> ids, User user);
+
 	List<Routine> findAllByUserAndIsPublicTrueAndDeletedAtIsNullOrderByUpdatedAtDesc(User user);
 
 	List<Routine> findAllByUserAndIsPublicTrueAndDeletedAtIsNullOrderByTimeAsc(User user);
@@ -37,4 +40,7 @@ public interface RoutineRepository extends JpaRepository<Routine, Long>, Routine
 			+ "AND r.deletedAt IS NULL"
 	)
 	int sumRoutineSharedCountByUser(@Param("user") User user);
+
+	@Query(value = "SELECT COALESCE(MAX(id), 0) FROM routine", nativeQuery = true)
+	long findMaxIdIncludingDeleted();
 }
@@ -0,0 +1,38 @@
+package im.toduck.domain.routine.persistence.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import im.toduck.domain.routine.persistence.entity.RoutineStats;
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RoutineStatsRepository extends JpaRepository<RoutineStats, Long> {
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM RoutineStats s WHERE s.routineId IN :routineIds ORDER BY s.routineId")
+	List<RoutineStats> findAllForUpdate(@Param("routineIds") Collection<Long> routineIds);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM RoutineStats s WHERE s.needsRecompute = true ORDER BY s.routineId")
+	List<RoutineStats> findAllNeedingRecomputeForUpdate(Pageable pageable);
+
+	@Modifying
+	@Query(value = "INSERT INTO routine_stats "
+		+ "(routine_id, current_streak, longest_streak, completion_bitmap, needs_recompute, created_at, updated_at) "
+		+ "SELECT r.id, 0, 0, X'', TRUE, NOW(), NOW() FROM routine r "
+		+ "WHERE r.id > :fromId AND r.id <= :toId "
+		+ "AND NOT EXISTS (SELECT 1 FROM routine_stats s WHERE s.routine_id = r.id)", nativeQuery = true)
+	int insertMissingRoutineStats(@Param("fromId") long fromId, @Param("toId") long toId);
+
+	@Modifying
+	@Query("UPDATE RoutineStats s SET s.needsRecompute = true WHERE s.routineId = :routineId")
+	void markNeedsRecompute(@Param("routineId") Long routineId);
+}
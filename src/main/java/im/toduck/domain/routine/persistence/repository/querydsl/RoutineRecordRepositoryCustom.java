@@ -11,10 +11,18 @@ import im.toduck.domain.user.persistence.entity.User;
 public interface RoutineRecordRepositoryCustom {
 	List<RoutineRecord> findRoutineRecordsForUserAndDate(final User user, final LocalDate date);
 
+	List<RoutineRecord> findRoutineRecordsForUserAndDateRange(
+		final User user,
+		final LocalDate startDate,
+		final LocalDate endDate
+	);
+
 	Optional<RoutineRecord> findByRoutineAndRecordDate(
 		final Routine routine,
 		final LocalDate date
 	);
 
 	void deleteIncompletedFuturesByRoutine(final Routine routine);
+
+	void upsertCompletions(final List<RoutineRecord> routineRecords);
 }
@@ -2,12 +2,17 @@ package im.toduck.domain.routine.persistence.repository.querydsl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.stereotype.Repository;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import im.toduck.domain.routine.persistence.entity.QRoutine;
@@ -15,12 +20,25 @@ import im.toduck.domain.routine.persistence.entity.QRoutineRecord;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.entity.RoutineRecord;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.global.util.PersistenceContextUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class RoutineRecordRepositoryCustomImpl implements RoutineRecordRepositoryCustom {
+	private static final int UPSERT_BATCH_SIZE = 100;
+	private static final String UPSERT_INSERT = "INSERT INTO routine_record "
+		+ "(routine_id, record_at, record_date, is_all_day, is_completed, created_at, updated_at) VALUES ";
+	private static final String UPSERT_VALUES = "(?, ?, ?, ?, ?, NOW(), NOW())";
+	private static final String MYSQL_ON_DUPLICATE = " AS new ON DUPLICATE KEY UPDATE "
+		+ "is_completed = new.is_completed, updated_at = NOW()";
+	private static final String FALLBACK_ON_DUPLICATE = " ON DUPLICATE KEY UPDATE "
+		+ "is_completed = VALUES(is_completed), updated_at = NOW()";
+
 	private final JPAQueryFactory queryFactory;
+	private final EntityManager entityManager;
 
 	private final QRoutine qRoutine = QRoutine.routine;
 	private final QRoutineRecord qRecord = QRoutineRecord.routineRecord;
@@ -32,7 +50,23 @@ public class RoutineRecordRepositoryCustomImpl implements RoutineRecordRepositor
 			.join(qRecord.routine, qRoutine).fetchJoin()
 			.where(
 				qRoutine.user.eq(user),
-				recordAtBetween(date)
+				qRecord.recordDate.eq(date)
+			)
+			.fetch();
+	}
+
+	@Override
+	public List<RoutineRecord> findRoutineRecordsForUserAndDateRange(
+		final User user,
+		final LocalDate startDate,
+		final LocalDate endDate
+	) {
+		return queryFactory
+			.selectFrom(qRecord)
+			.join(qRecord.routine, qRoutine).fetchJoin()
+			.where(
+				qRoutine.user.eq(user),
+				qRecord.recordDate.between(startDate, endDate)
 			)
 			.fetch();
 	}
@@ -46,20 +80,13 @@ public class RoutineRecordRepositoryCustomImpl implements RoutineRecordRepositor
 			.selectFrom(qRecord)
 			.where(
 				qRecord.routine.eq(routine),
-				recordAtBetween(date)
+				qRecord.recordDate.eq(date)
 			)
 			.fetchOne();
 
 		return Optional.ofNullable(result);
 	}
 
-	private BooleanExpression recordAtBetween(LocalDate date) {
-		return qRecord.recordAt.between(
-			date.atStartOfDay(),
-			date.plusDays(1).atStartOfDay().minusNanos(1)
-		);
-	}
-
 	@Override
 	public void deleteIncompletedFuturesByRoutine(final Routine routine) {
 		queryFactory
@@ -71,4 +98,66 @@ public class RoutineRecordRepositoryCustomImpl implements RoutineRecordRepositor
 			)
 			.execute();
 	}
+
+	/**
+	 * 루틴 기록을 (routine_id, record_date) 고유 키 기준으로 저장합니다. 이미 기록이 있으면 완료 상태만 변경하고,
+	 * 기록 시각은 그대로 둡니다. {@value UPSERT_BATCH_SIZE} 개씩 여러 행을 하나의 INSERT 문으로 실행하며,
+	 * 영속성 컨텍스트에 남은 기록이 변경 전 상태로 읽히지 않도록, 실행 후 저장한 루틴과 날짜의 기록 ID 를 조회해
+	 * 해당 기록만 준영속 상태로 만듭니다.
+	 */
+	@Override
+	public void upsertCompletions(final List<RoutineRecord> routineRecords) {
+		if (routineRecords.isEmpty()) {
+			return;
+		}
+
+		entityManager.flush();
+		String onDuplicate = onDuplicateClause();
+		for (int from = 0; from < routineRecords.size(); from += UPSERT_BATCH_SIZE) {
+			List<RoutineRecord> batch =
+				routineRecords.subList(from, Math.min(from + UPSERT_BATCH_SIZE, routineRecords.size()));
+			String sql = UPSERT_INSERT
+				+ String.join(", ", Collections.nCopies(batch.size(), UPSERT_VALUES))
+				+ onDuplicate;
+
+			Query query = entityManager.createNativeQuery(sql);
+			int position = 1;
+			for (RoutineRecord routineRecord : batch) {
+				query.setParameter(position++, routineRecord.getRoutine().getId());
+				query.setParameter(position++, routineRecord.getRecordAt());
+				query.setParameter(position++, routineRecord.getRecordDate());
+				query.setParameter(position++, routineRecord.getIsAllDay());
+				query.setParameter(position++, routineRecord.getIsCompleted());
+			}
+			query.executeUpdate();
+		}
+
+		Set<Long> routineIds = routineRecords.stream()
+			.map(routineRecord -> routineRecord.getRoutine().getId())
+			.collect(Collectors.toSet());
+		Set<LocalDate> recordDates = routineRecords.stream()
+			.map(RoutineRecord::getRecordDate)
+			.collect(Collectors.toSet());
+		List<Long> upsertedIds = queryFactory
+			.select(qRecord.id)
+			.from(qRecord)
+			.where(
+				qRecord.routine.id.in(routineIds),
+				qRecord.recordDate.in(recordDates)
+			)
+			.fetch();
+		PersistenceContextUtil.detachAll(entityManager, RoutineRecord.class, upsertedIds);
+	}
+
+	/**
+	 * MySQL 에서는 8.0.20 부터 deprecated 된 VALUES() 대신 행 별칭으로 새 값을 참조합니다.
+	 * 행 별칭을 지원하지 않는 데이터베이스(테스트용 H2 등)에서는 VALUES() 를 사용합니다.
+	 */
+	private String onDuplicateClause() {
+		Dialect dialect = entityManager.getEntityManagerFactory()
+			.unwrap(SessionFactoryImplementor.class)
+			.getJdbcServices()
+			.getDialect();
+		return dialect instanceof MySQLDialect ? MYSQL_ON_DUPLICATE : FALLBACK_ON_DUPLICATE;
+	}
 }
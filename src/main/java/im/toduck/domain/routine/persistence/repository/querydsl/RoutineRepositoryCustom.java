@@ -16,4 +16,6 @@ public interface RoutineRepositoryCustom {
 
 	boolean isActiveForDate(final Routine routine, final LocalDate date);
 
+	List<Routine> findRoutinesForDateRange(final User user, final LocalDate startDate, final LocalDate endDate);
+
 }
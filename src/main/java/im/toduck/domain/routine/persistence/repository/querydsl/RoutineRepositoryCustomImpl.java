@@ -8,15 +8,14 @@ import java.util.List;
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.TimePath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import im.toduck.domain.routine.persistence.entity.QRoutine;
+import im.toduck.domain.routine.persistence.entity.QRoutineWeekday;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.entity.RoutineRecord;
 import im.toduck.domain.user.persistence.entity.User;
-import im.toduck.global.helper.DaysOfWeekBitmask;
 import lombok.RequiredArgsConstructor;
 
 @Repository
@@ -24,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class RoutineRepositoryCustomImpl implements RoutineRepositoryCustom {
 	private final JPAQueryFactory queryFactory;
 	private final QRoutine qRoutine = QRoutine.routine;
+	private final QRoutineWeekday qWeekday = QRoutineWeekday.routineWeekday;
 
 	@Override
 	public List<Routine> findUnrecordedRoutinesForDate(
@@ -38,7 +38,7 @@ public class RoutineRepositoryCustomImpl implements RoutineRepositoryCustom {
 				routineCreatedOnOrBeforeDate(date),
 				routineNotRecorded(routineRecords),
 				routineMatchesDate(date),
-				routineNotDeletedOrDeletedAfterDate(qRoutine.time, date))
+				routineActiveOnDate(date))
 			.fetch();
 	}
 
@@ -62,25 +62,37 @@ public class RoutineRepositoryCustomImpl implements RoutineRepositoryCustom {
 				qRoutine.eq(routine),
 				routineCreatedOnOrBeforeDate(date),
 				routineMatchesDate(date),
-				routineNotDeletedOrDeletedAfterDate(qRoutine.time, date)
+				routineActiveOnDate(date)
 			)
 			.fetchFirst();
 
 		return fetchOne != null;
 	}
 
-	private BooleanExpression routineNotDeletedOrDeletedAfterDate(
-		final TimePath<LocalTime> timePath,
-		final LocalDate date
+	/**
+	 * 기간 중 하루라도 반복될 수 있는 루틴을 조회합니다. 반복 요일과 날짜별 유효성은 호출하는 쪽에서 확인합니다.
+	 */
+	@Override
+	public List<Routine> findRoutinesForDateRange(
+		final User user,
+		final LocalDate startDate,
+		final LocalDate endDate
 	) {
-		return qRoutine.deletedAt.isNull().or(
-			Expressions.booleanTemplate(
-				"cast(concat({0}, ' ', cast({1} as time)) as timestamp) < {2}",
-				date,
-				timePath,
-				qRoutine.deletedAt
+		return queryFactory
+			.selectFrom(qRoutine)
+			.where(
+				qRoutine.user.eq(user),
+				routineCreatedOnOrBeforeDate(endDate),
+				routineActiveOnDate(startDate)
 			)
-		);
+			.fetch();
+	}
+
+	/**
+	 * 삭제된 루틴은 삭제 시 계산해 둔 마지막 반복 날짜까지만 조회합니다.
+	 */
+	private BooleanExpression routineActiveOnDate(final LocalDate date) {
+		return qRoutine.activeUntil.isNull().or(qRoutine.activeUntil.goe(date));
 	}
 
 	private BooleanExpression routineCreatedOnOrBeforeDate(final LocalDate date) {
@@ -88,10 +100,17 @@ public class RoutineRepositoryCustomImpl implements RoutineRepositoryCustom {
 		return qRoutine.createdAt.loe(endOfDay);
 	}
 
+	/**
+	 * 반복 요일은 (routine_id, day_of_week) 고유 키로 확인하므로 루틴마다 인덱스 조회 한 번으로 끝납니다.
+	 */
 	private BooleanExpression routineMatchesDate(final LocalDate date) {
-		byte dayBitmask = DaysOfWeekBitmask.getDayBitmask(date.getDayOfWeek());
-		return Expressions.numberTemplate(
-			Byte.class, "function('bitand', {0}, CAST({1} as byte))", qRoutine.daysOfWeekBitmask, dayBitmask
-		).gt((byte)0);
+		return JPAExpressions
+			.selectOne()
+			.from(qWeekday)
+			.where(
+				qWeekday.routine.eq(qRoutine),
+				qWeekday.dayOfWeek.eq(date.getDayOfWeek())
+			)
+			.exists();
 	}
 }
@@ -9,12 +9,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import im.toduck.domain.routine.presentation.dto.request.RoutineBulkCompletionRequest;
 import im.toduck.domain.routine.presentation.dto.request.RoutineCreateRequest;
 import im.toduck.domain.routine.presentation.dto.request.RoutinePutCompletionRequest;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineAvailableListResponse;
+import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordRangeReadResponse;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordReadListResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineCreateResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineDetailResponse;
+import im.toduck.domain.routine.presentation.dto.response.RoutineStatsResponse;
 import im.toduck.global.annotation.swagger.ApiErrorResponseExplanation;
 import im.toduck.global.annotation.swagger.ApiResponseExplanations;
 import im.toduck.global.annotation.swagger.ApiSuccessResponseExplanation;
@@ -59,6 +62,28 @@ public interface RoutineApi {
 		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
 	);
 
+	@Operation(
+		summary = "기간 본인 루틴 기록 목록 조회",
+		description = "주간, 월간 화면을 위해 기간 내 날짜별 자신의 루틴 기록 목록을 한 번에 조회합니다. "
+			+ "날짜별 목록은 특정 날짜 조회와 같은 형식이며, 조회 기간은 시작 날짜와 종료 날짜를 포함해 최대 31일입니다."
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = MyRoutineRecordRangeReadResponse.class,
+			description = "기간 루틴 목록 조회 성공, 시작 날짜부터 날짜순으로 날짜별 루틴 목록을 반환합니다."
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.ROUTINE_INVALID_DATE_RANGE)
+		}
+	)
+	ResponseEntity<ApiResponse<MyRoutineRecordRangeReadResponse>> getMyRoutineRangeList(
+		@AuthenticationPrincipal final CustomUserDetails userDetails,
+		@Parameter(description = "조회 시작 날짜 (형식: YYYY-MM-DD)", required = true, example = "2024-09-02")
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@Parameter(description = "조회 종료 날짜 (형식: YYYY-MM-DD)", required = true, example = "2024-09-08")
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+	);
+
 	@Operation(
 		summary = "루틴 완료 상태 변경",
 		description = "루틴 완료 상태를 변경합니다. "
@@ -79,6 +104,25 @@ public interface RoutineApi {
 		@RequestBody @Valid final RoutinePutCompletionRequest request
 	);
 
+	@Operation(
+		summary = "루틴 완료 상태 일괄 변경",
+		description = "여러 루틴과 날짜의 완료 상태를 한 번에 변경합니다. 최대 100개까지 요청할 수 있으며, "
+			+ "하나라도 유효하지 않으면 아무것도 변경되지 않습니다. 변경 상태에 대한 멱등성을 보장합니다."
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			description = "루틴 완료 상태 일괄 변경 성공"
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_ROUTINE),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.ROUTINE_INVALID_DATE)
+		}
+	)
+	ResponseEntity<ApiResponse<?>> putRoutineCompletions(
+		@AuthenticationPrincipal final CustomUserDetails userDetails,
+		@RequestBody @Valid final RoutineBulkCompletionRequest request
+	);
+
 	@Operation(
 		summary = "본인 루틴 상세 조회",
 		description = "본인 루틴의 상세 정보를 조회합니다."
@@ -98,6 +142,25 @@ public interface RoutineApi {
 		@PathVariable final Long routineId
 	);
 
+	@Operation(
+		summary = "본인 루틴 통계 조회",
+		description = "본인 루틴의 연속 달성 횟수와 최근 7일, 30일, 90일 달성률을 조회합니다. 연속 달성은 반복 요일만 세며, 오늘 루틴을 아직 완료하지 않았더라도 연속이 끊기지 않습니다."
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = RoutineStatsResponse.class,
+			description = "루틴 통계 조회 성공"
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_ROUTINE)
+		}
+	)
+	ResponseEntity<ApiResponse<RoutineStatsResponse>> getMyRoutineStats(
+		@AuthenticationPrincipal final CustomUserDetails userDetails,
+		@Parameter(description = "통계를 조회할 루틴의 Id", required = true, example = "1")
+		@PathVariable final Long routineId
+	);
+
 	@Operation(
 		summary = "사용가능한 본인 루틴 목록 조회",
 		description = "자신의 루틴 목록을 조회합니다. 소셜 게시글에서 루틴을 공유하는 경우에 루틴의 목록을 조회할 때 사용될 수 있습니다. 이미 삭제되었거나 비공개로 설정된 루틴은 제외됩니다."
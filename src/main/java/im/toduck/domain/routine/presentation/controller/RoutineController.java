@@ -18,12 +18,15 @@ import org.springframework.web.bind.annotation.RestController;
 
 import im.toduck.domain.routine.domain.usecase.RoutineUseCase;
 import im.toduck.domain.routine.presentation.api.RoutineApi;
+import im.toduck.domain.routine.presentation.dto.request.RoutineBulkCompletionRequest;
 import im.toduck.domain.routine.presentation.dto.request.RoutineCreateRequest;
 import im.toduck.domain.routine.presentation.dto.request.RoutinePutCompletionRequest;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineAvailableListResponse;
+import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordRangeReadResponse;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordReadListResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineCreateResponse;
 import im.toduck.domain.routine.presentation.dto.response.RoutineDetailResponse;
+import im.toduck.domain.routine.presentation.dto.response.RoutineStatsResponse;
 import im.toduck.global.presentation.ApiResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
 import jakarta.validation.Valid;
@@ -60,6 +63,21 @@ public class RoutineController implements RoutineApi {
 		);
 	}
 
+	@Override
+	@GetMapping("/me/range")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<MyRoutineRecordRangeReadResponse>> getMyRoutineRangeList(
+		@AuthenticationPrincipal final CustomUserDetails userDetails,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+	) {
+		return ResponseEntity.ok(
+			ApiResponse.createSuccess(
+				routineUseCase.readMyRoutineRecordRange(userDetails.getUserId(), startDate, endDate)
+			)
+		);
+	}
+
 	@Override
 	@PutMapping("/{routineId}/completion")
 	@PreAuthorize("isAuthenticated()")
@@ -75,6 +93,20 @@ public class RoutineController implements RoutineApi {
 		);
 	}
 
+	@Override
+	@PutMapping("/completions")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<?>> putRoutineCompletions(
+		@AuthenticationPrincipal final CustomUserDetails userDetails,
+		@RequestBody @Valid final RoutineBulkCompletionRequest request
+	) {
+		routineUseCase.updateRoutineCompletions(userDetails.getUserId(), request);
+
+		return ResponseEntity.ok(
+			ApiResponse.createSuccessWithNoContent()
+		);
+	}
+
 	@Override
 	@GetMapping("/{routineId}")
 	@PreAuthorize("isAuthenticated()")
@@ -87,6 +119,18 @@ public class RoutineController implements RoutineApi {
 		);
 	}
 
+	@Override
+	@GetMapping("/{routineId}/stats")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<RoutineStatsResponse>> getMyRoutineStats(
+		@AuthenticationPrincipal final CustomUserDetails userDetails,
+		@PathVariable final Long routineId
+	) {
+		return ResponseEntity.ok(
+			ApiResponse.createSuccess(routineUseCase.readStats(userDetails.getUserId(), routineId))
+		);
+	}
+
 	@Override
 	@GetMapping("/me/available")
 	@PreAuthorize("isAuthenticated()")
@@ -0,0 +1,39 @@
+package im.toduck.domain.routine.presentation.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "루틴 완료 상태 일괄 변경 요청 DTO")
+public record RoutineBulkCompletionRequest(
+	@NotEmpty(message = "완료 상태를 변경할 루틴은 최소 하나 이상이어야 합니다.")
+	@Size(max = 100, message = "한 번에 최대 100개의 완료 상태만 변경할 수 있습니다.")
+	@Schema(description = "변경할 루틴 완료 상태 목록")
+	List<@Valid @NotNull RoutineCompletionItem> completions
+) {
+	@Schema(description = "루틴 완료 상태 변경 항목 DTO")
+	public record RoutineCompletionItem(
+		@NotNull(message = "완료 상태를 변경할 루틴 Id 는 null 일 수 없습니다.")
+		@Schema(description = "루틴 Id", example = "1")
+		Long routineId,
+
+		@JsonDeserialize(using = LocalDateDeserializer.class)
+		@JsonFormat(pattern = "yyyy-MM-dd")
+		@NotNull(message = "완료 상태를 변경할 일자는 null 일 수 없습니다.")
+		@Schema(description = "완료 상태를 변경할 일자", example = "2024-09-01")
+		LocalDate routineDate,
+
+		@Schema(description = "완료/미완료 상태", example = "true")
+		boolean isCompleted
+	) {
+	}
+}
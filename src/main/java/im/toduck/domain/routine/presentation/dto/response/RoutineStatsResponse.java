@@ -0,0 +1,27 @@
+package im.toduck.domain.routine.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "루틴 통계 응답 DTO")
+@Builder
+public record RoutineStatsResponse(
+	@Schema(description = "루틴 Id", example = "1")
+	Long routineId,
+
+	@Schema(description = "현재 연속 달성 횟수, 반복하지 않는 요일은 연속을 끊지 않습니다.", example = "5")
+	int currentStreak,
+
+	@Schema(description = "최장 연속 달성 횟수", example = "12")
+	int longestStreak,
+
+	@Schema(description = "최근 7일 달성률(%), 오늘은 완료한 경우에만 포함됩니다.", example = "80.0")
+	double completionRateLast7Days,
+
+	@Schema(description = "최근 30일 달성률(%), 오늘은 완료한 경우에만 포함됩니다.", example = "72.7")
+	double completionRateLast30Days,
+
+	@Schema(description = "최근 90일 달성률(%), 오늘은 완료한 경우에만 포함됩니다.", example = "65.4")
+	double completionRateLast90Days
+) {
+}
@@ -43,7 +43,8 @@ public class CommentMapper {
 		final boolean hasImage,
 		final String imageUrl,
 		final boolean isCommentLiked,
-		final boolean isBlocked
+		final boolean isBlocked,
+		final int replyCount
 	) {
 		return CommentDto.builder()
 			.commentId(comment.getId())
@@ -54,6 +55,7 @@ public class CommentMapper {
 			.content(getContent(comment, isBlocked))
 			.commentLikeInfo(getCommentLikeDto(comment, isCommentLiked))
 			.isReply(isReply(comment))
+			.replyCount(replyCount)
 			.createdAt(comment.getCreatedAt())
 			.build();
 	}
@@ -4,6 +4,7 @@ import im.toduck.domain.social.persistence.entity.Report;
 import im.toduck.domain.social.persistence.entity.ReportType;
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.presentation.dto.response.ReportCreateResponse;
+import im.toduck.domain.social.presentation.dto.response.ReportedSocialResponse;
 import im.toduck.domain.user.persistence.entity.User;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -24,4 +25,17 @@ public class ReportMapper {
 			.reportId(report.getId())
 			.build();
 	}
+
+	public static ReportedSocialResponse toReportedSocialResponse(Social social) {
+		return ReportedSocialResponse.builder()
+			.socialId(social.getId())
+			.authorId(social.getUser().getId())
+			.authorNickname(social.getUser().getNickname())
+			.title(social.getTitle())
+			.content(social.getContent())
+			.reportCount(social.getReportCount())
+			.isHidden(social.isHidden())
+			.createdAt(social.getCreatedAt())
+			.build();
+	}
 }
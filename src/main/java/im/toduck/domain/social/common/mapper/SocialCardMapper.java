@@ -0,0 +1,39 @@
+package im.toduck.domain.social.common.mapper;
+
+import java.util.List;
+
+import im.toduck.domain.social.persistence.entity.SocialCard;
+import im.toduck.domain.social.persistence.entity.SocialCategoryLink;
+import im.toduck.domain.social.persistence.entity.SocialImageFile;
+import im.toduck.domain.social.persistence.vo.SocialCardCategory;
+import im.toduck.domain.social.persistence.vo.SocialCardImage;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SocialCardMapper {
+	public static SocialCard toSocialCard(
+		final Long socialId,
+		final List<SocialCardImage> images,
+		final List<SocialCardCategory> categories
+	) {
+		return SocialCard.builder()
+			.socialId(socialId)
+			.images(images)
+			.categories(categories)
+			.build();
+	}
+
+	public static List<SocialCardImage> toSocialCardImages(final List<SocialImageFile> imageFiles) {
+		return imageFiles.stream()
+			.map(imageFile -> new SocialCardImage(imageFile.getId(), imageFile.getUrl()))
+			.toList();
+	}
+
+	public static List<SocialCardCategory> toSocialCardCategories(final List<SocialCategoryLink> categoryLinks) {
+		return categoryLinks.stream()
+			.map(SocialCategoryLink::getSocialCategory)
+			.map(category -> new SocialCardCategory(category.getId(), category.getName()))
+			.toList();
+	}
+}
@@ -3,6 +3,7 @@ package im.toduck.domain.social.common.mapper;
 import java.util.List;
 
 import im.toduck.domain.social.persistence.entity.SocialCategory;
+import im.toduck.domain.social.persistence.vo.SocialCardCategory;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse.SocialCategoryDto;
 import lombok.AccessLevel;
@@ -23,4 +24,11 @@ public class SocialCategoryMapper {
 			.name(socialCategory.getName())
 			.build();
 	}
+
+	public static SocialCategoryDto toSocialCategoryDto(final SocialCardCategory socialCardCategory) {
+		return SocialCategoryDto.builder()
+			.socialCategoryId(socialCardCategory.socialCategoryId())
+			.name(socialCardCategory.name())
+			.build();
+	}
 }
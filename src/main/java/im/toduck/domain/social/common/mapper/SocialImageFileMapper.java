@@ -2,6 +2,7 @@ package im.toduck.domain.social.common.mapper;
 
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.persistence.entity.SocialImageFile;
+import im.toduck.domain.social.persistence.vo.SocialCardImage;
 import im.toduck.domain.social.presentation.dto.response.SocialImageDto;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -15,6 +16,13 @@ public class SocialImageFileMapper {
 			.build();
 	}
 
+	public static SocialImageDto toSocialImageDto(SocialCardImage socialCardImage) {
+		return SocialImageDto.builder()
+			.socialImageId(socialCardImage.socialImageId())
+			.url(socialCardImage.url())
+			.build();
+	}
+
 	public static SocialImageDto toSocialImageDto(SocialImageFile socialImageFile) {
 		return SocialImageDto.builder()
 			.socialImageId(socialImageFile.getId())
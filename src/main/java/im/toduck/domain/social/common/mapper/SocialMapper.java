@@ -6,9 +6,11 @@ import im.toduck.domain.routine.common.mapper.RoutineMapper;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.presentation.dto.response.RoutineDetailResponse;
 import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.entity.SocialCard;
 import im.toduck.domain.social.persistence.entity.SocialImageFile;
 import im.toduck.domain.social.presentation.dto.response.CommentDto;
 import im.toduck.domain.social.presentation.dto.response.OwnerDto;
+import im.toduck.domain.social.presentation.dto.response.SocialBatchResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse.SocialCategoryDto;
 import im.toduck.domain.social.presentation.dto.response.SocialCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialDetailResponse;
@@ -16,6 +18,7 @@ import im.toduck.domain.social.presentation.dto.response.SocialImageDto;
 import im.toduck.domain.social.presentation.dto.response.SocialLikeDto;
 import im.toduck.domain.social.presentation.dto.response.SocialResponse;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -46,8 +49,9 @@ public class SocialMapper {
 	public static SocialDetailResponse toSocialDetailResponse(
 		Social socialBoard,
 		List<SocialImageFile> imageFiles,
-		List<CommentDto> comments,
-		boolean isSocialBoardLiked
+		CursorPaginationResponse<CommentDto> commentPage,
+		boolean isSocialBoardLiked,
+		long viewCount
 	) {
 		return SocialDetailResponse.builder()
 			.socialId(socialBoard.getId())
@@ -58,7 +62,10 @@ public class SocialMapper {
 			.hasImages(!imageFiles.isEmpty())
 			.images(getImageDtos(imageFiles))
 			.socialLikeInfo(getSocialLikeDto(socialBoard, isSocialBoardLiked))
-			.comments(comments)
+			.viewCount(viewCount)
+			.comments(commentPage.results())
+			.hasMoreComments(commentPage.hasMore())
+			.nextCommentCursor(commentPage.nextCursorToken())
 			.createdAt(socialBoard.getCreatedAt())
 			.build();
 
@@ -81,11 +88,46 @@ public class SocialMapper {
 			.images(getImageDtos(imageFiles))
 			.socialLikeInfo(getSocialLikeDto(socialBoard, isLiked))
 			.commentCount(commentCount)
+			.viewCount(socialBoard.getViewCount())
 			.categories(socialCategoryDtos)
 			.createdAt(socialBoard.getCreatedAt())
 			.build();
 	}
 
+	public static SocialResponse toSocialResponse(
+		Social socialBoard,
+		SocialCard socialCard,
+		boolean isLiked
+	) {
+		List<SocialImageDto> imageDtos = socialCard.getImages().stream()
+			.map(SocialImageFileMapper::toSocialImageDto)
+			.toList();
+		List<SocialCategoryDto> categoryDtos = socialCard.getCategories().stream()
+			.map(SocialCategoryMapper::toSocialCategoryDto)
+			.toList();
+
+		return SocialResponse.builder()
+			.socialId(socialBoard.getId())
+			.owner(getOwner(socialBoard.getUser()))
+			.routine(getSocialRoutineDto(socialBoard.getRoutine()))
+			.title(socialBoard.getTitle())
+			.content(socialBoard.getContent())
+			.hasImages(!imageDtos.isEmpty())
+			.images(imageDtos)
+			.socialLikeInfo(getSocialLikeDto(socialBoard, isLiked))
+			.commentCount(socialBoard.getCommentCount())
+			.viewCount(socialBoard.getViewCount())
+			.categories(categoryDtos)
+			.createdAt(socialBoard.getCreatedAt())
+			.build();
+	}
+
+	public static SocialBatchResponse toSocialBatchResponse(List<SocialResponse> socialResponses) {
+		return SocialBatchResponse.builder()
+			.socials(socialResponses)
+			.build();
+	}
+
 	private static SocialLikeDto getSocialLikeDto(Social socialBoard, boolean isLiked) {
 		return SocialLikeMapper.toSocialLikeDto(socialBoard, isLiked);
 	}
@@ -0,0 +1,17 @@
+package im.toduck.domain.social.common.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 신고 처리 설정입니다.
+ * 신고 수가 {@code hideThreshold} 이상이 된 게시글은 피드에서 자동으로 숨겨집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "social.report")
+public class SocialReportProperties {
+	private final long hideThreshold;
+}
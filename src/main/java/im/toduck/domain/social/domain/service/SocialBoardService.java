@@ -1,9 +1,15 @@
 package im.toduck.domain.social.domain.service;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,28 +17,29 @@ import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.social.common.mapper.SocialCategoryLinkMapper;
 import im.toduck.domain.social.common.mapper.SocialImageFileMapper;
 import im.toduck.domain.social.common.mapper.SocialMapper;
-import im.toduck.domain.social.persistence.entity.Comment;
-import im.toduck.domain.social.persistence.entity.CommentImageFile;
-import im.toduck.domain.social.persistence.entity.CommentLike;
 import im.toduck.domain.social.persistence.entity.Like;
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.persistence.entity.SocialCategory;
 import im.toduck.domain.social.persistence.entity.SocialCategoryLink;
 import im.toduck.domain.social.persistence.entity.SocialImageFile;
-import im.toduck.domain.social.persistence.repository.CommentImageFileRepository;
-import im.toduck.domain.social.persistence.repository.CommentLikeRepository;
-import im.toduck.domain.social.persistence.repository.CommentRepository;
 import im.toduck.domain.social.persistence.repository.LikeRepository;
 import im.toduck.domain.social.persistence.repository.SocialCategoryLinkRepository;
 import im.toduck.domain.social.persistence.repository.SocialCategoryRepository;
 import im.toduck.domain.social.persistence.repository.SocialImageFileRepository;
 import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.social.persistence.vo.ScoredSocial;
 import im.toduck.domain.social.presentation.dto.request.SocialCreateRequest;
 import im.toduck.domain.social.presentation.dto.request.SocialUpdateRequest;
+import im.toduck.domain.user.domain.service.UserStatsService;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
-import im.toduck.global.util.PaginationUtil;
+import im.toduck.global.helper.SocialCategoryBitmask;
+import im.toduck.global.moderation.ForbiddenWordFilter;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.PersistenceContextUtil;
+import im.toduck.global.util.TransactionSynchronizationUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,14 +47,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class SocialBoardService {
+	private static final int SYNC_COMMENT_CASCADE_LIMIT = 1_000;
+
 	private final SocialRepository socialRepository;
 	private final SocialCategoryRepository socialCategoryRepository;
 	private final SocialImageFileRepository socialImageFileRepository;
 	private final SocialCategoryLinkRepository socialCategoryLinkRepository;
-	private final CommentRepository commentRepository;
-	private final CommentLikeRepository commentLikeRepository;
-	private final CommentImageFileRepository commentImageFileRepository;
 	private final LikeRepository likeRepository;
+	private final SocialLikeStateService socialLikeStateService;
+	private final SocialCommentCascadeService socialCommentCascadeService;
+	private final UserStatsService userStatsService;
+	private final SocialTimelineService socialTimelineService;
+	private final SocialTrendingService socialTrendingService;
+	private final SocialViewCountService socialViewCountService;
+	private final SocialCardService socialCardService;
+	private final ForbiddenWordFilter forbiddenWordFilter;
+	private final EntityManager entityManager;
 
 	@Transactional(readOnly = true)
 	public Optional<Social> getSocialById(final Long socialId) {
@@ -60,6 +75,8 @@ public class SocialBoardService {
 		final Routine routine,
 		final SocialCreateRequest request
 	) {
+		forbiddenWordFilter.validate(request.title(), request.content());
+
 		Social socialBoard = SocialMapper.toSocial(
 			user,
 			routine,
@@ -67,28 +84,58 @@ public class SocialBoardService {
 			request.content(),
 			request.isAnonymous()
 		);
-		return socialRepository.save(socialBoard);
+		Social savedSocialBoard = socialRepository.save(socialBoard);
+		userStatsService.increasePostCount(user.getId());
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> socialTimelineService.fanOut(savedSocialBoard.getId(), user.getId())
+		);
+		socialTrendingService.recordSocialCreated(savedSocialBoard.getId());
+		return savedSocialBoard;
 	}
 
+	/**
+	 * 게시글과 게시글에 딸린 이미지, 카테고리, 댓글을 soft delete 하고 좋아요는 삭제합니다.
+	 * <p>
+	 * 자식 테이블은 게시글 ID 기준 UPDATE 또는 DELETE 한 번씩으로 처리합니다. 좋아요는 좋아요 취소와 같이 행을 삭제하므로
+	 * (user_id, social_id) 유니크 제약에 삭제된 행이 남지 않습니다. 벌크 연산 전에 대상 행의 ID 를 조회해 두었다가,
+	 * 해당 엔티티만 영속성 컨텍스트에서 제거합니다. 댓글이 {@value #SYNC_COMMENT_CASCADE_LIMIT} 개를 넘는
+	 * 게시글은 요청이 오래 걸리지 않도록, 댓글 삭제를 게시글 삭제 커밋 이후 비동기 작업으로 넘깁니다.
+	 * 게시글이 삭제되면 댓글은 더 이상 조회되지 않으므로, 비동기 작업이 끝나기 전에도 사용자에게는 보이지 않습니다.
+	 */
 	@Transactional
 	public void deleteSocialBoard(final Social socialBoard) {
-		List<SocialImageFile> imageFiles = socialImageFileRepository.findAllBySocial(socialBoard);
-		imageFiles.forEach(SocialImageFile::softDelete);
-
-		List<SocialCategoryLink> socialCategoryLinks = socialCategoryLinkRepository.findAllBySocial(socialBoard);
-		socialCategoryLinks.forEach(SocialCategoryLink::softDelete);
-
-		List<Comment> comments = commentRepository.findAllBySocial(socialBoard);
-		comments.forEach(comment -> {
-			commentImageFileRepository.findByComment(comment).ifPresent(CommentImageFile::softDelete);
-			commentLikeRepository.findAllByComment(comment).forEach(CommentLike::softDelete);
-		});
-		comments.forEach(Comment::softDelete);
-
-		List<Like> likes = likeRepository.findAllBySocial(socialBoard);
-		likes.forEach(Like::softDelete);
+		Long socialId = socialBoard.getId();
+		Long userId = socialBoard.getUser().getId();
+		boolean hasManyComments = socialBoard.getCommentCount() > SYNC_COMMENT_CASCADE_LIMIT;
+		LocalDateTime deletedAt = LocalDateTime.now();
 
+		socialRepository.resetCommentCount(socialId);
 		socialRepository.delete(socialBoard);
+		userStatsService.decreasePostCount(userId);
+
+		List<Long> imageFileIds = socialImageFileRepository.findIdsBySocialId(socialId);
+		List<Long> categoryLinkIds = socialCategoryLinkRepository.findIdsBySocialId(socialId);
+		List<Long> likeIds = likeRepository.findIdsBySocialId(socialId);
+		socialImageFileRepository.softDeleteAllBySocialId(socialId, deletedAt);
+		socialCategoryLinkRepository.softDeleteAllBySocialId(socialId, deletedAt);
+		likeRepository.deleteAllBySocialId(socialId);
+		PersistenceContextUtil.detachAll(entityManager, SocialImageFile.class, imageFileIds);
+		PersistenceContextUtil.detachAll(entityManager, SocialCategoryLink.class, categoryLinkIds);
+		PersistenceContextUtil.detachAll(entityManager, Like.class, likeIds);
+		socialLikeStateService.evictSocial(socialId, Collections.emptyList());
+		socialTrendingService.recordSocialDeleted(socialId);
+		socialViewCountService.evictViewers(socialId);
+		socialCardService.deleteCard(socialId);
+
+		if (hasManyComments) {
+			log.info("댓글이 많은 게시글의 댓글 삭제를 비동기로 처리 - SocialId: {}", socialId);
+			socialCommentCascadeService.markPending(socialId, deletedAt);
+			TransactionSynchronizationUtil.runAfterCommit(
+				() -> socialCommentCascadeService.softDeleteCommentsAsync(socialId, deletedAt)
+			);
+			return;
+		}
+		socialCommentCascadeService.softDeleteComments(socialId, deletedAt);
 	}
 
 	@Transactional
@@ -98,6 +145,8 @@ public class SocialBoardService {
 		final Routine routine,
 		final SocialUpdateRequest request
 	) {
+		forbiddenWordFilter.validate(request.isChangeTitle() ? request.title() : null, request.content());
+
 		if (request.socialCategoryIds() != null) {
 			if (request.socialCategoryIds().isEmpty()) {
 				log.warn("게시글 업데이트시 빈 카테고리 리스트로 소셜 게시판 수정 시도 - UserId: {}, SocialBoardId: {}", user.getId(),
@@ -137,6 +186,10 @@ public class SocialBoardService {
 			socialImageFileRepository.deleteAllBySocial(socialBoard);
 			addSocialImageFiles(request.socialImageUrls(), socialBoard);
 		}
+
+		if (request.socialCategoryIds() != null || request.socialImageUrls() != null) {
+			socialCardService.refreshCard(socialBoard.getId());
+		}
 	}
 
 	@Transactional(readOnly = true)
@@ -171,6 +224,11 @@ public class SocialBoardService {
 			.toList();
 
 		socialCategoryLinkRepository.saveAll(socialCategoryLinks);
+
+		List<Long> linkedCategoryIds = socialCategories.stream()
+			.map(SocialCategory::getId)
+			.toList();
+		socialBoard.updateCategoryMask(SocialCategoryBitmask.of(linkedCategoryIds));
 	}
 
 	@Transactional(readOnly = true)
@@ -180,13 +238,19 @@ public class SocialBoardService {
 
 	@Transactional(readOnly = true)
 	public List<Social> getSocials(
-		final Long cursor,
+		final KeysetCursor cursor,
 		final Integer limit,
 		final Long currentUserId,
+		final Set<Long> blockedUserIds,
 		final List<Long> categoryIds
 	) {
-		PageRequest pageRequest = PageRequest.of(PaginationUtil.FIRST_PAGE_INDEX, limit);
-		return socialRepository.findSocialsExcludingBlocked(cursor, currentUserId, categoryIds, pageRequest);
+		return socialRepository.findSocialsExcludingBlocked(
+			cursor,
+			currentUserId,
+			blockedUserIds,
+			categoryIds,
+			limit
+		);
 	}
 
 	private boolean isInvalidCategoryIncluded(
@@ -202,15 +266,34 @@ public class SocialBoardService {
 	}
 
 	@Transactional(readOnly = true)
-	public List<Social> searchSocialsWithFilters(
+	public List<ScoredSocial> searchSocialsWithFilters(
 		final Long userId,
+		final Set<Long> blockedUserIds,
 		final String keyword,
-		final Long cursor,
+		final KeysetCursor cursor,
 		final int limit,
 		final List<Long> categoryIds
 	) {
-		PageRequest pageRequest = PageRequest.of(PaginationUtil.FIRST_PAGE_INDEX, limit);
-		return socialRepository.searchSocialsExcludingBlocked(cursor, userId, keyword, categoryIds, pageRequest);
+		return socialRepository.searchSocialsExcludingBlocked(
+			cursor,
+			userId,
+			blockedUserIds,
+			keyword,
+			categoryIds,
+			limit
+		);
+	}
+
+	/**
+	 * 검색 결과 목록에서 다음 페이지 커서를 만듭니다.
+	 * 검색 결과는 (관련도 점수, ID) 순으로 정렬되므로 관련도 점수를 정렬 기준 값으로 사용합니다.
+	 * 검색어가 없거나 전문 검색을 사용할 수 없어 최신순으로 조회한 경우에는 ID 커서를 사용합니다.
+	 */
+	public KeysetCursor getSearchCursor(final ScoredSocial scoredSocial) {
+		if (scoredSocial.relevance() == null) {
+			return KeysetCursor.ofId(scoredSocial.social().getId());
+		}
+		return KeysetCursor.of(scoredSocial.relevance(), scoredSocial.social().getId());
 	}
 
 	@Transactional(readOnly = true)
@@ -218,16 +301,34 @@ public class SocialBoardService {
 		return (int)socialRepository.countByUserId(userId);
 	}
 
+	/**
+	 * 게시글 ID 목록으로 게시글을 조회합니다. 응답 순서는 전달된 ID 목록의 순서를 따르며,
+	 * 삭제되거나 신고로 숨겨진 게시글과 차단한 사용자의 게시글은 제외됩니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<Social> getSocialsByIds(final List<Long> socialIds, final Set<Long> blockedUserIds) {
+		if (socialIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<Long, Social> socialsById = socialRepository.findVisibleWithUserAndRoutineByIdIn(socialIds).stream()
+			.filter(social -> !blockedUserIds.contains(social.getUser().getId()))
+			.collect(Collectors.toMap(Social::getId, Function.identity()));
+
+		return socialIds.stream()
+			.map(socialsById::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
 	@Transactional(readOnly = true)
 	public List<Social> getSocialsByUserId(
 		final Long profileUserId,
 		final Long authUserId,
-		final Long cursor,
+		final KeysetCursor cursor,
 		final Integer limit
 	) {
-		PageRequest pageRequest = PageRequest.of(PaginationUtil.FIRST_PAGE_INDEX, limit);
-
-		return socialRepository.findUserSocials(profileUserId, cursor, pageRequest);
+		return socialRepository.findUserSocials(profileUserId, cursor, limit);
 	}
 }
 
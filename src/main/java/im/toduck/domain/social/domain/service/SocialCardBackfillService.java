@@ -0,0 +1,47 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 피드 카드(social_card)가 없는 기존 게시글의 카드를 생성하는 서비스입니다.
+ * <p>
+ * 게시글 ID 구간 단위로 나누어 구간마다 별도의 트랜잭션에서 수행합니다. 카드가 없는 게시글은 피드에서 관계별 IN 쿼리로
+ * 조회되므로, 백필이 끝나기 전에도 피드 응답은 같습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SocialCardBackfillService {
+	private static final long BACKFILL_CHUNK_SIZE = 500L;
+
+	private final SocialRepository socialRepository;
+	private final SocialCardService socialCardService;
+	private final TransactionTemplate transactionTemplate;
+
+	@Scheduled(cron = "0 0 4 * * *")
+	public void backfillSocialCards() {
+		long maxSocialId = socialRepository.findMaxIdIncludingDeleted();
+		int createdCount = 0;
+
+		for (long fromId = 0; fromId < maxSocialId; fromId += BACKFILL_CHUNK_SIZE) {
+			long chunkFromId = fromId;
+			long chunkToId = Math.min(fromId + BACKFILL_CHUNK_SIZE, maxSocialId);
+
+			Integer chunkCreatedCount = transactionTemplate.execute(status -> {
+				List<Long> socialIds = socialRepository.findIdsWithoutCard(chunkFromId, chunkToId);
+				return socialCardService.createCards(socialIds);
+			});
+			createdCount += chunkCreatedCount == null ? 0 : chunkCreatedCount;
+		}
+
+		log.info("피드 카드 백필 완료 - MaxSocialId: {}, CreatedCount: {}", maxSocialId, createdCount);
+	}
+}
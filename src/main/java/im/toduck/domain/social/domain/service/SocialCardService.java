@@ -0,0 +1,98 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.social.common.mapper.SocialCardMapper;
+import im.toduck.domain.social.persistence.entity.SocialCard;
+import im.toduck.domain.social.persistence.entity.SocialCategoryLink;
+import im.toduck.domain.social.persistence.entity.SocialImageFile;
+import im.toduck.domain.social.persistence.repository.SocialCardRepository;
+import im.toduck.domain.social.persistence.repository.SocialCategoryLinkRepository;
+import im.toduck.domain.social.persistence.repository.SocialImageFileRepository;
+import im.toduck.domain.social.persistence.vo.SocialCardCategory;
+import im.toduck.domain.social.persistence.vo.SocialCardImage;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 카드 읽기 모델(social_card)을 관리하는 서비스입니다.
+ * <p>
+ * 게시글의 이미지나 카테고리가 바뀌는 트랜잭션에서 원본 테이블을 다시 읽어 카드를 덮어쓰므로, 카드와 원본이 어긋난 상태로
+ * 커밋되지 않습니다. 작성자 정보, 루틴, 좋아요/댓글/조회 수는 피드 쿼리가 게시글과 함께 한 행으로 읽으므로 카드에 복제하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SocialCardService {
+	private final SocialCardRepository socialCardRepository;
+	private final SocialImageFileRepository socialImageFileRepository;
+	private final SocialCategoryLinkRepository socialCategoryLinkRepository;
+
+	/**
+	 * 게시글의 현재 이미지, 카테고리로 카드를 생성하거나 갱신합니다.
+	 */
+	@Transactional
+	public void refreshCard(final Long socialId) {
+		List<Long> socialIds = List.of(socialId);
+		List<SocialCardImage> images = SocialCardMapper.toSocialCardImages(
+			socialImageFileRepository.findAllBySocialIdInOrderByIdAsc(socialIds)
+		);
+		List<SocialCardCategory> categories = SocialCardMapper.toSocialCardCategories(
+			socialCategoryLinkRepository.findAllWithCategoryBySocialIds(socialIds)
+		);
+
+		socialCardRepository.findById(socialId)
+			.ifPresentOrElse(
+				card -> card.update(images, categories),
+				() -> socialCardRepository.save(SocialCardMapper.toSocialCard(socialId, images, categories))
+			);
+	}
+
+	/**
+	 * 카드가 없는 게시글들의 카드를 한 번에 생성합니다. 이미지와 카테고리는 게시글 ID 목록으로 관계별 IN 쿼리 한 번씩 조회합니다.
+	 *
+	 * @return 생성한 카드 수
+	 */
+	@Transactional
+	public int createCards(final List<Long> socialIds) {
+		if (socialIds.isEmpty()) {
+			return 0;
+		}
+
+		Map<Long, List<SocialImageFile>> imageFilesBySocialId =
+			socialImageFileRepository.findAllBySocialIdInOrderByIdAsc(socialIds).stream()
+				.collect(Collectors.groupingBy(imageFile -> imageFile.getSocial().getId()));
+		Map<Long, List<SocialCategoryLink>> categoryLinksBySocialId =
+			socialCategoryLinkRepository.findAllWithCategoryBySocialIds(socialIds).stream()
+				.collect(Collectors.groupingBy(link -> link.getSocial().getId()));
+
+		List<SocialCard> cards = socialIds.stream()
+			.map(socialId -> SocialCardMapper.toSocialCard(
+				socialId,
+				SocialCardMapper.toSocialCardImages(imageFilesBySocialId.getOrDefault(socialId, List.of())),
+				SocialCardMapper.toSocialCardCategories(categoryLinksBySocialId.getOrDefault(socialId, List.of()))
+			))
+			.toList();
+		socialCardRepository.saveAll(cards);
+		return cards.size();
+	}
+
+	@Transactional
+	public void deleteCard(final Long socialId) {
+		socialCardRepository.deleteById(socialId);
+	}
+
+	/**
+	 * 게시글 ID 목록의 카드를 한 번에 조회합니다. 카드가 없는 게시글은 결과에 포함되지 않습니다.
+	 */
+	@Transactional(readOnly = true)
+	public Map<Long, SocialCard> getCardsBySocialIds(final Collection<Long> socialIds) {
+		return socialCardRepository.findAllById(socialIds).stream()
+			.collect(Collectors.toMap(SocialCard::getSocialId, Function.identity()));
+	}
+}
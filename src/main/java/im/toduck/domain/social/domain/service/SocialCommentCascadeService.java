@@ -0,0 +1,173 @@
+package im.toduck.domain.social.domain.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import im.toduck.domain.social.persistence.entity.Comment;
+import im.toduck.domain.social.persistence.entity.CommentImageFile;
+import im.toduck.domain.social.persistence.entity.CommentLike;
+import im.toduck.domain.social.persistence.entity.SocialCommentCascade;
+import im.toduck.domain.social.persistence.repository.CommentImageFileRepository;
+import im.toduck.domain.social.persistence.repository.CommentLikeRepository;
+import im.toduck.domain.social.persistence.repository.CommentRepository;
+import im.toduck.domain.social.persistence.repository.SocialCommentCascadeRepository;
+import im.toduck.global.util.PersistenceContextUtil;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 삭제 시 댓글과 댓글에 딸린 이미지, 좋아요를 일괄 soft delete 하는 서비스입니다.
+ * <p>
+ * 댓글 수가 적은 게시글은 게시글 삭제 트랜잭션 안에서 {@link #softDeleteComments} 로 함께 처리하고,
+ * 댓글 수가 많은 게시글은 게시글 삭제 트랜잭션에서 {@link #markPending} 으로 작업을 기록한 뒤, 커밋 이후
+ * {@link #softDeleteCommentsAsync} 로 넘겨 댓글 ID 구간 단위로 나누어 구간마다 별도의 트랜잭션에서 처리합니다.
+ * 비동기 작업이 끝나지 못한 작업은 {@link #retryPendingCascades} 가 다시 처리합니다. 여러 번 실행되어도 결과가 같습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SocialCommentCascadeService {
+	static final int CASCADE_CHUNK_SIZE = 1_000;
+	private static final int RETRY_BATCH_SIZE = 100;
+	private static final Duration RETRY_DELAY = Duration.ofMinutes(10);
+
+	private final CommentRepository commentRepository;
+	private final CommentImageFileRepository commentImageFileRepository;
+	private final CommentLikeRepository commentLikeRepository;
+	private final SocialCommentCascadeRepository socialCommentCascadeRepository;
+	private final SocialLikeStateService socialLikeStateService;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManager entityManager;
+
+	/**
+	 * 게시글의 모든 댓글을 현재 트랜잭션 안에서 soft delete 합니다.
+	 *
+	 * @param socialId  삭제된 게시글 ID
+	 * @param deletedAt 삭제 시각
+	 */
+	@Transactional
+	public void softDeleteComments(final Long socialId, final LocalDateTime deletedAt) {
+		List<Long> commentIds = commentRepository.findIdsBySocialId(socialId);
+		softDeleteCommentsByIds(commentIds, deletedAt);
+	}
+
+	/**
+	 * 댓글 일괄 삭제 작업을 기록합니다. 게시글 삭제 트랜잭션 안에서 호출하여, 게시글 삭제와 함께 커밋되도록 합니다.
+	 * 게시글 ID 를 기본 키로 직접 지정하므로, merge 를 위한 조회 없이 바로 저장합니다.
+	 *
+	 * @param socialId  삭제된 게시글 ID
+	 * @param deletedAt 삭제 시각
+	 */
+	@Transactional
+	public void markPending(final Long socialId, final LocalDateTime deletedAt) {
+		entityManager.persist(SocialCommentCascade.of(socialId, deletedAt));
+	}
+
+	/**
+	 * 게시글의 모든 댓글을 별도 스레드에서 구간 단위로 soft delete 하고, 기록된 작업을 삭제합니다.
+	 * 게시글 삭제 트랜잭션이 커밋된 이후에 호출해야 하며, 실패한 작업은 기록이 남아 다시 처리됩니다.
+	 *
+	 * @param socialId  삭제된 게시글 ID
+	 * @param deletedAt 삭제 시각
+	 */
+	@Async("socialCascadeTaskExecutor")
+	public void softDeleteCommentsAsync(final Long socialId, final LocalDateTime deletedAt) {
+		try {
+			softDeleteCommentsInChunks(socialId, deletedAt);
+			socialCommentCascadeRepository.deleteById(socialId);
+		} catch (Exception e) {
+			log.error("게시글 댓글 일괄 삭제 실패 - SocialId: {}", socialId, e);
+		}
+	}
+
+	/**
+	 * 기록된 지 {@code RETRY_DELAY} 이상 지난 댓글 일괄 삭제 작업을 다시 처리합니다.
+	 * 비동기 작업이 실패했거나 처리 중 서버가 종료된 작업을 마무리합니다.
+	 */
+	@Scheduled(cron = "0 */10 * * * *")
+	public void retryPendingCascades() {
+		List<SocialCommentCascade> pendingCascades = socialCommentCascadeRepository.findAllCreatedBefore(
+			LocalDateTime.now().minus(RETRY_DELAY),
+			PageRequest.of(0, RETRY_BATCH_SIZE)
+		);
+
+		int completedCount = 0;
+		for (SocialCommentCascade pendingCascade : pendingCascades) {
+			Long socialId = pendingCascade.getSocialId();
+			try {
+				softDeleteCommentsInChunks(socialId, pendingCascade.getCommentDeletedAt());
+				socialCommentCascadeRepository.deleteById(socialId);
+				completedCount++;
+			} catch (Exception e) {
+				log.error("게시글 댓글 일괄 삭제 재시도 실패 - SocialId: {}", socialId, e);
+			}
+		}
+
+		if (!pendingCascades.isEmpty()) {
+			log.info("게시글 댓글 일괄 삭제 재시도 완료 - PendingCount: {}, CompletedCount: {}",
+				pendingCascades.size(), completedCount);
+		}
+	}
+
+	/**
+	 * 게시글의 모든 댓글을 댓글 ID 오름차순으로 {@value #CASCADE_CHUNK_SIZE} 개씩 나누어,
+	 * 구간마다 별도의 트랜잭션에서 soft delete 합니다.
+	 *
+	 * @param socialId  삭제된 게시글 ID
+	 * @param deletedAt 삭제 시각
+	 */
+	public void softDeleteCommentsInChunks(final Long socialId, final LocalDateTime deletedAt) {
+		long lastId = 0L;
+		int deletedCount = 0;
+
+		while (true) {
+			long chunkLastId = lastId;
+			List<Long> commentIds = transactionTemplate.execute(status -> {
+				List<Long> chunkCommentIds = commentRepository.findIdsBySocialIdAfter(
+					socialId,
+					chunkLastId,
+					PageRequest.of(0, CASCADE_CHUNK_SIZE)
+				);
+				softDeleteCommentsByIds(chunkCommentIds, deletedAt);
+				return chunkCommentIds;
+			});
+
+			if (commentIds == null || commentIds.isEmpty()) {
+				break;
+			}
+			deletedCount += commentIds.size();
+			lastId = commentIds.get(commentIds.size() - 1);
+
+			if (commentIds.size() < CASCADE_CHUNK_SIZE) {
+				break;
+			}
+		}
+
+		log.info("게시글 댓글 일괄 삭제 완료 - SocialId: {}, DeletedCount: {}", socialId, deletedCount);
+	}
+
+	private void softDeleteCommentsByIds(final List<Long> commentIds, final LocalDateTime deletedAt) {
+		if (commentIds.isEmpty()) {
+			return;
+		}
+
+		List<Long> commentImageFileIds = commentImageFileRepository.findIdsByCommentIds(commentIds);
+		List<Long> commentLikeIds = commentLikeRepository.findIdsByCommentIds(commentIds);
+		commentImageFileRepository.softDeleteAllByCommentIds(commentIds, deletedAt);
+		commentLikeRepository.softDeleteAllByCommentIds(commentIds, deletedAt);
+		commentRepository.softDeleteAllByIds(commentIds, deletedAt);
+		PersistenceContextUtil.detachAll(entityManager, CommentImageFile.class, commentImageFileIds);
+		PersistenceContextUtil.detachAll(entityManager, CommentLike.class, commentLikeIds);
+		PersistenceContextUtil.detachAll(entityManager, Comment.class, commentIds);
+		socialLikeStateService.evictComments(commentIds);
+	}
+}
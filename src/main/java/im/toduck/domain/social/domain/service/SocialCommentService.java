@@ -0,0 +1,105 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.social.common.mapper.CommentMapper;
+import im.toduck.domain.social.persistence.entity.Comment;
+import im.toduck.domain.social.persistence.entity.CommentImageFile;
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.repository.CommentImageFileRepository;
+import im.toduck.domain.social.persistence.repository.CommentRepository;
+import im.toduck.domain.social.persistence.vo.CommentReplyCount;
+import im.toduck.domain.social.presentation.dto.response.CommentDto;
+import im.toduck.domain.user.persistence.entity.User;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 목록 응답 조립을 담당하는 서비스입니다.
+ * <p>
+ * 한 페이지에 포함된 댓글들의 이미지와 답글 수를 댓글 ID 목록 기준으로 IN 쿼리 한 번씩만 조회하고,
+ * 좋아요 여부는 {@link SocialLikeStateService} 에서, 차단 여부는 미리 조회된 차단 사용자 목록에서 확인한 뒤
+ * 메모리 상에서 {@link CommentDto} 를 조립합니다. 작성자는 댓글 조회 시 함께 로딩되어 있어야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SocialCommentService {
+	private final CommentRepository commentRepository;
+	private final CommentImageFileRepository commentImageFileRepository;
+	private final SocialLikeStateService socialLikeStateService;
+
+	/**
+	 * 댓글 목록을 댓글 응답 목록으로 변환합니다.
+	 * 응답 순서는 전달된 댓글 목록의 순서를 그대로 따릅니다.
+	 *
+	 * @param socialBoard    댓글이 속한 게시글
+	 * @param comments       변환할 댓글 목록 (작성자가 함께 로딩되어 있는 것을 권장)
+	 * @param requestingUser 좋아요 여부를 판단할 요청 사용자
+	 * @param blockedUserIds 요청 사용자가 차단한 사용자 ID 목록
+	 * @return 댓글 응답 목록
+	 */
+	@Transactional(readOnly = true)
+	public List<CommentDto> getCommentDtos(
+		final Social socialBoard,
+		final List<Comment> comments,
+		final User requestingUser,
+		final Set<Long> blockedUserIds
+	) {
+		if (comments.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Long> commentIds = comments.stream()
+			.map(Comment::getId)
+			.toList();
+
+		Map<Long, String> imageUrlsByCommentId = getImageUrlsByCommentId(commentIds);
+		Set<Long> likedCommentIds = socialLikeStateService.getLikedCommentIds(requestingUser.getId(), commentIds);
+		Map<Long, Integer> replyCountsByCommentId = getReplyCountsByCommentId(socialBoard, comments);
+
+		return comments.stream()
+			.map(comment -> {
+				String imageUrl = imageUrlsByCommentId.get(comment.getId());
+				return CommentMapper.toCommentDto(
+					comment,
+					imageUrl != null,
+					imageUrl,
+					likedCommentIds.contains(comment.getId()),
+					blockedUserIds.contains(comment.getUser().getId()),
+					replyCountsByCommentId.getOrDefault(comment.getId(), 0)
+				);
+			})
+			.toList();
+	}
+
+	private Map<Long, String> getImageUrlsByCommentId(final List<Long> commentIds) {
+		return commentImageFileRepository.findAllByCommentIds(commentIds).stream()
+			.collect(Collectors.toMap(
+				imageFile -> imageFile.getComment().getId(),
+				CommentImageFile::getUrl,
+				(first, second) -> first
+			));
+	}
+
+	private Map<Long, Integer> getReplyCountsByCommentId(final Social socialBoard, final List<Comment> comments) {
+		List<Long> parentIds = comments.stream()
+			.filter(comment -> !comment.isReply())
+			.map(Comment::getId)
+			.toList();
+		if (parentIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		return commentRepository.countRepliesByParentIds(socialBoard.getId(), parentIds).stream()
+			.collect(Collectors.toMap(
+				CommentReplyCount::parentId,
+				replyCount -> replyCount.replyCount().intValue()
+			));
+	}
+}
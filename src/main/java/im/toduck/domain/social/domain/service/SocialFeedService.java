@@ -0,0 +1,112 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.social.common.mapper.SocialCategoryMapper;
+import im.toduck.domain.social.common.mapper.SocialMapper;
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.entity.SocialCard;
+import im.toduck.domain.social.persistence.entity.SocialCategoryLink;
+import im.toduck.domain.social.persistence.entity.SocialImageFile;
+import im.toduck.domain.social.persistence.repository.SocialCategoryLinkRepository;
+import im.toduck.domain.social.persistence.repository.SocialImageFileRepository;
+import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse.SocialCategoryDto;
+import im.toduck.domain.social.presentation.dto.response.SocialResponse;
+import im.toduck.domain.user.persistence.entity.User;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 목록(피드) 카드 조립을 담당하는 서비스입니다.
+ * <p>
+ * 한 페이지에 포함된 게시글들의 이미지, 카테고리는 {@link SocialCardService} 의 카드 읽기 모델에서 게시글 ID 목록으로 한 번에 읽고,
+ * 좋아요 여부는 {@link SocialLikeStateService} 에서 한 번에 조회한 뒤, 메모리 상에서 {@link SocialResponse} 를 조립합니다.
+ * 카드가 아직 만들어지지 않은 게시글만 이미지, 카테고리 테이블을 관계별 IN 쿼리로 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SocialFeedService {
+	private final SocialImageFileRepository socialImageFileRepository;
+	private final SocialLikeStateService socialLikeStateService;
+	private final SocialCategoryLinkRepository socialCategoryLinkRepository;
+	private final SocialCardService socialCardService;
+
+	/**
+	 * 게시글 목록을 피드 카드 응답 목록으로 변환합니다.
+	 * 응답 순서는 전달된 게시글 목록의 순서를 그대로 따릅니다.
+	 *
+	 * @param socials 변환할 게시글 목록 (작성자, 루틴이 함께 로딩되어 있는 것을 권장)
+	 * @param requestingUser 좋아요 여부를 판단할 요청 사용자
+	 * @return 피드 카드 응답 목록
+	 */
+	@Transactional(readOnly = true)
+	public List<SocialResponse> getSocialResponses(final List<Social> socials, final User requestingUser) {
+		if (socials.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Long> socialIds = socials.stream()
+			.map(Social::getId)
+			.toList();
+
+		Map<Long, SocialCard> cardsBySocialId = socialCardService.getCardsBySocialIds(socialIds);
+		List<Long> socialIdsWithoutCard = socialIds.stream()
+			.filter(socialId -> !cardsBySocialId.containsKey(socialId))
+			.toList();
+		Map<Long, List<SocialImageFile>> imageFilesBySocialId = getImageFilesBySocialId(socialIdsWithoutCard);
+		Map<Long, List<SocialCategoryDto>> categoryDtosBySocialId = getCategoryDtosBySocialId(socialIdsWithoutCard);
+		Set<Long> likedSocialIds = getLikedSocialIds(requestingUser, socialIds);
+
+		return socials.stream()
+			.map(social -> {
+				boolean isLiked = likedSocialIds.contains(social.getId());
+				SocialCard card = cardsBySocialId.get(social.getId());
+				if (card != null) {
+					return SocialMapper.toSocialResponse(social, card, isLiked);
+				}
+
+				return SocialMapper.toSocialResponse(
+					social,
+					imageFilesBySocialId.getOrDefault(social.getId(), Collections.emptyList()),
+					categoryDtosBySocialId.getOrDefault(social.getId(), Collections.emptyList()),
+					social.getCommentCount(),
+					isLiked
+				);
+			})
+			.toList();
+	}
+
+	private Map<Long, List<SocialImageFile>> getImageFilesBySocialId(final List<Long> socialIds) {
+		if (socialIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		return socialImageFileRepository.findAllBySocialIdInOrderByIdAsc(socialIds).stream()
+			.collect(Collectors.groupingBy(imageFile -> imageFile.getSocial().getId()));
+	}
+
+	private Set<Long> getLikedSocialIds(final User requestingUser, final List<Long> socialIds) {
+		return socialLikeStateService.getLikedSocialIds(requestingUser.getId(), socialIds);
+	}
+
+	private Map<Long, List<SocialCategoryDto>> getCategoryDtosBySocialId(final List<Long> socialIds) {
+		if (socialIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		return socialCategoryLinkRepository.findAllWithCategoryBySocialIds(socialIds).stream()
+			.collect(Collectors.groupingBy(
+				link -> link.getSocial().getId(),
+				Collectors.mapping(
+					(SocialCategoryLink link) -> SocialCategoryMapper.toSocialCategoryDto(link.getSocialCategory()),
+					Collectors.toList()
+				)
+			));
+	}
+}
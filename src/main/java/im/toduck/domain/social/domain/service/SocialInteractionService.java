@@ -1,8 +1,11 @@
 package im.toduck.domain.social.domain.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +14,7 @@ import im.toduck.domain.social.common.mapper.CommentLikeMapper;
 import im.toduck.domain.social.common.mapper.CommentMapper;
 import im.toduck.domain.social.common.mapper.ReportMapper;
 import im.toduck.domain.social.common.mapper.SocialLikeMapper;
+import im.toduck.domain.social.common.properties.SocialReportProperties;
 import im.toduck.domain.social.persistence.entity.Comment;
 import im.toduck.domain.social.persistence.entity.CommentImageFile;
 import im.toduck.domain.social.persistence.entity.CommentLike;
@@ -23,10 +27,14 @@ import im.toduck.domain.social.persistence.repository.CommentLikeRepository;
 import im.toduck.domain.social.persistence.repository.CommentRepository;
 import im.toduck.domain.social.persistence.repository.LikeRepository;
 import im.toduck.domain.social.persistence.repository.ReportRepository;
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.social.persistence.vo.SocialLiker;
 import im.toduck.domain.social.presentation.dto.request.CommentCreateRequest;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
+import im.toduck.global.moderation.ForbiddenWordFilter;
+import im.toduck.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +47,11 @@ public class SocialInteractionService {
 	private final ReportRepository reportRepository;
 	private final CommentLikeRepository commentLikeRepository;
 	private final CommentImageFileRepository commentImageFileRepository;
+	private final SocialRepository socialRepository;
+	private final SocialLikeStateService socialLikeStateService;
+	private final SocialTrendingService socialTrendingService;
+	private final SocialReportProperties socialReportProperties;
+	private final ForbiddenWordFilter forbiddenWordFilter;
 
 	@Transactional
 	public Comment createComment(
@@ -47,8 +60,14 @@ public class SocialInteractionService {
 		final Comment parentComment,
 		final CommentCreateRequest request
 	) {
+		forbiddenWordFilter.validate(request.content());
+
 		Comment comment = CommentMapper.toComment(user, socialBoard, parentComment, request);
-		return commentRepository.save(comment);
+		Comment savedComment = commentRepository.save(comment);
+		socialRepository.incrementCommentCount(socialBoard.getId());
+		socialTrendingService.recordComment(socialBoard.getId(), savedComment.getCreatedAt());
+
+		return savedComment;
 	}
 
 	@Transactional(readOnly = true)
@@ -79,20 +98,31 @@ public class SocialInteractionService {
 		commentLikeRepository.deleteAll(commentLikes);
 
 		commentRepository.delete(comment);
+		socialRepository.decrementCommentCount(socialBoard.getId());
+		socialLikeStateService.evictComment(comment.getId());
+		socialTrendingService.cancelComment(socialBoard.getId(), comment.getCreatedAt());
 	}
 
+	/**
+	 * 게시글 좋아요를 생성합니다.
+	 * 중복 여부는 (user_id, social_id) 유니크 제약으로 판단하며, 게시글의 좋아요 수는 원자적 UPDATE 로 증가시킵니다.
+	 * 게시글 행 락을 잡는 시간을 줄이기 위해 카운터 증가는 트랜잭션의 마지막에 수행합니다.
+	 */
 	@Transactional
 	public Like createSocialLike(final User user, final Social socialBoard) {
-		Optional<Like> existedLike = likeRepository.findByUserAndSocial(user, socialBoard);
+		Like like = SocialLikeMapper.toLike(user, socialBoard);
 
-		if (existedLike.isPresent()) {
+		try {
+			likeRepository.saveAndFlush(like);
+		} catch (DataIntegrityViolationException e) {
 			log.warn("이미 좋아요가 존재 - UserId: {}, SocialBoardId: {}", user.getId(), socialBoard.getId());
 			throw CommonException.from(ExceptionCode.EXISTS_LIKE);
 		}
-		Like like = SocialLikeMapper.toLike(user, socialBoard);
-		socialBoard.incrementLikeCount();
 
-		return likeRepository.save(like);
+		socialRepository.incrementLikeCount(socialBoard.getId());
+		socialLikeStateService.addSocialLiker(socialBoard.getId(), user.getId());
+		socialTrendingService.recordLike(socialBoard.getId(), like.getCreatedAt());
+		return like;
 	}
 
 	@Transactional(readOnly = true)
@@ -100,6 +130,20 @@ public class SocialInteractionService {
 		return likeRepository.findByUserAndSocial(user, socialBoard);
 	}
 
+	/**
+	 * 게시글에 좋아요를 누른 사용자를 최근 좋아요 순으로 조회합니다. 요청 사용자가 차단한 사용자는 제외합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<SocialLiker> getSocialLikers(
+		final Social socialBoard,
+		final KeysetCursor cursor,
+		final Long currentUserId,
+		final Collection<Long> blockedUserIds,
+		final int limit
+	) {
+		return likeRepository.findSocialLikers(socialBoard.getId(), cursor, currentUserId, blockedUserIds, limit);
+	}
+
 	@Transactional
 	public void deleteSocialLike(
 		final User user,
@@ -116,27 +160,46 @@ public class SocialInteractionService {
 			throw CommonException.from(ExceptionCode.INVALID_LIKE_FOR_BOARD);
 		}
 
-		likeRepository.delete(like);
-		socialBoard.decrementLikeCount();
+		int deletedCount = likeRepository.deleteByIdAtomically(like.getId());
+		if (deletedCount == 0) {
+			log.warn("이미 삭제된 좋아요 - UserId: {}, LikeId: {}", user.getId(), like.getId());
+			throw CommonException.from(ExceptionCode.NOT_FOUND_LIKE);
+		}
+
+		socialRepository.decrementLikeCount(socialBoard.getId());
+		socialLikeStateService.removeSocialLiker(socialBoard.getId(), user.getId());
+		socialTrendingService.cancelLike(socialBoard.getId(), like.getCreatedAt());
 	}
 
 	@Transactional(readOnly = true)
-	public List<Comment> getCommentsBySocial(final Social socialBoard) {
-		return commentRepository.findCommentsBySocial(socialBoard);
+	public List<Comment> getTopLevelComments(
+		final Social socialBoard,
+		final KeysetCursor cursor,
+		final int limit
+	) {
+		return commentRepository.findTopLevelComments(socialBoard.getId(), cursor, limit);
 	}
 
 	@Transactional(readOnly = true)
-	public boolean getSocialBoardIsLiked(final User user, final Social socialBoard) {
-		Optional<Like> like = likeRepository.findByUserAndSocial(user, socialBoard);
-		return like.isPresent();
+	public List<Comment> getReplies(
+		final Social socialBoard,
+		final Comment parentComment,
+		final KeysetCursor cursor,
+		final int limit
+	) {
+		return commentRepository.findReplies(socialBoard.getId(), parentComment.getId(), cursor, limit);
 	}
 
 	@Transactional(readOnly = true)
-	public boolean getCommentIsLiked(final User user, final Comment comment) {
-		Optional<CommentLike> commentLike = commentLikeRepository.findCommentLikeByUserAndComment(user, comment);
-		return commentLike.isPresent();
+	public boolean getSocialBoardIsLiked(final User user, final Social socialBoard) {
+		return socialLikeStateService.getLikedSocialIds(user.getId(), List.of(socialBoard.getId()))
+			.contains(socialBoard.getId());
 	}
 
+	/**
+	 * 게시글 신고를 생성합니다.
+	 * 중복 여부는 (user_id, social_id) 유니크 제약으로 판단하며, 신고가 저장된 경우에만 게시글의 신고 수를 증가시킵니다.
+	 */
 	@Transactional
 	public Report createReport(
 		final User user,
@@ -145,7 +208,33 @@ public class SocialInteractionService {
 		final String reason
 	) {
 		Report report = ReportMapper.toReport(user, social, reportType, reason);
-		return reportRepository.save(report);
+
+		Report savedReport;
+		try {
+			savedReport = reportRepository.saveAndFlush(report);
+		} catch (DataIntegrityViolationException e) {
+			log.warn("이미 신고된 게시글 - UserId: {}, SocialBoardId: {}", user.getId(), social.getId());
+			throw CommonException.from(ExceptionCode.ALREADY_REPORTED);
+		}
+
+		socialRepository.incrementReportCount(
+			social.getId(),
+			socialReportProperties.getHideThreshold(),
+			LocalDateTime.now()
+		);
+		return savedReport;
+	}
+
+	/**
+	 * 신고 수가 많은 순으로 신고된 게시글을 조회합니다. 페이지 판단을 위해 {@code limit} 개를 그대로 조회합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<Social> getReportedSocials(final KeysetCursor cursor, final int limit) {
+		return socialRepository.findReportedSocials(cursor, limit);
+	}
+
+	public KeysetCursor getReportedSocialCursor(final Social social) {
+		return KeysetCursor.of(social.getReportCount(), social.getId());
 	}
 
 	@Transactional(readOnly = true)
@@ -184,7 +273,10 @@ public class SocialInteractionService {
 		CommentLike commentLike = CommentLikeMapper.toCommentLike(user, comment);
 		comment.incrementLikeCount();
 
-		return commentLikeRepository.save(commentLike);
+		CommentLike savedCommentLike = commentLikeRepository.save(commentLike);
+		socialLikeStateService.addCommentLiker(comment.getId(), user.getId());
+
+		return savedCommentLike;
 	}
 
 	@Transactional(readOnly = true)
@@ -196,6 +288,7 @@ public class SocialInteractionService {
 	public void deleteCommentLike(final Comment comment, final CommentLike commentLike) {
 		commentLikeRepository.delete(commentLike);
 		comment.decrementLikeCount();
+		socialLikeStateService.removeCommentLiker(comment.getId(), commentLike.getUser().getId());
 	}
 
 	@Transactional
@@ -206,15 +299,5 @@ public class SocialInteractionService {
 		CommentImageFile commentImageFile = CommentImageFileMapper.toCommentImageFile(comment, imageUrl);
 		commentImageFileRepository.save(commentImageFile);
 	}
-
-	@Transactional(readOnly = true)
-	public Optional<CommentImageFile> getCommentImageByComment(final Comment comment) {
-		return commentImageFileRepository.findByComment(comment);
-	}
-
-	@Transactional(readOnly = true)
-	public int countCommentsBySocial(final Social social) {
-		return commentRepository.countBySocial(social);
-	}
 }
 
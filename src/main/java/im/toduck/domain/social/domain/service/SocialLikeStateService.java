@@ -0,0 +1,155 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.social.persistence.repository.CommentLikeRepository;
+import im.toduck.domain.social.persistence.repository.LikeRepository;
+import im.toduck.domain.social.persistence.vo.TargetLiker;
+import im.toduck.global.util.TransactionSynchronizationUtil;
+import im.toduck.infra.redis.liker.LikerLookup;
+import im.toduck.infra.redis.liker.LikerSetService;
+import im.toduck.infra.redis.liker.LikerTarget;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글/댓글의 좋아요 여부 판단을 담당하는 서비스입니다.
+ * <p>
+ * 대상별 좋아요 사용자 집합({@link LikerSetService})에서 한 페이지의 좋아요 여부를 한 번에 조회하고,
+ * 적재되지 않은 대상만 DB 에서 IN 쿼리 한 번으로 읽어 집합을 채웁니다.
+ * Redis 를 사용할 수 없는 경우에는 DB 조회로 대체합니다.
+ * <p>
+ * 좋아요 생성/취소 및 대상 삭제에 따른 집합 갱신은 트랜잭션 커밋 이후에 수행되어,
+ * 롤백된 변경이 집합에 반영되지 않도록 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SocialLikeStateService {
+	private final LikerSetService likerSetService;
+	private final LikeRepository likeRepository;
+	private final CommentLikeRepository commentLikeRepository;
+
+	@Transactional(readOnly = true)
+	public Set<Long> getLikedSocialIds(final Long userId, final List<Long> socialIds) {
+		return getLikedTargetIds(
+			LikerTarget.SOCIAL,
+			userId,
+			socialIds,
+			likeRepository::findLikersBySocialIds,
+			ids -> likeRepository.findLikedSocialIds(userId, ids)
+		);
+	}
+
+	@Transactional(readOnly = true)
+	public Set<Long> getLikedCommentIds(final Long userId, final List<Long> commentIds) {
+		return getLikedTargetIds(
+			LikerTarget.COMMENT,
+			userId,
+			commentIds,
+			commentLikeRepository::findLikersByCommentIds,
+			ids -> commentLikeRepository.findLikedCommentIds(userId, ids)
+		);
+	}
+
+	private Set<Long> getLikedTargetIds(
+		final LikerTarget target,
+		final Long userId,
+		final List<Long> targetIds,
+		final Function<Collection<Long>, List<TargetLiker>> likersLoader,
+		final Function<Collection<Long>, List<Long>> fallbackLoader
+	) {
+		if (targetIds.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		LikerLookup lookup = likerSetService.lookup(target, userId, targetIds);
+		if (!lookup.available()) {
+			return new HashSet<>(fallbackLoader.apply(targetIds));
+		}
+
+		Set<Long> likedTargetIds = new HashSet<>(lookup.likedTargetIds());
+		if (lookup.missedTargetIds().isEmpty()) {
+			return likedTargetIds;
+		}
+
+		Map<Long, Set<Long>> likersByTargetId = loadLikers(lookup.missedTargetIds(), likersLoader);
+		likerSetService.warmUp(target, likersByTargetId, lookup.versions());
+
+		likersByTargetId.forEach((targetId, likerIds) -> {
+			if (likerIds.contains(userId)) {
+				likedTargetIds.add(targetId);
+			}
+		});
+
+		return likedTargetIds;
+	}
+
+	private Map<Long, Set<Long>> loadLikers(
+		final List<Long> targetIds,
+		final Function<Collection<Long>, List<TargetLiker>> likersLoader
+	) {
+		Map<Long, Set<Long>> likersByTargetId = likersLoader.apply(targetIds).stream()
+			.collect(Collectors.groupingBy(
+				TargetLiker::targetId,
+				Collectors.mapping(TargetLiker::userId, Collectors.toSet())
+			));
+
+		targetIds.forEach(targetId -> likersByTargetId.putIfAbsent(targetId, Collections.emptySet()));
+		return likersByTargetId;
+	}
+
+	public void addSocialLiker(final Long socialId, final Long userId) {
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> likerSetService.addLiker(LikerTarget.SOCIAL, socialId, userId)
+		);
+	}
+
+	public void removeSocialLiker(final Long socialId, final Long userId) {
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> likerSetService.removeLiker(LikerTarget.SOCIAL, socialId, userId)
+		);
+	}
+
+	public void addCommentLiker(final Long commentId, final Long userId) {
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> likerSetService.addLiker(LikerTarget.COMMENT, commentId, userId)
+		);
+	}
+
+	public void removeCommentLiker(final Long commentId, final Long userId) {
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> likerSetService.removeLiker(LikerTarget.COMMENT, commentId, userId)
+		);
+	}
+
+	/**
+	 * 게시글과 그 댓글들의 좋아요 사용자 집합을 제거합니다. 게시글 삭제 시 사용합니다.
+	 */
+	public void evictSocial(final Long socialId, final List<Long> commentIds) {
+		TransactionSynchronizationUtil.runAfterCommit(() -> {
+			likerSetService.evict(LikerTarget.SOCIAL, List.of(socialId));
+			likerSetService.evict(LikerTarget.COMMENT, commentIds);
+		});
+	}
+
+	public void evictComment(final Long commentId) {
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> likerSetService.evict(LikerTarget.COMMENT, List.of(commentId))
+		);
+	}
+
+	public void evictComments(final List<Long> commentIds) {
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> likerSetService.evict(LikerTarget.COMMENT, commentIds)
+		);
+	}
+}
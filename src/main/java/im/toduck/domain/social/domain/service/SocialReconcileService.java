@@ -0,0 +1,100 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import im.toduck.domain.social.persistence.repository.SocialCategoryLinkRepository;
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.social.persistence.vo.LinkedCategory;
+import im.toduck.domain.social.persistence.vo.SocialCategoryMask;
+import im.toduck.global.helper.SocialCategoryBitmask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글에 비정규화된 집계 값들을 원본 테이블 기준으로 주기적으로 보정하는 서비스입니다.
+ * <p>
+ * 보정은 게시글 ID 구간 단위로 나누어 구간마다 별도의 트랜잭션에서 수행하므로,
+ * 한 번에 많은 행에 락을 잡지 않습니다. 여러 번 실행되어도 결과가 같습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SocialReconcileService {
+	private static final long RECONCILE_CHUNK_SIZE = 1_000L;
+
+	private final SocialRepository socialRepository;
+	private final SocialCategoryLinkRepository socialCategoryLinkRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 게시글의 comment_count 를 실제 (삭제되지 않은) 댓글 수와 비교하여, 어긋난 값만 보정합니다.
+	 * 이미 존재하는 게시글에 대한 최초 백필 용도로도 사용할 수 있습니다.
+	 */
+	@Scheduled(cron = "0 30 4 * * *")
+	public void reconcileCommentCounts() {
+		long maxSocialId = socialRepository.findMaxIdIncludingDeleted();
+		int fixedCount = 0;
+
+		for (long fromId = 0; fromId < maxSocialId; fromId += RECONCILE_CHUNK_SIZE) {
+			long chunkFromId = fromId;
+			long chunkToId = Math.min(fromId + RECONCILE_CHUNK_SIZE, maxSocialId);
+
+			Integer chunkFixedCount = transactionTemplate.execute(
+				status -> socialRepository.reconcileCommentCounts(chunkFromId, chunkToId)
+			);
+			fixedCount += chunkFixedCount == null ? 0 : chunkFixedCount;
+		}
+
+		log.info("게시글 댓글 수 보정 완료 - MaxSocialId: {}, FixedCount: {}", maxSocialId, fixedCount);
+	}
+
+	/**
+	 * 게시글의 category_mask 를 social_category_link 기준으로 다시 계산하여, 어긋난 값만 보정합니다.
+	 * 이미 존재하는 게시글에 대한 최초 백필 용도로도 사용할 수 있습니다.
+	 */
+	@Scheduled(cron = "0 45 4 * * *")
+	public void reconcileCategoryMasks() {
+		long maxSocialId = socialRepository.findMaxIdIncludingDeleted();
+		int fixedCount = 0;
+
+		for (long fromId = 0; fromId < maxSocialId; fromId += RECONCILE_CHUNK_SIZE) {
+			long chunkFromId = fromId;
+			long chunkToId = Math.min(fromId + RECONCILE_CHUNK_SIZE, maxSocialId);
+
+			Integer chunkFixedCount = transactionTemplate.execute(
+				status -> reconcileCategoryMasks(chunkFromId, chunkToId)
+			);
+			fixedCount += chunkFixedCount == null ? 0 : chunkFixedCount;
+		}
+
+		log.info("게시글 카테고리 비트마스크 보정 완료 - MaxSocialId: {}, FixedCount: {}", maxSocialId, fixedCount);
+	}
+
+	private int reconcileCategoryMasks(final long fromId, final long toId) {
+		Map<Long, List<Long>> categoryIdsBySocialId = socialCategoryLinkRepository
+			.findLinkedCategoriesBySocialIdRange(fromId, toId)
+			.stream()
+			.collect(Collectors.groupingBy(
+				LinkedCategory::socialId,
+				Collectors.mapping(LinkedCategory::categoryId, Collectors.toList())
+			));
+
+		int fixedCount = 0;
+		for (SocialCategoryMask current : socialRepository.findCategoryMasksBySocialIdRange(fromId, toId)) {
+			long expectedMask = SocialCategoryBitmask.of(
+				categoryIdsBySocialId.getOrDefault(current.socialId(), List.of())
+			);
+			if (current.categoryMask() != expectedMask) {
+				socialRepository.updateCategoryMask(current.socialId(), expectedMask);
+				fixedCount++;
+			}
+		}
+		return fixedCount;
+	}
+}
@@ -0,0 +1,161 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.user.domain.service.FollowService;
+import im.toduck.domain.user.domain.service.UserStatsService;
+import im.toduck.domain.user.persistence.entity.UserStats;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.TransactionSynchronizationUtil;
+import im.toduck.infra.redis.timeline.HomeTimelineService;
+import im.toduck.infra.redis.timeline.TimelineLookup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 팔로우한 사용자의 게시글로 구성된 홈 타임라인을 관리하는 서비스입니다.
+ * <p>
+ * 게시글이 작성되면 작성자의 팔로워들의 타임라인에 게시글 ID 를 추가합니다(fan-out-on-write).
+ * 팔로워가 {@value #FAN_OUT_FOLLOWER_LIMIT} 명을 넘는 사용자는 쓰기 비용이 너무 크므로 추가하지 않고,
+ * 조회 시 해당 사용자들의 게시글을 DB 에서 직접 조회해 타임라인과 병합합니다(fan-out-on-read).
+ * <p>
+ * 타임라인에는 게시글 ID 만 저장되므로, 삭제된 게시글과 차단한 사용자의 게시글은 조회 시 게시글을 다시 읽으면서 제외해야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SocialTimelineService {
+	static final int FAN_OUT_FOLLOWER_LIMIT = 10_000;
+	private static final int FAN_OUT_BATCH_SIZE = 1_000;
+
+	private final SocialRepository socialRepository;
+	private final FollowService followService;
+	private final UserStatsService userStatsService;
+	private final HomeTimelineService homeTimelineService;
+
+	/**
+	 * 작성된 게시글을 작성자의 팔로워들의 타임라인에 별도 스레드에서 추가합니다.
+	 * 게시글 작성 트랜잭션이 커밋된 이후에 호출해야 합니다.
+	 *
+	 * @param socialId 작성된 게시글 ID
+	 * @param authorId 작성자 ID
+	 */
+	@Async("socialTimelineTaskExecutor")
+	public void fanOut(final Long socialId, final Long authorId) {
+		try {
+			if (isHighFollowerUser(authorId)) {
+				log.info("팔로워가 많은 사용자의 게시글은 타임라인에 추가하지 않음 - SocialId: {}, AuthorId: {}", socialId, authorId);
+				return;
+			}
+
+			long lastFollowerId = 0L;
+			while (true) {
+				List<Long> followerIds = followService.getFollowerIds(authorId, lastFollowerId, FAN_OUT_BATCH_SIZE);
+				homeTimelineService.push(followerIds, socialId);
+
+				if (followerIds.size() < FAN_OUT_BATCH_SIZE) {
+					break;
+				}
+				lastFollowerId = followerIds.get(followerIds.size() - 1);
+			}
+		} catch (Exception e) {
+			log.error("홈 타임라인 게시글 추가 실패 - SocialId: {}, AuthorId: {}", socialId, authorId, e);
+		}
+	}
+
+	/**
+	 * 팔로우 관계가 바뀐 사용자의 타임라인을 제거합니다. 다음 조회 시 DB 에서 다시 적재됩니다.
+	 */
+	public void evictTimeline(final Long userId) {
+		TransactionSynchronizationUtil.runAfterCommit(() -> homeTimelineService.evict(userId));
+	}
+
+	/**
+	 * 홈 타임라인에서 커서 이전의 게시글 ID 를 최신순으로 조회합니다.
+	 * 삭제되었거나 차단한 사용자의 게시글 ID 가 포함될 수 있습니다.
+	 * <p>
+	 * 타임라인 버전을 DB 스냅샷보다 먼저 읽어야 하므로, 트랜잭션 안에서 다른 DB 조회보다 먼저 호출해야 합니다.
+	 *
+	 * @param userId 타임라인 소유자 ID
+	 * @param cursor 이전 페이지의 마지막 게시글 ID 커서 (첫 페이지는 null)
+	 * @param limit  조회할 최대 개수
+	 * @return 게시글 ID 목록 (ID 내림차순)
+	 */
+	@Transactional(readOnly = true)
+	public List<Long> getTimelineSocialIds(final Long userId, final KeysetCursor cursor, final int limit) {
+		Long beforeId = cursor == null ? null : cursor.id();
+		List<Long> fannedOutSocialIds = getFannedOutSocialIds(userId, beforeId, limit);
+
+		List<Long> highFollowerFolloweeIds = followService.getFolloweeIdsWithFollowerCountAbove(
+			userId,
+			FAN_OUT_FOLLOWER_LIMIT
+		);
+		if (highFollowerFolloweeIds.isEmpty()) {
+			return fannedOutSocialIds;
+		}
+
+		List<Long> pulledSocialIds = socialRepository.findSocialIdsByUserIds(
+			highFollowerFolloweeIds,
+			toBeforeId(beforeId),
+			PageRequest.of(0, limit)
+		);
+
+		return Stream.concat(fannedOutSocialIds.stream(), pulledSocialIds.stream())
+			.distinct()
+			.sorted(Comparator.reverseOrder())
+			.limit(limit)
+			.toList();
+	}
+
+	private List<Long> getFannedOutSocialIds(final Long userId, final Long beforeId, final int limit) {
+		TimelineLookup lookup = homeTimelineService.lookup(userId, beforeId, limit);
+
+		if (lookup.loaded()) {
+			if (lookup.socialIds().size() < limit && lookup.truncated()) {
+				return findFollowingSocialIds(userId, beforeId, limit);
+			}
+			return lookup.socialIds();
+		}
+
+		if (lookup.version() == null) {
+			return findFollowingSocialIds(userId, beforeId, limit);
+		}
+
+		List<Long> recentSocialIds = findFollowingSocialIds(userId, null, HomeTimelineService.MAX_TIMELINE_SIZE);
+		homeTimelineService.warmUp(userId, lookup.version(), recentSocialIds);
+
+		if (beforeId != null) {
+			return findFollowingSocialIds(userId, beforeId, limit);
+		}
+		return recentSocialIds.stream()
+			.limit(limit)
+			.toList();
+	}
+
+	private List<Long> findFollowingSocialIds(final Long userId, final Long beforeId, final int limit) {
+		return socialRepository.findFollowingSocialIds(userId, toBeforeId(beforeId), PageRequest.of(0, limit));
+	}
+
+	/**
+	 * 팔로워가 많아 fan-out 하지 않는 사용자인지 확인합니다. 집계 행이 없으면 실제 팔로워 수를 사용하며,
+	 * 조회 시 병합 대상을 고르는 {@link FollowService#getFolloweeIdsWithFollowerCountAbove} 와 같은 기준이어야 합니다.
+	 */
+	private boolean isHighFollowerUser(final Long userId) {
+		int followerCount = userStatsService.getUserStats(userId)
+			.map(UserStats::getFollowerCount)
+			.orElseGet(() -> followService.countFollowers(userId));
+		return followerCount > FAN_OUT_FOLLOWER_LIMIT;
+	}
+
+	private long toBeforeId(final Long beforeId) {
+		return beforeId == null ? Long.MAX_VALUE : beforeId;
+	}
+}
@@ -0,0 +1,163 @@
+package im.toduck.domain.social.domain.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.social.persistence.vo.RankedSocial;
+import im.toduck.domain.social.persistence.vo.TrendingSocialPage;
+import im.toduck.global.util.TransactionSynchronizationUtil;
+import im.toduck.infra.redis.trending.TrendingRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요, 댓글, 작성 시각을 반영한 인기 게시글 순위를 관리하는 서비스입니다.
+ * <p>
+ * 게시글 작성, 좋아요, 댓글 이벤트마다 이벤트 시각 기준으로 감쇠되는 가중치를 순위에 더하고,
+ * 좋아요 취소와 댓글 삭제는 원래 이벤트 시각으로 같은 가중치를 빼서 상쇄합니다. 가중치는 {@link #HALF_LIFE} 마다 절반이 됩니다.
+ * 순위 갱신은 트랜잭션 커밋 이후에 수행되어, 롤백된 변경이 순위에 반영되지 않도록 합니다.
+ * <p>
+ * 조회 시에는 순위에서 게시글 ID 를 구간 단위로 읽고, 삭제된 게시글과 차단한 사용자의 게시글, 카테고리 조건에 맞지 않는 게시글을
+ * ID 목록 IN 쿼리로 걸러내므로 게시글 테이블 크기와 무관하게 일정한 비용으로 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SocialTrendingService {
+	static final Duration HALF_LIFE = Duration.ofHours(6);
+	static final int MAX_RANKING_SIZE = 5_000;
+
+	private static final double DECAY_RATE = Math.log(2) / HALF_LIFE.toSeconds();
+	private static final double MIN_SCORE = 0.01;
+	private static final double POST_WEIGHT = 1.0;
+	private static final double LIKE_WEIGHT = 1.0;
+	private static final double COMMENT_WEIGHT = 2.0;
+	private static final int MIN_SCAN_BATCH_SIZE = 50;
+	private static final int MAX_SCAN_COUNT = 5;
+
+	private final SocialRepository socialRepository;
+	private final TrendingRankingService trendingRankingService;
+
+	public void recordSocialCreated(final Long socialId) {
+		addScoreAfterCommit(socialId, POST_WEIGHT, LocalDateTime.now());
+	}
+
+	public void recordSocialDeleted(final Long socialId) {
+		TransactionSynchronizationUtil.runAfterCommit(() -> trendingRankingService.remove(socialId));
+	}
+
+	public void recordLike(final Long socialId, final LocalDateTime likedAt) {
+		addScoreAfterCommit(socialId, LIKE_WEIGHT, likedAt);
+	}
+
+	public void cancelLike(final Long socialId, final LocalDateTime likedAt) {
+		addScoreAfterCommit(socialId, -LIKE_WEIGHT, likedAt);
+	}
+
+	public void recordComment(final Long socialId, final LocalDateTime commentedAt) {
+		addScoreAfterCommit(socialId, COMMENT_WEIGHT, commentedAt);
+	}
+
+	public void cancelComment(final Long socialId, final LocalDateTime commentedAt) {
+		addScoreAfterCommit(socialId, -COMMENT_WEIGHT, commentedAt);
+	}
+
+	private void addScoreAfterCommit(final Long socialId, final double weight, final LocalDateTime eventAt) {
+		LocalDateTime occurredAt = eventAt == null ? LocalDateTime.now() : eventAt;
+		long eventEpochSecond = occurredAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+
+		TransactionSynchronizationUtil.runAfterCommit(
+			() -> trendingRankingService.addScore(socialId, weight, eventEpochSecond, DECAY_RATE, MIN_SCORE)
+		);
+	}
+
+	/**
+	 * 순위 점수를 현재 시각 기준으로 감쇠시키고, 상위 {@value #MAX_RANKING_SIZE} 개와 의미 있는 점수의 게시글만 남깁니다.
+	 */
+	@Scheduled(cron = "0 */10 * * * *")
+	public void rescaleRanking() {
+		long size = trendingRankingService.rescale(
+			Instant.now().getEpochSecond(),
+			DECAY_RATE,
+			MAX_RANKING_SIZE,
+			MIN_SCORE
+		);
+
+		log.info("인기 게시글 순위 정리 완료 - RankingSize: {}", size);
+	}
+
+	/**
+	 * 순위 {@code offset} 부터 조건에 맞는 인기 게시글을 최대 {@code limit} 개 조회합니다.
+	 * <p>
+	 * 걸러지는 게시글이 많아도 한 요청의 비용이 일정하도록 순위는 최대 {@value #MAX_SCAN_COUNT} 번까지만 읽습니다.
+	 * 그 안에 {@code limit} 개를 채우지 못하면 적은 개수를 그대로 반환하고, 다음 페이지는 읽은 위치부터 이어서 조회합니다.
+	 * 순위는 계속 바뀌므로 페이지를 넘기는 사이 순위가 바뀐 게시글은 중복되거나 빠질 수 있습니다.
+	 *
+	 * @param currentUserId  요청 사용자 ID
+	 * @param blockedUserIds 요청 사용자가 차단한 사용자 ID 목록
+	 * @param categoryIds    모두 포함해야 하는 카테고리 ID 목록 (없으면 null)
+	 * @param offset         조회를 시작할 순위 (0부터 시작)
+	 * @param limit          조회할 최대 개수
+	 * @return 순위 순서의 게시글 목록 (작성자, 루틴 포함)과 다음 조회를 시작할 순위
+	 */
+	@Transactional(readOnly = true)
+	public TrendingSocialPage getTrendingSocials(
+		final Long currentUserId,
+		final Collection<Long> blockedUserIds,
+		final List<Long> categoryIds,
+		final long offset,
+		final int limit
+	) {
+		List<RankedSocial> rankedSocials = new ArrayList<>(limit);
+		int batchSize = Math.max(limit * 2, MIN_SCAN_BATCH_SIZE);
+		long rank = offset;
+		boolean reachedEnd = false;
+
+		for (int scanCount = 0; rankedSocials.size() < limit; scanCount++) {
+			if (rank >= MAX_RANKING_SIZE) {
+				reachedEnd = true;
+				break;
+			}
+			if (scanCount == MAX_SCAN_COUNT) {
+				log.info("인기 게시글 조회 횟수 제한 도달 - UserId: {}, Offset: {}, NextRank: {}, Count: {}",
+					currentUserId, offset, rank, rankedSocials.size());
+				break;
+			}
+
+			List<Long> socialIds = trendingRankingService.getRange(rank, batchSize);
+			Map<Long, Social> socialsById = socialIds.isEmpty() ? Map.of() : socialRepository
+				.findSocialsByIdsExcludingBlocked(socialIds, currentUserId, blockedUserIds, categoryIds)
+				.stream()
+				.collect(Collectors.toMap(Social::getId, Function.identity()));
+
+			for (int i = 0; i < socialIds.size() && rankedSocials.size() < limit; i++) {
+				Social social = socialsById.get(socialIds.get(i));
+				if (social != null) {
+					rankedSocials.add(new RankedSocial(rank + i, social));
+				}
+			}
+
+			rank += socialIds.size();
+			if (socialIds.size() < batchSize) {
+				reachedEnd = true;
+				break;
+			}
+		}
+
+		return new TrendingSocialPage(rankedSocials, rank, reachedEnd);
+	}
+}
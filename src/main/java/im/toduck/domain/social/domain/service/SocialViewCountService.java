@@ -0,0 +1,88 @@
+package im.toduck.domain.social.domain.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.global.util.TransactionSynchronizationUtil;
+import im.toduck.infra.redis.view.UniqueViewCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수(순 방문자 수)를 관리하는 서비스입니다.
+ * <p>
+ * 상세 조회마다 게시글 행을 갱신하지 않고 {@link UniqueViewCounterService} 의 HyperLogLog 에 방문자를 추가하며,
+ * 값이 바뀐 게시글만 주기적으로 {@value #FLUSH_BATCH_SIZE} 개씩 묶어 social.view_count 에 반영합니다.
+ * 반영된 값은 줄어들지 않으므로, 방문자 집계가 만료된 게시글도 이전 조회수를 유지합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SocialViewCountService {
+	private static final int FLUSH_BATCH_SIZE = 500;
+	private static final int MAX_FLUSH_BATCHES = 100;
+
+	private final SocialRepository socialRepository;
+	private final UniqueViewCounterService uniqueViewCounterService;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 게시글 방문자를 집계하고 현재 조회수를 반환합니다.
+	 * Redis 를 사용할 수 없으면 마지막으로 DB 에 반영된 조회수를 반환합니다.
+	 */
+	public long recordView(final Social socialBoard, final Long viewerId) {
+		long liveViewCount = uniqueViewCounterService.record(socialBoard.getId(), viewerId);
+		return Math.max(socialBoard.getViewCount(), liveViewCount);
+	}
+
+	public void evictViewers(final Long socialId) {
+		TransactionSynchronizationUtil.runAfterCommit(() -> uniqueViewCounterService.evict(socialId));
+	}
+
+	/**
+	 * 방문자 수가 바뀐 게시글의 조회수를 DB 에 반영합니다. 묶음마다 별도의 트랜잭션에서 처리하며,
+	 * 반영에 실패한 묶음은 다음 실행 때 다시 반영되도록 대상으로 되돌립니다.
+	 */
+	@Scheduled(cron = "0 * * * * *")
+	public void flushViewCounts() {
+		int flushedCount = 0;
+
+		for (int batch = 0; batch < MAX_FLUSH_BATCHES; batch++) {
+			List<Long> socialIds = uniqueViewCounterService.popDirtySocialIds(FLUSH_BATCH_SIZE);
+			if (socialIds.isEmpty()) {
+				break;
+			}
+
+			Map<Long, Long> viewCounts = uniqueViewCounterService.count(socialIds);
+			if (viewCounts.isEmpty()) {
+				uniqueViewCounterService.markDirty(socialIds);
+				break;
+			}
+
+			try {
+				transactionTemplate.executeWithoutResult(status ->
+					viewCounts.forEach(socialRepository::updateViewCountIfGreater)
+				);
+				flushedCount += viewCounts.size();
+			} catch (Exception e) {
+				log.error("게시글 조회수 반영 실패 - SocialCount: {}", socialIds.size(), e);
+				uniqueViewCounterService.markDirty(socialIds);
+				break;
+			}
+
+			if (socialIds.size() < FLUSH_BATCH_SIZE) {
+				break;
+			}
+		}
+
+		if (flushedCount > 0) {
+			log.info("게시글 조회수 반영 완료 - FlushedCount: {}", flushedCount);
+		}
+	}
+}
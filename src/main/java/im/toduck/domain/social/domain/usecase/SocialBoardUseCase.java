@@ -1,27 +1,35 @@
 package im.toduck.domain.social.domain.usecase;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 import im.toduck.domain.routine.domain.service.RoutineService;
 import im.toduck.domain.routine.persistence.entity.Routine;
-import im.toduck.domain.social.common.mapper.CommentMapper;
 import im.toduck.domain.social.common.mapper.SocialCategoryMapper;
 import im.toduck.domain.social.common.mapper.SocialMapper;
 import im.toduck.domain.social.domain.service.SocialBoardService;
-import im.toduck.domain.social.domain.service.SocialCategoryService;
+import im.toduck.domain.social.domain.service.SocialCardService;
+import im.toduck.domain.social.domain.service.SocialCommentService;
+import im.toduck.domain.social.domain.service.SocialFeedService;
 import im.toduck.domain.social.domain.service.SocialInteractionService;
+import im.toduck.domain.social.domain.service.SocialTimelineService;
+import im.toduck.domain.social.domain.service.SocialTrendingService;
+import im.toduck.domain.social.domain.service.SocialViewCountService;
 import im.toduck.domain.social.persistence.entity.Comment;
-import im.toduck.domain.social.persistence.entity.CommentImageFile;
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.persistence.entity.SocialCategory;
 import im.toduck.domain.social.persistence.entity.SocialImageFile;
+import im.toduck.domain.social.persistence.vo.RankedSocial;
+import im.toduck.domain.social.persistence.vo.ScoredSocial;
+import im.toduck.domain.social.persistence.vo.TrendingSocialPage;
 import im.toduck.domain.social.presentation.dto.request.SocialCreateRequest;
 import im.toduck.domain.social.presentation.dto.request.SocialUpdateRequest;
 import im.toduck.domain.social.presentation.dto.response.CommentDto;
+import im.toduck.domain.social.presentation.dto.response.SocialBatchResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse.SocialCategoryDto;
 import im.toduck.domain.social.presentation.dto.response.SocialCreateResponse;
@@ -33,6 +41,7 @@ import im.toduck.global.annotation.UseCase;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
+import im.toduck.global.util.KeysetCursor;
 import im.toduck.global.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,12 +51,19 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SocialBoardUseCase {
 	private static final int DEFAULT_SOCIAL_PAGE_SIZE = 10;
+	private static final int DEFAULT_COMMENT_PAGE_SIZE = 20;
+	private static final int MAX_SOCIAL_BATCH_SIZE = 20;
 
 	private final SocialBoardService socialBoardService;
 	private final SocialInteractionService socialInteractionService;
 	private final UserService userService;
 	private final RoutineService routineService;
-	private final SocialCategoryService socialCategoryService;
+	private final SocialFeedService socialFeedService;
+	private final SocialCommentService socialCommentService;
+	private final SocialTimelineService socialTimelineService;
+	private final SocialTrendingService socialTrendingService;
+	private final SocialViewCountService socialViewCountService;
+	private final SocialCardService socialCardService;
 
 	@Transactional
 	public SocialCreateResponse createSocialBoard(final Long userId, final SocialCreateRequest request) {
@@ -60,6 +76,7 @@ public class SocialBoardUseCase {
 			request.socialCategoryIds());
 		socialBoardService.addSocialCategoryLinks(request.socialCategoryIds(), socialCategories, socialBoard);
 		socialBoardService.addSocialImageFiles(request.socialImageUrls(), socialBoard);
+		socialCardService.refreshCard(socialBoard.getId());
 
 		log.info("소셜 게시글 생성 - UserId: {}, SocialBoardId: {}", userId, socialBoard.getId());
 		return SocialMapper.toSocialCreateResponse(socialBoard);
@@ -140,29 +157,155 @@ public class SocialBoardUseCase {
 	public SocialDetailResponse getSocialDetail(final Long userId, final Long socialId) {
 		User user = userService.getUserById(userId)
 			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		Social socialBoard = getAccessibleSocial(userId, socialId, blockedUserIds);
+
+		List<SocialImageFile> imageFiles = socialBoardService.getSocialImagesBySocial(socialBoard);
+		CursorPaginationResponse<CommentDto> commentPage = getCommentPage(
+			user,
+			socialBoard,
+			null,
+			DEFAULT_COMMENT_PAGE_SIZE,
+			blockedUserIds
+		);
+		boolean isSocialBoardLiked = socialInteractionService.getSocialBoardIsLiked(user, socialBoard);
+		long viewCount = socialViewCountService.recordView(socialBoard, user.getId());
+
+		log.info("소셜 게시글 단건 상세 조회 - UserId: {}, SocialBoardId: {}", userId, socialId);
+		return SocialMapper.toSocialDetailResponse(
+			socialBoard,
+			imageFiles,
+			commentPage,
+			isSocialBoardLiked,
+			viewCount
+		);
+	}
+
+	/**
+	 * 여러 게시글을 한 번에 조회합니다. 알림 목록이나 딥링크처럼 게시글 여러 개를 연달아 여는 화면에서 사용합니다.
+	 * <p>
+	 * 게시글(작성자, 루틴 포함), 이미지/카테고리 카드, 좋아요 여부를 각각 한 번의 IN 쿼리로 조회하고, 차단 목록은 캐시에서 읽습니다.
+	 * 댓글은 포함하지 않으며 조회수도 기록하지 않습니다. 삭제되었거나 숨겨진 게시글, 차단한 사용자의 게시글은 결과에서 제외됩니다.
+	 */
+	@Transactional(readOnly = true)
+	public SocialBatchResponse getSocialBatch(final Long userId, final List<Long> socialIds) {
+		User user = userService.getUserById(userId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+
+		List<Long> distinctSocialIds = CollectionUtils.isEmpty(socialIds)
+			? List.of()
+			: socialIds.stream().distinct().toList();
+		if (distinctSocialIds.size() > MAX_SOCIAL_BATCH_SIZE) {
+			log.warn("게시글 일괄 조회 최대 개수 초과 - UserId: {}, RequestedCount: {}", userId, distinctSocialIds.size());
+			throw CommonException.from(ExceptionCode.EXCEEDED_SOCIAL_BATCH_SIZE);
+		}
+
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		List<Social> socialBoards = socialBoardService.getSocialsByIds(distinctSocialIds, blockedUserIds);
+		List<SocialResponse> socialResponses = socialFeedService.getSocialResponses(socialBoards, user);
+
+		log.info("소셜 게시글 일괄 조회 - UserId: {}, RequestedCount: {}, FoundCount: {}", userId,
+			distinctSocialIds.size(), socialResponses.size());
+		return SocialMapper.toSocialBatchResponse(socialResponses);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<CommentDto> getComments(
+		final Long userId,
+		final Long socialId,
+		final KeysetCursor cursor,
+		final Integer limit
+	) {
+		User user = userService.getUserById(userId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		Social socialBoard = getAccessibleSocial(userId, socialId, blockedUserIds);
+
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_COMMENT_PAGE_SIZE);
+		return getCommentPage(user, socialBoard, cursor, actualLimit, blockedUserIds);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<CommentDto> getReplies(
+		final Long userId,
+		final Long socialId,
+		final Long commentId,
+		final KeysetCursor cursor,
+		final Integer limit
+	) {
+		User user = userService.getUserById(userId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		Social socialBoard = getAccessibleSocial(userId, socialId, blockedUserIds);
+		Comment parentComment = socialInteractionService.getCommentById(commentId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_COMMENT));
+
+		if (!parentComment.isInSocialBoard(socialBoard)) {
+			log.warn("게시글에 속하지 않은 댓글의 답글 조회 시도 - UserId: {}, SocialBoardId: {}, CommentId: {}", userId,
+				socialId, commentId);
+			throw CommonException.from(ExceptionCode.INVALID_COMMENT_FOR_BOARD);
+		}
+
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_COMMENT_PAGE_SIZE);
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
+
+		List<Comment> replies = socialInteractionService.getReplies(socialBoard, parentComment, cursor, fetchLimit);
+		return toCommentPage(user, socialBoard, replies, actualLimit, blockedUserIds);
+	}
+
+	private Social getAccessibleSocial(final Long userId, final Long socialId, final Set<Long> blockedUserIds) {
 		Social socialBoard = socialBoardService.getSocialById(socialId)
 			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_SOCIAL_BOARD));
 
-		boolean isBlockedUser = userService.isBlockedUser(user, socialBoard.getUser());
+		boolean isBlockedUser = blockedUserIds.contains(socialBoard.getUser().getId());
 		if (isBlockedUser) {
 			log.warn("차단된 사용자에 대한 게시글 접근 시도 - UserId: {}, BlockedUserId: {}, SocialBoardId: {}", userId,
 				socialBoard.getUser().getId(), socialId);
 			throw CommonException.from(ExceptionCode.BLOCKED_USER_SOCIAL_ACCESS);
 		}
+		return socialBoard;
+	}
 
-		List<SocialImageFile> imageFiles = socialBoardService.getSocialImagesBySocial(socialBoard);
-		List<Comment> comments = socialInteractionService.getCommentsBySocial(socialBoard);
-		List<CommentDto> commentDtos = convertCommentsToDto(user, comments);
-		boolean isSocialBoardLiked = socialInteractionService.getSocialBoardIsLiked(user, socialBoard);
+	private CursorPaginationResponse<CommentDto> getCommentPage(
+		final User user,
+		final Social socialBoard,
+		final KeysetCursor cursor,
+		final int actualLimit,
+		final Set<Long> blockedUserIds
+	) {
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
 
-		log.info("소셜 게시글 단건 상세 조회 - UserId: {}, SocialBoardId: {}", userId, socialId);
-		return SocialMapper.toSocialDetailResponse(socialBoard, imageFiles, commentDtos, isSocialBoardLiked);
+		List<Comment> comments = socialInteractionService.getTopLevelComments(socialBoard, cursor, fetchLimit);
+		return toCommentPage(user, socialBoard, comments, actualLimit, blockedUserIds);
+	}
+
+	private CursorPaginationResponse<CommentDto> toCommentPage(
+		final User user,
+		final Social socialBoard,
+		final List<Comment> comments,
+		final int actualLimit,
+		final Set<Long> blockedUserIds
+	) {
+		boolean hasMore = PaginationUtil.hasMore(comments, actualLimit);
+		Long nextCursor = PaginationUtil.getNextCursor(hasMore, comments, actualLimit, Comment::getId);
+
+		List<Comment> pageComments = comments.stream()
+			.limit(actualLimit)
+			.toList();
+		List<CommentDto> commentDtos = socialCommentService.getCommentDtos(
+			socialBoard,
+			pageComments,
+			user,
+			blockedUserIds
+		);
+
+		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, commentDtos);
 	}
 
 	@Transactional(readOnly = true)
 	public CursorPaginationResponse<SocialResponse> getSocials(
 		final Long userId,
-		final Long cursor,
+		final KeysetCursor cursor,
 		final Integer limit,
 		final List<Long> categoryIds
 	) {
@@ -174,7 +317,14 @@ public class SocialBoardUseCase {
 
 		validateCategories(userId, categoryIds);
 
-		List<Social> socialBoards = socialBoardService.getSocials(cursor, fetchLimit, user.getId(), categoryIds);
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		List<Social> socialBoards = socialBoardService.getSocials(
+			cursor,
+			fetchLimit,
+			user.getId(),
+			blockedUserIds,
+			categoryIds
+		);
 		boolean hasMore = PaginationUtil.hasMore(socialBoards, actualLimit);
 		Long nextCursor = PaginationUtil.getNextCursor(hasMore, socialBoards, actualLimit, Social::getId);
 
@@ -184,6 +334,79 @@ public class SocialBoardUseCase {
 		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, socialResponses);
 	}
 
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<SocialResponse> getFollowingSocials(
+		final Long userId,
+		final KeysetCursor cursor,
+		final Integer limit
+	) {
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_SOCIAL_PAGE_SIZE);
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
+
+		// 타임라인 버전을 DB 스냅샷보다 먼저 읽어야 하므로 사용자 조회보다 먼저 호출합니다.
+		List<Long> socialIds = socialTimelineService.getTimelineSocialIds(userId, cursor, fetchLimit);
+		User user = userService.getUserById(userId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+
+		boolean hasMore = PaginationUtil.hasMore(socialIds, actualLimit);
+		Long nextCursor = PaginationUtil.getNextCursor(hasMore, socialIds, actualLimit, Function.identity());
+
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		List<Social> socialBoards = socialBoardService.getSocialsByIds(
+			socialIds.subList(0, Math.min(socialIds.size(), actualLimit)),
+			blockedUserIds
+		);
+		List<SocialResponse> socialResponses = socialFeedService.getSocialResponses(socialBoards, user);
+
+		log.info("팔로잉 게시글 목록 조회 성공 - UserId: {}, HasMore: {}, NextCursor: {}", userId, hasMore, nextCursor);
+		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, socialResponses);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<SocialResponse> getTrendingSocials(
+		final Long userId,
+		final KeysetCursor cursor,
+		final Integer limit,
+		final List<Long> categoryIds
+	) {
+		User user = userService.getUserById(userId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_SOCIAL_PAGE_SIZE);
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
+
+		validateCategories(userId, categoryIds);
+
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		TrendingSocialPage trendingPage = socialTrendingService.getTrendingSocials(
+			user.getId(),
+			blockedUserIds,
+			categoryIds,
+			cursor == null ? 0L : cursor.id(),
+			fetchLimit
+		);
+		List<RankedSocial> rankedSocials = trendingPage.rankedSocials();
+		boolean hasMore = PaginationUtil.hasMore(rankedSocials, actualLimit);
+		Long nextCursor = PaginationUtil.getNextCursor(
+			hasMore,
+			rankedSocials,
+			actualLimit,
+			rankedSocial -> rankedSocial.rank() + 1
+		);
+		if (!hasMore && !trendingPage.reachedEnd()) {
+			hasMore = true;
+			nextCursor = trendingPage.nextRank();
+		}
+
+		List<Social> socialBoards = rankedSocials.stream()
+			.map(RankedSocial::social)
+			.toList();
+		List<SocialResponse> socialResponses = createSocialResponses(socialBoards, user, actualLimit);
+
+		log.info("인기 게시글 목록 조회 성공 - UserId: {}, HasMore: {}, NextCursor: {}", userId, hasMore, nextCursor);
+		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, socialResponses);
+	}
+
 	private void validateCategories(Long userId, List<Long> categoryIds) {
 		if (CollectionUtils.isEmpty(categoryIds)) {
 			return;
@@ -203,46 +426,16 @@ public class SocialBoardUseCase {
 		return socialCategories.size() != socialCategoryIds.size();
 	}
 
-	private List<CommentDto> convertCommentsToDto(final User user, final List<Comment> comments) {
-		return comments.stream()
-			.map(comment -> createCommentDto(user, comment))
-			.toList();
-	}
-
-	private CommentDto createCommentDto(final User user, final Comment comment) {
-		Optional<CommentImageFile> commentImageFile = socialInteractionService.getCommentImageByComment(comment);
-		boolean hasImage = commentImageFile.isPresent();
-		String imageUrl = hasImage ? commentImageFile.get().getUrl() : null;
-
-		boolean isCommentLike = socialInteractionService.getCommentIsLiked(user, comment);
-		boolean isBlocked = userService.isBlockedUser(user, comment.getUser());
-
-		return CommentMapper.toCommentDto(comment, hasImage, imageUrl, isCommentLike, isBlocked);
-	}
-
 	private List<SocialResponse> createSocialResponses(
 		final List<Social> socialBoards,
 		final User requestingUser,
 		final int actualLimit
 	) {
-		return socialBoards.stream()
+		List<Social> pageSocials = socialBoards.stream()
 			.limit(actualLimit)
-			.map(social -> {
-				List<SocialImageFile> imageFiles = socialBoardService.getSocialImagesBySocial(social);
-				int commentCount = socialInteractionService.countCommentsBySocial(social);
-				boolean isLikedByRequestingUser = socialInteractionService.getSocialBoardIsLiked(requestingUser,
-					social);
-				List<SocialCategoryDto> socialCategoryDtos = socialCategoryService.getSocialCategoryDtosBySocial(
-					social);
-				return SocialMapper.toSocialResponse(
-					social,
-					imageFiles,
-					socialCategoryDtos,
-					commentCount,
-					isLikedByRequestingUser
-				);
-			})
 			.toList();
+
+		return socialFeedService.getSocialResponses(pageSocials, requestingUser);
 	}
 
 	@Transactional(readOnly = true)
@@ -260,7 +453,7 @@ public class SocialBoardUseCase {
 	public CursorPaginationResponse<SocialResponse> searchSocials(
 		final Long userId,
 		final String keyword,
-		final Long cursor,
+		final KeysetCursor cursor,
 		final Integer limit,
 		final List<Long> categoryIds
 	) {
@@ -272,17 +465,27 @@ public class SocialBoardUseCase {
 
 		validateCategories(userId, categoryIds);
 
-		List<Social> searchResults = socialBoardService.searchSocialsWithFilters(
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		List<ScoredSocial> scoredSocials = socialBoardService.searchSocialsWithFilters(
 			userId,
+			blockedUserIds,
 			keyword,
 			cursor,
 			fetchLimit,
 			categoryIds
 		);
 
-		boolean hasMore = PaginationUtil.hasMore(searchResults, actualLimit);
-		Long nextCursor = PaginationUtil.getNextCursor(hasMore, searchResults, actualLimit, Social::getId);
+		boolean hasMore = PaginationUtil.hasMore(scoredSocials, actualLimit);
+		KeysetCursor nextCursor = PaginationUtil.getNextKeysetCursor(
+			hasMore,
+			scoredSocials,
+			actualLimit,
+			socialBoardService::getSearchCursor
+		);
 
+		List<Social> searchResults = scoredSocials.stream()
+			.map(ScoredSocial::social)
+			.toList();
 		List<SocialResponse> searchResponses = createSocialResponses(searchResults, user, actualLimit);
 		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, searchResponses);
 	}
@@ -1,5 +1,8 @@
 package im.toduck.domain.social.domain.usecase;
 
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.transaction.annotation.Transactional;
 
 import im.toduck.domain.social.common.mapper.CommentLikeMapper;
@@ -13,17 +16,24 @@ import im.toduck.domain.social.persistence.entity.CommentLike;
 import im.toduck.domain.social.persistence.entity.Like;
 import im.toduck.domain.social.persistence.entity.Report;
 import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.vo.SocialLiker;
 import im.toduck.domain.social.presentation.dto.request.CommentCreateRequest;
 import im.toduck.domain.social.presentation.dto.request.ReportCreateRequest;
 import im.toduck.domain.social.presentation.dto.response.CommentCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.CommentLikeCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.ReportCreateResponse;
+import im.toduck.domain.social.presentation.dto.response.ReportedSocialResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialLikeCreateResponse;
+import im.toduck.domain.user.domain.service.FollowService;
 import im.toduck.domain.user.domain.service.UserService;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.global.annotation.UseCase;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,9 +41,13 @@ import lombok.extern.slf4j.Slf4j;
 @UseCase
 @RequiredArgsConstructor
 public class SocialInteractionUseCase {
+	private static final int DEFAULT_LIKER_PAGE_SIZE = 20;
+	private static final int DEFAULT_REPORTED_SOCIAL_PAGE_SIZE = 20;
+
 	private final SocialBoardService socialBoardService;
 	private final SocialInteractionService socialInteractionService;
 	private final UserService userService;
+	private final FollowService followService;
 
 	@Transactional
 	public CommentCreateResponse createComment(
@@ -111,6 +125,44 @@ public class SocialInteractionUseCase {
 		log.info("소셜 게시글 좋아요 삭제 - UserId: {}, SocialBoardId: {}, LikeId: {}", userId, socialId, like.getId());
 	}
 
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<UserSummaryDto> getSocialLikers(
+		final Long userId,
+		final Long socialId,
+		final KeysetCursor cursor,
+		final Integer limit
+	) {
+		Social socialBoard = socialBoardService.getSocialById(socialId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_SOCIAL_BOARD));
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		if (blockedUserIds.contains(socialBoard.getUser().getId())) {
+			log.warn("차단된 사용자에 대한 게시글 접근 시도 - UserId: {}, BlockedUserId: {}, SocialBoardId: {}", userId,
+				socialBoard.getUser().getId(), socialId);
+			throw CommonException.from(ExceptionCode.BLOCKED_USER_SOCIAL_ACCESS);
+		}
+
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_LIKER_PAGE_SIZE);
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
+
+		List<SocialLiker> likers = socialInteractionService.getSocialLikers(
+			socialBoard,
+			cursor,
+			userId,
+			blockedUserIds,
+			fetchLimit
+		);
+		boolean hasMore = PaginationUtil.hasMore(likers, actualLimit);
+		Long nextCursor = PaginationUtil.getNextCursor(hasMore, likers, actualLimit, SocialLiker::likeId);
+
+		List<Long> pageUserIds = likers.stream()
+			.limit(actualLimit)
+			.map(SocialLiker::userId)
+			.toList();
+		List<UserSummaryDto> likerSummaries = followService.getUserSummaries(userId, pageUserIds);
+
+		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, likerSummaries);
+	}
+
 	@Transactional
 	public ReportCreateResponse reportSocial(
 		final Long userId,
@@ -144,6 +196,30 @@ public class SocialInteractionUseCase {
 		return ReportMapper.toReportCreateResponse(report);
 	}
 
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<ReportedSocialResponse> getReportedSocials(
+		final KeysetCursor cursor,
+		final Integer limit
+	) {
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_REPORTED_SOCIAL_PAGE_SIZE);
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
+
+		List<Social> reportedSocials = socialInteractionService.getReportedSocials(cursor, fetchLimit);
+		boolean hasMore = PaginationUtil.hasMore(reportedSocials, actualLimit);
+		KeysetCursor nextCursor = PaginationUtil.getNextKeysetCursor(
+			hasMore,
+			reportedSocials,
+			actualLimit,
+			socialInteractionService::getReportedSocialCursor
+		);
+
+		List<ReportedSocialResponse> responses = reportedSocials.stream()
+			.limit(actualLimit)
+			.map(ReportMapper::toReportedSocialResponse)
+			.toList();
+		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, responses);
+	}
+
 	private void blockAuthorIfNotAlreadyBlocked(final User blocker, final User blockedUser) {
 		if (!userService.isBlockedUser(blocker, blockedUser)) {
 			userService.blockUser(blocker, blockedUser);
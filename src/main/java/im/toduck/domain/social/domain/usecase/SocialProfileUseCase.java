@@ -1,8 +1,7 @@
 package im.toduck.domain.social.domain.usecase;
 
-import static im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse.*;
-
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,23 +10,23 @@ import im.toduck.domain.routine.domain.service.RoutineService;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.presentation.dto.request.RoutineCreateRequest;
 import im.toduck.domain.routine.presentation.dto.response.RoutineCreateResponse;
-import im.toduck.domain.social.common.mapper.SocialMapper;
 import im.toduck.domain.social.common.mapper.SocialProfileMapper;
 import im.toduck.domain.social.domain.service.SocialBoardService;
-import im.toduck.domain.social.domain.service.SocialCategoryService;
-import im.toduck.domain.social.domain.service.SocialInteractionService;
+import im.toduck.domain.social.domain.service.SocialFeedService;
 import im.toduck.domain.social.persistence.entity.Social;
-import im.toduck.domain.social.persistence.entity.SocialImageFile;
 import im.toduck.domain.social.presentation.dto.response.SocialProfileResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialResponse;
 import im.toduck.domain.social.presentation.dto.response.UserProfileRoutineListResponse;
 import im.toduck.domain.user.domain.service.FollowService;
 import im.toduck.domain.user.domain.service.UserService;
+import im.toduck.domain.user.domain.service.UserStatsService;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.persistence.entity.UserStats;
 import im.toduck.global.annotation.UseCase;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
+import im.toduck.global.util.KeysetCursor;
 import im.toduck.global.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,9 +40,9 @@ public class SocialProfileUseCase {
 	private final UserService userService;
 	private final FollowService followService;
 	private final SocialBoardService socialBoardService;
-	private final SocialInteractionService socialInteractionService;
 	private final RoutineService routineService;
-	private final SocialCategoryService socialCategoryService;
+	private final SocialFeedService socialFeedService;
+	private final UserStatsService userStatsService;
 
 	@Transactional(readOnly = true)
 	public SocialProfileResponse getUserProfile(final Long profileUserId, final Long authUserId) {
@@ -52,10 +51,16 @@ public class SocialProfileUseCase {
 		User profileUser = userService.getUserById(profileUserId)
 			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
 
-		int followingCount = followService.countFollowing(profileUserId);
-		int followerCount = followService.countFollowers(profileUserId);
-		int postCount = socialBoardService.countSocialPostsByUserId(profileUserId);
-		int totalRoutineShareCount = routineService.getTotalRoutineShareCount(profileUser);
+		// 집계 행이 아직 생성되지 않은 사용자는 원본 테이블에서 직접 집계합니다.
+		Optional<UserStats> userStats = userStatsService.getUserStats(profileUserId);
+		int followingCount = userStats.map(UserStats::getFollowingCount)
+			.orElseGet(() -> followService.countFollowing(profileUserId));
+		int followerCount = userStats.map(UserStats::getFollowerCount)
+			.orElseGet(() -> followService.countFollowers(profileUserId));
+		int postCount = userStats.map(UserStats::getPostCount)
+			.orElseGet(() -> socialBoardService.countSocialPostsByUserId(profileUserId));
+		int totalRoutineShareCount = userStats.map(UserStats::getRoutineShareCount)
+			.orElseGet(() -> routineService.getTotalRoutineShareCount(profileUser));
 		boolean isMe = profileUserId.equals(authUserId);
 		boolean isFollowing = !isMe && followService.isFollowing(authUser, profileUser);
 
@@ -75,7 +80,7 @@ public class SocialProfileUseCase {
 	public CursorPaginationResponse<SocialResponse> getUserSocials(
 		final Long profileUserId,
 		final Long authUserId,
-		final Long cursor,
+		final KeysetCursor cursor,
 		final Integer limit
 	) {
 		User profileUser = userService.getUserById(profileUserId)
@@ -112,24 +117,11 @@ public class SocialProfileUseCase {
 		final User requestingUser,
 		final int actualLimit
 	) {
-		return socialBoards.stream()
+		List<Social> pageSocials = socialBoards.stream()
 			.limit(actualLimit)
-			.map(social -> {
-				List<SocialImageFile> imageFiles = socialBoardService.getSocialImagesBySocial(social);
-				int commentCount = socialInteractionService.countCommentsBySocial(social);
-				boolean isLikedByRequestingUser = socialInteractionService.getSocialBoardIsLiked(requestingUser,
-					social);
-				List<SocialCategoryDto> socialCategoryDtos = socialCategoryService.getSocialCategoryDtosBySocial(
-					social);
-				return SocialMapper.toSocialResponse(
-					social,
-					imageFiles,
-					socialCategoryDtos,
-					commentCount,
-					isLikedByRequestingUser
-				);
-			})
 			.toList();
+
+		return socialFeedService.getSocialResponses(pageSocials, requestingUser);
 	}
 
 	@Transactional(readOnly = true)
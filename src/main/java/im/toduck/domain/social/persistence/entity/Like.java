@@ -1,7 +1,5 @@
 package im.toduck.domain.social.persistence.entity;
 
-import java.time.LocalDateTime;
-
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.base.entity.BaseEntity;
 import jakarta.persistence.Entity;
@@ -9,16 +7,22 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "likes")
+@Table(
+	name = "likes",
+	uniqueConstraints = @UniqueConstraint(name = "likes_user_social_unique", columnNames = {"user_id", "social_id"}),
+	indexes = @Index(name = "likes_social_id_idx", columnList = "social_id, id, user_id")
+)
 @NoArgsConstructor
 public class Like extends BaseEntity {
 
@@ -47,8 +51,4 @@ public class Like extends BaseEntity {
 	public boolean isInSocialBoard(Social socialBoard) {
 		return this.social.getId().equals(socialBoard.getId());
 	}
-
-	public void softDelete() {
-		this.deletedAt = LocalDateTime.now();
-	}
 }
@@ -1,5 +1,7 @@
 package im.toduck.domain.social.persistence.entity;
 
+import java.time.LocalDateTime;
+
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -12,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +24,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "social")
+@Table(name = "social", indexes = {
+	@Index(name = "social_report_count_idx", columnList = "report_count, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE social SET deleted_at = NOW() where id=?")
@@ -43,12 +48,39 @@ public class Social extends BaseEntity {
 	@Column(nullable = true, length = 100)
 	private String title;
 
-	@Column(nullable = false, columnDefinition = "int default 0")
+	@Column(nullable = false, updatable = false, columnDefinition = "int default 0")
 	private int likeCount;
 
+	@Column(nullable = false, updatable = false, columnDefinition = "int default 0")
+	private int commentCount;
+
+	/**
+	 * 순 방문자 수의 근사값입니다. Redis 에서 집계한 값을 배치로 반영하므로 실제 값보다 늦게 갱신됩니다.
+	 */
+	@Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+	private long viewCount;
+
+	/**
+	 * 신고 수입니다. 신고가 생성될 때 같은 트랜잭션에서 원자적으로 증가하며, 모더레이션 목록의 정렬 기준으로 사용합니다.
+	 */
+	@Column(nullable = false, updatable = false, columnDefinition = "bigint default 0")
+	private long reportCount;
+
+	/**
+	 * 신고 수가 기준을 넘어 피드에서 자동으로 숨겨진 시각입니다. 숨겨지지 않은 게시글은 null 입니다.
+	 */
+	@Column(updatable = false)
+	private LocalDateTime hiddenAt;
+
 	@Column(nullable = false, length = 255)
 	private String content;
 
+	/**
+	 * 게시글 카테고리의 비트마스크입니다. social_category_link 가 원본이며, 카테고리 필터 조회에만 사용합니다.
+	 */
+	@Column(nullable = false, columnDefinition = "bigint default 0")
+	private long categoryMask;
+
 	@Column(nullable = false)
 	private Boolean isAnonymous;
 
@@ -61,6 +93,10 @@ public class Social extends BaseEntity {
 		this.isAnonymous = isAnonymous;
 	}
 
+	public boolean isHidden() {
+		return this.hiddenAt != null;
+	}
+
 	public boolean isOwner(User requestingUser) {
 		return this.user.getId().equals(requestingUser.getId());
 	}
@@ -81,14 +117,8 @@ public class Social extends BaseEntity {
 		this.routine = routine;
 	}
 
-	public void incrementLikeCount() {
-		this.likeCount++;
-	}
-
-	public void decrementLikeCount() {
-		if (this.likeCount > 0) {
-			this.likeCount--;
-		}
+	public void updateCategoryMask(final long categoryMask) {
+		this.categoryMask = categoryMask;
 	}
 
 }
@@ -0,0 +1,81 @@
+package im.toduck.domain.social.persistence.entity;
+
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import im.toduck.domain.social.persistence.vo.SocialCardCategory;
+import im.toduck.domain.social.persistence.vo.SocialCardImage;
+import im.toduck.global.base.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피드 카드 조립에 필요한 게시글별 이미지, 카테고리 목록입니다.
+ * <p>
+ * social_image_file, social_category_link 를 원본으로 하는 비정규화 값이며, 게시글 작성/수정 트랜잭션에서 함께 갱신됩니다.
+ * 피드는 게시글 ID 목록으로 이 테이블을 한 번 조회하여 관계 테이블을 각각 조회하지 않습니다. 행은 게시글 ID 를 기본 키로 사용합니다.
+ * <p>
+ * 기본 키를 직접 지정하므로, 저장 시 merge 를 위한 조회가 실행되지 않도록 저장되거나 조회되기 전까지는 새 엔티티로 취급합니다.
+ */
+@Entity
+@Table(name = "social_card")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SocialCard extends BaseEntity implements Persistable<Long> {
+
+	@Id
+	@Column(name = "social_id")
+	private Long socialId;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(nullable = false, columnDefinition = "json")
+	private List<SocialCardImage> images;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(nullable = false, columnDefinition = "json")
+	private List<SocialCardCategory> categories;
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean persisted;
+
+	@Builder
+	private SocialCard(Long socialId, List<SocialCardImage> images, List<SocialCardCategory> categories) {
+		this.socialId = socialId;
+		this.images = images;
+		this.categories = categories;
+	}
+
+	public void update(final List<SocialCardImage> images, final List<SocialCardCategory> categories) {
+		this.images = images;
+		this.categories = categories;
+	}
+
+	@Override
+	public Long getId() {
+		return socialId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		this.persisted = true;
+	}
+}
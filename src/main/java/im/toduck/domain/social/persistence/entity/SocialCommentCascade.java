@@ -0,0 +1,48 @@
+package im.toduck.domain.social.persistence.entity;
+
+import java.time.LocalDateTime;
+
+import im.toduck.global.base.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 삭제 커밋 이후 비동기로 처리해야 하는 댓글 일괄 삭제 작업입니다.
+ * <p>
+ * 게시글 삭제 트랜잭션에서 함께 저장되고 댓글 삭제가 끝나면 삭제되므로, 비동기 작업이 실패하거나 서버가 종료되어도
+ * 남아 있는 행을 주기적으로 다시 처리할 수 있습니다. 행은 게시글 ID 를 기본 키로 사용합니다.
+ */
+@Entity
+@Table(
+	name = "social_comment_cascade",
+	indexes = @Index(name = "social_comment_cascade_created_at_idx", columnList = "created_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SocialCommentCascade extends BaseEntity {
+
+	@Id
+	@Column(name = "social_id")
+	private Long socialId;
+
+	/**
+	 * 댓글에 기록할 삭제 시각입니다. 게시글의 삭제 시각과 같습니다.
+	 */
+	@Column(name = "comment_deleted_at", nullable = false)
+	private LocalDateTime commentDeletedAt;
+
+	private SocialCommentCascade(final Long socialId, final LocalDateTime commentDeletedAt) {
+		this.socialId = socialId;
+		this.commentDeletedAt = commentDeletedAt;
+	}
+
+	public static SocialCommentCascade of(final Long socialId, final LocalDateTime commentDeletedAt) {
+		return new SocialCommentCascade(socialId, commentDeletedAt);
+	}
+}
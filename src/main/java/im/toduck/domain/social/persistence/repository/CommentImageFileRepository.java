@@ -1,12 +1,34 @@
 package im.toduck.domain.social.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.social.persistence.entity.Comment;
 import im.toduck.domain.social.persistence.entity.CommentImageFile;
 
 public interface CommentImageFileRepository extends JpaRepository<CommentImageFile, Long> {
 	Optional<CommentImageFile> findByComment(Comment comment);
+
+	@Query("SELECT cif FROM CommentImageFile cif "
+		+ "WHERE cif.comment.id IN :commentIds AND cif.deletedAt IS NULL")
+	List<CommentImageFile> findAllByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+	@Query("SELECT cif.id FROM CommentImageFile cif "
+		+ "WHERE cif.comment.id IN :commentIds AND cif.deletedAt IS NULL")
+	List<Long> findIdsByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE CommentImageFile cif SET cif.deletedAt = :deletedAt "
+		+ "WHERE cif.comment.id IN :commentIds AND cif.deletedAt IS NULL")
+	int softDeleteAllByCommentIds(
+		@Param("commentIds") Collection<Long> commentIds,
+		@Param("deletedAt") LocalDateTime deletedAt
+	);
 }
@@ -1,16 +1,43 @@
 package im.toduck.domain.social.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.social.persistence.entity.Comment;
 import im.toduck.domain.social.persistence.entity.CommentLike;
+import im.toduck.domain.social.persistence.vo.TargetLiker;
 import im.toduck.domain.user.persistence.entity.User;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 	Optional<CommentLike> findCommentLikeByUserAndComment(User user, Comment comment);
 
 	List<CommentLike> findAllByComment(Comment comment);
+
+	@Query("SELECT cl.comment.id FROM CommentLike cl "
+		+ "WHERE cl.user.id = :userId AND cl.comment.id IN :commentIds AND cl.deletedAt IS NULL")
+	List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+	@Query("SELECT new im.toduck.domain.social.persistence.vo.TargetLiker(cl.comment.id, cl.user.id) "
+		+ "FROM CommentLike cl "
+		+ "WHERE cl.comment.id IN :commentIds AND cl.deletedAt IS NULL")
+	List<TargetLiker> findLikersByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+	@Query("SELECT cl.id FROM CommentLike cl "
+		+ "WHERE cl.comment.id IN :commentIds AND cl.deletedAt IS NULL")
+	List<Long> findIdsByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE CommentLike cl SET cl.deletedAt = :deletedAt "
+		+ "WHERE cl.comment.id IN :commentIds AND cl.deletedAt IS NULL")
+	int softDeleteAllByCommentIds(
+		@Param("commentIds") Collection<Long> commentIds,
+		@Param("deletedAt") LocalDateTime deletedAt
+	);
 }
@@ -1,23 +1,48 @@
 package im.toduck.domain.social.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.social.persistence.entity.Comment;
 import im.toduck.domain.social.persistence.entity.Social;
-import io.lettuce.core.dynamic.annotation.Param;
-
-public interface CommentRepository extends JpaRepository<Comment, Long> {
-	@Query("SELECT c FROM Comment c "
-		+ "WHERE c.social = :social "
-		+ "ORDER BY "
-		+ "CASE WHEN c.parent IS NULL THEN c.id ELSE c.parent.id END ASC, "
-		+ "CASE WHEN c.parent IS NOT NULL THEN c.id ELSE 0 END ASC")
-	List<Comment> findCommentsBySocial(@Param("social") Social social);
+import im.toduck.domain.social.persistence.repository.querydsl.CommentRepositoryCustom;
+import im.toduck.domain.social.persistence.vo.CommentReplyCount;
 
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 	List<Comment> findAllBySocial(Social socialBoard);
 
-	int countBySocial(Social social);
+	@Query("SELECT new im.toduck.domain.social.persistence.vo.CommentReplyCount(c.parent.id, COUNT(c)) "
+		+ "FROM Comment c "
+		+ "WHERE c.social.id = :socialId AND c.parent.id IN :parentIds AND c.deletedAt IS NULL "
+		+ "GROUP BY c.parent.id")
+	List<CommentReplyCount> countRepliesByParentIds(
+		@Param("socialId") Long socialId,
+		@Param("parentIds") Collection<Long> parentIds
+	);
+
+	@Query("SELECT c.id FROM Comment c WHERE c.social.id = :socialId AND c.deletedAt IS NULL")
+	List<Long> findIdsBySocialId(@Param("socialId") Long socialId);
+
+	@Query("SELECT c.id FROM Comment c "
+		+ "WHERE c.social.id = :socialId AND c.id > :lastId AND c.deletedAt IS NULL "
+		+ "ORDER BY c.id ASC")
+	List<Long> findIdsBySocialIdAfter(
+		@Param("socialId") Long socialId,
+		@Param("lastId") long lastId,
+		Pageable pageable
+	);
+
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Comment c SET c.deletedAt = :deletedAt WHERE c.id IN :commentIds AND c.deletedAt IS NULL")
+	int softDeleteAllByIds(
+		@Param("commentIds") Collection<Long> commentIds,
+		@Param("deletedAt") LocalDateTime deletedAt
+	);
 }
@@ -1,16 +1,42 @@
 package im.toduck.domain.social.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.social.persistence.entity.Like;
 import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.repository.querydsl.LikeRepositoryCustom;
+import im.toduck.domain.social.persistence.vo.TargetLiker;
 import im.toduck.domain.user.persistence.entity.User;
 
-public interface LikeRepository extends JpaRepository<Like, Long> {
+public interface LikeRepository extends JpaRepository<Like, Long>, LikeRepositoryCustom {
 	List<Like> findAllBySocial(Social socialBoard);
 
 	Optional<Like> findByUserAndSocial(User user, Social socialBoard);
+
+	@Modifying
+	@Query("DELETE FROM Like l WHERE l.id = :likeId")
+	int deleteByIdAtomically(@Param("likeId") Long likeId);
+
+	@Query("SELECT l.id FROM Like l WHERE l.social.id = :socialId")
+	List<Long> findIdsBySocialId(@Param("socialId") Long socialId);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM Like l WHERE l.social.id = :socialId")
+	int deleteAllBySocialId(@Param("socialId") Long socialId);
+
+	@Query("SELECT l.social.id FROM Like l "
+		+ "WHERE l.user.id = :userId AND l.social.id IN :socialIds AND l.deletedAt IS NULL")
+	List<Long> findLikedSocialIds(@Param("userId") Long userId, @Param("socialIds") Collection<Long> socialIds);
+
+	@Query("SELECT new im.toduck.domain.social.persistence.vo.TargetLiker(l.social.id, l.user.id) "
+		+ "FROM Like l "
+		+ "WHERE l.social.id IN :socialIds AND l.deletedAt IS NULL")
+	List<TargetLiker> findLikersBySocialIds(@Param("socialIds") Collection<Long> socialIds);
 }
@@ -0,0 +1,8 @@
+package im.toduck.domain.social.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import im.toduck.domain.social.persistence.entity.SocialCard;
+
+public interface SocialCardRepository extends JpaRepository<SocialCard, Long> {
+}
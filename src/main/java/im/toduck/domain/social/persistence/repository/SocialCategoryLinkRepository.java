@@ -1,14 +1,42 @@
 package im.toduck.domain.social.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.persistence.entity.SocialCategoryLink;
+import im.toduck.domain.social.persistence.vo.LinkedCategory;
 
 public interface SocialCategoryLinkRepository extends JpaRepository<SocialCategoryLink, Long> {
 	void deleteAllBySocial(Social socialBoard);
 
 	List<SocialCategoryLink> findAllBySocial(Social socialBoard);
+
+	@Query("SELECT scl.id FROM SocialCategoryLink scl WHERE scl.social.id = :socialId AND scl.deletedAt IS NULL")
+	List<Long> findIdsBySocialId(@Param("socialId") Long socialId);
+
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE SocialCategoryLink scl SET scl.deletedAt = :deletedAt "
+		+ "WHERE scl.social.id = :socialId AND scl.deletedAt IS NULL")
+	int softDeleteAllBySocialId(@Param("socialId") Long socialId, @Param("deletedAt") LocalDateTime deletedAt);
+
+	@Query("SELECT scl FROM SocialCategoryLink scl "
+		+ "JOIN FETCH scl.socialCategory "
+		+ "WHERE scl.social.id IN :socialIds "
+		+ "ORDER BY scl.id ASC")
+	List<SocialCategoryLink> findAllWithCategoryBySocialIds(@Param("socialIds") Collection<Long> socialIds);
+
+	@Query("SELECT new im.toduck.domain.social.persistence.vo.LinkedCategory(scl.social.id, scl.socialCategory.id) "
+		+ "FROM SocialCategoryLink scl "
+		+ "WHERE scl.social.id > :fromId AND scl.social.id <= :toId AND scl.deletedAt IS NULL")
+	List<LinkedCategory> findLinkedCategoriesBySocialIdRange(
+		@Param("fromId") long fromId,
+		@Param("toId") long toId
+	);
 }
@@ -0,0 +1,17 @@
+package im.toduck.domain.social.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import im.toduck.domain.social.persistence.entity.SocialCommentCascade;
+
+public interface SocialCommentCascadeRepository extends JpaRepository<SocialCommentCascade, Long> {
+
+	@Query("SELECT scc FROM SocialCommentCascade scc WHERE scc.createdAt < :before ORDER BY scc.createdAt ASC")
+	List<SocialCommentCascade> findAllCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -1,8 +1,13 @@
 package im.toduck.domain.social.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.persistence.entity.SocialImageFile;
@@ -10,5 +15,15 @@ import im.toduck.domain.social.persistence.entity.SocialImageFile;
 public interface SocialImageFileRepository extends JpaRepository<SocialImageFile, Long> {
 	List<SocialImageFile> findAllBySocial(Social socialBoard);
 
+	List<SocialImageFile> findAllBySocialIdInOrderByIdAsc(Collection<Long> socialIds);
+
 	void deleteAllBySocial(Social socialBoard);
+
+	@Query("SELECT sif.id FROM SocialImageFile sif WHERE sif.social.id = :socialId AND sif.deletedAt IS NULL")
+	List<Long> findIdsBySocialId(@Param("socialId") Long socialId);
+
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE SocialImageFile sif SET sif.deletedAt = :deletedAt "
+		+ "WHERE sif.social.id = :socialId AND sif.deletedAt IS NULL")
+	int softDeleteAllBySocialId(@Param("socialId") Long socialId, @Param("deletedAt") LocalDateTime deletedAt);
 }
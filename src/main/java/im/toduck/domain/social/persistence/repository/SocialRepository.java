@@ -1,13 +1,116 @@
 package im.toduck.domain.social.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.persistence.repository.querydsl.SocialRepositoryCustom;
+import im.toduck.domain.social.persistence.vo.SocialCategoryMask;
 
 public interface SocialRepository extends JpaRepository<Social, Long>, SocialRepositoryCustom {
 	@Query("select count(s) from Social s where s.user.id = :userId and s.deletedAt is null")
 	long countByUserId(@Param("userId") Long userId);
+
+	@Modifying
+	@Query("UPDATE Social s SET s.likeCount = s.likeCount + 1 WHERE s.id = :socialId")
+	void incrementLikeCount(@Param("socialId") Long socialId);
+
+	@Modifying
+	@Query("UPDATE Social s SET s.likeCount = s.likeCount - 1 WHERE s.id = :socialId AND s.likeCount > 0")
+	void decrementLikeCount(@Param("socialId") Long socialId);
+
+	@Modifying
+	@Query("UPDATE Social s SET s.commentCount = s.commentCount + 1 WHERE s.id = :socialId")
+	void incrementCommentCount(@Param("socialId") Long socialId);
+
+	@Modifying
+	@Query("UPDATE Social s SET s.commentCount = s.commentCount - 1 WHERE s.id = :socialId AND s.commentCount > 0")
+	void decrementCommentCount(@Param("socialId") Long socialId);
+
+	@Modifying
+	@Query("UPDATE Social s SET s.commentCount = 0 WHERE s.id = :socialId")
+	void resetCommentCount(@Param("socialId") Long socialId);
+
+	@Modifying
+	@Query("UPDATE Social s SET s.viewCount = :viewCount WHERE s.id = :socialId AND s.viewCount < :viewCount")
+	void updateViewCountIfGreater(@Param("socialId") Long socialId, @Param("viewCount") long viewCount);
+
+	/**
+	 * 신고 수를 1 증가시키고, 증가한 신고 수가 기준 이상이면 게시글을 숨깁니다.
+	 * hiddenAt 을 먼저 갱신해야 MySQL 과 H2 모두 증가 전 신고 수를 기준으로 계산합니다.
+	 */
+	@Modifying
+	@Query("UPDATE Social s SET "
+		+ "s.hiddenAt = CASE WHEN s.hiddenAt IS NULL AND s.reportCount + 1 >= :hideThreshold "
+		+ "THEN :now ELSE s.hiddenAt END, "
+		+ "s.reportCount = s.reportCount + 1 "
+		+ "WHERE s.id = :socialId")
+	void incrementReportCount(
+		@Param("socialId") Long socialId,
+		@Param("hideThreshold") long hideThreshold,
+		@Param("now") LocalDateTime now
+	);
+
+	@Query(value = "SELECT COALESCE(MAX(id), 0) FROM social", nativeQuery = true)
+	long findMaxIdIncludingDeleted();
+
+	@Query(
+		"SELECT s.id FROM Social s "
+			+ "WHERE s.id > :fromId AND s.id <= :toId "
+			+ "AND NOT EXISTS (SELECT c.socialId FROM SocialCard c WHERE c.socialId = s.id) "
+			+ "ORDER BY s.id"
+	)
+	List<Long> findIdsWithoutCard(@Param("fromId") long fromId, @Param("toId") long toId);
+
+	@Modifying
+	@Query(value = "UPDATE social s "
+		+ "SET comment_count = ("
+		+ "    SELECT COUNT(*) FROM comment c WHERE c.social_id = s.id AND c.deleted_at IS NULL"
+		+ ") "
+		+ "WHERE s.id > :fromId AND s.id <= :toId "
+		+ "AND s.comment_count <> ("
+		+ "    SELECT COUNT(*) FROM comment c WHERE c.social_id = s.id AND c.deleted_at IS NULL"
+		+ ")", nativeQuery = true)
+	int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+	@Query("SELECT new im.toduck.domain.social.persistence.vo.SocialCategoryMask(s.id, s.categoryMask) "
+		+ "FROM Social s "
+		+ "WHERE s.id > :fromId AND s.id <= :toId")
+	List<SocialCategoryMask> findCategoryMasksBySocialIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+	@Query("SELECT s FROM Social s "
+		+ "JOIN FETCH s.user "
+		+ "LEFT JOIN FETCH s.routine "
+		+ "WHERE s.id IN :socialIds AND s.deletedAt IS NULL AND s.hiddenAt IS NULL")
+	List<Social> findVisibleWithUserAndRoutineByIdIn(@Param("socialIds") Collection<Long> socialIds);
+
+	@Query("SELECT s.id FROM Social s "
+		+ "WHERE s.user.id IN (SELECT f.followed.id FROM Follow f WHERE f.follower.id = :followerId) "
+		+ "AND s.id < :beforeId AND s.deletedAt IS NULL "
+		+ "ORDER BY s.id DESC")
+	List<Long> findFollowingSocialIds(
+		@Param("followerId") Long followerId,
+		@Param("beforeId") long beforeId,
+		Pageable pageable
+	);
+
+	@Query("SELECT s.id FROM Social s "
+		+ "WHERE s.user.id IN :userIds AND s.id < :beforeId AND s.deletedAt IS NULL "
+		+ "ORDER BY s.id DESC")
+	List<Long> findSocialIdsByUserIds(
+		@Param("userIds") Collection<Long> userIds,
+		@Param("beforeId") long beforeId,
+		Pageable pageable
+	);
+
+	@Modifying
+	@Query("UPDATE Social s SET s.categoryMask = :categoryMask WHERE s.id = :socialId")
+	void updateCategoryMask(@Param("socialId") Long socialId, @Param("categoryMask") long categoryMask);
 }
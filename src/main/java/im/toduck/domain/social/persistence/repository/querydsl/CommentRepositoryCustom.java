@@ -0,0 +1,21 @@
+package im.toduck.domain.social.persistence.repository.querydsl;
+
+import java.util.List;
+
+import im.toduck.domain.social.persistence.entity.Comment;
+import im.toduck.global.util.KeysetCursor;
+
+public interface CommentRepositoryCustom {
+	List<Comment> findTopLevelComments(
+		Long socialId,
+		KeysetCursor cursor,
+		int limit
+	);
+
+	List<Comment> findReplies(
+		Long socialId,
+		Long parentId,
+		KeysetCursor cursor,
+		int limit
+	);
+}
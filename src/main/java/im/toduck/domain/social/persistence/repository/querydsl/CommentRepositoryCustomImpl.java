@@ -0,0 +1,70 @@
+package im.toduck.domain.social.persistence.repository.querydsl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import im.toduck.domain.social.persistence.entity.Comment;
+import im.toduck.domain.social.persistence.entity.QComment;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.KeysetPaginationUtil;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 스레드 조회 쿼리입니다.
+ * 댓글과 답글 모두 작성 순(ID 오름차순)으로 키셋 페이지네이션하며, (social_id, parent_id, id) 인덱스로 처리됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+	private final JPAQueryFactory queryFactory;
+	private final QComment qComment = QComment.comment;
+
+	@Override
+	public List<Comment> findTopLevelComments(
+		Long socialId,
+		KeysetCursor cursor,
+		int limit
+	) {
+		return queryFactory
+			.selectFrom(qComment)
+			.join(qComment.user).fetchJoin()
+			.where(
+				qComment.social.id.eq(socialId),
+				qComment.parent.isNull(),
+				notDeleted(),
+				KeysetPaginationUtil.seekAscending(qComment.id, cursor)
+			)
+			.orderBy(qComment.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public List<Comment> findReplies(
+		Long socialId,
+		Long parentId,
+		KeysetCursor cursor,
+		int limit
+	) {
+		return queryFactory
+			.selectFrom(qComment)
+			.join(qComment.user).fetchJoin()
+			.where(
+				qComment.social.id.eq(socialId),
+				qComment.parent.id.eq(parentId),
+				notDeleted(),
+				KeysetPaginationUtil.seekAscending(qComment.id, cursor)
+			)
+			.orderBy(qComment.id.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	private BooleanExpression notDeleted() {
+		return qComment.deletedAt.isNull();
+	}
+}
@@ -0,0 +1,17 @@
+package im.toduck.domain.social.persistence.repository.querydsl;
+
+import java.util.Collection;
+import java.util.List;
+
+import im.toduck.domain.social.persistence.vo.SocialLiker;
+import im.toduck.global.util.KeysetCursor;
+
+public interface LikeRepositoryCustom {
+	List<SocialLiker> findSocialLikers(
+		Long socialId,
+		KeysetCursor cursor,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		int limit
+	);
+}
@@ -0,0 +1,49 @@
+package im.toduck.domain.social.persistence.repository.querydsl;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import im.toduck.domain.social.persistence.entity.QLike;
+import im.toduck.domain.social.persistence.vo.SocialLiker;
+import im.toduck.global.util.BlockedUserFilterUtil;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.KeysetPaginationUtil;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeRepositoryCustomImpl implements LikeRepositoryCustom {
+
+	private final JPAQueryFactory queryFactory;
+	private final QLike qLike = QLike.like;
+
+	/**
+	 * 게시글에 좋아요를 누른 사용자를 최근 좋아요 순으로 조회합니다.
+	 * (social_id, id, user_id) 인덱스만으로 커서 이후의 행을 순서대로 읽을 수 있습니다.
+	 */
+	@Override
+	public List<SocialLiker> findSocialLikers(
+		Long socialId,
+		KeysetCursor cursor,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		int limit
+	) {
+		return queryFactory
+			.select(Projections.constructor(SocialLiker.class, qLike.id, qLike.user.id))
+			.from(qLike)
+			.where(
+				qLike.social.id.eq(socialId),
+				BlockedUserFilterUtil.excludeBlockedUsers(qLike.user.id, currentUserId, blockedUserIds),
+				KeysetPaginationUtil.seekDescending(qLike.id, cursor)
+			)
+			.orderBy(qLike.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+}
@@ -1,30 +1,45 @@
 package im.toduck.domain.social.persistence.repository.querydsl;
 
+import java.util.Collection;
 import java.util.List;
 
-import org.springframework.data.domain.Pageable;
-
 import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.vo.ScoredSocial;
+import im.toduck.global.util.KeysetCursor;
 
 public interface SocialRepositoryCustom {
 	List<Social> findSocialsExcludingBlocked(
-		Long cursor,
+		KeysetCursor cursor,
 		Long currentUserId,
+		Collection<Long> blockedUserIds,
 		List<Long> categoryIds,
-		Pageable pageable
+		int limit
 	);
 
-	List<Social> searchSocialsExcludingBlocked(
-		Long cursor,
+	List<ScoredSocial> searchSocialsExcludingBlocked(
+		KeysetCursor cursor,
 		Long currentUserId,
+		Collection<Long> blockedUserIds,
 		String keyword,
 		List<Long> categoryIds,
-		Pageable pageable
+		int limit
+	);
+
+	List<Social> findSocialsByIdsExcludingBlocked(
+		Collection<Long> socialIds,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		List<Long> categoryIds
 	);
 
 	List<Social> findUserSocials(
 		Long profileUserId,
-		Long cursor,
-		Pageable pageable
+		KeysetCursor cursor,
+		int limit
+	);
+
+	List<Social> findReportedSocials(
+		KeysetCursor cursor,
+		int limit
 	);
 }
@@ -1,132 +1,286 @@
 package im.toduck.domain.social.persistence.repository.querydsl;
 
+import java.util.Collection;
 import java.util.List;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import im.toduck.domain.social.persistence.entity.QSocial;
-import im.toduck.domain.social.persistence.entity.QSocialCategory;
 import im.toduck.domain.social.persistence.entity.QSocialCategoryLink;
 import im.toduck.domain.social.persistence.entity.Social;
-import im.toduck.domain.user.persistence.entity.QBlock;
+import im.toduck.domain.social.persistence.vo.ScoredSocial;
+import im.toduck.global.config.jpa.FullTextSearchFunctionContributor;
+import im.toduck.global.helper.SocialCategoryBitmask;
+import im.toduck.global.util.BlockedUserFilterUtil;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.KeysetPaginationUtil;
 import lombok.RequiredArgsConstructor;
 
 @Repository
 @RequiredArgsConstructor
 public class SocialRepositoryCustomImpl implements SocialRepositoryCustom {
+	private static final int MIN_FULLTEXT_KEYWORD_LENGTH = 2;
+	private static final long RELEVANCE_SCALE = 1_000_000L;
+
 	private final JPAQueryFactory queryFactory;
 	private final QSocial qSocial = QSocial.social;
-	private final QBlock qBlock = QBlock.block;
 	private final QSocialCategoryLink qSocialCategoryLink = QSocialCategoryLink.socialCategoryLink;
-	private final QSocialCategory qSocialCategory = QSocialCategory.socialCategory;
 
 	@Override
 	public List<Social> findSocialsExcludingBlocked(
-		Long cursor,
+		KeysetCursor cursor,
 		Long currentUserId,
+		Collection<Long> blockedUserIds,
 		List<Long> categoryIds,
-		Pageable pageable
+		int limit
 	) {
 		JPAQuery<Social> query = queryFactory
 			.selectFrom(qSocial)
+			.join(qSocial.user).fetchJoin()
+			.leftJoin(qSocial.routine).fetchJoin()
 			.where(
 				qSocial.deletedAt.isNull(),
-				excludeBlockedUsers(currentUserId),
-				cursorCondition(cursor)
+				qSocial.hiddenAt.isNull(),
+				BlockedUserFilterUtil.excludeBlockedUsers(qSocial.user.id, currentUserId, blockedUserIds),
+				KeysetPaginationUtil.seekDescending(qSocial.id, cursor),
+				categoryCondition(categoryIds)
 			);
 
-		applyCategoryFilter(query, categoryIds);
-
-		return applyPagination(query, pageable).fetch();
+		return applyPagination(query, limit).fetch();
 	}
 
+	/**
+	 * 검색어가 FULLTEXT 인덱스로 찾을 수 있는 길이이면 전문 검색 관련도 점수, ID 내림차순으로 정렬하고,
+	 * 검색어가 없거나 너무 짧으면 최신순으로 정렬합니다.
+	 */
 	@Override
-	public List<Social> searchSocialsExcludingBlocked(
-		Long cursor,
+	public List<ScoredSocial> searchSocialsExcludingBlocked(
+		KeysetCursor cursor,
 		Long currentUserId,
+		Collection<Long> blockedUserIds,
 		String keyword,
 		List<Long> categoryIds,
-		Pageable pageable
+		int limit
 	) {
-		JPAQuery<Social> query = queryFactory
-			.selectFrom(qSocial)
+		String searchKeyword = toFullTextKeyword(keyword);
+		if (searchKeyword == null) {
+			JPAQuery<Social> query = queryFactory
+				.selectFrom(qSocial)
+				.join(qSocial.user).fetchJoin()
+				.leftJoin(qSocial.routine).fetchJoin()
+				.where(
+					qSocial.deletedAt.isNull(),
+					qSocial.hiddenAt.isNull(),
+					BlockedUserFilterUtil.excludeBlockedUsers(qSocial.user.id, currentUserId, blockedUserIds),
+					likeKeywordCondition(keyword),
+					categoryCondition(categoryIds),
+					KeysetPaginationUtil.seekDescending(qSocial.id, cursor)
+				);
+
+			return applyPagination(query, limit).fetch().stream()
+				.map(social -> new ScoredSocial(null, social))
+				.toList();
+		}
+
+		NumberExpression<Long> relevance = relevanceOf(searchKeyword);
+		return queryFactory
+			.select(qSocial, relevance)
+			.from(qSocial)
+			.join(qSocial.user).fetchJoin()
+			.leftJoin(qSocial.routine).fetchJoin()
 			.where(
 				qSocial.deletedAt.isNull(),
-				excludeBlockedUsers(currentUserId),
-				cursorCondition(cursor),
-				keywordCondition(keyword)
-			);
+				qSocial.hiddenAt.isNull(),
+				BlockedUserFilterUtil.excludeBlockedUsers(qSocial.user.id, currentUserId, blockedUserIds),
+				fullTextMatchOf(searchKeyword).gt(0.0),
+				categoryCondition(categoryIds),
+				KeysetPaginationUtil.seekDescending(relevance, qSocial.id, cursor)
+			)
+			.orderBy(relevance.desc(), qSocial.id.desc())
+			.limit(limit)
+			.fetch()
+			.stream()
+			.map(tuple -> new ScoredSocial(tuple.get(relevance), tuple.get(qSocial)))
+			.toList();
+	}
 
-		applyCategoryFilter(query, categoryIds);
+	/**
+	 * 주어진 ID 의 게시글 중 조회 조건에 맞는 게시글만 조회합니다. 결과 순서는 보장하지 않습니다.
+	 * 인기 게시글처럼 순서가 외부에서 정해지는 목록을 PK IN 조회로 채울 때 사용합니다.
+	 */
+	@Override
+	public List<Social> findSocialsByIdsExcludingBlocked(
+		Collection<Long> socialIds,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		List<Long> categoryIds
+	) {
+		if (socialIds.isEmpty()) {
+			return List.of();
+		}
 
-		return applyPagination(query, pageable).fetch();
+		return queryFactory
+			.selectFrom(qSocial)
+			.join(qSocial.user).fetchJoin()
+			.leftJoin(qSocial.routine).fetchJoin()
+			.where(
+				qSocial.id.in(socialIds),
+				qSocial.deletedAt.isNull(),
+				qSocial.hiddenAt.isNull(),
+				BlockedUserFilterUtil.excludeBlockedUsers(qSocial.user.id, currentUserId, blockedUserIds),
+				categoryCondition(categoryIds)
+			)
+			.fetch();
 	}
 
 	@Override
 	public List<Social> findUserSocials(
 		Long profileUserId,
-		Long cursor,
-		Pageable pageable
+		KeysetCursor cursor,
+		int limit
 	) {
 		JPAQuery<Social> query = queryFactory
 			.selectFrom(qSocial)
 			.leftJoin(qSocial.user).fetchJoin()
+			.leftJoin(qSocial.routine).fetchJoin()
 			.where(
 				qSocial.deletedAt.isNull(),
+				qSocial.hiddenAt.isNull(),
 				qSocial.user.id.eq(profileUserId),
-				cursorCondition(cursor)
+				KeysetPaginationUtil.seekDescending(qSocial.id, cursor)
 			);
 
-		return applyPagination(query, pageable).fetch();
+		return applyPagination(query, limit).fetch();
 	}
 
-	private BooleanExpression keywordCondition(String keyword) {
-		if (keyword == null || keyword.isEmpty()) {
+	/**
+	 * 신고된 게시글을 (신고 수, ID) 내림차순으로 조회합니다. 숨겨진 게시글도 포함합니다.
+	 * (report_count, id) 인덱스를 역순으로 탐색하므로 신고 테이블을 집계하지 않습니다.
+	 */
+	@Override
+	public List<Social> findReportedSocials(
+		KeysetCursor cursor,
+		int limit
+	) {
+		return queryFactory
+			.selectFrom(qSocial)
+			.join(qSocial.user).fetchJoin()
+			.where(
+				qSocial.reportCount.gt(0L),
+				qSocial.deletedAt.isNull(),
+				KeysetPaginationUtil.seekDescending(qSocial.reportCount, qSocial.id, cursor)
+			)
+			.orderBy(qSocial.reportCount.desc(), qSocial.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * FULLTEXT 인덱스로 검색할 검색어를 반환합니다.
+	 * ngram 토큰보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없으므로 null 을 반환하며, 이 경우 LIKE 검색을 사용합니다.
+	 */
+	private String toFullTextKeyword(String keyword) {
+		if (keyword == null || keyword.isBlank()) {
 			return null;
 		}
-		return qSocial.content.containsIgnoreCase(keyword)
-			.or(qSocial.title.containsIgnoreCase(keyword));
+
+		String searchKeyword = keyword.replace("\"", "").strip();
+		return searchKeyword.length() < MIN_FULLTEXT_KEYWORD_LENGTH ? null : searchKeyword;
 	}
 
-	private BooleanExpression excludeBlockedUsers(Long currentUserId) {
-		if (currentUserId == null) {
+	private BooleanExpression likeKeywordCondition(String keyword) {
+		if (keyword == null || keyword.isBlank()) {
 			return null;
 		}
 
-		return qSocial.user.id.notIn(
-			queryFactory
-				.select(qBlock.blocked.id)
-				.from(qBlock)
-				.where(qBlock.blocker.id.eq(currentUserId))
+		return qSocial.content.containsIgnoreCase(keyword)
+			.or(qSocial.title.containsIgnoreCase(keyword));
+	}
+
+	private NumberExpression<Double> fullTextMatchOf(String searchKeyword) {
+		return Expressions.numberTemplate(
+			Double.class,
+			"function('" + FullTextSearchFunctionContributor.FULLTEXT_MATCH + "', {0}, {1}, {2})",
+			qSocial.title,
+			qSocial.content,
+			searchKeyword
 		);
 	}
 
-	private BooleanExpression cursorCondition(Long cursor) {
-		if (cursor == null) {
-			return null;
-		}
-		return qSocial.id.lt(cursor);
+	/**
+	 * 검색 결과의 관련도 점수입니다. 전문 검색 점수를 소수점 아래 6자리까지 정수로 변환하여 키셋 커서의 정렬 기준 값으로 사용합니다.
+	 * 정렬과 seek 조건에 같은 표현식을 사용하므로, 조회된 점수로 만든 커서로 다음 페이지를 일관되게 조회할 수 있습니다.
+	 */
+	private NumberExpression<Long> relevanceOf(String searchKeyword) {
+		return Expressions.numberTemplate(
+			Long.class,
+			"cast(function('" + FullTextSearchFunctionContributor.FULLTEXT_MATCH + "', {0}, {1}, {2}) * "
+				+ RELEVANCE_SCALE + " as Long)",
+			qSocial.title,
+			qSocial.content,
+			searchKeyword
+		);
 	}
 
-	private JPAQuery<Social> applyPagination(JPAQuery<Social> query, Pageable pageable) {
+	private JPAQuery<Social> applyPagination(JPAQuery<Social> query, int limit) {
 		return query
 			.orderBy(qSocial.id.desc())
-			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize());
+			.limit(limit);
 	}
 
-	private void applyCategoryFilter(JPAQuery<Social> query, List<Long> categoryIds) {
-		if (categoryIds != null && !categoryIds.isEmpty()) {
-			query
-				.join(qSocialCategoryLink).on(qSocialCategoryLink.social.eq(qSocial))
-				.where(qSocialCategoryLink.socialCategory.id.in(categoryIds))
-				.groupBy(qSocial.id)
-				.having(qSocialCategoryLink.socialCategory.id.countDistinct().eq((long)categoryIds.size()));
+	/**
+	 * 요청한 카테고리를 모두 포함하는 게시글만 조회하는 조건입니다.
+	 * 비트마스크로 표현할 수 있는 카테고리는 social.category_mask 에 대한 비트 연산으로 확인하여 조인 없이 키셋 순서대로
+	 * 걸러내고, 표현할 수 없는 카테고리만 social_category_link 를 직접 확인합니다.
+	 */
+	private BooleanExpression categoryCondition(List<Long> categoryIds) {
+		if (categoryIds == null || categoryIds.isEmpty()) {
+			return null;
+		}
+
+		List<Long> distinctCategoryIds = categoryIds.stream()
+			.distinct()
+			.toList();
+
+		BooleanExpression unrepresentableCategoryCondition = distinctCategoryIds.stream()
+			.filter(categoryId -> !SocialCategoryBitmask.isRepresentable(categoryId))
+			.map(this::hasCategory)
+			.reduce(BooleanExpression::and)
+			.orElse(null);
+
+		long categoryMask = SocialCategoryBitmask.of(distinctCategoryIds);
+		if (categoryMask == 0L) {
+			return unrepresentableCategoryCondition;
 		}
+
+		BooleanExpression maskCondition = Expressions.numberTemplate(
+			Long.class, "function('bitand', {0}, {1})", qSocial.categoryMask, categoryMask
+		).eq(categoryMask);
+
+		return unrepresentableCategoryCondition == null
+			? maskCondition
+			: maskCondition.and(unrepresentableCategoryCondition);
+	}
+
+	/**
+	 * 게시글이 카테고리에 연결되어 있는지 확인하는 상관 EXISTS 조건입니다.
+	 * 키셋 순서로 읽는 행마다 (social_id, social_category_id) 인덱스로 바로 확인할 수 있습니다.
+	 */
+	private BooleanExpression hasCategory(Long categoryId) {
+		return JPAExpressions
+			.selectOne()
+			.from(qSocialCategoryLink)
+			.where(
+				qSocialCategoryLink.social.id.eq(qSocial.id),
+				qSocialCategoryLink.socialCategory.id.eq(categoryId)
+			)
+			.exists();
 	}
 }
@@ -0,0 +1,10 @@
+package im.toduck.domain.social.persistence.vo;
+
+/**
+ * 부모 댓글 ID 와 해당 댓글에 달린 답글 수를 조회하기 위한 프로젝션입니다.
+ */
+public record CommentReplyCount(
+	Long parentId,
+	Long replyCount
+) {
+}
@@ -0,0 +1,10 @@
+package im.toduck.domain.social.persistence.vo;
+
+/**
+ * 게시글 ID 와 연결된 카테고리 ID 쌍을 조회하기 위한 프로젝션입니다.
+ */
+public record LinkedCategory(
+	Long socialId,
+	Long categoryId
+) {
+}
@@ -0,0 +1,12 @@
+package im.toduck.domain.social.persistence.vo;
+
+import im.toduck.domain.social.persistence.entity.Social;
+
+/**
+ * 인기 게시글 순위(0부터 시작)와 해당 순위의 게시글입니다.
+ */
+public record RankedSocial(
+	long rank,
+	Social social
+) {
+}
@@ -0,0 +1,12 @@
+package im.toduck.domain.social.persistence.vo;
+
+import im.toduck.domain.social.persistence.entity.Social;
+
+/**
+ * 검색 관련도 점수와 해당 점수의 게시글입니다. 최신순으로 정렬된 검색 결과에서는 점수가 null 입니다.
+ */
+public record ScoredSocial(
+	Long relevance,
+	Social social
+) {
+}
@@ -0,0 +1,7 @@
+package im.toduck.domain.social.persistence.vo;
+
+public record SocialCardCategory(
+	Long socialCategoryId,
+	String name
+) {
+}
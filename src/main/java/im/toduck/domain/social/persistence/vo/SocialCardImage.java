@@ -0,0 +1,7 @@
+package im.toduck.domain.social.persistence.vo;
+
+public record SocialCardImage(
+	Long socialImageId,
+	String url
+) {
+}
@@ -0,0 +1,10 @@
+package im.toduck.domain.social.persistence.vo;
+
+/**
+ * 게시글 ID 와 게시글에 저장된 카테고리 비트마스크를 조회하기 위한 프로젝션입니다.
+ */
+public record SocialCategoryMask(
+	Long socialId,
+	long categoryMask
+) {
+}
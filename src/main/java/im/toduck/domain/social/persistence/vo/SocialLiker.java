@@ -0,0 +1,10 @@
+package im.toduck.domain.social.persistence.vo;
+
+/**
+ * 게시글 좋아요 ID 와 좋아요를 누른 사용자 ID 를 조회하기 위한 프로젝션입니다. 좋아요 ID 는 목록 조회 커서로 사용합니다.
+ */
+public record SocialLiker(
+	Long likeId,
+	Long userId
+) {
+}
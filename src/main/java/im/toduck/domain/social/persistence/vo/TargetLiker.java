@@ -0,0 +1,10 @@
+package im.toduck.domain.social.persistence.vo;
+
+/**
+ * 좋아요 대상(게시글 또는 댓글) ID 와 좋아요를 누른 사용자 ID 쌍을 조회하기 위한 프로젝션입니다.
+ */
+public record TargetLiker(
+	Long targetId,
+	Long userId
+) {
+}
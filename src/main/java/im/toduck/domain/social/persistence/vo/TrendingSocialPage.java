@@ -0,0 +1,14 @@
+package im.toduck.domain.social.persistence.vo;
+
+import java.util.List;
+
+/**
+ * 인기 게시글 순위에서 조회한 게시글과 다음 조회를 시작할 순위입니다.
+ * 조회 횟수 제한으로 순위의 끝까지 읽지 못했다면 {@code reachedEnd} 가 false 이고, {@code nextRank} 부터 이어서 조회합니다.
+ */
+public record TrendingSocialPage(
+	List<RankedSocial> rankedSocials,
+	long nextRank,
+	boolean reachedEnd
+) {
+}
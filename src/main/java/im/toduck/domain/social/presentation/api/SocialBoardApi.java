@@ -11,6 +11,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import im.toduck.domain.social.presentation.dto.request.SocialCreateRequest;
 import im.toduck.domain.social.presentation.dto.request.SocialUpdateRequest;
+import im.toduck.domain.social.presentation.dto.response.CommentDto;
+import im.toduck.domain.social.presentation.dto.response.SocialBatchResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialDetailResponse;
@@ -23,8 +25,10 @@ import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.presentation.ApiResponse;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -48,6 +52,7 @@ public interface SocialBoardApi {
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_SOCIAL_CATEGORY),
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_ROUTINE),
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.PRIVATE_ROUTINE),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.FORBIDDEN_WORD_INCLUDED),
 		}
 	)
 	ResponseEntity<ApiResponse<SocialCreateResponse>> createSocialBoard(
@@ -127,6 +132,7 @@ public interface SocialBoardApi {
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.EMPTY_SOCIAL_CATEGORY_LIST),
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_ROUTINE),
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.PRIVATE_ROUTINE),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.FORBIDDEN_WORD_INCLUDED),
 		}
 	)
 	ResponseEntity<ApiResponse<Map<String, Object>>> updateSocialBoard(
@@ -138,7 +144,8 @@ public interface SocialBoardApi {
 	@Operation(
 		summary = "게시글 단건 조회",
 		description = "게시글 단건 세부사항을 조회합니다. </br></br>"
-			+ "공유할 루틴이 존재하지 않는 경우 routine 필드에 null이 반환 됩니다."
+			+ "공유할 루틴이 존재하지 않는 경우 routine 필드에 null이 반환 됩니다. </br></br>"
+			+ "댓글은 답글을 제외한 첫 페이지만 포함되며, 이후 페이지와 답글은 각각의 목록 조회 API 로 조회합니다."
 	)
 	@ApiResponseExplanations(
 		success = @ApiSuccessResponseExplanation(
@@ -155,6 +162,85 @@ public interface SocialBoardApi {
 		@AuthenticationPrincipal CustomUserDetails user
 	);
 
+	@Operation(
+		summary = "게시글 일괄 조회",
+		description = """
+			<b>여러 게시글을 한 번에 조회합니다. 알림 목록이나 딥링크에서 게시글을 연달아 열 때 사용합니다.</b><br/><br/>
+			<p>예시: /v1/socials/batch?socialIds=3,1,2</p>
+			<p>최대 20개까지 요청할 수 있으며, 응답은 요청한 순서를 따릅니다. 중복된 ID 는 한 번만 조회합니다.</p>
+			<p>삭제되었거나 신고로 숨겨진 게시글, 차단한 사용자의 게시글은 오류 없이 결과에서 제외됩니다.</p>
+			<p>댓글은 포함되지 않으며, 게시글 단건 조회와 달리 조회수에 반영되지 않습니다.</p>
+			"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = SocialBatchResponse.class,
+			description = "게시글 일괄 조회 성공, 요청한 순서대로 조회 가능한 게시글 목록을 반환합니다."
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.EXCEEDED_SOCIAL_BATCH_SIZE),
+		}
+	)
+	ResponseEntity<ApiResponse<SocialBatchResponse>> getSocialBatch(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회할 게시글 ID 목록 (최대 20개)") @RequestParam List<Long> socialIds
+	);
+
+	@Operation(
+		summary = "게시글 댓글 목록 조회",
+		description = """
+			<b>게시글의 댓글(답글 제외)을 작성순으로 커서 기반 페이지네이션하여 조회합니다.</b><br/><br/>
+			<p>게시글 단건 조회 응답에는 첫 페이지만 포함되며, 이후 페이지는 응답의 <b>nextCommentCursor</b> 를
+			cursor 로 전달하여 조회합니다.</p>
+			<p>각 댓글의 <b>replyCount</b> 로 답글 수를 확인하고, 답글은 답글 목록 조회 API 로 불러옵니다.</p>
+			"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = CommentDto.class,
+			description = "댓글 목록 조회 성공, 커서 기반으로 조회된 댓글 목록을 반환합니다."
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_SOCIAL_BOARD),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.BLOCKED_USER_SOCIAL_ACCESS),
+		}
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<CommentDto>>> getComments(
+		@PathVariable Long socialId,
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
+	);
+
+	@Operation(
+		summary = "댓글 답글 목록 조회",
+		description = """
+			<b>댓글에 달린 답글을 작성순으로 커서 기반 페이지네이션하여 조회합니다.</b><br/><br/>
+			<p>다음 페이지는 응답의 <b>nextCursorToken</b> 을 cursor 로 전달하여 조회합니다.</p>
+			"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = CommentDto.class,
+			description = "답글 목록 조회 성공, 커서 기반으로 조회된 답글 목록을 반환합니다."
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_SOCIAL_BOARD),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.BLOCKED_USER_SOCIAL_ACCESS),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_COMMENT),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.INVALID_COMMENT_FOR_BOARD),
+		}
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<CommentDto>>> getReplies(
+		@PathVariable Long socialId,
+		@PathVariable Long commentId,
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
+	);
+
 	@Operation(
 		summary = "게시글 목록 조회 (카테고리 필터 가능)",
 		description =
@@ -165,7 +251,7 @@ public interface SocialBoardApi {
 				<p><b>커서 페이지네이션 사용법:</b></p>
 				<p>Notion > API 개요 > 페이지네이션을 확인해주세요.</p><br/>
 				<p><b>필터링 파라미터:</b><br/>
-				<p>- <b>cursor:</b> 조회를 시작할 커서 값 (게시글 ID)</p>
+				<p>- <b>cursor:</b> 이전 응답의 nextCursorToken 값 (기존 게시글 ID 커서도 허용)</p>
 				<p>- <b>limit:</b> 한 페이지에 표시할 게시글 수</p>
 				<p>- <b>categoryIds:</b> 필터링할 카테고리 ID 목록 (쉼표로 구분하여 지정)</p><br/>
 				<p>공유할 루틴이 존재하지 않는 경우 <b>routine</b> 필드에 <b>null</b>이 반환됩니다.</p>
@@ -179,7 +265,64 @@ public interface SocialBoardApi {
 	)
 	ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getSocials(
 		@AuthenticationPrincipal CustomUserDetails user,
-		@Parameter(description = "조회를 시작할 커서 값") @RequestParam(required = false) Long cursor,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit,
+		@Parameter(description = "카테고리 ID 목록") @RequestParam(required = false) List<Long> categoryIds
+	);
+
+	@Operation(
+		summary = "팔로잉 게시글 목록 조회",
+		description =
+			"""
+				<b>내가 팔로우한 사용자들의 게시글을 최신순으로 커서 기반 페이지네이션으로 조회합니다.</b><br/><br/>
+				<p><b>커서 페이지네이션 사용법:</b></p>
+				<p>Notion > API 개요 > 페이지네이션을 확인해주세요.</p><br/>
+				<p><b>파라미터:</b><br/>
+				<p>- <b>cursor:</b> 이전 응답의 nextCursorToken 값</p>
+				<p>- <b>limit:</b> 한 페이지에 표시할 게시글 수</p><br/>
+				<p>삭제된 게시글과 차단한 사용자의 게시글은 제외되므로, 한 페이지의 게시글 수가 limit 보다 적을 수 있습니다.
+				다음 페이지 존재 여부는 <b>hasMore</b> 로 판단해주세요.</p>
+				"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = SocialResponse.class,
+			description = "팔로잉 게시글 목록 조회 성공, 커서 기반으로 조회된 게시글 목록을 반환합니다."
+		)
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getFollowingSocials(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
+	);
+
+	@Operation(
+		summary = "인기 게시글 목록 조회 (카테고리 필터 가능)",
+		description =
+			"""
+				<b>좋아요, 댓글 수와 최신성을 반영한 인기순으로 게시글을 커서 기반 페이지네이션으로 조회합니다.</b><br/><br/>
+				<p>좋아요와 댓글의 영향은 시간이 지날수록 줄어들어, 최근에 반응이 많은 게시글이 먼저 조회됩니다.</p><br/>
+				<p><b>커서 페이지네이션 사용법:</b></p>
+				<p>Notion > API 개요 > 페이지네이션을 확인해주세요.</p><br/>
+				<p><b>필터링 파라미터:</b><br/>
+				<p>- <b>cursor:</b> 이전 응답의 nextCursorToken 값</p>
+				<p>- <b>limit:</b> 한 페이지에 표시할 게시글 수</p>
+				<p>- <b>categoryIds:</b> 필터링할 카테고리 ID 목록 (쉼표로 구분하여 지정)</p><br/>
+				<p>순위는 실시간으로 바뀌므로 페이지를 넘기는 사이 순위가 바뀐 게시글은 중복되거나 빠질 수 있습니다.</p>
+				"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = SocialResponse.class,
+			description = "인기 게시글 목록 조회 성공, 인기순으로 조회된 게시글 목록을 반환합니다."
+		)
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getTrendingSocials(
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
 		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit,
 		@Parameter(description = "카테고리 ID 목록") @RequestParam(required = false) List<Long> categoryIds
 	);
@@ -206,9 +349,11 @@ public interface SocialBoardApi {
 			<p>Notion > API 개요 > 페이지네이션을 확인해주세요.</p><br/>
 			<p><b>파라미터:</b><br/>
 			<p>- <b>keyword:</b> 검색할 키워드 (필수)</p>
-			<p>- <b>cursor:</b> 조회를 시작할 커서 값 (게시글 ID)</p>
+			<p>- <b>cursor:</b> 이전 응답의 nextCursorToken 값 (기존 게시글 ID 커서도 허용)</p>
 			<p>- <b>limit:</b> 한 페이지에 표시할 게시글 수</p>
 			<p>- <b>categoryIds:</b> 필터링할 카테고리 ID 목록 (쉼표로 구분, 선택)</p><br/>
+			<p>검색 결과는 제목/내용의 전문 검색 관련도 점수가 높은 순, 같은 점수는 최신순으로 정렬됩니다.
+			한 글자 검색어는 최신순으로 정렬됩니다.</p>
 			<p>공유할 루틴이 존재하지 않는 경우 <b>routine</b> 필드에 <b>null</b>이 반환됩니다.</p>
 			"""
 	)
@@ -221,7 +366,8 @@ public interface SocialBoardApi {
 	ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> searchSocials(
 		@AuthenticationPrincipal CustomUserDetails user,
 		@RequestParam(name = "keyword") @NotBlank String keyword,
-		@Parameter(description = "조회를 시작할 커서 값") @RequestParam(required = false) Long cursor,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
 		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit,
 		@Parameter(description = "카테고리 ID 목록 (필터링 시)") @RequestParam(required = false) List<Long> categoryIds
 	);
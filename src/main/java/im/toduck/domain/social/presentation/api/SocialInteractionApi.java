@@ -6,20 +6,28 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import im.toduck.domain.social.presentation.dto.request.CommentCreateRequest;
 import im.toduck.domain.social.presentation.dto.request.ReportCreateRequest;
 import im.toduck.domain.social.presentation.dto.response.CommentCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.CommentLikeCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.ReportCreateResponse;
+import im.toduck.domain.social.presentation.dto.response.ReportedSocialResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialLikeCreateResponse;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.global.annotation.swagger.ApiErrorResponseExplanation;
 import im.toduck.global.annotation.swagger.ApiResponseExplanations;
 import im.toduck.global.annotation.swagger.ApiSuccessResponseExplanation;
+import im.toduck.global.annotation.valid.PaginationLimit;
 import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.presentation.ApiResponse;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
@@ -37,6 +45,7 @@ public interface SocialInteractionApi {
 		errors = {
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_SOCIAL_BOARD),
 			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_PARENT_COMMENT),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.FORBIDDEN_WORD_INCLUDED),
 		}
 	)
 	ResponseEntity<ApiResponse<CommentCreateResponse>> createComment(
@@ -106,6 +115,32 @@ public interface SocialInteractionApi {
 		@AuthenticationPrincipal CustomUserDetails user
 	);
 
+	@Operation(
+		summary = "게시글 좋아요 목록 조회",
+		description = """
+			<b>게시글에 좋아요를 누른 유저 목록을 최근 좋아요 순으로 커서 기반 페이지네이션하여 조회합니다.</b><br/><br/>
+			<p>다음 페이지는 응답의 <b>nextCursorToken</b> 을 cursor 로 전달하여 조회합니다.</p>
+			<p>내가 차단한 유저는 제외되며, 각 유저의 <b>isFollowing</b> 으로 내가 팔로우 중인지 확인할 수 있습니다.</p>
+			"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = UserSummaryDto.class,
+			description = "좋아요 목록 조회 성공, 커서 기반으로 조회된 유저 목록을 반환합니다."
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_SOCIAL_BOARD),
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.BLOCKED_USER_SOCIAL_ACCESS),
+		}
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<UserSummaryDto>>> getSocialLikers(
+		@PathVariable Long socialId,
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
+	);
+
 	@Operation(
 		summary = "게시글 신고",
 		description =
@@ -133,6 +168,26 @@ public interface SocialInteractionApi {
 		@AuthenticationPrincipal CustomUserDetails user
 	);
 
+	@Operation(
+		summary = "신고된 게시글 목록 조회 (관리자)",
+		description = """
+			<b>신고 수가 많은 순으로 신고된 게시글을 커서 기반 페이지네이션하여 조회합니다.</b><br/><br/>
+			<p>신고 누적으로 피드에서 숨겨진 게시글도 포함되며, <b>isHidden</b> 으로 숨김 여부를 확인할 수 있습니다.</p>
+			<p>다음 페이지는 응답의 <b>nextCursorToken</b> 을 cursor 로 전달하여 조회합니다.</p>
+			"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = ReportedSocialResponse.class,
+			description = "신고된 게시글 목록 조회 성공, 신고 수가 많은 순으로 게시글 목록을 반환합니다."
+		)
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<ReportedSocialResponse>>> getReportedSocials(
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
+	);
+
 	@Operation(
 		summary = "댓글 좋아요",
 		description = "지정된 댓글을 좋아요 합니다."
@@ -20,8 +20,10 @@ import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.presentation.ApiResponse;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
@@ -51,7 +53,7 @@ public interface SocialProfileApi {
 			<p>Notion > API 개요 > 페이지네이션을 확인해주세요.</p><br/>
 			<p><b>파라미터:</b><br/>
 			<p>- <b>userId:</b> 조회할 대상 유저의 ID (Path Variable)</p>
-			<p>- <b>cursor:</b> 조회를 시작할 커서 값 (게시글 ID)</p>
+			<p>- <b>cursor:</b> 이전 응답의 nextCursorToken 값 (기존 게시글 ID 커서도 허용)</p>
 			<p>- <b>limit:</b> 한 페이지에 표시할 게시글 수</p><br/>
 			<p>차단한 유저의 게시글은 조회되지 않습니다.</p>
 			"""
@@ -68,7 +70,9 @@ public interface SocialProfileApi {
 	ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getUserSocials(
 		@Parameter(description = "게시글을 조회할 유저 ID") @PathVariable Long userId,
 		@AuthenticationPrincipal CustomUserDetails authUser,
-		@Parameter(description = "조회를 시작할 커서 값 (게시글 ID)") @RequestParam(required = false) Long cursor,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken 또는 게시글 ID)",
+			schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
 		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
 	);
 
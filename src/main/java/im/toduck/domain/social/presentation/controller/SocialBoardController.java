@@ -20,6 +20,8 @@ import im.toduck.domain.social.domain.usecase.SocialBoardUseCase;
 import im.toduck.domain.social.presentation.api.SocialBoardApi;
 import im.toduck.domain.social.presentation.dto.request.SocialCreateRequest;
 import im.toduck.domain.social.presentation.dto.request.SocialUpdateRequest;
+import im.toduck.domain.social.presentation.dto.response.CommentDto;
+import im.toduck.domain.social.presentation.dto.response.SocialBatchResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialDetailResponse;
@@ -27,6 +29,7 @@ import im.toduck.domain.social.presentation.dto.response.SocialResponse;
 import im.toduck.global.presentation.ApiResponse;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -85,12 +88,54 @@ public class SocialBoardController implements SocialBoardApi {
 			.body(ApiResponse.createSuccess(socialBoardUseCase.getSocialDetail(user.getUserId(), socialId)));
 	}
 
+	@Override
+	@GetMapping("/batch")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<SocialBatchResponse>> getSocialBatch(
+		CustomUserDetails user,
+		List<Long> socialIds
+	) {
+		return ResponseEntity.ok()
+			.body(ApiResponse.createSuccess(socialBoardUseCase.getSocialBatch(user.getUserId(), socialIds)));
+	}
+
+	@Override
+	@GetMapping("/{socialId}/comments")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<CommentDto>>> getComments(
+		@PathVariable Long socialId,
+		CustomUserDetails user,
+		KeysetCursor cursor,
+		Integer limit
+	) {
+		return ResponseEntity.ok().body(
+			ApiResponse.createSuccess(socialBoardUseCase.getComments(user.getUserId(), socialId, cursor, limit))
+		);
+	}
+
+	@Override
+	@GetMapping("/{socialId}/comments/{commentId}/replies")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<CommentDto>>> getReplies(
+		@PathVariable Long socialId,
+		@PathVariable Long commentId,
+		CustomUserDetails user,
+		KeysetCursor cursor,
+		Integer limit
+	) {
+		return ResponseEntity.ok().body(
+			ApiResponse.createSuccess(
+				socialBoardUseCase.getReplies(user.getUserId(), socialId, commentId, cursor, limit)
+			)
+		);
+	}
+
 	@Override
 	@GetMapping
 	@PreAuthorize("isAuthenticated()")
 	public ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getSocials(
 		CustomUserDetails user,
-		Long cursor,
+		KeysetCursor cursor,
 		Integer limit,
 		List<Long> categoryIds
 	) {
@@ -101,6 +146,37 @@ public class SocialBoardController implements SocialBoardApi {
 		);
 	}
 
+	@Override
+	@GetMapping("/following")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getFollowingSocials(
+		CustomUserDetails user,
+		KeysetCursor cursor,
+		Integer limit
+	) {
+		return ResponseEntity.ok().body(
+			ApiResponse.createSuccess(
+				socialBoardUseCase.getFollowingSocials(user.getUserId(), cursor, limit)
+			)
+		);
+	}
+
+	@Override
+	@GetMapping("/trending")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getTrendingSocials(
+		CustomUserDetails user,
+		KeysetCursor cursor,
+		Integer limit,
+		List<Long> categoryIds
+	) {
+		return ResponseEntity.ok().body(
+			ApiResponse.createSuccess(
+				socialBoardUseCase.getTrendingSocials(user.getUserId(), cursor, limit, categoryIds)
+			)
+		);
+	}
+
 	@Override
 	@GetMapping("/categories")
 	@PreAuthorize("isAuthenticated()")
@@ -116,7 +192,7 @@ public class SocialBoardController implements SocialBoardApi {
 	public ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> searchSocials(
 		CustomUserDetails user,
 		@RequestParam(name = "keyword") String keyword,
-		Long cursor,
+		KeysetCursor cursor,
 		Integer limit,
 		List<Long> categoryIds
 	) {
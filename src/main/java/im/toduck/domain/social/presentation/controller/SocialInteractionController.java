@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -19,9 +20,13 @@ import im.toduck.domain.social.presentation.dto.request.ReportCreateRequest;
 import im.toduck.domain.social.presentation.dto.response.CommentCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.CommentLikeCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.ReportCreateResponse;
+import im.toduck.domain.social.presentation.dto.response.ReportedSocialResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialLikeCreateResponse;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.global.presentation.ApiResponse;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -82,6 +87,32 @@ public class SocialInteractionController implements SocialInteractionApi {
 		return ResponseEntity.ok().body(ApiResponse.createSuccessWithNoContent());
 	}
 
+	@Override
+	@GetMapping("/{socialId}/likes")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<UserSummaryDto>>> getSocialLikers(
+		@PathVariable Long socialId,
+		CustomUserDetails user,
+		KeysetCursor cursor,
+		Integer limit
+	) {
+		return ResponseEntity.ok().body(
+			ApiResponse.createSuccess(socialInteractionUseCase.getSocialLikers(user.getUserId(), socialId, cursor, limit))
+		);
+	}
+
+	@Override
+	@GetMapping("/reports")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<ReportedSocialResponse>>> getReportedSocials(
+		KeysetCursor cursor,
+		Integer limit
+	) {
+		return ResponseEntity.ok().body(
+			ApiResponse.createSuccess(socialInteractionUseCase.getReportedSocials(cursor, limit))
+		);
+	}
+
 	@Override
 	@PostMapping("/{socialId}/report")
 	@PreAuthorize("isAuthenticated()")
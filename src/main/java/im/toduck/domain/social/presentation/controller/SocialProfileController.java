@@ -21,6 +21,7 @@ import im.toduck.domain.social.presentation.dto.response.UserProfileRoutineListR
 import im.toduck.global.presentation.ApiResponse;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -46,7 +47,7 @@ public class SocialProfileController implements SocialProfileApi {
 	public ResponseEntity<ApiResponse<CursorPaginationResponse<SocialResponse>>> getUserSocials(
 		@PathVariable Long userId,
 		@AuthenticationPrincipal CustomUserDetails authUser,
-		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) KeysetCursor cursor,
 		@RequestParam(required = false) Integer limit
 	) {
 		CursorPaginationResponse<SocialResponse> userSocials = socialProfileUseCase.getUserSocials(
@@ -35,6 +35,9 @@ public record CommentDto(
 	@Schema(description = "답글 여부", example = "true")
 	boolean isReply,
 
+	@Schema(description = "답글 수, 답글인 경우 0", example = "3")
+	int replyCount,
+
 	@Schema(description = "댓글 작성 시간", type = "string", pattern = "yyyy-MM-dd HH:mm", example = "2024-09-11 10:30")
 	@JsonSerialize(using = LocalDateTimeSerializer.class)
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
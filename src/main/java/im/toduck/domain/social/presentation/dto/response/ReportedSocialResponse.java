@@ -0,0 +1,34 @@
+package im.toduck.domain.social.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record ReportedSocialResponse(
+	@Schema(description = "게시글 ID", example = "1")
+	Long socialId,
+
+	@Schema(description = "작성자 ID", example = "1")
+	Long authorId,
+
+	@Schema(description = "작성자 닉네임", example = "토덕")
+	String authorNickname,
+
+	@Schema(description = "게시글 제목", example = "제목")
+	String title,
+
+	@Schema(description = "게시글 내용", example = "내용")
+	String content,
+
+	@Schema(description = "신고 수", example = "5")
+	long reportCount,
+
+	@Schema(description = "신고 누적으로 피드에서 숨겨졌는지 여부", example = "true")
+	boolean isHidden,
+
+	@Schema(description = "게시글 작성 시각", example = "2024-09-11T10:00:00")
+	LocalDateTime createdAt
+) {
+}
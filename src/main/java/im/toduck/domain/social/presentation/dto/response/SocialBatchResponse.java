@@ -0,0 +1,14 @@
+package im.toduck.domain.social.presentation.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "게시글 일괄 조회 응답")
+@Builder
+public record SocialBatchResponse(
+	@Schema(description = "요청한 순서대로 정렬된 게시글 목록 (조회할 수 없는 게시글은 제외)")
+	List<SocialResponse> socials
+) {
+}
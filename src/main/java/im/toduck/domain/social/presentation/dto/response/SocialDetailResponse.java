@@ -37,9 +37,18 @@ public record SocialDetailResponse(
 	@Schema(description = "좋아요 정보")
 	SocialLikeDto socialLikeInfo,
 
-	@Schema(description = "댓글 목록")
+	@Schema(description = "조회수 (순 방문자 수 근사값)", example = "12")
+	long viewCount,
+
+	@Schema(description = "댓글 목록 첫 페이지 (답글 제외, 작성순)")
 	List<CommentDto> comments,
 
+	@Schema(description = "다음 댓글 페이지 존재 여부", example = "true")
+	boolean hasMoreComments,
+
+	@Schema(description = "다음 댓글 페이지 조회 커서, 댓글 목록 조회 API 의 cursor 로 전달", example = "MTA")
+	String nextCommentCursor,
+
 	@Schema(description = "게시글 작성 시간", type = "string", pattern = "yyyy-MM-dd HH:mm", example = "2024-09-11 10:30")
 	@JsonSerialize(using = LocalDateTimeSerializer.class)
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
@@ -41,6 +41,9 @@ public record SocialResponse(
 	@Schema(description = "댓글 수", example = "1")
 	int commentCount,
 
+	@Schema(description = "조회수 (순 방문자 수 근사값, 주기적으로 갱신)", example = "12")
+	long viewCount,
+
 	@Schema(description = "카테고리 목록")
 	List<SocialCategoryDto> categories,
 
@@ -3,6 +3,7 @@ package im.toduck.domain.user.common.mapper;
 import im.toduck.domain.user.persistence.entity.OAuthProvider;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.domain.user.persistence.entity.UserRole;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
@@ -25,4 +26,13 @@ public class UserMapper {
 			.email(email)
 			.build();
 	}
+
+	public static UserSummaryDto toUserSummaryDto(final User user, final boolean isFollowing) {
+		return UserSummaryDto.builder()
+			.userId(user.getId())
+			.nickname(user.getNickname())
+			.profileImageUrl(user.getImageUrl())
+			.isFollowing(isFollowing)
+			.build();
+	}
 }
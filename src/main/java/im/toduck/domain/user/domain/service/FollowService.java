@@ -1,14 +1,29 @@
 package im.toduck.domain.user.domain.service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import im.toduck.domain.user.common.mapper.FollowMapper;
+import im.toduck.domain.user.common.mapper.UserMapper;
 import im.toduck.domain.user.persistence.entity.Follow;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.domain.user.persistence.repository.FollowRepository;
+import im.toduck.domain.user.persistence.repository.UserRepository;
+import im.toduck.domain.user.persistence.vo.FollowEdge;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
+import im.toduck.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -16,11 +31,14 @@ import lombok.RequiredArgsConstructor;
 public class FollowService {
 
 	private final FollowRepository followRepository;
+	private final UserRepository userRepository;
+	private final UserStatsService userStatsService;
 
 	@Transactional
 	public void followUser(final User follower, final User followed) {
 		Follow follow = FollowMapper.toFollow(follower, followed);
 		followRepository.save(follow);
+		userStatsService.increaseFollowCounts(follower.getId(), followed.getId());
 	}
 
 	@Transactional
@@ -28,6 +46,7 @@ public class FollowService {
 		Follow follow = followRepository.findByFollowerAndFollowed(follower, followed)
 			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_FOLLOW));
 		followRepository.delete(follow);
+		userStatsService.decreaseFollowCounts(follower.getId(), followed.getId());
 	}
 
 	@Transactional(readOnly = true)
@@ -44,4 +63,73 @@ public class FollowService {
 	public int countFollowers(final Long userId) {
 		return (int)followRepository.countByFollowed_Id(userId);
 	}
+
+	/**
+	 * 사용자를 팔로우하는 사용자 ID 를 오름차순으로 lastFollowerId 이후부터 limit 개 조회합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<Long> getFollowerIds(final Long userId, final long lastFollowerId, final int limit) {
+		return followRepository.findFollowerIds(userId, lastFollowerId, PageRequest.of(0, limit));
+	}
+
+	/**
+	 * 사용자가 팔로우하는 사용자 중 팔로워 수가 followerCount 를 넘는 사용자 ID 목록을 조회합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<Long> getFolloweeIdsWithFollowerCountAbove(final Long userId, final int followerCount) {
+		return followRepository.findFolloweeIdsWithFollowerCountAbove(userId, followerCount);
+	}
+
+	/**
+	 * 사용자를 팔로우하는 사용자를 최근 팔로우 순으로 조회합니다. 요청 사용자가 차단한 사용자는 제외합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<FollowEdge> getFollowers(
+		final Long userId,
+		final KeysetCursor cursor,
+		final Long currentUserId,
+		final Collection<Long> blockedUserIds,
+		final int limit
+	) {
+		return followRepository.findFollowers(userId, cursor, currentUserId, blockedUserIds, limit);
+	}
+
+	/**
+	 * 사용자가 팔로우하는 사용자를 최근 팔로우 순으로 조회합니다. 요청 사용자가 차단한 사용자는 제외합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<FollowEdge> getFollowings(
+		final Long userId,
+		final KeysetCursor cursor,
+		final Long currentUserId,
+		final Collection<Long> blockedUserIds,
+		final int limit
+	) {
+		return followRepository.findFollowings(userId, cursor, currentUserId, blockedUserIds, limit);
+	}
+
+	/**
+	 * 사용자 목록을 요청 사용자의 팔로우 여부와 함께 사용자 요약 목록으로 변환합니다.
+	 * 사용자와 팔로우 여부를 각각 IN 쿼리 한 번씩으로 조회하며, 응답 순서는 전달된 ID 순서를 따릅니다.
+	 *
+	 * @param currentUserId 요청 사용자 ID
+	 * @param userIds       변환할 사용자 ID 목록
+	 * @return 사용자 요약 목록 (존재하지 않는 사용자는 제외)
+	 */
+	@Transactional(readOnly = true)
+	public List<UserSummaryDto> getUserSummaries(final Long currentUserId, final List<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
+			.collect(Collectors.toMap(User::getId, Function.identity()));
+		Set<Long> followingUserIds = new HashSet<>(followRepository.findFollowedIdsAmong(currentUserId, userIds));
+
+		return userIds.stream()
+			.map(usersById::get)
+			.filter(Objects::nonNull)
+			.map(user -> UserMapper.toUserSummaryDto(user, followingUserIds.contains(user.getId())))
+			.toList();
+	}
 }
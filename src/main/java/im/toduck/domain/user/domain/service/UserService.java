@@ -1,6 +1,8 @@
 package im.toduck.domain.user.domain.service;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +15,8 @@ import im.toduck.domain.user.persistence.repository.BlockRepository;
 import im.toduck.domain.user.persistence.repository.UserRepository;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
+import im.toduck.global.util.TransactionSynchronizationUtil;
+import im.toduck.infra.redis.block.BlockedUserCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 	private final UserRepository userRepository;
 	private final BlockRepository blockRepository;
+	private final BlockedUserCacheService blockedUserCacheService;
 
 	@Transactional(readOnly = true)
 	public Optional<User> getUserById(Long id) {
@@ -70,6 +75,7 @@ public class UserService {
 		Block block = BlockMapper.toBlock(blocker, blockedUser);
 
 		blockRepository.save(block);
+		evictBlockedUserIdsAfterCommit(blocker);
 	}
 
 	@Transactional
@@ -82,9 +88,30 @@ public class UserService {
 			});
 
 		blockRepository.delete(block);
+		evictBlockedUserIdsAfterCommit(blocker);
 	}
 
 	public boolean isBlockedUser(User blocker, User blockedUser) {
 		return blockRepository.existsByBlockerAndBlocked(blocker, blockedUser);
 	}
+
+	/**
+	 * 사용자가 차단한 사용자 ID 집합을 캐시에서 조회합니다.
+	 * 차단/차단 해제 직후의 정확한 판단이 필요한 경우에는 {@link #isBlockedUser(User, User)} 를 사용합니다.
+	 *
+	 * @param blockerId 차단한 사용자 ID
+	 * @return 변경할 수 없는 차단한 사용자 ID 집합
+	 */
+	@Transactional(readOnly = true)
+	public Set<Long> getBlockedUserIds(final Long blockerId) {
+		return blockedUserCacheService.getBlockedUserIds(
+			blockerId,
+			() -> new HashSet<>(blockRepository.findBlockedIdsByBlockerId(blockerId))
+		);
+	}
+
+	private void evictBlockedUserIdsAfterCommit(final User blocker) {
+		Long blockerId = blocker.getId();
+		TransactionSynchronizationUtil.runAfterCommit(() -> blockedUserCacheService.evict(blockerId));
+	}
 }
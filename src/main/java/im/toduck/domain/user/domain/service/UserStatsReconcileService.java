@@ -0,0 +1,47 @@
+package im.toduck.domain.user.domain.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import im.toduck.domain.user.persistence.repository.UserRepository;
+import im.toduck.domain.user.persistence.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * user_stats 의 집계 값을 follow, social, routine 테이블 기준으로 주기적으로 보정하는 서비스입니다.
+ * <p>
+ * 사용자 ID 구간 단위로 나누어 구간마다 별도의 트랜잭션에서 수행합니다.
+ * 행이 없는 사용자는 먼저 생성한 뒤 보정하므로, 기존 사용자에 대한 최초 백필 용도로도 사용할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStatsReconcileService {
+	private static final long RECONCILE_CHUNK_SIZE = 1_000L;
+
+	private final UserRepository userRepository;
+	private final UserStatsRepository userStatsRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Scheduled(cron = "0 0 5 * * *")
+	public void reconcileUserStats() {
+		long maxUserId = userRepository.findMaxIdIncludingDeleted();
+		int createdCount = 0;
+
+		for (long fromId = 0; fromId < maxUserId; fromId += RECONCILE_CHUNK_SIZE) {
+			long chunkFromId = fromId;
+			long chunkToId = Math.min(fromId + RECONCILE_CHUNK_SIZE, maxUserId);
+
+			Integer chunkCreatedCount = transactionTemplate.execute(status -> {
+				int created = userStatsRepository.insertMissingUserStats(chunkFromId, chunkToId);
+				userStatsRepository.reconcileUserStats(chunkFromId, chunkToId);
+				return created;
+			});
+			createdCount += chunkCreatedCount == null ? 0 : chunkCreatedCount;
+		}
+
+		log.info("사용자 집계 값 보정 완료 - MaxUserId: {}, CreatedCount: {}", maxUserId, createdCount);
+	}
+}
@@ -0,0 +1,69 @@
+package im.toduck.domain.user.domain.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.user.persistence.entity.UserStats;
+import im.toduck.domain.user.persistence.repository.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 집계 값(user_stats)을 조회하고 증감하는 서비스입니다.
+ * <p>
+ * 증감은 원본 데이터 변경과 같은 트랜잭션에서 UPSERT 한 번으로 처리합니다. 행이 없는 사용자는 원본 테이블의 집계 값으로
+ * 행을 만들므로, 원본 데이터를 변경한 뒤에 호출해야 합니다. 여러 사용자의 행을 갱신할 때는 교착 상태를 피하도록
+ * 사용자 ID 오름차순으로 갱신합니다. 값이 0 아래로 내려가지 않도록 보정하며, 어긋난 값은
+ * {@link UserStatsReconcileService} 가 주기적으로 바로잡습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+	private final UserStatsRepository userStatsRepository;
+
+	@Transactional(readOnly = true)
+	public Optional<UserStats> getUserStats(final Long userId) {
+		return userStatsRepository.findById(userId);
+	}
+
+	@Transactional
+	public void increaseFollowCounts(final Long followerId, final Long followedId) {
+		upsertFollowCounts(followerId, followedId, 1);
+	}
+
+	@Transactional
+	public void decreaseFollowCounts(final Long followerId, final Long followedId) {
+		upsertFollowCounts(followerId, followedId, -1);
+	}
+
+	@Transactional
+	public void increasePostCount(final Long userId) {
+		userStatsRepository.upsertCounts(userId, 0, 0, 1, 0);
+	}
+
+	@Transactional
+	public void decreasePostCount(final Long userId) {
+		userStatsRepository.upsertCounts(userId, 0, 0, -1, 0);
+	}
+
+	@Transactional
+	public void increaseRoutineShareCount(final Long userId, final int amount) {
+		userStatsRepository.upsertCounts(userId, 0, 0, 0, amount);
+	}
+
+	@Transactional
+	public void decreaseRoutineShareCount(final Long userId, final int amount) {
+		userStatsRepository.upsertCounts(userId, 0, 0, 0, -amount);
+	}
+
+	private void upsertFollowCounts(final Long followerId, final Long followedId, final int delta) {
+		if (followerId < followedId) {
+			userStatsRepository.upsertCounts(followerId, 0, delta, 0, 0);
+			userStatsRepository.upsertCounts(followedId, delta, 0, 0, 0);
+			return;
+		}
+		userStatsRepository.upsertCounts(followedId, delta, 0, 0, 0);
+		userStatsRepository.upsertCounts(followerId, 0, delta, 0, 0);
+	}
+}
@@ -1,12 +1,22 @@
 package im.toduck.domain.user.domain.usecase;
 
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.domain.social.domain.service.SocialTimelineService;
 import im.toduck.domain.user.domain.service.FollowService;
 import im.toduck.domain.user.domain.service.UserService;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.persistence.vo.FollowEdge;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.global.annotation.UseCase;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
-import jakarta.transaction.Transactional;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.PaginationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,9 +24,11 @@ import lombok.extern.slf4j.Slf4j;
 @UseCase
 @RequiredArgsConstructor
 public class UserFollowUseCase {
+	private static final int DEFAULT_FOLLOW_PAGE_SIZE = 20;
 
 	private final UserService userService;
 	private final FollowService followService;
+	private final SocialTimelineService socialTimelineService;
 
 	@Transactional
 	public void followUser(final Long followerId, final Long followedUserId) {
@@ -36,6 +48,7 @@ public class UserFollowUseCase {
 		}
 
 		followService.followUser(follower, followed);
+		socialTimelineService.evictTimeline(followerId);
 		log.info("팔로우 성공 - FollowerId: {}, FollowedUserId: {}", followerId, followedUserId);
 	}
 
@@ -52,6 +65,74 @@ public class UserFollowUseCase {
 		}
 
 		followService.unfollowUser(follower, followed);
+		socialTimelineService.evictTimeline(followerId);
 		log.info("언팔로우 성공 - FollowerId: {}, FollowedUserId: {}", followerId, followedUserId);
 	}
+
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<UserSummaryDto> getFollowers(
+		final Long userId,
+		final Long targetUserId,
+		final KeysetCursor cursor,
+		final Integer limit
+	) {
+		User targetUser = userService.getUserById(targetUserId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_FOLLOW_PAGE_SIZE);
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
+
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		List<FollowEdge> followers = followService.getFollowers(
+			targetUser.getId(),
+			cursor,
+			userId,
+			blockedUserIds,
+			fetchLimit
+		);
+
+		return toUserSummaryPage(userId, followers, actualLimit);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorPaginationResponse<UserSummaryDto> getFollowings(
+		final Long userId,
+		final Long targetUserId,
+		final KeysetCursor cursor,
+		final Integer limit
+	) {
+		User targetUser = userService.getUserById(targetUserId)
+			.orElseThrow(() -> CommonException.from(ExceptionCode.NOT_FOUND_USER));
+
+		int actualLimit = PaginationUtil.resolveLimit(limit, DEFAULT_FOLLOW_PAGE_SIZE);
+		int fetchLimit = PaginationUtil.calculateTotalFetchSize(actualLimit);
+
+		Set<Long> blockedUserIds = userService.getBlockedUserIds(userId);
+		List<FollowEdge> followings = followService.getFollowings(
+			targetUser.getId(),
+			cursor,
+			userId,
+			blockedUserIds,
+			fetchLimit
+		);
+
+		return toUserSummaryPage(userId, followings, actualLimit);
+	}
+
+	private CursorPaginationResponse<UserSummaryDto> toUserSummaryPage(
+		final Long userId,
+		final List<FollowEdge> followEdges,
+		final int actualLimit
+	) {
+		boolean hasMore = PaginationUtil.hasMore(followEdges, actualLimit);
+		Long nextCursor = PaginationUtil.getNextCursor(hasMore, followEdges, actualLimit, FollowEdge::followId);
+
+		List<Long> pageUserIds = followEdges.stream()
+			.limit(actualLimit)
+			.map(FollowEdge::userId)
+			.toList();
+		List<UserSummaryDto> userSummaries = followService.getUserSummaries(userId, pageUserIds);
+
+		return PaginationUtil.toCursorPaginationResponse(hasMore, nextCursor, userSummaries);
+	}
 }
@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,7 +15,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "follow")
+@Table(
+	name = "follow",
+	indexes = {
+		@Index(name = "follow_followed_id_idx", columnList = "followed_id, id, follower_id"),
+		@Index(name = "follow_follower_id_idx", columnList = "follower_id, id, followed_id"),
+		@Index(name = "follow_follower_followed_idx", columnList = "follower_id, followed_id")
+	}
+)
 @NoArgsConstructor
 @Getter
 public class Follow extends BaseEntity {
@@ -0,0 +1,38 @@
+package im.toduck.domain.user.persistence.entity;
+
+import im.toduck.global.base.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로필 조회에 사용되는 사용자별 집계 값입니다.
+ * <p>
+ * follow, social, routine 테이블을 원본으로 하는 비정규화 값이며, 각 변경 시점에 UPSERT 로 증감하고
+ * 주기적으로 원본 테이블 기준으로 보정합니다. 행은 사용자 ID 를 기본 키로 사용합니다.
+ */
+@Entity
+@Table(name = "user_stats")
+@NoArgsConstructor
+@Getter
+public class UserStats extends BaseEntity {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "follower_count", nullable = false)
+	private int followerCount;
+
+	@Column(name = "following_count", nullable = false)
+	private int followingCount;
+
+	@Column(name = "post_count", nullable = false)
+	private int postCount;
+
+	@Column(name = "routine_share_count", nullable = false)
+	private int routineShareCount;
+}
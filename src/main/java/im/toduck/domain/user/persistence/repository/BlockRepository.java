@@ -1,8 +1,11 @@
 package im.toduck.domain.user.persistence.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.user.persistence.entity.Block;
 import im.toduck.domain.user.persistence.entity.User;
@@ -12,4 +15,7 @@ public interface BlockRepository extends JpaRepository<Block, Long> {
 	boolean existsByBlockerAndBlocked(User blocker, User blocked);
 
 	Optional<Block> findByBlockerAndBlocked(User blocker, User blocked);
+
+	@Query("SELECT b.blocked.id FROM Block b WHERE b.blocker.id = :blockerId")
+	List<Long> findBlockedIdsByBlockerId(@Param("blockerId") Long blockerId);
 }
@@ -1,13 +1,19 @@
 package im.toduck.domain.user.persistence.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import im.toduck.domain.user.persistence.entity.Follow;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.persistence.repository.querydsl.FollowRepositoryCustom;
 
-public interface FollowRepository extends JpaRepository<Follow, Long> {
+public interface FollowRepository extends JpaRepository<Follow, Long>, FollowRepositoryCustom {
 	boolean existsByFollowerAndFollowed(User follower, User followed);
 
 	Optional<Follow> findByFollowerAndFollowed(User follower, User followed);
@@ -15,4 +21,33 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 	long countByFollower_Id(Long followerId);
 
 	long countByFollowed_Id(Long followedId);
+
+	@Query("SELECT f.follower.id FROM Follow f "
+		+ "WHERE f.followed.id = :followedId AND f.follower.id > :lastFollowerId "
+		+ "ORDER BY f.follower.id ASC")
+	List<Long> findFollowerIds(
+		@Param("followedId") Long followedId,
+		@Param("lastFollowerId") long lastFollowerId,
+		Pageable pageable
+	);
+
+	/**
+	 * 팔로워 수가 기준보다 많은 팔로우 대상 ID 를 조회합니다. 집계 행이 없는 사용자는 실제 팔로워 수로 판단합니다.
+	 */
+	@Query("SELECT f.followed.id FROM Follow f "
+		+ "LEFT JOIN UserStats us ON us.userId = f.followed.id "
+		+ "WHERE f.follower.id = :followerId "
+		+ "AND ((us.userId IS NOT NULL AND us.followerCount > :followerCount) "
+		+ "OR (us.userId IS NULL "
+		+ "AND (SELECT COUNT(f2) FROM Follow f2 WHERE f2.followed.id = f.followed.id) > :followerCount))")
+	List<Long> findFolloweeIdsWithFollowerCountAbove(
+		@Param("followerId") Long followerId,
+		@Param("followerCount") int followerCount
+	);
+
+	@Query("SELECT f.followed.id FROM Follow f WHERE f.follower.id = :followerId AND f.followed.id IN :userIds")
+	List<Long> findFollowedIdsAmong(
+		@Param("followerId") Long followerId,
+		@Param("userIds") Collection<Long> userIds
+	);
 }
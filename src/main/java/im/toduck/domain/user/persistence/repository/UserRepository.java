@@ -3,6 +3,7 @@ package im.toduck.domain.user.persistence.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import im.toduck.domain.user.persistence.entity.OAuthProvider;
 import im.toduck.domain.user.persistence.entity.User;
@@ -16,4 +17,7 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
 	boolean existsByNickname(String nickname);
 
 	Optional<User> findByProviderAndEmail(OAuthProvider provider, String email);
+
+	@Query(value = "SELECT COALESCE(MAX(id), 0) FROM users", nativeQuery = true)
+	long findMaxIdIncludingDeleted();
 }
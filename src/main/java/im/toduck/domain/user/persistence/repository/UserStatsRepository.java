@@ -0,0 +1,60 @@
+package im.toduck.domain.user.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import im.toduck.domain.user.persistence.entity.UserStats;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+	/**
+	 * 사용자의 집계 값을 증감합니다. 행이 없으면 증감 값 대신 원본 테이블의 현재 집계 값으로 행을 만들므로,
+	 * 같은 트랜잭션의 원본 데이터 변경 이후에 호출해야 합니다.
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO user_stats "
+		+ "(user_id, follower_count, following_count, post_count, routine_share_count, created_at, updated_at) "
+		+ "VALUES (:userId, "
+		+ "(SELECT COUNT(*) FROM follow f WHERE f.followed_id = :userId), "
+		+ "(SELECT COUNT(*) FROM follow f WHERE f.follower_id = :userId), "
+		+ "(SELECT COUNT(*) FROM social s WHERE s.user_id = :userId AND s.deleted_at IS NULL), "
+		+ "(SELECT COALESCE(SUM(r.shared_count), 0) FROM routine r "
+		+ "    WHERE r.user_id = :userId AND r.is_public = TRUE AND r.deleted_at IS NULL), "
+		+ "NOW(), NOW()) "
+		+ "ON DUPLICATE KEY UPDATE "
+		+ "follower_count = GREATEST(follower_count + :followerDelta, 0), "
+		+ "following_count = GREATEST(following_count + :followingDelta, 0), "
+		+ "post_count = GREATEST(post_count + :postDelta, 0), "
+		+ "routine_share_count = GREATEST(routine_share_count + :routineShareDelta, 0), "
+		+ "updated_at = NOW()", nativeQuery = true)
+	void upsertCounts(
+		@Param("userId") Long userId,
+		@Param("followerDelta") int followerDelta,
+		@Param("followingDelta") int followingDelta,
+		@Param("postDelta") int postDelta,
+		@Param("routineShareDelta") int routineShareDelta
+	);
+
+	@Modifying
+	@Query(value = "INSERT INTO user_stats "
+		+ "(user_id, follower_count, following_count, post_count, routine_share_count, created_at, updated_at) "
+		+ "SELECT u.id, 0, 0, 0, 0, NOW(), NOW() FROM users u "
+		+ "WHERE u.id > :fromId AND u.id <= :toId "
+		+ "AND NOT EXISTS (SELECT 1 FROM user_stats us WHERE us.user_id = u.id)", nativeQuery = true)
+	int insertMissingUserStats(@Param("fromId") long fromId, @Param("toId") long toId);
+
+	@Modifying
+	@Query(value = "UPDATE user_stats us SET "
+		+ "follower_count = (SELECT COUNT(*) FROM follow f WHERE f.followed_id = us.user_id), "
+		+ "following_count = (SELECT COUNT(*) FROM follow f WHERE f.follower_id = us.user_id), "
+		+ "post_count = ("
+		+ "    SELECT COUNT(*) FROM social s WHERE s.user_id = us.user_id AND s.deleted_at IS NULL"
+		+ "), "
+		+ "routine_share_count = ("
+		+ "    SELECT COALESCE(SUM(r.shared_count), 0) FROM routine r "
+		+ "    WHERE r.user_id = us.user_id AND r.is_public = TRUE AND r.deleted_at IS NULL"
+		+ ") "
+		+ "WHERE us.user_id > :fromId AND us.user_id <= :toId", nativeQuery = true)
+	int reconcileUserStats(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,25 @@
+package im.toduck.domain.user.persistence.repository.querydsl;
+
+import java.util.Collection;
+import java.util.List;
+
+import im.toduck.domain.user.persistence.vo.FollowEdge;
+import im.toduck.global.util.KeysetCursor;
+
+public interface FollowRepositoryCustom {
+	List<FollowEdge> findFollowers(
+		Long userId,
+		KeysetCursor cursor,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		int limit
+	);
+
+	List<FollowEdge> findFollowings(
+		Long userId,
+		KeysetCursor cursor,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		int limit
+	);
+}
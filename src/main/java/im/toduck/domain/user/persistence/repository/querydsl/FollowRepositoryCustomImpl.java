@@ -0,0 +1,74 @@
+package im.toduck.domain.user.persistence.repository.querydsl;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import im.toduck.domain.user.persistence.entity.QFollow;
+import im.toduck.domain.user.persistence.vo.FollowEdge;
+import im.toduck.global.util.BlockedUserFilterUtil;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.global.util.KeysetPaginationUtil;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class FollowRepositoryCustomImpl implements FollowRepositoryCustom {
+
+	private final JPAQueryFactory queryFactory;
+	private final QFollow qFollow = QFollow.follow;
+
+	/**
+	 * 사용자를 팔로우하는 사용자를 최근 팔로우 순으로 조회합니다.
+	 * (followed_id, id, follower_id) 인덱스만으로 커서 이후의 행을 순서대로 읽을 수 있습니다.
+	 */
+	@Override
+	public List<FollowEdge> findFollowers(
+		Long userId,
+		KeysetCursor cursor,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		int limit
+	) {
+		return queryFactory
+			.select(Projections.constructor(FollowEdge.class, qFollow.id, qFollow.follower.id))
+			.from(qFollow)
+			.where(
+				qFollow.followed.id.eq(userId),
+				BlockedUserFilterUtil.excludeBlockedUsers(qFollow.follower.id, currentUserId, blockedUserIds),
+				KeysetPaginationUtil.seekDescending(qFollow.id, cursor)
+			)
+			.orderBy(qFollow.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 사용자가 팔로우하는 사용자를 최근 팔로우 순으로 조회합니다.
+	 * (follower_id, id, followed_id) 인덱스만으로 커서 이후의 행을 순서대로 읽을 수 있습니다.
+	 */
+	@Override
+	public List<FollowEdge> findFollowings(
+		Long userId,
+		KeysetCursor cursor,
+		Long currentUserId,
+		Collection<Long> blockedUserIds,
+		int limit
+	) {
+		return queryFactory
+			.select(Projections.constructor(FollowEdge.class, qFollow.id, qFollow.followed.id))
+			.from(qFollow)
+			.where(
+				qFollow.follower.id.eq(userId),
+				BlockedUserFilterUtil.excludeBlockedUsers(qFollow.followed.id, currentUserId, blockedUserIds),
+				KeysetPaginationUtil.seekDescending(qFollow.id, cursor)
+			)
+			.orderBy(qFollow.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+}
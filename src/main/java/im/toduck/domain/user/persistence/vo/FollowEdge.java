@@ -0,0 +1,10 @@
+package im.toduck.domain.user.persistence.vo;
+
+/**
+ * 팔로우 ID 와 목록에 표시할 상대 사용자 ID 를 조회하기 위한 프로젝션입니다. 팔로우 ID 는 목록 조회 커서로 사용합니다.
+ */
+public record FollowEdge(
+	Long followId,
+	Long userId
+) {
+}
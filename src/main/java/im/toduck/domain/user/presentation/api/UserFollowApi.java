@@ -5,14 +5,21 @@ import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.global.annotation.swagger.ApiErrorResponseExplanation;
 import im.toduck.global.annotation.swagger.ApiResponseExplanations;
 import im.toduck.global.annotation.swagger.ApiSuccessResponseExplanation;
+import im.toduck.global.annotation.valid.PaginationLimit;
 import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.presentation.ApiResponse;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @Tag(name = "UserFollow")
@@ -52,4 +59,54 @@ public interface UserFollowApi {
 		@PathVariable("followedUserId") Long followedUserId,
 		@AuthenticationPrincipal CustomUserDetails user
 	);
+
+	@Operation(
+		summary = "팔로워 목록 조회",
+		description = """
+			<b>지정된 유저를 팔로우하는 유저 목록을 최근 팔로우 순으로 커서 기반 페이지네이션하여 조회합니다.</b><br/><br/>
+			<p>다음 페이지는 응답의 <b>nextCursorToken</b> 을 cursor 로 전달하여 조회합니다.</p>
+			<p>내가 차단한 유저는 제외되며, 각 유저의 <b>isFollowing</b> 으로 내가 팔로우 중인지 확인할 수 있습니다.</p>
+			"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = UserSummaryDto.class,
+			description = "팔로워 목록 조회 성공, 커서 기반으로 조회된 유저 목록을 반환합니다."
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_USER)
+		}
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<UserSummaryDto>>> getFollowers(
+		@PathVariable("userId") Long userId,
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
+	);
+
+	@Operation(
+		summary = "팔로잉 목록 조회",
+		description = """
+			<b>지정된 유저가 팔로우하는 유저 목록을 최근 팔로우 순으로 커서 기반 페이지네이션하여 조회합니다.</b><br/><br/>
+			<p>다음 페이지는 응답의 <b>nextCursorToken</b> 을 cursor 로 전달하여 조회합니다.</p>
+			<p>내가 차단한 유저는 제외되며, 각 유저의 <b>isFollowing</b> 으로 내가 팔로우 중인지 확인할 수 있습니다.</p>
+			"""
+	)
+	@ApiResponseExplanations(
+		success = @ApiSuccessResponseExplanation(
+			responseClass = UserSummaryDto.class,
+			description = "팔로잉 목록 조회 성공, 커서 기반으로 조회된 유저 목록을 반환합니다."
+		),
+		errors = {
+			@ApiErrorResponseExplanation(exceptionCode = ExceptionCode.NOT_FOUND_USER)
+		}
+	)
+	ResponseEntity<ApiResponse<CursorPaginationResponse<UserSummaryDto>>> getFollowings(
+		@PathVariable("userId") Long userId,
+		@AuthenticationPrincipal CustomUserDetails user,
+		@Parameter(description = "조회를 시작할 커서 값 (이전 응답의 nextCursorToken)", schema = @Schema(type = "string"))
+		@RequestParam(required = false) KeysetCursor cursor,
+		@Parameter(description = "한 페이지에 표시할 항목 수") @PaginationLimit @RequestParam(required = false) Integer limit
+	);
 }
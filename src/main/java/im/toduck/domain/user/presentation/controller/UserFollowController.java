@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -13,8 +14,11 @@ import org.springframework.web.bind.annotation.RestController;
 
 import im.toduck.domain.user.domain.usecase.UserFollowUseCase;
 import im.toduck.domain.user.presentation.api.UserFollowApi;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.global.presentation.ApiResponse;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 import im.toduck.global.security.authentication.CustomUserDetails;
+import im.toduck.global.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -45,4 +49,32 @@ public class UserFollowController implements UserFollowApi {
 		userFollowUseCase.unfollowUser(user.getUserId(), followedUserId);
 		return ResponseEntity.ok(ApiResponse.createSuccessWithNoContent());
 	}
+
+	@Override
+	@GetMapping("/{userId}/followers")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<UserSummaryDto>>> getFollowers(
+		@PathVariable Long userId,
+		@AuthenticationPrincipal CustomUserDetails user,
+		KeysetCursor cursor,
+		Integer limit
+	) {
+		return ResponseEntity.ok(
+			ApiResponse.createSuccess(userFollowUseCase.getFollowers(user.getUserId(), userId, cursor, limit))
+		);
+	}
+
+	@Override
+	@GetMapping("/{userId}/followings")
+	@PreAuthorize("isAuthenticated()")
+	public ResponseEntity<ApiResponse<CursorPaginationResponse<UserSummaryDto>>> getFollowings(
+		@PathVariable Long userId,
+		@AuthenticationPrincipal CustomUserDetails user,
+		KeysetCursor cursor,
+		Integer limit
+	) {
+		return ResponseEntity.ok(
+			ApiResponse.createSuccess(userFollowUseCase.getFollowings(user.getUserId(), userId, cursor, limit))
+		);
+	}
 }
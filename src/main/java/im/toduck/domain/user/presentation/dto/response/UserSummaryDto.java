@@ -0,0 +1,20 @@
+package im.toduck.domain.user.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+public record UserSummaryDto(
+	@Schema(description = "사용자 ID", example = "1")
+	Long userId,
+
+	@Schema(description = "사용자 닉네임", example = "오리발")
+	String nickname,
+
+	@Schema(description = "사용자 프로필 이미지 url", example = "https://cdn.toduck.app/profile.jpg")
+	String profileImageUrl,
+
+	@Schema(description = "요청한 사용자가 이 사용자를 팔로우하고 있는지 여부", example = "true")
+	boolean isFollowing
+) {
+}
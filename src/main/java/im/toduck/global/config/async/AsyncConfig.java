@@ -19,4 +19,24 @@ public class AsyncConfig {
 		taskExecutor.setThreadNamePrefix("Executor-");
 		return taskExecutor;
 	}
+
+	@Bean(name = "socialCascadeTaskExecutor")
+	public Executor socialCascadeTaskExecutor() {
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(1); // 대량 UPDATE 가 DB 에 몰리지 않도록 적은 수의 스레드로 처리
+		taskExecutor.setMaxPoolSize(2);
+		taskExecutor.setQueueCapacity(100);
+		taskExecutor.setThreadNamePrefix("SocialCascade-");
+		return taskExecutor;
+	}
+
+	@Bean(name = "socialTimelineTaskExecutor")
+	public Executor socialTimelineTaskExecutor() {
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(2);
+		taskExecutor.setMaxPoolSize(4);
+		taskExecutor.setQueueCapacity(1_000); // 게시글 작성이 몰려도 타임라인 추가 작업이 버려지지 않도록 여유 있게 설정
+		taskExecutor.setThreadNamePrefix("SocialTimeline-");
+		return taskExecutor;
+	}
 }
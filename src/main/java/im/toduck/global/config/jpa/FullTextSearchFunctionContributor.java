@@ -0,0 +1,33 @@
+package im.toduck.global.config.jpa;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * 전문 검색(Full-Text Search)용 JPQL 함수 {@code fulltext_match(title, content, keyword)} 를 등록합니다.
+ * <p>
+ * MySQL 에서는 ngram 파서로 생성된 FULLTEXT 인덱스를 사용하는 {@code MATCH ... AGAINST} 구문(boolean mode, 구문 검색)으로,
+ * 그 외 데이터베이스(테스트용 H2 등)에서는 대소문자를 구분하지 않는 LIKE 비교로 변환되며, 검색어가 포함된 컬럼 수를 점수로 사용합니다.
+ * 두 경우 모두 일치하지 않으면 0, 일치하면 0 보다 큰 관련도 점수를 반환하며, 점수가 클수록 관련도가 높습니다.
+ */
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+	public static final String FULLTEXT_MATCH = "fulltext_match";
+
+	private static final String MYSQL_PATTERN = "match(?1, ?2) against(concat('\"', ?3, '\"') in boolean mode)";
+	private static final String FALLBACK_PATTERN = "("
+		+ "case when lower(coalesce(?1, '')) like concat('%', lower(?3), '%') then 1.0 else 0.0 end + "
+		+ "case when lower(?2) like concat('%', lower(?3), '%') then 1.0 else 0.0 end)";
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+			.getBasicTypeRegistry()
+			.resolve(StandardBasicTypes.DOUBLE);
+
+		String pattern = functionContributions.getDialect() instanceof MySQLDialect ? MYSQL_PATTERN : FALLBACK_PATTERN;
+		functionContributions.getFunctionRegistry().registerPattern(FULLTEXT_MATCH, pattern, doubleType);
+	}
+}
@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import im.toduck.global.config.web.converter.KeysetCursorConverter;
 import im.toduck.global.config.web.converter.YearMonthConverter;
 
 @Configuration
@@ -11,5 +12,6 @@ public class WebConfig implements WebMvcConfigurer {
 	@Override
 	public void addFormatters(FormatterRegistry registry) {
 		registry.addConverter(new YearMonthConverter());
+		registry.addConverter(new KeysetCursorConverter());
 	}
 }
@@ -0,0 +1,15 @@
+package im.toduck.global.config.web.converter;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import im.toduck.global.util.KeysetCursor;
+
+@Component
+public class KeysetCursorConverter implements Converter<String, KeysetCursor> {
+
+	@Override
+	public KeysetCursor convert(String source) {
+		return KeysetCursor.from(source);
+	}
+}
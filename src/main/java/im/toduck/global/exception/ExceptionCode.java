@@ -91,6 +91,8 @@ public enum ExceptionCode {
 	INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, 40417, "검색 키워드는 null일 수 없습니다."),
 	NOT_FOUND_PARENT_COMMENT(HttpStatus.NOT_FOUND, 40418, "부모 댓글을 찾을 수 없습니다."),
 	INVALID_PARENT_COMMENT(HttpStatus.BAD_REQUEST, 40419, "답글은 부모 댓글이 될 수 없습니다."),
+	EXCEEDED_SOCIAL_BATCH_SIZE(HttpStatus.BAD_REQUEST, 40420, "한 번에 조회할 수 있는 게시글 수를 초과했습니다.",
+		"게시글 일괄 조회 시 최대 개수보다 많은 게시글 ID 를 요청했을 때 발생하는 오류입니다."),
 
 	/* 405xx diary */
 	NOT_FOUND_DIARY(HttpStatus.NOT_FOUND, 40501, "일기를 찾을 수 없습니다."),
@@ -115,13 +117,17 @@ public enum ExceptionCode {
 		"요청된 날짜에 대한 루틴 변경이 불가능합니다. 루틴의 반복 요일과 현재 날짜를 확인하고 올바른 날짜로 다시 요청해 주세요."),
 	PRIVATE_ROUTINE(HttpStatus.FORBIDDEN, 43203, "비공개된 루틴입니다.",
 		"요청하신 루틴은 비공개 상태입니다. 접근 권한이 없는 경우 접근할 수 없습니다."),
+	ROUTINE_INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, 43204, "유효하지 않은 루틴 조회 기간입니다.",
+		"종료 날짜가 시작 날짜보다 이르거나, 조회 기간이 31일을 넘는 경우 발생합니다."),
 
 	/* 499xx ETC */
 	NOT_FOUND_RESOURCE(HttpStatus.NOT_FOUND, 49901, "해당 경로를 찾을 수 없습니다."),
 	METHOD_FORBIDDEN(HttpStatus.METHOD_NOT_ALLOWED, 49902, "지원하지 않는 HTTP 메서드를 사용합니다."),
 	INVALID_IMAGE_EXTENSION(HttpStatus.BAD_REQUEST, 49903, "지원되지 않는 이미지 파일 확장자입니다.",
 		"이미지 파일 업로드에 허용되지 않는 파일 형식입니다."),
-	SMS_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 49904, "외부 SMS 통신중 에러가 났습니다.");
+	SMS_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 49904, "외부 SMS 통신중 에러가 났습니다."),
+	FORBIDDEN_WORD_INCLUDED(HttpStatus.BAD_REQUEST, 49905, "사용할 수 없는 단어가 포함되어 있습니다.",
+		"게시글 제목, 내용, 댓글, 닉네임에 금칙어가 포함된 경우 발생합니다. 띄어쓰기, 숫자, 특수문자를 섞어도 같은 단어로 판단합니다.");
 
 	private final HttpStatus httpStatus;
 	private final int errorCode;
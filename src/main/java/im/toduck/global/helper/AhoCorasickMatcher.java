@@ -0,0 +1,166 @@
+package im.toduck.global.helper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 여러 단어를 한 번에 검색하는 Aho-Corasick 오토마톤입니다.
+ * <p>
+ * 생성 시 단어 목록으로 트라이와 실패 링크를 한 번 만들어 두고, 검색은 입력 문자열을 한 번만 훑으므로
+ * 단어 수와 관계없이 입력 길이에 비례하는 시간이 걸립니다. 각 상태의 전이는 정렬된 배열에 두고 이진 탐색하며,
+ * 생성 이후에는 변경되지 않으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public class AhoCorasickMatcher {
+	private static final int ROOT = 0;
+	private static final int NO_MATCH = -1;
+
+	private final List<String> terms;
+	private final char[][] transitionChars;
+	private final int[][] transitionStates;
+	private final int[] failures;
+	private final int[] matchedTerms;
+
+	private AhoCorasickMatcher(
+		final List<String> terms,
+		final char[][] transitionChars,
+		final int[][] transitionStates,
+		final int[] failures,
+		final int[] matchedTerms
+	) {
+		this.terms = terms;
+		this.transitionChars = transitionChars;
+		this.transitionStates = transitionStates;
+		this.failures = failures;
+		this.matchedTerms = matchedTerms;
+	}
+
+	/**
+	 * 단어 목록으로 오토마톤을 만듭니다. 빈 단어는 무시합니다.
+	 */
+	public static AhoCorasickMatcher compile(final Collection<String> terms) {
+		List<String> compiledTerms = new ArrayList<>(terms.size());
+		List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		List<Integer> ownTerms = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		ownTerms.add(NO_MATCH);
+
+		for (String term : terms) {
+			if (term == null || term.isEmpty()) {
+				continue;
+			}
+
+			int state = ROOT;
+			for (int i = 0; i < term.length(); i++) {
+				Integer next = trie.get(state).get(term.charAt(i));
+				if (next == null) {
+					next = trie.size();
+					trie.get(state).put(term.charAt(i), next);
+					trie.add(new TreeMap<>());
+					ownTerms.add(NO_MATCH);
+				}
+				state = next;
+			}
+
+			if (ownTerms.get(state) == NO_MATCH) {
+				ownTerms.set(state, compiledTerms.size());
+				compiledTerms.add(term);
+			}
+		}
+
+		int stateCount = trie.size();
+		char[][] transitionChars = new char[stateCount][];
+		int[][] transitionStates = new int[stateCount][];
+		int[] matchedTerms = new int[stateCount];
+		for (int state = 0; state < stateCount; state++) {
+			TreeMap<Character, Integer> children = trie.get(state);
+			transitionChars[state] = new char[children.size()];
+			transitionStates[state] = new int[children.size()];
+
+			int index = 0;
+			for (Map.Entry<Character, Integer> child : children.entrySet()) {
+				transitionChars[state][index] = child.getKey();
+				transitionStates[state][index] = child.getValue();
+				index++;
+			}
+			matchedTerms[state] = ownTerms.get(state);
+		}
+
+		AhoCorasickMatcher matcher = new AhoCorasickMatcher(
+			List.copyOf(compiledTerms),
+			transitionChars,
+			transitionStates,
+			new int[stateCount],
+			matchedTerms
+		);
+		matcher.linkFailures();
+		return matcher;
+	}
+
+	/**
+	 * 너비 우선으로 실패 링크를 연결합니다. 자기 단어가 없는 상태는 실패 링크를 따라 도달하는 가장 긴 접미사 단어를
+	 * 물려받으므로, 검색 중에는 현재 상태만 확인하면 됩니다.
+	 */
+	private void linkFailures() {
+		Queue<Integer> queue = new ArrayDeque<>();
+		for (int child : transitionStates[ROOT]) {
+			failures[child] = ROOT;
+			queue.add(child);
+		}
+
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			for (int i = 0; i < transitionChars[state].length; i++) {
+				char c = transitionChars[state][i];
+				int child = transitionStates[state][i];
+
+				failures[child] = next(failures[state], c);
+				if (matchedTerms[child] == NO_MATCH) {
+					matchedTerms[child] = matchedTerms[failures[child]];
+				}
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * 문자열에 포함된 단어 중 가장 먼저 끝나는 단어를 찾습니다.
+	 */
+	public Optional<String> findFirst(final CharSequence text) {
+		int state = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			state = next(state, text.charAt(i));
+			if (matchedTerms[state] != NO_MATCH) {
+				return Optional.of(terms.get(matchedTerms[state]));
+			}
+		}
+		return Optional.empty();
+	}
+
+	public boolean containsAny(final CharSequence text) {
+		return findFirst(text).isPresent();
+	}
+
+	public int size() {
+		return terms.size();
+	}
+
+	private int next(int state, final char c) {
+		while (true) {
+			int index = Arrays.binarySearch(transitionChars[state], c);
+			if (index >= 0) {
+				return transitionStates[state][index];
+			}
+			if (state == ROOT) {
+				return ROOT;
+			}
+			state = failures[state];
+		}
+	}
+}
@@ -65,6 +65,17 @@ public class DaysOfWeekBitmask {
 		return includesDay(dateTime.getDayOfWeek());
 	}
 
+	/**
+	 * 주어진 날짜 이후 처음으로 포함된 요일에 해당하는 날짜를 반환합니다. 포함되지 않은 요일은 건너뜁니다.
+	 */
+	public LocalDate nextDateAfter(LocalDate date) {
+		LocalDate next = date.plusDays(1);
+		while (!includesDayOf(next)) {
+			next = next.plusDays(1);
+		}
+		return next;
+	}
+
 	public Set<DayOfWeek> getDaysOfWeek() {
 		return Arrays.stream(DayOfWeek.values())
 			.filter(this::includesDay)
@@ -0,0 +1,109 @@
+package im.toduck.global.helper;
+
+import java.text.Normalizer;
+
+/**
+ * 금칙어 검사를 위해 문자열을 비교용 형태로 정규화합니다.
+ * <p>
+ * NFKD 로 완성형 한글을 초성, 중성, 종성 자모로 분해하고 호환 자모(ㄱ, ㅏ 등)와 전각 문자도 같은 형태로 맞춘 뒤,
+ * 영문은 소문자로 바꿉니다. 호환 자모 자음은 NFKD 에서 초성이 되므로, 모음 뒤에 오고 모음이 이어지지 않는 자음은 종성으로 바꿉니다.
+ * 따라서 "ㅁㅓㅇㅊㅓㅇㅇㅣ" 와 "멍청이" 는 같은 문자열로 정규화됩니다.
+ * <p>
+ * 한글 사이의 공백, 숫자, 특수문자는 제거하여 "바 보", "바.보" 를 "바보" 와 같게 보고, 한글이 아닌 단어는 앞뒤에
+ * {@value #WORD_BOUNDARY} 하나를 두어 단어 경계를 남깁니다. 영문 금칙어도 같은 방식으로 정규화하면 경계까지 포함하게 되므로,
+ * "push it" 이나 "a bit chilly" 처럼 여러 단어에 걸친 문자열은 "shit", "bitch" 와 일치하지 않습니다.
+ */
+public class HangulJamoNormalizer {
+	public static final char WORD_BOUNDARY = ' ';
+
+	private static final char CHOSEONG_START = 'ᄀ';
+	private static final char CHOSEONG_END = 'ᄒ';
+	private static final char JUNGSEONG_START = 'ᅡ';
+	private static final char JUNGSEONG_END = 'ᅵ';
+
+	/**
+	 * 초성(ㄱ ~ ㅎ)에 대응하는 종성입니다. ㄸ, ㅃ, ㅉ 는 종성이 없으므로 0 입니다.
+	 */
+	private static final char[] JONGSEONG_BY_CHOSEONG = {
+		'ᆨ', 'ᆩ', 'ᆫ', 'ᆮ', 0, 'ᆯ', 'ᆷ', 'ᆸ', 0, 'ᆺ',
+		'ᆻ', 'ᆼ', 'ᆽ', 0, 'ᆾ', 'ᆿ', 'ᇀ', 'ᇁ', 'ᇂ'
+	};
+
+	public static String normalize(final CharSequence text) {
+		if (text == null || text.isEmpty()) {
+			return "";
+		}
+
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+		StringBuilder normalized = new StringBuilder(decomposed.length() + 2);
+		boolean separated = false;
+		for (int i = 0; i < decomposed.length(); i++) {
+			char c = decomposed.charAt(i);
+			if (Character.getType(c) == Character.NON_SPACING_MARK) {
+				continue;
+			}
+			if (!Character.isLetter(c)) {
+				separated = true;
+				continue;
+			}
+
+			boolean hangul = isHangul(c);
+			if (needsBoundaryBefore(normalized, hangul, separated)) {
+				normalized.append(WORD_BOUNDARY);
+			}
+			normalized.append(hangul ? toPositionalJamo(decomposed, i) : Character.toLowerCase(c));
+			separated = false;
+		}
+
+		if (!normalized.isEmpty() && !isHangul(normalized.charAt(normalized.length() - 1))) {
+			normalized.append(WORD_BOUNDARY);
+		}
+		return normalized.toString();
+	}
+
+	/**
+	 * 한글이 아닌 단어가 시작되거나 끝나는 위치이면 경계가 필요합니다. 한글 사이의 구분 문자는 경계를 남기지 않습니다.
+	 */
+	private static boolean needsBoundaryBefore(
+		final StringBuilder normalized,
+		final boolean hangul,
+		final boolean separated
+	) {
+		if (normalized.isEmpty()) {
+			return !hangul;
+		}
+
+		boolean previousHangul = isHangul(normalized.charAt(normalized.length() - 1));
+		if (previousHangul != hangul) {
+			return true;
+		}
+		return !hangul && separated;
+	}
+
+	/**
+	 * 모음 뒤에 오고 모음이 이어지지 않는 초성을 종성으로 바꿉니다. 완성형 한글을 분해한 초성은 항상 모음이 이어지므로
+	 * 호환 자모로 입력한 자음만 바뀝니다.
+	 */
+	private static char toPositionalJamo(final String decomposed, final int index) {
+		char c = decomposed.charAt(index);
+		if (c < CHOSEONG_START || c > CHOSEONG_END) {
+			return c;
+		}
+
+		boolean followsVowel = index > 0 && isJungseong(decomposed.charAt(index - 1));
+		boolean precedesVowel = index + 1 < decomposed.length() && isJungseong(decomposed.charAt(index + 1));
+		char jongseong = JONGSEONG_BY_CHOSEONG[c - CHOSEONG_START];
+		if (!followsVowel || precedesVowel || jongseong == 0) {
+			return c;
+		}
+		return jongseong;
+	}
+
+	private static boolean isHangul(final char c) {
+		return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+	}
+
+	private static boolean isJungseong(final char c) {
+		return c >= JUNGSEONG_START && c <= JUNGSEONG_END;
+	}
+}
@@ -0,0 +1,37 @@
+package im.toduck.global.helper;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 게시글 카테고리 ID 목록을 social.category_mask 에 저장되는 비트마스크로 변환합니다.
+ * <p>
+ * 카테고리 ID n 은 (n - 1) 번째 비트에 대응합니다. BIGINT 로 표현할 수 없는 ID(64 이상)는 비트마스크에 포함하지 않으며,
+ * 해당 카테고리는 social_category_link 를 직접 조회하여 필터링해야 합니다.
+ */
+public class SocialCategoryBitmask {
+	private static final long MIN_REPRESENTABLE_ID = 1L;
+	private static final long MAX_REPRESENTABLE_ID = Long.SIZE - 1;
+
+	public static boolean isRepresentable(final Long categoryId) {
+		return categoryId != null && categoryId >= MIN_REPRESENTABLE_ID && categoryId <= MAX_REPRESENTABLE_ID;
+	}
+
+	public static long getCategoryBit(final long categoryId) {
+		if (!isRepresentable(categoryId)) {
+			throw new IllegalArgumentException("Category id out of bitmask range: " + categoryId);
+		}
+		return 1L << (categoryId - 1);
+	}
+
+	/**
+	 * 비트마스크로 표현할 수 있는 카테고리 ID만 모아 비트마스크를 만듭니다.
+	 */
+	public static long of(final Collection<Long> categoryIds) {
+		return categoryIds.stream()
+			.filter(Objects::nonNull)
+			.filter(SocialCategoryBitmask::isRepresentable)
+			.mapToLong(SocialCategoryBitmask::getCategoryBit)
+			.reduce(0L, (a, b) -> a | b);
+	}
+}
@@ -0,0 +1,124 @@
+package im.toduck.global.moderation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import im.toduck.global.exception.CommonException;
+import im.toduck.global.exception.ExceptionCode;
+import im.toduck.global.helper.AhoCorasickMatcher;
+import im.toduck.global.helper.HangulJamoNormalizer;
+import im.toduck.global.moderation.properties.ForbiddenWordProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글, 댓글, 닉네임에 금칙어가 포함되어 있는지 검사합니다.
+ * <p>
+ * 금칙어 사전을 {@link HangulJamoNormalizer} 로 정규화한 뒤 {@link AhoCorasickMatcher} 하나로 만들어 두고,
+ * 입력도 같은 방식으로 정규화해 한 번만 훑어 검사합니다. 영문 금칙어는 정규화 결과에 단어 경계가 포함되므로
+ * 단어 단위로만 일치합니다. 사전은 주기적으로 다시 읽으며, 내용이 바뀐 경우에만 새 오토마톤을 만들어 교체합니다. 교체는 참조 하나를 바꾸는 것이므로 검사 중인 요청에는 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForbiddenWordFilter {
+	private static final String COMMENT_PREFIX = "#";
+
+	private final ForbiddenWordProperties forbiddenWordProperties;
+	private final ResourceLoader resourceLoader;
+
+	private volatile AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of());
+	private volatile String loadedDictionary = "";
+
+	@PostConstruct
+	void initialize() {
+		if (!loadDictionary()) {
+			throw new IllegalStateException(
+				"Failed to load forbidden word dictionary: " + forbiddenWordProperties.getDictionaryLocation()
+			);
+		}
+	}
+
+	/**
+	 * 금칙어 사전을 다시 읽습니다. 읽기에 실패하면 기존 사전을 그대로 사용합니다.
+	 */
+	@Scheduled(cron = "0 */5 * * * *")
+	public void reload() {
+		loadDictionary();
+	}
+
+	private boolean loadDictionary() {
+		String location = forbiddenWordProperties.getDictionaryLocation();
+		String dictionary;
+		try {
+			dictionary = readDictionary(resourceLoader.getResource(location));
+		} catch (IOException e) {
+			log.error("금칙어 사전 읽기 실패 - Location: {}", location, e);
+			return false;
+		}
+
+		if (dictionary.equals(loadedDictionary)) {
+			return true;
+		}
+
+		Set<String> terms = new LinkedHashSet<>();
+		for (String line : dictionary.split("\\R")) {
+			String term = line.strip();
+			if (term.isEmpty() || term.startsWith(COMMENT_PREFIX)) {
+				continue;
+			}
+
+			String normalizedTerm = HangulJamoNormalizer.normalize(term);
+			if (!normalizedTerm.isEmpty()) {
+				terms.add(normalizedTerm);
+			}
+		}
+
+		matcher = AhoCorasickMatcher.compile(terms);
+		loadedDictionary = dictionary;
+		log.info("금칙어 사전 적재 완료 - Location: {}, TermCount: {}", location, matcher.size());
+		return true;
+	}
+
+	public boolean containsForbiddenWord(final String text) {
+		return findForbiddenWord(text).isPresent();
+	}
+
+	/**
+	 * 문자열들 중 하나라도 금칙어를 포함하면 예외를 발생시킵니다. null 은 검사하지 않습니다.
+	 */
+	public void validate(final String... texts) {
+		for (String text : texts) {
+			Optional<String> forbiddenWord = findForbiddenWord(text);
+			if (forbiddenWord.isPresent()) {
+				log.info("금칙어 포함 요청 거부 - MatchedTerm: {}", forbiddenWord.get());
+				throw CommonException.from(ExceptionCode.FORBIDDEN_WORD_INCLUDED);
+			}
+		}
+	}
+
+	private Optional<String> findForbiddenWord(final String text) {
+		if (text == null) {
+			return Optional.empty();
+		}
+		return matcher.findFirst(HangulJamoNormalizer.normalize(text))
+			.map(String::strip);
+	}
+
+	private String readDictionary(final Resource resource) throws IOException {
+		try (InputStream inputStream = resource.getInputStream()) {
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
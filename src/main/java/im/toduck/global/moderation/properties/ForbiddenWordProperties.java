@@ -0,0 +1,17 @@
+package im.toduck.global.moderation.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 금칙어 사전 설정입니다.
+ * {@code dictionaryLocation} 은 Spring 리소스 경로이며, {@code file:} 경로를 지정하면 재배포 없이 사전을 교체할 수 있습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "moderation.forbidden-word")
+public class ForbiddenWordProperties {
+	private final String dictionaryLocation;
+}
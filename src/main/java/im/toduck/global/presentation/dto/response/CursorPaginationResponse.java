@@ -10,9 +10,12 @@ public record CursorPaginationResponse<T>(
 	@Schema(description = "다음 페이지가 있는지 여부", example = "true")
 	boolean hasMore,
 
-	@Schema(description = "다음 페이지를 위한 커서", example = "1")
+	@Schema(description = "다음 페이지를 위한 커서 (ID 순 정렬 목록에서만 제공, nextCursorToken 사용 권장)", example = "1")
 	Long nextCursor,
 
+	@Schema(description = "다음 페이지를 위한 커서 토큰. 다음 요청의 cursor 파라미터로 그대로 전달합니다.", example = "MTAw")
+	String nextCursorToken,
+
 	@Schema(description = "결과 리스트", example = "{}")
 	List<T> results
 ) {
@@ -0,0 +1,49 @@
+package im.toduck.global.util;
+
+import java.util.Collection;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+
+import im.toduck.domain.user.persistence.entity.QBlock;
+
+/**
+ * QueryDSL 조회에서 차단한 사용자를 제외하는 조건을 생성합니다.
+ * <p>
+ * 미리 조회된 차단 사용자 ID 목록이 주어지면 NOT IN 목록으로 제외하고,
+ * 목록이 없거나 {@value #MAX_INLINE_BLOCKED_USER_IDS}개보다 많으면 block 테이블 서브쿼리를 사용합니다.
+ */
+public class BlockedUserFilterUtil {
+	public static final int MAX_INLINE_BLOCKED_USER_IDS = 500;
+
+	/**
+	 * 작성자 또는 대상 사용자가 현재 사용자에게 차단된 행을 제외하는 조건을 생성합니다.
+	 *
+	 * @param userId         제외 여부를 판단할 사용자 ID 경로
+	 * @param currentUserId  현재 사용자 ID (null 이면 조건 없음)
+	 * @param blockedUserIds 미리 조회된 차단 사용자 ID 목록 (null 이면 서브쿼리 사용)
+	 * @return 제외 조건, 제외할 사용자가 없으면 null
+	 */
+	public static BooleanExpression excludeBlockedUsers(
+		final NumberExpression<Long> userId,
+		final Long currentUserId,
+		final Collection<Long> blockedUserIds
+	) {
+		if (currentUserId == null) {
+			return null;
+		}
+
+		if (blockedUserIds != null && blockedUserIds.size() <= MAX_INLINE_BLOCKED_USER_IDS) {
+			return blockedUserIds.isEmpty() ? null : userId.notIn(blockedUserIds);
+		}
+
+		QBlock qBlock = QBlock.block;
+		return userId.notIn(
+			JPAExpressions
+				.select(qBlock.blocked.id)
+				.from(qBlock)
+				.where(qBlock.blocker.id.eq(currentUserId))
+		);
+	}
+}
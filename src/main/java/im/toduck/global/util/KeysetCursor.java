@@ -0,0 +1,85 @@
+package im.toduck.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션에서 마지막으로 조회한 항목의 위치를 나타내는 커서입니다.
+ * <p>
+ * (sortKey, id) 순서로 정렬된 목록에서 다음 페이지의 시작 위치를 가리키며, 클라이언트에는 내부 구조를 알 수 없도록
+ * Base64 URL 인코딩된 문자열로 전달합니다. ID 순으로만 정렬하는 목록에서는 sortKey 가 null 입니다.
+ *
+ * @param sortKey 정렬 기준 값 (ID 순 정렬이면 null)
+ * @param id      항목 ID (동일한 sortKey 사이의 순서를 결정)
+ */
+public record KeysetCursor(
+	Long sortKey,
+	long id
+) {
+	private static final String DELIMITER = ":";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	public static KeysetCursor ofId(final long id) {
+		return new KeysetCursor(null, id);
+	}
+
+	public static KeysetCursor of(final long sortKey, final long id) {
+		return new KeysetCursor(sortKey, id);
+	}
+
+	/**
+	 * 클라이언트가 전달한 커서 문자열을 해석합니다.
+	 * 기존 클라이언트와의 호환을 위해 숫자로만 이루어진 값은 ID 커서로 해석합니다.
+	 *
+	 * @param value 커서 문자열 (인코딩된 커서 또는 항목 ID)
+	 * @return 커서, 값이 비어 있으면 null
+	 * @throws IllegalArgumentException 해석할 수 없는 커서인 경우
+	 */
+	public static KeysetCursor from(final String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+
+		if (isLegacyIdCursor(value)) {
+			return ofId(Long.parseLong(value));
+		}
+
+		return decode(value);
+	}
+
+	private static boolean isLegacyIdCursor(final String value) {
+		return value.length() <= String.valueOf(Long.MAX_VALUE).length()
+			&& value.chars().allMatch(Character::isDigit);
+	}
+
+	private static KeysetCursor decode(final String token) {
+		try {
+			String decoded = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+			String[] parts = decoded.split(DELIMITER, -1);
+
+			if (parts.length == 1) {
+				return ofId(Long.parseLong(parts[0]));
+			}
+			if (parts.length == 2) {
+				return of(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+			}
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+		}
+
+		throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+	}
+
+	public boolean hasSortKey() {
+		return sortKey != null;
+	}
+
+	/**
+	 * 클라이언트에 전달할 불투명한 커서 문자열로 인코딩합니다.
+	 */
+	public String encode() {
+		String raw = hasSortKey() ? sortKey + DELIMITER + id : String.valueOf(id);
+		return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,97 @@
+package im.toduck.global.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+/**
+ * QueryDSL 키셋 페이지네이션의 seek 조건을 생성합니다.
+ * <p>
+ * (sortKey, id) 복합 정렬에서는 {@code sortKey <= ? AND (sortKey < ? OR id < ?)} 형태로 조건을 만들어,
+ * 앞부분의 범위 조건으로 (sortKey, id) 인덱스를 탐색하고 OFFSET 없이 다음 페이지를 조회할 수 있도록 합니다.
+ */
+public class KeysetPaginationUtil {
+
+	/**
+	 * ID 내림차순 목록에서 커서 이후의 항목을 조회하는 조건을 생성합니다.
+	 *
+	 * @param id     항목 ID 경로
+	 * @param cursor 커서 (null 이면 첫 페이지)
+	 * @return seek 조건, 첫 페이지이면 null
+	 */
+	public static BooleanExpression seekDescending(
+		final NumberExpression<Long> id,
+		final KeysetCursor cursor
+	) {
+		if (cursor == null) {
+			return null;
+		}
+		return id.lt(cursor.id());
+	}
+
+	/**
+	 * (sortKey, id) 내림차순 목록에서 커서 이후의 항목을 조회하는 조건을 생성합니다.
+	 * sortKey 가 없는 커서는 ID 커서로 간주합니다.
+	 *
+	 * @param sortKey 정렬 기준 표현식
+	 * @param id      항목 ID 경로
+	 * @param cursor  커서 (null 이면 첫 페이지)
+	 * @return seek 조건, 첫 페이지이면 null
+	 */
+	public static BooleanExpression seekDescending(
+		final NumberExpression<Long> sortKey,
+		final NumberExpression<Long> id,
+		final KeysetCursor cursor
+	) {
+		if (cursor == null) {
+			return null;
+		}
+		if (!cursor.hasSortKey()) {
+			return id.lt(cursor.id());
+		}
+
+		return sortKey.loe(cursor.sortKey())
+			.and(sortKey.lt(cursor.sortKey()).or(id.lt(cursor.id())));
+	}
+
+	/**
+	 * ID 오름차순 목록에서 커서 이후의 항목을 조회하는 조건을 생성합니다.
+	 *
+	 * @param id     항목 ID 경로
+	 * @param cursor 커서 (null 이면 첫 페이지)
+	 * @return seek 조건, 첫 페이지이면 null
+	 */
+	public static BooleanExpression seekAscending(
+		final NumberExpression<Long> id,
+		final KeysetCursor cursor
+	) {
+		if (cursor == null) {
+			return null;
+		}
+		return id.gt(cursor.id());
+	}
+
+	/**
+	 * (sortKey, id) 오름차순 목록에서 커서 이후의 항목을 조회하는 조건을 생성합니다.
+	 * sortKey 가 없는 커서는 ID 커서로 간주합니다.
+	 *
+	 * @param sortKey 정렬 기준 표현식
+	 * @param id      항목 ID 경로
+	 * @param cursor  커서 (null 이면 첫 페이지)
+	 * @return seek 조건, 첫 페이지이면 null
+	 */
+	public static BooleanExpression seekAscending(
+		final NumberExpression<Long> sortKey,
+		final NumberExpression<Long> id,
+		final KeysetCursor cursor
+	) {
+		if (cursor == null) {
+			return null;
+		}
+		if (!cursor.hasSortKey()) {
+			return id.gt(cursor.id());
+		}
+
+		return sortKey.goe(cursor.sortKey())
+			.and(sortKey.gt(cursor.sortKey()).or(id.gt(cursor.id())));
+	}
+}
@@ -76,6 +76,54 @@ public class PaginationUtil {
 		return CursorPaginationResponse.<T>builder()
 			.hasMore(hasMore)
 			.nextCursor(nextCursor)
+			.nextCursorToken(nextCursor == null ? null : KeysetCursor.ofId(nextCursor).encode())
+			.results(results)
+			.build();
+	}
+
+	/**
+	 * 키셋 페이지네이션에서 다음 페이지를 위한 커서를 가져오는 메서드
+	 *
+	 * @param hasMore           더 많은 항목이 있는지 여부
+	 * @param items             항목 리스트
+	 * @param limit             한 페이지에 표시할 항목 수
+	 * @param getCursorFunction 항목으로부터 커서를 만드는 함수
+	 * @return 다음 커서
+	 */
+	public static <T> KeysetCursor getNextKeysetCursor(
+		boolean hasMore,
+		List<T> items,
+		int limit,
+		Function<T, KeysetCursor> getCursorFunction
+	) {
+		if (!hasMore || items.isEmpty()) {
+			return null;
+		}
+		return getCursorFunction.apply(items.get(limit - LAST_ITEM_OFFSET));
+	}
+
+	/**
+	 * 키셋 커서 기반 페이지네이션 응답을 생성하는 메서드
+	 * ID 이외의 정렬 기준을 사용하는 경우 nextCursor 는 제공되지 않고 nextCursorToken 만 제공됩니다.
+	 *
+	 * @param hasMore    더 많은 항목이 있는지 여부
+	 * @param nextCursor 다음 커서
+	 * @param results    결과 리스트
+	 * @return 커서 페이지네이션 응답
+	 */
+	public static <T> CursorPaginationResponse<T> toCursorPaginationResponse(
+		boolean hasMore,
+		KeysetCursor nextCursor,
+		List<T> results
+	) {
+		if (nextCursor == null) {
+			return toCursorPaginationResponse(hasMore, (Long)null, results);
+		}
+
+		return CursorPaginationResponse.<T>builder()
+			.hasMore(hasMore)
+			.nextCursor(nextCursor.hasSortKey() ? null : nextCursor.id())
+			.nextCursorToken(nextCursor.encode())
 			.results(results)
 			.build();
 	}
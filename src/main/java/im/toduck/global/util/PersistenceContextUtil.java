@@ -0,0 +1,28 @@
+package im.toduck.global.util;
+
+import java.util.Collection;
+
+import jakarta.persistence.EntityManager;
+
+public class PersistenceContextUtil {
+
+	/**
+	 * 주어진 ID 의 엔티티가 영속성 컨텍스트에 있으면 준영속 상태로 만듭니다.
+	 * 벌크 UPDATE, DELETE 로 DB 와 달라진 행의 엔티티만 제거할 때 사용하며, 호출하는 쪽에서 변경한 행의 ID 를 넘겨야 합니다.
+	 * 컨텍스트 전체를 비우지 않으므로 다른 엔티티는 계속 관리되며, 벌크 연산 전에 flush 되어 있어야 변경 내용을 잃지 않습니다.
+	 * <p>
+	 * {@link EntityManager#getReference} 는 관리 중인 엔티티가 있으면 그 엔티티를, 없으면 초기화되지 않은 프록시를 반환하므로
+	 * 어느 경우에도 조회 쿼리 없이 제거됩니다.
+	 *
+	 * @param entityManager 엔티티 매니저
+	 * @param entityType    제거할 엔티티 타입
+	 * @param ids           제거할 엔티티 ID 목록
+	 */
+	public static <T> void detachAll(
+		final EntityManager entityManager,
+		final Class<T> entityType,
+		final Collection<?> ids
+	) {
+		ids.forEach(id -> entityManager.detach(entityManager.getReference(entityType, id)));
+	}
+}
@@ -0,0 +1,28 @@
+package im.toduck.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionSynchronizationUtil {
+
+	/**
+	 * 현재 트랜잭션이 커밋된 이후에 작업을 실행하도록 등록합니다.
+	 * 트랜잭션이 롤백되면 작업은 실행되지 않으며, 활성화된 트랜잭션이 없으면 즉시 실행합니다.
+	 * Redis 등 트랜잭션에 참여하지 않는 외부 저장소를 DB 변경과 맞추어 갱신할 때 사용합니다.
+	 *
+	 * @param task 커밋 이후 실행할 작업
+	 */
+	public static void runAfterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,20 @@
+package im.toduck.infra.redis.agenda;
+
+/**
+ * 날짜 루틴 목록 캐시 조회 결과입니다.
+ *
+ * @param agenda  직렬화된 루틴 목록 (캐시되지 않았거나 Redis 조회에 실패한 경우 null)
+ * @param version 조회 시점의 버전 (캐시 저장 시 동시 변경 감지에 사용, Redis 조회 실패 시 null)
+ */
+public record AgendaLookup(
+	String agenda,
+	String version
+) {
+	public static AgendaLookup unavailable() {
+		return new AgendaLookup(null, null);
+	}
+
+	public boolean isHit() {
+		return agenda != null;
+	}
+}
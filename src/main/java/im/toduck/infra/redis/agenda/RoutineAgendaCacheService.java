@@ -0,0 +1,153 @@
+package im.toduck.infra.redis.agenda;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 날짜 루틴 목록(홈 화면 일정)을 Redis Hash 로 캐시합니다.
+ * <p>
+ * 사용자마다 Hash 하나를 두고 날짜를 필드로, 직렬화된 루틴 목록을 값으로 저장합니다. 루틴 기록이 바뀌면 해당 날짜 필드만,
+ * 루틴이 생성되거나 삭제되면 사용자의 Hash 전체를 제거합니다. DB 에서 적재하는 도중에 변경이 커밋되어 오래된 목록이 다시
+ * 저장되지 않도록 사용자별 버전을 두고, 적재는 조회 시점의 버전이 그대로일 때만 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoutineAgendaCacheService {
+	private static final String KEY_PREFIX = "routine:agenda:";
+	private static final String VERSION_KEY_SUFFIX = ":version";
+	private static final String INITIAL_VERSION = "0";
+	private static final Duration AGENDA_TTL = Duration.ofDays(1);
+	private static final Duration VERSION_TTL = Duration.ofDays(2);
+
+	private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of("""
+		if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+			return 0
+		end
+		redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+		redis.call('EXPIRE', KEYS[1], ARGV[4])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> EVICT_DATE_SCRIPT = RedisScript.of("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[2])
+		redis.call('HDEL', KEYS[1], ARGV[1])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> EVICT_ALL_SCRIPT = RedisScript.of("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[1])
+		redis.call('DEL', KEYS[1])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 날짜의 루틴 목록을 조회합니다.
+	 *
+	 * @return 조회 결과. 캐시되지 않았거나 Redis 를 사용할 수 없으면 {@link AgendaLookup#agenda()} 가 null
+	 */
+	public AgendaLookup lookup(final Long userId, final LocalDate date) {
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.hashCommands().hGet(toBytes(agendaKey(userId)), toBytes(date.toString()));
+				connection.stringCommands().get(toBytes(versionKey(userId)));
+				return null;
+			});
+
+			Object agenda = results.get(0);
+			Object version = results.get(1);
+			return new AgendaLookup(
+				agenda == null ? null : agenda.toString(),
+				version == null ? INITIAL_VERSION : version.toString()
+			);
+		} catch (DataAccessException e) {
+			log.warn("루틴 일정 캐시 조회 실패 - UserId: {}, Date: {}", userId, date, e);
+			return AgendaLookup.unavailable();
+		}
+	}
+
+	/**
+	 * DB 에서 조회한 루틴 목록을 저장합니다. 조회 이후 사용자의 루틴이 변경되어 버전이 달라졌다면 저장하지 않습니다.
+	 *
+	 * @param version {@link #lookup} 시점에 읽은 버전
+	 */
+	public void store(final Long userId, final String version, final LocalDate date, final String agenda) {
+		if (version == null) {
+			return;
+		}
+
+		try {
+			redisTemplate.execute(
+				STORE_SCRIPT,
+				List.of(agendaKey(userId), versionKey(userId)),
+				version,
+				date.toString(),
+				agenda,
+				String.valueOf(AGENDA_TTL.toSeconds())
+			);
+		} catch (DataAccessException e) {
+			log.warn("루틴 일정 캐시 저장 실패 - UserId: {}, Date: {}", userId, date, e);
+		}
+	}
+
+	/**
+	 * 한 날짜의 루틴 목록을 제거하고 버전을 올립니다. 루틴 기록이 생성되거나 바뀌었을 때 사용합니다.
+	 */
+	public void evict(final Long userId, final LocalDate date) {
+		try {
+			redisTemplate.execute(
+				EVICT_DATE_SCRIPT,
+				List.of(agendaKey(userId), versionKey(userId)),
+				date.toString(),
+				String.valueOf(VERSION_TTL.toSeconds())
+			);
+		} catch (DataAccessException e) {
+			log.warn("루틴 일정 캐시 삭제 실패 - UserId: {}, Date: {}", userId, date, e);
+		}
+	}
+
+	/**
+	 * 사용자의 모든 날짜의 루틴 목록을 제거하고 버전을 올립니다. 루틴이 생성되거나 삭제되었을 때 사용합니다.
+	 */
+	public void evictAll(final Long userId) {
+		try {
+			redisTemplate.execute(
+				EVICT_ALL_SCRIPT,
+				List.of(agendaKey(userId), versionKey(userId)),
+				String.valueOf(VERSION_TTL.toSeconds())
+			);
+		} catch (DataAccessException e) {
+			log.warn("루틴 일정 캐시 전체 삭제 실패 - UserId: {}", userId, e);
+		}
+	}
+
+	/**
+	 * 같은 사용자의 일정과 버전 키가 같은 슬롯에 배치되도록 해시 태그를 사용합니다.
+	 */
+	private String agendaKey(final Long userId) {
+		return KEY_PREFIX + "{" + userId + "}";
+	}
+
+	private String versionKey(final Long userId) {
+		return agendaKey(userId) + VERSION_KEY_SUFFIX;
+	}
+
+	private byte[] toBytes(final String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,185 @@
+package im.toduck.infra.redis.block;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 차단한 사용자 ID 집합을 2단계로 캐싱합니다.
+ * <p>
+ * L1 은 인스턴스 로컬 Caffeine 캐시로, 집합 크기를 가중치로 사용해 전체 보관 ID 수를 제한하고 짧은 TTL 을 둡니다.
+ * L2 는 차단한 사용자별 Redis Set 이며, 비어 있는 집합도 구분할 수 있도록 존재하지 않는 사용자 ID 0 을 마커로 저장합니다.
+ * <p>
+ * 차단/차단 해제 시 {@link #evict(Long)} 가 L2 를 삭제하고 버전을 올린 뒤, Pub/Sub 으로 모든 인스턴스의 L1 을 무효화합니다.
+ * DB 에서 적재하는 동안 차단 변경이 일어난 경우 버전이 달라지므로 오래된 집합은 L2 에 저장되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlockedUserCacheService implements MessageListener {
+	private static final String KEY_PREFIX = "blocked-users:";
+	private static final String VERSION_KEY_SUFFIX = ":version";
+	private static final String LOADED_MARKER = "0";
+	private static final String INITIAL_VERSION = "0";
+	private static final Duration BLOCKED_SET_TTL = Duration.ofDays(1);
+	private static final Duration VERSION_TTL = Duration.ofDays(2);
+	private static final ChannelTopic INVALIDATION_TOPIC = ChannelTopic.of("blocked-users:invalidation");
+
+	private static final long LOCAL_CACHE_MAX_WEIGHT = 200_000;
+	private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(30);
+
+	private static final RedisScript<Long> WARM_UP_SCRIPT = RedisScript.of("""
+		if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+			return 0
+		end
+		redis.call('DEL', KEYS[1])
+		for i = 3, #ARGV, 1000 do
+			redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[1])
+		redis.call('DEL', KEYS[1])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final Cache<Long, Set<Long>> localCache = Caffeine.newBuilder()
+		.maximumWeight(LOCAL_CACHE_MAX_WEIGHT)
+		.weigher((Long blockerId, Set<Long> blockedIds) -> blockedIds.size() + 1)
+		.expireAfterWrite(LOCAL_CACHE_TTL)
+		.build();
+
+	@PostConstruct
+	void subscribeInvalidation() {
+		listenerContainer.addMessageListener(this, INVALIDATION_TOPIC);
+	}
+
+	/**
+	 * 차단한 사용자 ID 집합을 조회합니다. L1, L2 순으로 확인하고 모두 없으면 loader 로 적재합니다.
+	 *
+	 * @param blockerId 차단한 사용자 ID
+	 * @param loader    DB 에서 차단한 사용자 ID 목록을 조회하는 함수
+	 * @return 변경할 수 없는 차단한 사용자 ID 집합
+	 */
+	public Set<Long> getBlockedUserIds(final Long blockerId, final Supplier<Set<Long>> loader) {
+		return localCache.get(blockerId, id -> loadBlockedUserIds(id, loader));
+	}
+
+	private Set<Long> loadBlockedUserIds(final Long blockerId, final Supplier<Set<Long>> loader) {
+		List<Object> results;
+		try {
+			results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.setCommands().sMembers(toBytes(setKey(blockerId)));
+				connection.stringCommands().get(toBytes(versionKey(blockerId)));
+				return null;
+			});
+		} catch (DataAccessException e) {
+			log.warn("차단 사용자 캐시 조회 실패 - BlockerId: {}", blockerId, e);
+			return Collections.unmodifiableSet(loader.get());
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<String> members = (Set<String>)results.get(0);
+		if (members != null && members.contains(LOADED_MARKER)) {
+			return toBlockedUserIds(members);
+		}
+
+		Object version = results.get(1);
+		Set<Long> blockedUserIds = Collections.unmodifiableSet(loader.get());
+		try {
+			warmUp(blockerId, version == null ? INITIAL_VERSION : version.toString(), blockedUserIds);
+		} catch (DataAccessException e) {
+			log.warn("차단 사용자 캐시 적재 실패 - BlockerId: {}", blockerId, e);
+		}
+
+		return blockedUserIds;
+	}
+
+	private Set<Long> toBlockedUserIds(final Set<String> members) {
+		Set<Long> blockedUserIds = new HashSet<>(members.size());
+		members.stream()
+			.filter(member -> !LOADED_MARKER.equals(member))
+			.map(Long::valueOf)
+			.forEach(blockedUserIds::add);
+
+		return Collections.unmodifiableSet(blockedUserIds);
+	}
+
+	private void warmUp(final Long blockerId, final String version, final Set<Long> blockedUserIds) {
+		Object[] args = new Object[blockedUserIds.size() + 3];
+		args[0] = version;
+		args[1] = String.valueOf(BLOCKED_SET_TTL.toSeconds());
+		args[2] = LOADED_MARKER;
+
+		int index = 3;
+		for (Long blockedUserId : blockedUserIds) {
+			args[index++] = String.valueOf(blockedUserId);
+		}
+
+		redisTemplate.execute(WARM_UP_SCRIPT, List.of(setKey(blockerId), versionKey(blockerId)), args);
+	}
+
+	/**
+	 * 차단 목록이 변경된 사용자의 캐시를 모든 인스턴스에서 무효화합니다.
+	 * 차단 변경이 커밋된 이후에 호출해야 합니다.
+	 */
+	public void evict(final Long blockerId) {
+		localCache.invalidate(blockerId);
+
+		try {
+			redisTemplate.execute(
+				EVICT_SCRIPT,
+				List.of(setKey(blockerId), versionKey(blockerId)),
+				String.valueOf(VERSION_TTL.toSeconds())
+			);
+			redisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), String.valueOf(blockerId));
+		} catch (DataAccessException e) {
+			log.warn("차단 사용자 캐시 무효화 실패 - BlockerId: {}", blockerId, e);
+		}
+	}
+
+	@Override
+	public void onMessage(final Message message, final byte[] pattern) {
+		String blockerId = new String(message.getBody(), StandardCharsets.UTF_8);
+		localCache.invalidate(Long.valueOf(blockerId));
+	}
+
+	private String setKey(final Long blockerId) {
+		return KEY_PREFIX + "{" + blockerId + "}";
+	}
+
+	private String versionKey(final Long blockerId) {
+		return setKey(blockerId) + VERSION_KEY_SUFFIX;
+	}
+
+	private byte[] toBytes(final String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,25 @@
+package im.toduck.infra.redis.liker;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좋아요 사용자 집합 조회 결과입니다.
+ *
+ * @param available      Redis 조회 성공 여부 (실패 시 나머지 값은 비어 있으며 DB 로 대체 조회해야 합니다)
+ * @param likedTargetIds 캐시에 적재되어 있고, 사용자가 좋아요를 누른 대상 ID 목록
+ * @param missedTargetIds 캐시에 적재되어 있지 않은 대상 ID 목록
+ * @param versions       적재되지 않은 대상별 조회 시점의 버전 (적재 시 동시 쓰기 감지에 사용)
+ */
+public record LikerLookup(
+	boolean available,
+	Set<Long> likedTargetIds,
+	List<Long> missedTargetIds,
+	Map<Long, String> versions
+) {
+	public static LikerLookup unavailable() {
+		return new LikerLookup(false, Collections.emptySet(), Collections.emptyList(), Collections.emptyMap());
+	}
+}
@@ -0,0 +1,281 @@
+package im.toduck.infra.redis.liker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 대상(게시글, 댓글)별로 좋아요를 누른 사용자 ID 집합을 Redis Set 으로 관리합니다.
+ * <p>
+ * 사용자 ID 는 정수형이므로 Redis 가 크기가 작은 집합을 intset 으로 압축 저장합니다.
+ * 집합이 적재되었음을 나타내는 마커 멤버(존재하지 않는 사용자 ID 0)를 함께 저장하여, 좋아요가 없는 대상과
+ * 적재되지 않은 대상을 구분합니다. 마커도 정수이므로 intset 인코딩이 유지됩니다.
+ * <p>
+ * DB 에서 적재하는 도중에 좋아요/취소가 일어나 오래된 집합이 저장되는 것을 막기 위해, 대상별 버전을 두고
+ * 쓰기마다 버전을 올립니다. 적재는 조회 시점의 버전이 그대로일 때만 반영됩니다.
+ * <p>
+ * 적재에 사용하는 DB 스냅샷은 호출한 트랜잭션의 첫 조회 시점에 고정되므로, 버전을 읽기 전에 커밋된 쓰기가 스냅샷에
+ * 없을 수 있습니다. 이를 위해 좋아요는 집합의 적재 여부와 관계없이 항상 추가하고, 취소한 사용자는 일정 시간 동안
+ * 취소 목록에 남겨 적재 시 제외합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikerSetService {
+	private static final String KEY_PREFIX = "liker:";
+	private static final String VERSION_KEY_SUFFIX = ":version";
+	private static final String REMOVED_KEY_SUFFIX = ":removed";
+	private static final String LOADED_MARKER = "0";
+	private static final String INITIAL_VERSION = "0";
+	private static final Duration LIKER_SET_TTL = Duration.ofHours(6);
+	private static final Duration VERSION_TTL = Duration.ofDays(1);
+	private static final Duration REMOVED_TTL = Duration.ofMinutes(10);
+
+	private static final String WARM_UP_SCRIPT = """
+		if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+			return 0
+		end
+		for i = 3, #ARGV, 1000 do
+			redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+		end
+		local removed = redis.call('SMEMBERS', KEYS[3])
+		for i = 1, #removed, 1000 do
+			redis.call('SREM', KEYS[1], unpack(removed, i, math.min(i + 999, #removed)))
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""";
+
+	private static final RedisScript<Long> ADD_LIKER_SCRIPT = RedisScript.of("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[2])
+		redis.call('SREM', KEYS[3], ARGV[1])
+		redis.call('SADD', KEYS[1], ARGV[1])
+		if redis.call('TTL', KEYS[1]) < 0 then
+			redis.call('EXPIRE', KEYS[1], ARGV[3])
+		end
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> REMOVE_LIKER_SCRIPT = RedisScript.of("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[2])
+		redis.call('SREM', KEYS[1], ARGV[1])
+		redis.call('SADD', KEYS[3], ARGV[1])
+		redis.call('EXPIRE', KEYS[3], ARGV[4])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 여러 대상에 대해 사용자의 좋아요 여부를 한 번의 파이프라인으로 조회합니다.
+	 *
+	 * @param target    좋아요 대상 종류
+	 * @param userId    좋아요 여부를 확인할 사용자 ID
+	 * @param targetIds 대상 ID 목록
+	 * @return 조회 결과. Redis 를 사용할 수 없으면 {@link LikerLookup#unavailable()}
+	 */
+	public LikerLookup lookup(final LikerTarget target, final Long userId, final List<Long> targetIds) {
+		if (targetIds.isEmpty()) {
+			return new LikerLookup(true, Collections.emptySet(), Collections.emptyList(), Collections.emptyMap());
+		}
+
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (Long targetId : targetIds) {
+					connection.setCommands().sMIsMember(
+						toBytes(setKey(target, targetId)),
+						toBytes(LOADED_MARKER),
+						toBytes(String.valueOf(userId))
+					);
+					connection.stringCommands().get(toBytes(versionKey(target, targetId)));
+				}
+				return null;
+			});
+
+			return toLikerLookup(targetIds, results);
+		} catch (DataAccessException e) {
+			log.warn("좋아요 사용자 집합 조회 실패 - Target: {}, UserId: {}", target, userId, e);
+			return LikerLookup.unavailable();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private LikerLookup toLikerLookup(final List<Long> targetIds, final List<Object> results) {
+		Set<Long> likedTargetIds = new HashSet<>();
+		List<Long> missedTargetIds = new ArrayList<>();
+		Map<Long, String> versions = new HashMap<>();
+
+		for (int i = 0; i < targetIds.size(); i++) {
+			Long targetId = targetIds.get(i);
+			List<Boolean> memberships = (List<Boolean>)results.get(i * 2);
+			Object version = results.get(i * 2 + 1);
+
+			boolean isLoaded = Boolean.TRUE.equals(memberships.get(0));
+			if (!isLoaded) {
+				missedTargetIds.add(targetId);
+				versions.put(targetId, version == null ? INITIAL_VERSION : version.toString());
+				continue;
+			}
+
+			if (Boolean.TRUE.equals(memberships.get(1))) {
+				likedTargetIds.add(targetId);
+			}
+		}
+
+		return new LikerLookup(true, likedTargetIds, missedTargetIds, versions);
+	}
+
+	/**
+	 * DB 에서 조회한 좋아요 사용자 집합을 적재합니다.
+	 * 조회 이후 해당 대상에 쓰기가 발생해 버전이 달라졌다면 적재하지 않습니다.
+	 *
+	 * @param target           좋아요 대상 종류
+	 * @param likersByTargetId 대상별 좋아요 사용자 ID 목록 (좋아요가 없는 대상은 빈 목록)
+	 * @param versions         {@link #lookup} 시점에 읽은 대상별 버전
+	 */
+	public void warmUp(
+		final LikerTarget target,
+		final Map<Long, ? extends Collection<Long>> likersByTargetId,
+		final Map<Long, String> versions
+	) {
+		if (likersByTargetId.isEmpty()) {
+			return;
+		}
+
+		byte[] script = toBytes(WARM_UP_SCRIPT);
+		byte[] ttlSeconds = toBytes(String.valueOf(LIKER_SET_TTL.toSeconds()));
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				likersByTargetId.forEach((targetId, likerIds) ->
+					evalWarmUp(connection, script, target, targetId, versions.get(targetId), ttlSeconds, likerIds)
+				);
+				return null;
+			});
+		} catch (DataAccessException e) {
+			log.warn("좋아요 사용자 집합 적재 실패 - Target: {}, TargetIds: {}", target, likersByTargetId.keySet(), e);
+		}
+	}
+
+	private void evalWarmUp(
+		final RedisConnection connection,
+		final byte[] script,
+		final LikerTarget target,
+		final Long targetId,
+		final String version,
+		final byte[] ttlSeconds,
+		final Collection<Long> likerIds
+	) {
+		if (version == null) {
+			return;
+		}
+
+		List<byte[]> keysAndArgs = new ArrayList<>(likerIds.size() + 6);
+		keysAndArgs.add(toBytes(setKey(target, targetId)));
+		keysAndArgs.add(toBytes(versionKey(target, targetId)));
+		keysAndArgs.add(toBytes(removedKey(target, targetId)));
+		keysAndArgs.add(toBytes(version));
+		keysAndArgs.add(ttlSeconds);
+		keysAndArgs.add(toBytes(LOADED_MARKER));
+		likerIds.forEach(likerId -> keysAndArgs.add(toBytes(String.valueOf(likerId))));
+
+		connection.scriptingCommands().eval(script, ReturnType.INTEGER, 3, keysAndArgs.toArray(byte[][]::new));
+	}
+
+	/**
+	 * 좋아요 사용자를 추가하고 버전을 올립니다. 적재되지 않은 집합에도 추가해 두어, 이 좋아요가 없는 스냅샷으로
+	 * 적재하더라도 누락되지 않도록 합니다. 적재 여부는 마커로 판단하므로 마커가 없는 집합은 여전히 미적재 상태입니다.
+	 */
+	public void addLiker(final LikerTarget target, final Long targetId, final Long userId) {
+		executeWriteScript(ADD_LIKER_SCRIPT, target, targetId, userId);
+	}
+
+	/**
+	 * 좋아요 사용자를 제거하고 버전을 올립니다. 제거한 사용자는 취소 목록에 남겨, 이 취소가 없는 스냅샷으로
+	 * 적재하더라도 다시 추가되지 않도록 합니다.
+	 */
+	public void removeLiker(final LikerTarget target, final Long targetId, final Long userId) {
+		executeWriteScript(REMOVE_LIKER_SCRIPT, target, targetId, userId);
+	}
+
+	private void executeWriteScript(
+		final RedisScript<Long> script,
+		final LikerTarget target,
+		final Long targetId,
+		final Long userId
+	) {
+		try {
+			redisTemplate.execute(
+				script,
+				List.of(setKey(target, targetId), versionKey(target, targetId), removedKey(target, targetId)),
+				String.valueOf(userId),
+				String.valueOf(VERSION_TTL.toSeconds()),
+				String.valueOf(LIKER_SET_TTL.toSeconds()),
+				String.valueOf(REMOVED_TTL.toSeconds())
+			);
+		} catch (DataAccessException e) {
+			log.warn("좋아요 사용자 집합 갱신 실패 - Target: {}, TargetId: {}, UserId: {}", target, targetId, userId, e);
+		}
+	}
+
+	/**
+	 * 대상들의 좋아요 사용자 집합을 제거합니다. 대상이 삭제되었을 때 사용합니다.
+	 */
+	public void evict(final LikerTarget target, final Collection<Long> targetIds) {
+		if (targetIds.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>(targetIds.size() * 3);
+		targetIds.forEach(targetId -> {
+			keys.add(setKey(target, targetId));
+			keys.add(versionKey(target, targetId));
+			keys.add(removedKey(target, targetId));
+		});
+
+		try {
+			redisTemplate.delete(keys);
+		} catch (DataAccessException e) {
+			log.warn("좋아요 사용자 집합 삭제 실패 - Target: {}, TargetIds: {}", target, targetIds, e);
+		}
+	}
+
+	/**
+	 * 같은 대상의 집합과 버전 키가 같은 슬롯에 배치되도록 해시 태그를 사용합니다.
+	 */
+	private String setKey(final LikerTarget target, final Long targetId) {
+		return KEY_PREFIX + "{" + target.getKeyPrefix() + ":" + targetId + "}";
+	}
+
+	private String versionKey(final LikerTarget target, final Long targetId) {
+		return setKey(target, targetId) + VERSION_KEY_SUFFIX;
+	}
+
+	private String removedKey(final LikerTarget target, final Long targetId) {
+		return setKey(target, targetId) + REMOVED_KEY_SUFFIX;
+	}
+
+	private byte[] toBytes(final String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
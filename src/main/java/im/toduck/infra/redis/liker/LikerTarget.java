@@ -0,0 +1,14 @@
+package im.toduck.infra.redis.liker;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum LikerTarget {
+	SOCIAL("social"),
+	COMMENT("comment");
+
+	private final String keyPrefix;
+}
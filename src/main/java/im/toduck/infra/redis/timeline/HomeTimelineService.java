@@ -0,0 +1,219 @@
+package im.toduck.infra.redis.timeline;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 홈 타임라인(팔로우한 사용자의 게시글 ID 목록)을 Redis Sorted Set 으로 관리합니다.
+ * <p>
+ * 게시글 ID 를 점수와 멤버로 함께 저장하므로 ID 커서로 바로 페이지를 자를 수 있고, 최근 {@value #MAX_TIMELINE_SIZE} 개만 유지합니다.
+ * 타임라인이 적재되었음을 나타내는 마커 멤버(존재하지 않는 게시글 ID 0)를 +inf 점수로 저장하여, 비어 있는 타임라인과
+ * 적재되지 않은 타임라인을 구분하고 길이 제한으로 잘려 나가지 않도록 합니다.
+ * <p>
+ * 게시글 작성 시에는 이미 적재된 타임라인에만 게시글을 추가하고, 적재되지 않은 타임라인은 조회 시 DB 에서 적재합니다.
+ * DB 에서 적재하는 도중에 추가된 게시글을 잃지 않도록 사용자별 버전을 두고, 적재는 조회 시점의 버전이 그대로일 때만 반영됩니다.
+ * 버전은 적재할 게시글을 읽는 트랜잭션의 첫 DB 조회보다 먼저 {@link #lookup} 으로 읽어야 합니다. MySQL 의 REPEATABLE READ
+ * 스냅샷은 첫 조회 시점에 고정되므로, 스냅샷 이후 커밋된 게시글의 버전 증가를 놓치지 않으려면 버전을 스냅샷보다 먼저 읽어야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeTimelineService {
+	public static final int MAX_TIMELINE_SIZE = 800;
+
+	private static final String KEY_PREFIX = "timeline:";
+	private static final String VERSION_KEY_SUFFIX = ":version";
+	private static final String LOADED_MARKER = "0";
+	private static final String INITIAL_VERSION = "0";
+	private static final Duration TIMELINE_TTL = Duration.ofDays(3);
+	private static final Duration VERSION_TTL = Duration.ofDays(4);
+
+	private static final RedisScript<Long> PUSH_SCRIPT = RedisScript.of("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[3])
+		if redis.call('EXISTS', KEYS[1]) == 1 then
+			redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1])
+			redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 2))
+		end
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> WARM_UP_SCRIPT = RedisScript.of("""
+		if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+			return 0
+		end
+		redis.call('DEL', KEYS[1])
+		redis.call('ZADD', KEYS[1], '+inf', ARGV[3])
+		for i = 4, #ARGV do
+			redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i])
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+		redis.call('INCR', KEYS[2])
+		redis.call('EXPIRE', KEYS[2], ARGV[1])
+		redis.call('DEL', KEYS[1])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 타임라인에서 커서 이전의 게시글 ID 를 최신순으로 조회합니다.
+	 *
+	 * @param userId   타임라인 소유자 ID
+	 * @param beforeId 이 ID 보다 작은 게시글만 조회 (첫 페이지는 null)
+	 * @param count    조회할 최대 개수
+	 * @return 조회 결과. 적재되지 않았거나 Redis 를 사용할 수 없으면 {@link TimelineLookup#loaded()} 가 false
+	 */
+	@SuppressWarnings("unchecked")
+	public TimelineLookup lookup(final Long userId, final Long beforeId, final int count) {
+		double maxScore = beforeId == null ? Double.MAX_VALUE : beforeId - 1;
+
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				byte[] key = toBytes(timelineKey(userId));
+				connection.zSetCommands().zScore(key, toBytes(LOADED_MARKER));
+				connection.zSetCommands().zRevRangeByScore(key, Double.NEGATIVE_INFINITY, maxScore, 0, count);
+				connection.zSetCommands().zCard(key);
+				connection.stringCommands().get(toBytes(versionKey(userId)));
+				return null;
+			});
+
+			Object version = results.get(3);
+			if (results.get(0) == null) {
+				return new TimelineLookup(false, List.of(), false, version == null ? INITIAL_VERSION : version.toString());
+			}
+
+			List<Long> socialIds = ((Set<String>)results.get(1)).stream()
+				.map(Long::valueOf)
+				.toList();
+			long size = (Long)results.get(2) - 1;
+
+			return new TimelineLookup(true, socialIds, size >= MAX_TIMELINE_SIZE, version == null ? null : version.toString());
+		} catch (DataAccessException e) {
+			log.warn("홈 타임라인 조회 실패 - UserId: {}", userId, e);
+			return TimelineLookup.unavailable();
+		}
+	}
+
+	/**
+	 * DB 에서 조회한 최근 게시글 ID 목록으로 타임라인을 적재합니다.
+	 * 조회 이후 타임라인에 쓰기가 발생해 버전이 달라졌다면 적재하지 않습니다.
+	 *
+	 * @param userId    타임라인 소유자 ID
+	 * @param version   {@link #lookup} 시점에 읽은 버전
+	 * @param socialIds 적재할 게시글 ID 목록 (최대 {@value #MAX_TIMELINE_SIZE} 개)
+	 */
+	public void warmUp(final Long userId, final String version, final Collection<Long> socialIds) {
+		if (version == null) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>(socialIds.size() + 3);
+		args.add(version);
+		args.add(String.valueOf(TIMELINE_TTL.toSeconds()));
+		args.add(LOADED_MARKER);
+		socialIds.stream()
+			.limit(MAX_TIMELINE_SIZE)
+			.forEach(socialId -> args.add(String.valueOf(socialId)));
+
+		try {
+			redisTemplate.execute(
+				WARM_UP_SCRIPT,
+				List.of(timelineKey(userId), versionKey(userId)),
+				args.toArray()
+			);
+		} catch (DataAccessException e) {
+			log.warn("홈 타임라인 적재 실패 - UserId: {}", userId, e);
+		}
+	}
+
+	/**
+	 * 여러 사용자의 타임라인에 게시글을 한 번의 파이프라인으로 추가합니다.
+	 * 적재되지 않은 타임라인은 버전만 올립니다.
+	 * <p>
+	 * 파이프라인 안에서는 NOSCRIPT 오류를 받아 EVAL 로 다시 실행할 수 없으므로, 파이프라인 처음에 스크립트를 등록한 뒤
+	 * 사용자마다 EVALSHA 로 실행합니다. 스크립트 본문은 사용자 수와 관계없이 한 번만 전송됩니다.
+	 *
+	 * @param userIds  타임라인 소유자 ID 목록
+	 * @param socialId 추가할 게시글 ID
+	 */
+	public void push(final Collection<Long> userIds, final Long socialId) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		byte[] script = toBytes(PUSH_SCRIPT.getScriptAsString());
+		byte[] member = toBytes(String.valueOf(socialId));
+		byte[] maxSize = toBytes(String.valueOf(MAX_TIMELINE_SIZE));
+		byte[] versionTtlSeconds = toBytes(String.valueOf(VERSION_TTL.toSeconds()));
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.scriptingCommands().scriptLoad(script);
+				for (Long userId : userIds) {
+					connection.scriptingCommands().evalSha(
+						PUSH_SCRIPT.getSha1(),
+						ReturnType.INTEGER,
+						2,
+						toBytes(timelineKey(userId)),
+						toBytes(versionKey(userId)),
+						member,
+						maxSize,
+						versionTtlSeconds
+					);
+				}
+				return null;
+			});
+		} catch (DataAccessException e) {
+			log.warn("홈 타임라인 게시글 추가 실패 - SocialId: {}, UserCount: {}", socialId, userIds.size(), e);
+		}
+	}
+
+	/**
+	 * 타임라인을 제거하고 버전을 올립니다. 팔로우 관계가 바뀌어 타임라인을 다시 적재해야 할 때 사용합니다.
+	 */
+	public void evict(final Long userId) {
+		try {
+			redisTemplate.execute(
+				EVICT_SCRIPT,
+				List.of(timelineKey(userId), versionKey(userId)),
+				String.valueOf(VERSION_TTL.toSeconds())
+			);
+		} catch (DataAccessException e) {
+			log.warn("홈 타임라인 삭제 실패 - UserId: {}", userId, e);
+		}
+	}
+
+	/**
+	 * 같은 사용자의 타임라인과 버전 키가 같은 슬롯에 배치되도록 해시 태그를 사용합니다.
+	 */
+	private String timelineKey(final Long userId) {
+		return KEY_PREFIX + "{" + userId + "}";
+	}
+
+	private String versionKey(final Long userId) {
+		return timelineKey(userId) + VERSION_KEY_SUFFIX;
+	}
+
+	private byte[] toBytes(final String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
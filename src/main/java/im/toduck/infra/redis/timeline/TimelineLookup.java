@@ -0,0 +1,23 @@
+package im.toduck.infra.redis.timeline;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 홈 타임라인 조회 결과입니다.
+ *
+ * @param loaded    타임라인이 적재되어 있는지 여부 (Redis 조회에 실패한 경우에도 false)
+ * @param socialIds 커서 이전의 게시글 ID 목록 (ID 내림차순)
+ * @param truncated 타임라인이 최대 길이에 도달해 오래된 게시글이 잘려 나갔을 수 있는지 여부
+ * @param version   조회 시점의 버전 (적재되지 않은 경우 적재 시 동시 쓰기 감지에 사용, Redis 조회 실패 시 null)
+ */
+public record TimelineLookup(
+	boolean loaded,
+	List<Long> socialIds,
+	boolean truncated,
+	String version
+) {
+	public static TimelineLookup unavailable() {
+		return new TimelineLookup(false, Collections.emptyList(), false, null);
+	}
+}
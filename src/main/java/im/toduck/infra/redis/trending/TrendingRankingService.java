@@ -0,0 +1,158 @@
+package im.toduck.infra.redis.trending;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 게시글 순위를 Redis Sorted Set 하나로 관리합니다.
+ * <p>
+ * 점수는 시간이 지날수록 지수적으로 감소해야 하지만, 모든 멤버의 점수를 계속 갱신할 수는 없으므로 기준 시각(epoch)을 두고
+ * 이벤트마다 {@code weight * e^(λ * (이벤트 시각 - epoch))} 를 더합니다. 모든 점수가 같은 비율로 커지므로 순위는
+ * 실제로 감쇠시킨 점수와 같습니다. 점수가 너무 커지지 않도록 {@link #rescale} 로 주기적으로 epoch 를 현재 시각으로 옮기며
+ * 모든 점수를 다시 작게 만들고, 작은 점수와 상위 범위 밖의 멤버를 제거합니다.
+ * <p>
+ * 이벤트를 취소할 때는 원래 이벤트 시각으로 같은 가중치를 빼면 원래 더했던 값이 정확히 상쇄됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingRankingService {
+	private static final String RANKING_KEY = "trending:{socials}";
+	private static final String EPOCH_KEY = RANKING_KEY + ":epoch";
+
+	private static final RedisScript<Long> ADD_SCORE_SCRIPT = RedisScript.of("""
+		local epoch = tonumber(redis.call('GET', KEYS[2]))
+		if not epoch then
+			epoch = tonumber(ARGV[3])
+			redis.call('SET', KEYS[2], ARGV[3])
+		end
+		local delta = tonumber(ARGV[2]) * math.exp(tonumber(ARGV[4]) * (tonumber(ARGV[3]) - epoch))
+		local score = tonumber(redis.call('ZINCRBY', KEYS[1], delta, ARGV[1]))
+		if score < tonumber(ARGV[5]) then
+			redis.call('ZREM', KEYS[1], ARGV[1])
+		end
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> RESCALE_SCRIPT = RedisScript.of("""
+		local now = tonumber(ARGV[1])
+		local epoch = tonumber(redis.call('GET', KEYS[2]))
+		redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+		if epoch and now > epoch then
+			local factor = math.exp(-tonumber(ARGV[2]) * (now - epoch))
+			local entries = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')
+			for i = 1, #entries, 2 do
+				redis.call('ZADD', KEYS[1], tonumber(entries[i + 1]) * factor, entries[i])
+			end
+		end
+		if not epoch or now > epoch then
+			redis.call('SET', KEYS[2], ARGV[1])
+		end
+		redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4])
+		return redis.call('ZCARD', KEYS[1])
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 게시글의 순위 점수에 이벤트 가중치를 더합니다. 취소 이벤트는 음수 가중치로 전달합니다.
+	 *
+	 * @param socialId         게시글 ID
+	 * @param weight           이벤트 가중치
+	 * @param eventEpochSecond 이벤트 발생 시각 (epoch seconds)
+	 * @param decayRate        초당 감쇠율 λ
+	 * @param minScore         이 값보다 작아진 게시글은 순위에서 제거
+	 */
+	public void addScore(
+		final Long socialId,
+		final double weight,
+		final long eventEpochSecond,
+		final double decayRate,
+		final double minScore
+	) {
+		try {
+			redisTemplate.execute(
+				ADD_SCORE_SCRIPT,
+				List.of(RANKING_KEY, EPOCH_KEY),
+				String.valueOf(socialId),
+				String.valueOf(weight),
+				String.valueOf(eventEpochSecond),
+				String.valueOf(decayRate),
+				String.valueOf(minScore)
+			);
+		} catch (DataAccessException e) {
+			log.warn("인기 게시글 점수 반영 실패 - SocialId: {}, Weight: {}", socialId, weight, e);
+		}
+	}
+
+	/**
+	 * 순위에서 게시글을 제거합니다.
+	 */
+	public void remove(final Long socialId) {
+		try {
+			redisTemplate.opsForZSet().remove(RANKING_KEY, String.valueOf(socialId));
+		} catch (DataAccessException e) {
+			log.warn("인기 게시글 순위 제거 실패 - SocialId: {}", socialId, e);
+		}
+	}
+
+	/**
+	 * 점수가 높은 순으로 순위 구간의 게시글 ID 를 조회합니다.
+	 *
+	 * @param offset 시작 순위 (0부터 시작)
+	 * @param count  조회할 최대 개수
+	 * @return 게시글 ID 목록. Redis 를 사용할 수 없으면 빈 목록
+	 */
+	public List<Long> getRange(final long offset, final int count) {
+		try {
+			Set<String> members = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, offset, offset + count - 1);
+			if (members == null) {
+				return List.of();
+			}
+
+			return members.stream()
+				.map(Long::valueOf)
+				.toList();
+		} catch (DataAccessException e) {
+			log.warn("인기 게시글 순위 조회 실패 - Offset: {}", offset, e);
+			return List.of();
+		}
+	}
+
+	/**
+	 * 기준 시각을 현재 시각으로 옮기며 모든 점수를 감쇠시키고, 상위 {@code maxSize} 개 밖의 게시글과
+	 * {@code minScore} 보다 작은 점수의 게시글을 제거합니다. 한 번의 스크립트로 원자적으로 수행되므로
+	 * 여러 인스턴스에서 동시에 실행되어도 감쇠가 중복 적용되지 않습니다.
+	 *
+	 * @return 정리 후 순위에 남은 게시글 수. Redis 를 사용할 수 없으면 -1
+	 */
+	public long rescale(
+		final long nowEpochSecond,
+		final double decayRate,
+		final int maxSize,
+		final double minScore
+	) {
+		try {
+			Long size = redisTemplate.execute(
+				RESCALE_SCRIPT,
+				List.of(RANKING_KEY, EPOCH_KEY),
+				String.valueOf(nowEpochSecond),
+				String.valueOf(decayRate),
+				String.valueOf(maxSize),
+				String.valueOf(minScore)
+			);
+			return size == null ? -1L : size;
+		} catch (DataAccessException e) {
+			log.warn("인기 게시글 순위 정리 실패", e);
+			return -1L;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package im.toduck.infra.redis.view;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글별 순 방문자 수를 Redis HyperLogLog 로 집계합니다.
+ * <p>
+ * 방문자 ID 를 게시글의 HyperLogLog 에 추가하므로 같은 사용자의 반복 조회는 한 번만 집계되며, 게시글당 최대 12KB 로
+ * 오차 약 0.81% 의 근사값을 유지합니다. 값이 바뀐 게시글 ID 는 별도의 집합에 모아 두고, 배치 작업이 이 집합에서 꺼내
+ * DB 에 반영합니다. 마지막 조회 후 {@link #VIEWERS_TTL} 동안 조회가 없는 게시글의 HyperLogLog 는 만료됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UniqueViewCounterService {
+	private static final String VIEWERS_KEY_PREFIX = "social:viewers:";
+	private static final String DIRTY_KEY = "social:viewers:dirty";
+	private static final Duration VIEWERS_TTL = Duration.ofDays(90);
+
+	private static final String RECORD_SCRIPT = """
+		redis.call('PFADD', KEYS[1], ARGV[1])
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return redis.call('PFCOUNT', KEYS[1])
+		""";
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 게시글 방문자를 추가하고, 게시글을 DB 반영 대상으로 표시합니다.
+	 *
+	 * @param socialId 게시글 ID
+	 * @param viewerId 방문자 ID
+	 * @return 추가 후 순 방문자 수. Redis 를 사용할 수 없으면 -1
+	 */
+	public long record(final Long socialId, final Long viewerId) {
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				connection.scriptingCommands().eval(
+					toBytes(RECORD_SCRIPT),
+					ReturnType.INTEGER,
+					1,
+					toBytes(viewersKey(socialId)),
+					toBytes(String.valueOf(viewerId)),
+					toBytes(String.valueOf(VIEWERS_TTL.toSeconds()))
+				);
+				connection.setCommands().sAdd(toBytes(DIRTY_KEY), toBytes(String.valueOf(socialId)));
+				return null;
+			});
+
+			return (Long)results.get(0);
+		} catch (DataAccessException e) {
+			log.warn("게시글 방문자 집계 실패 - SocialId: {}", socialId, e);
+			return -1L;
+		}
+	}
+
+	/**
+	 * 여러 게시글의 순 방문자 수를 한 번의 파이프라인으로 조회합니다.
+	 *
+	 * @return 게시글 ID 별 순 방문자 수. Redis 를 사용할 수 없으면 빈 맵
+	 */
+	public Map<Long, Long> count(final List<Long> socialIds) {
+		if (socialIds.isEmpty()) {
+			return Map.of();
+		}
+
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (Long socialId : socialIds) {
+					connection.hyperLogLogCommands().pfCount(toBytes(viewersKey(socialId)));
+				}
+				return null;
+			});
+
+			Map<Long, Long> counts = new HashMap<>(socialIds.size());
+			for (int i = 0; i < socialIds.size(); i++) {
+				counts.put(socialIds.get(i), (Long)results.get(i));
+			}
+			return counts;
+		} catch (DataAccessException e) {
+			log.warn("게시글 방문자 수 조회 실패 - SocialCount: {}", socialIds.size(), e);
+			return Map.of();
+		}
+	}
+
+	/**
+	 * DB 반영 대상 게시글 ID 를 최대 {@code count} 개 꺼냅니다. 꺼낸 ID 는 집합에서 제거됩니다.
+	 *
+	 * @return 게시글 ID 목록. Redis 를 사용할 수 없으면 빈 목록
+	 */
+	public List<Long> popDirtySocialIds(final int count) {
+		try {
+			List<String> members = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+			if (members == null) {
+				return List.of();
+			}
+
+			return members.stream()
+				.map(Long::valueOf)
+				.toList();
+		} catch (DataAccessException e) {
+			log.warn("방문자 수 반영 대상 조회 실패", e);
+			return List.of();
+		}
+	}
+
+	/**
+	 * DB 반영에 실패한 게시글 ID 를 다시 반영 대상으로 표시합니다.
+	 */
+	public void markDirty(final Collection<Long> socialIds) {
+		if (socialIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			redisTemplate.opsForSet().add(
+				DIRTY_KEY,
+				socialIds.stream().map(String::valueOf).toArray(String[]::new)
+			);
+		} catch (DataAccessException e) {
+			log.warn("방문자 수 반영 대상 복구 실패 - SocialCount: {}", socialIds.size(), e);
+		}
+	}
+
+	/**
+	 * 게시글의 방문자 집계를 제거합니다.
+	 */
+	public void evict(final Long socialId) {
+		try {
+			redisTemplate.delete(viewersKey(socialId));
+		} catch (DataAccessException e) {
+			log.warn("게시글 방문자 집계 삭제 실패 - SocialId: {}", socialId, e);
+		}
+	}
+
+	private String viewersKey(final Long socialId) {
+		return VIEWERS_KEY_PREFIX + socialId;
+	}
+
+	private byte[] toBytes(final String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
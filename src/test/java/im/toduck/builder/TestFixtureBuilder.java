@@ -19,6 +19,7 @@ import im.toduck.domain.social.persistence.entity.SocialImageFile;
 import im.toduck.domain.user.persistence.entity.Block;
 import im.toduck.domain.user.persistence.entity.Follow;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.global.helper.SocialCategoryBitmask;
 import im.toduck.infra.redis.phonenumber.PhoneNumber;
 
 @Component
@@ -82,6 +83,13 @@ public class TestFixtureBuilder {
 			.build();
 
 		bs.socialCategoryLinkRepository().save(link);
+
+		if (SocialCategoryBitmask.isRepresentable(socialCategory.getId())) {
+			social.updateCategoryMask(
+				social.getCategoryMask() | SocialCategoryBitmask.getCategoryBit(socialCategory.getId())
+			);
+			bs.socialRepository().save(social);
+		}
 	}
 
 	public Schedule buildSchedule(final Schedule schedule) {
@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
 import im.toduck.ServiceTest;
+import im.toduck.domain.routine.common.mapper.RoutineRecordMapper;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.entity.RoutineRecord;
 import im.toduck.domain.routine.persistence.repository.RoutineRecordRepository;
@@ -39,8 +40,8 @@ class RoutineRecordServiceTest extends ServiceTest {
 	}
 
 	@Nested
-	@DisplayName("루틴 기록 생성시")
-	class CreateTest {
+	@DisplayName("루틴 기록 완료 상태 저장시")
+	class UpsertCompletionsTest {
 		Routine ROUTINE;
 
 		@BeforeEach
@@ -49,67 +50,66 @@ class RoutineRecordServiceTest extends ServiceTest {
 		}
 
 		@Test
-		void 정상적으로_생성된다() {
+		void 기록이_존재하지_않는_경우에_새로_생성된다() {
 			// given
 			final LocalDate date = LocalDate.now();
 			final boolean isCompleted = true;
 
 			// when
-			routineRecordService.create(ROUTINE, date, isCompleted);
+			routineRecordService.upsertCompletions(
+				List.of(RoutineRecordMapper.toRoutineRecord(ROUTINE, date, isCompleted))
+			);
 
 			// then
 			List<RoutineRecord> routineRecords = routineRecordRepository.findAll();
 			assertSoftly(softly -> {
 				softly.assertThat(routineRecords).hasSize(1);
-				softly.assertThat(routineRecords.get(0).getRoutine()).isEqualTo(ROUTINE);
+				softly.assertThat(routineRecords.get(0).getRoutine().getId()).isEqualTo(ROUTINE.getId());
+				softly.assertThat(routineRecords.get(0).getRecordDate()).isEqualTo(date);
 				softly.assertThat(routineRecords.get(0).getIsCompleted()).isEqualTo(isCompleted);
 			});
 		}
-	}
-
-	@Nested
-	@DisplayName("루틴 기록 완료 상태 변경시")
-	class UpdateIfPresentTest {
-		Routine ROUTINE;
-
-		@BeforeEach
-		void setUp() {
-			ROUTINE = testFixtureBuilder.buildRoutine(MONDAY_ONLY_MORNING_ROUTINE(USER));
-		}
 
 		@Test
-		void 기록이_존재하는_경우에_정상적으로_변경된다() {
+		void 기록이_존재하는_경우에_기록_시각은_유지하고_완료_상태만_변경된다() {
 			// given
-			RoutineRecord RECORD = testFixtureBuilder.buildRoutineRecord(COMPLETED_SYNCED_RECORD(ROUTINE));
-			final LocalDate date = LocalDate.from(RECORD.getRecordAt());
+			RoutineRecord RECORD = testFixtureBuilder.buildRoutineRecord(COMPLETED_MODIFIED_RECORD(ROUTINE));
+			final LocalDate date = RECORD.getRecordDate();
+			final boolean isCompletedForChange = !RECORD.getIsCompleted();
 
 			// when
-			final boolean isCompletedForChange = !RECORD.getIsCompleted();
-			final boolean isUpdated = routineRecordService.updateIfPresent(ROUTINE, date, isCompletedForChange);
+			routineRecordService.upsertCompletions(
+				List.of(RoutineRecordMapper.toRoutineRecord(ROUTINE, date, isCompletedForChange))
+			);
 
 			// then
 			List<RoutineRecord> routineRecords = routineRecordRepository.findAll();
 			assertSoftly(softly -> {
 				softly.assertThat(routineRecords).hasSize(1);
-				softly.assertThat(routineRecords.get(0).getRoutine()).isEqualTo(ROUTINE);
+				softly.assertThat(routineRecords.get(0).getId()).isEqualTo(RECORD.getId());
+				softly.assertThat(routineRecords.get(0).getRecordAt()).isEqualTo(RECORD.getRecordAt());
 				softly.assertThat(routineRecords.get(0).getIsCompleted()).isEqualTo(isCompletedForChange);
-
-				softly.assertThat(isUpdated).isTrue();
 			});
 		}
 
 		@Test
-		void 기록이_존재하지_않는_경우에_변경이_이루어지지_않는다() {
+		void 같은_날짜의_기록을_두_번_저장해도_기록은_하나만_남는다() {
+			// given
+			final LocalDate date = LocalDate.now();
+
 			// when
-			LocalDate unrecordedDate = LocalDate.now();
-			final boolean isUpdated = routineRecordService.updateIfPresent(ROUTINE, unrecordedDate, true);
+			routineRecordService.upsertCompletions(
+				List.of(RoutineRecordMapper.toRoutineRecord(ROUTINE, date, true))
+			);
+			routineRecordService.upsertCompletions(
+				List.of(RoutineRecordMapper.toRoutineRecord(ROUTINE, date, false))
+			);
 
 			// then
 			List<RoutineRecord> routineRecords = routineRecordRepository.findAll();
 			assertSoftly(softly -> {
-				softly.assertThat(routineRecords).hasSize(0);
-
-				softly.assertThat(isUpdated).isFalse();
+				softly.assertThat(routineRecords).hasSize(1);
+				softly.assertThat(routineRecords.get(0).getIsCompleted()).isFalse();
 			});
 		}
 	}
@@ -0,0 +1,110 @@
+package im.toduck.domain.routine.domain.service;
+
+import static im.toduck.fixtures.RoutineFixtures.*;
+import static im.toduck.fixtures.RoutineRecordFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.routine.persistence.entity.Routine;
+import im.toduck.domain.routine.persistence.entity.RoutineRecord;
+import im.toduck.domain.routine.persistence.entity.RoutineStats;
+import im.toduck.domain.routine.persistence.repository.RoutineStatsRepository;
+import im.toduck.domain.user.persistence.entity.User;
+import jakarta.persistence.EntityManager;
+
+@Transactional
+class RoutineStatsRecomputeServiceTest extends ServiceTest {
+
+	@Autowired
+	private RoutineStatsRecomputeService routineStatsRecomputeService;
+
+	@Autowired
+	private RoutineStatsService routineStatsService;
+
+	@Autowired
+	private RoutineStatsRepository routineStatsRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User USER;
+
+	@BeforeEach
+	void setUp() {
+		// given
+		USER = testFixtureBuilder.buildUser(GENERAL_USER());
+	}
+
+	@Test
+	void 집계_행이_없는_루틴의_집계_행을_재계산_대상으로_생성한다() {
+		// given
+		Routine ROUTINE = testFixtureBuilder.buildRoutine(MONDAY_ONLY_MORNING_ROUTINE(USER));
+		testFixtureBuilder.buildRoutineRecord(COMPLETED_SYNCED_RECORD(ROUTINE));
+
+		// when
+		routineStatsRecomputeService.backfillRoutineStats();
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		RoutineStats routineStats = routineStatsRepository.findById(ROUTINE.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(routineStats.getLongestStreak()).isZero();
+			softly.assertThat(routineStats.isNeedsRecompute()).isTrue();
+		});
+	}
+
+	@Test
+	void 백필된_집계_행은_재계산_작업이_루틴_기록으로_채운다() {
+		// given
+		Routine ROUTINE = testFixtureBuilder.buildRoutine(MONDAY_ONLY_MORNING_ROUTINE(USER));
+		RoutineRecord RECORD = testFixtureBuilder.buildRoutineRecord(COMPLETED_SYNCED_RECORD(ROUTINE));
+		routineStatsRecomputeService.backfillRoutineStats();
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		routineStatsRecomputeService.recomputeStaleStats();
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		RoutineStats routineStats = routineStatsRepository.findById(ROUTINE.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(routineStats.getCurrentStreak()).isEqualTo(1);
+			softly.assertThat(routineStats.getLongestStreak()).isEqualTo(1);
+			softly.assertThat(routineStats.getStreakEndDate()).isEqualTo(RECORD.getRecordDate());
+			softly.assertThat(routineStats.isNeedsRecompute()).isFalse();
+		});
+	}
+
+	@Test
+	void 재계산_대상으로_표시된_집계_값을_다시_계산한다() {
+		// given
+		Routine ROUTINE = testFixtureBuilder.buildRoutine(MONDAY_ONLY_MORNING_ROUTINE(USER));
+		routineStatsService.create(ROUTINE);
+		RoutineRecord RECORD = testFixtureBuilder.buildRoutineRecord(COMPLETED_SYNCED_RECORD(ROUTINE));
+		routineStatsService.markNeedsRecompute(ROUTINE);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		routineStatsRecomputeService.recomputeStaleStats();
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		RoutineStats routineStats = routineStatsRepository.findById(ROUTINE.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(routineStats.getLongestStreak()).isEqualTo(1);
+			softly.assertThat(routineStats.getStreakEndDate()).isEqualTo(RECORD.getRecordDate());
+			softly.assertThat(routineStats.isNeedsRecompute()).isFalse();
+		});
+	}
+}
@@ -11,6 +11,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Optional;
@@ -23,17 +24,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import im.toduck.ServiceTest;
+import im.toduck.domain.routine.domain.service.RoutineStatsService;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.entity.RoutineRecord;
 import im.toduck.domain.routine.persistence.repository.RoutineRecordRepository;
 import im.toduck.domain.routine.persistence.repository.RoutineRepository;
+import im.toduck.domain.routine.presentation.dto.request.RoutineBulkCompletionRequest;
+import im.toduck.domain.routine.presentation.dto.request.RoutineBulkCompletionRequest.RoutineCompletionItem;
+import im.toduck.domain.routine.presentation.dto.request.RoutineCreateRequest;
 import im.toduck.domain.routine.presentation.dto.request.RoutinePutCompletionRequest;
+import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordRangeReadResponse;
 import im.toduck.domain.routine.presentation.dto.response.MyRoutineRecordReadListResponse;
+import im.toduck.domain.routine.presentation.dto.response.RoutineStatsResponse;
 import im.toduck.domain.user.domain.service.UserService;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.exception.CommonException;
+import im.toduck.infra.redis.agenda.RoutineAgendaCacheService;
 
 ;
 
@@ -51,6 +61,12 @@ class RoutineUseCaseTest extends ServiceTest {
 	@Autowired
 	private RoutineRecordRepository routineRecordRepository;
 
+	@Autowired
+	private RoutineAgendaCacheService routineAgendaCacheService;
+
+	@Autowired
+	private RoutineStatsService routineStatsService;
+
 	@MockBean
 	private UserService userService;
 
@@ -148,6 +164,160 @@ class RoutineUseCaseTest extends ServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("루틴 목록 캐시 사용시")
+	class ReadMyRoutineListCacheTest {
+		@BeforeEach
+		void setUp() {
+			// given
+			given(userService.getUserById(any(Long.class))).willReturn(Optional.ofNullable(USER));
+			routineAgendaCacheService.evictAll(USER.getId());
+		}
+
+		@Test
+		void 같은_날짜를_다시_조회하면_DB를_조회하지_않고_캐시된_목록을_반환한다() {
+			// given
+			testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			LocalDate queryDate = getNextDayOfWeek(DayOfWeek.MONDAY);
+
+			// when
+			MyRoutineRecordReadListResponse first = routineUseCase.readMyRoutineRecordList(USER.getId(), queryDate);
+			MyRoutineRecordReadListResponse second = routineUseCase.readMyRoutineRecordList(USER.getId(), queryDate);
+
+			// then
+			assertThat(second).isEqualTo(first);
+			verify(userService, times(1)).getUserById(USER.getId());
+		}
+
+		@Test
+		void 루틴_완료_상태를_변경하면_해당_날짜의_목록만_다시_조회한다() {
+			// given
+			Routine ROUTINE = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			LocalDate monday = getNextDayOfWeek(DayOfWeek.MONDAY);
+			LocalDate tuesday = monday.plusDays(1);
+			routineUseCase.readMyRoutineRecordList(USER.getId(), monday);
+			routineUseCase.readMyRoutineRecordList(USER.getId(), tuesday);
+
+			// when
+			routineUseCase.updateRoutineCompletion(
+				USER.getId(),
+				ROUTINE.getId(),
+				new RoutinePutCompletionRequest(monday, true)
+			);
+			runAfterCommitTasks();
+
+			MyRoutineRecordReadListResponse mondayResponse = routineUseCase.readMyRoutineRecordList(USER.getId(), monday);
+			MyRoutineRecordReadListResponse tuesdayResponse = routineUseCase.readMyRoutineRecordList(USER.getId(), tuesday);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(mondayResponse.routines().get(0).isCompleted()).isTrue();
+				softly.assertThat(tuesdayResponse.routines().get(0).isCompleted()).isFalse();
+			});
+			// 월요일, 화요일 최초 조회 + 완료 상태 변경 + 월요일 재조회
+			verify(userService, times(4)).getUserById(USER.getId());
+		}
+
+		@Test
+		void 루틴을_생성하면_모든_날짜의_목록을_다시_조회한다() {
+			// given
+			testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			LocalDate monday = getNextDayOfWeek(DayOfWeek.MONDAY);
+			routineUseCase.readMyRoutineRecordList(USER.getId(), monday);
+
+			RoutineCreateRequest request = new RoutineCreateRequest(
+				"저녁 산책",
+				null,
+				null,
+				LocalTime.of(19, 0),
+				false,
+				List.of(DayOfWeek.MONDAY),
+				null,
+				null
+			);
+
+			// when
+			routineUseCase.createRoutine(USER.getId(), request);
+			runAfterCommitTasks();
+
+			MyRoutineRecordReadListResponse response = routineUseCase.readMyRoutineRecordList(USER.getId(), monday);
+
+			// then
+			assertThat(response.routines()).hasSize(2);
+		}
+
+		/**
+		 * 테스트 트랜잭션은 커밋되지 않으므로, 커밋 이후에 실행되도록 등록된 캐시 무효화를 직접 실행합니다.
+		 */
+		private void runAfterCommitTasks() {
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(TransactionSynchronization::afterCommit);
+		}
+	}
+
+	@Nested
+	@DisplayName("기간 루틴 목록 조회시")
+	class ReadMyRoutineRangeTest {
+		@BeforeEach
+		void setUp() {
+			// given
+			given(userService.getUserById(any(Long.class))).willReturn(Optional.ofNullable(USER));
+			routineAgendaCacheService.evictAll(USER.getId());
+		}
+
+		@Test
+		void 날짜별_목록은_특정_날짜_조회_결과와_같다() {
+			// given
+			Routine ROUTINE = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			testFixtureBuilder.buildRoutine(MONDAY_ONLY_MORNING_ROUTINE_ALL_DAY(USER));
+			testFixtureBuilder.buildRoutine(DAILY_EVENING_ROUTINE(USER));
+			testFixtureBuilder.buildRoutineRecord(COMPLETED_SYNCED_RECORD(ROUTINE));
+
+			LocalDate startDate = LocalDate.now().minusDays(3);
+			LocalDate endDate = startDate.plusDays(13);
+
+			// when
+			MyRoutineRecordRangeReadResponse response =
+				routineUseCase.readMyRoutineRecordRange(USER.getId(), startDate, endDate);
+
+			// then
+			assertThat(response.dailyRoutines()).hasSize(14);
+			assertSoftly(softly -> {
+				for (MyRoutineRecordReadListResponse daily : response.dailyRoutines()) {
+					MyRoutineRecordReadListResponse expected =
+						routineUseCase.readMyRoutineRecordList(USER.getId(), daily.queryDate());
+					softly.assertThat(daily.routines()).containsExactlyInAnyOrderElementsOf(expected.routines());
+				}
+			});
+		}
+
+		@Test
+		void 종료_날짜가_시작_날짜보다_이르면_예외를_반환한다() {
+			// given
+			LocalDate startDate = getNextDayOfWeek(DayOfWeek.MONDAY);
+
+			// when & then
+			assertThatThrownBy(() -> routineUseCase.readMyRoutineRecordRange(
+				USER.getId(), startDate, startDate.minusDays(1)
+			))
+				.isInstanceOf(CommonException.class)
+				.hasMessageContaining(ROUTINE_INVALID_DATE_RANGE.getMessage());
+		}
+
+		@Test
+		void 조회_기간이_31일을_넘으면_예외를_반환한다() {
+			// given
+			LocalDate startDate = getNextDayOfWeek(DayOfWeek.MONDAY);
+
+			// when & then
+			assertThatThrownBy(() -> routineUseCase.readMyRoutineRecordRange(
+				USER.getId(), startDate, startDate.plusDays(31)
+			))
+				.isInstanceOf(CommonException.class)
+				.hasMessageContaining(ROUTINE_INVALID_DATE_RANGE.getMessage());
+		}
+	}
+
 	@Nested
 	@DisplayName("루틴 완료 상태 변경시")
 	class UpdateRoutineCompletionTest {
@@ -252,6 +422,170 @@ class RoutineUseCaseTest extends ServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("루틴 완료 상태 일괄 변경시")
+	class UpdateRoutineCompletionsTest {
+		@BeforeEach
+		void setUp() {
+			// given
+			given(userService.getUserById(any(Long.class))).willReturn(Optional.ofNullable(USER));
+		}
+
+		@Test
+		void 여러_루틴과_날짜의_완료_상태를_한_번에_변경한다() {
+			// given
+			Routine WEEKDAY_ROUTINE = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			Routine DAILY_ROUTINE = testFixtureBuilder.buildRoutine(DAILY_EVENING_ROUTINE(USER));
+			RoutineRecord RECORD = testFixtureBuilder.buildRoutineRecord(
+				COMPLETED_SYNCED_RECORD(WEEKDAY_ROUTINE)
+			);
+			LocalDate monday = getNextDayOfWeek(DayOfWeek.MONDAY).plusDays(7);
+
+			RoutineBulkCompletionRequest request = new RoutineBulkCompletionRequest(List.of(
+				new RoutineCompletionItem(WEEKDAY_ROUTINE.getId(), RECORD.getRecordDate(), false),
+				new RoutineCompletionItem(WEEKDAY_ROUTINE.getId(), monday, true),
+				new RoutineCompletionItem(DAILY_ROUTINE.getId(), monday, true),
+				new RoutineCompletionItem(DAILY_ROUTINE.getId(), monday.plusDays(1), true)
+			));
+
+			// when
+			routineUseCase.updateRoutineCompletions(USER.getId(), request);
+
+			// then
+			List<RoutineRecord> routineRecords = routineRecordRepository.findAll();
+			assertSoftly(softly -> {
+				softly.assertThat(routineRecords).hasSize(4);
+				softly.assertThat(routineRecords)
+					.filteredOn(record -> record.getId().equals(RECORD.getId()))
+					.singleElement()
+					.satisfies(record -> assertThat(record.getIsCompleted()).isFalse());
+				softly.assertThat(routineRecords)
+					.filteredOn(record -> !record.getId().equals(RECORD.getId()))
+					.allSatisfy(record -> assertThat(record.getIsCompleted()).isTrue());
+			});
+		}
+
+		@Test
+		void 같은_루틴과_날짜가_여러_번_포함되면_마지막_상태로_하나의_기록만_남는다() {
+			// given
+			Routine ROUTINE = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			LocalDate monday = getNextDayOfWeek(DayOfWeek.MONDAY);
+
+			RoutineBulkCompletionRequest request = new RoutineBulkCompletionRequest(List.of(
+				new RoutineCompletionItem(ROUTINE.getId(), monday, true),
+				new RoutineCompletionItem(ROUTINE.getId(), monday, false)
+			));
+
+			// when
+			routineUseCase.updateRoutineCompletions(USER.getId(), request);
+
+			// then
+			List<RoutineRecord> routineRecords = routineRecordRepository.findAll();
+			assertSoftly(softly -> {
+				softly.assertThat(routineRecords).hasSize(1);
+				softly.assertThat(routineRecords.get(0).getIsCompleted()).isFalse();
+			});
+		}
+
+		@Test
+		void 하나라도_반복되지_않는_날짜가_있으면_아무것도_변경하지_않고_예외를_반환한다() {
+			// given
+			Routine ROUTINE = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+
+			RoutineBulkCompletionRequest request = new RoutineBulkCompletionRequest(List.of(
+				new RoutineCompletionItem(ROUTINE.getId(), getNextDayOfWeek(DayOfWeek.MONDAY), true),
+				new RoutineCompletionItem(ROUTINE.getId(), getNextDayOfWeek(DayOfWeek.SATURDAY), true)
+			));
+
+			// when & then
+			assertThatThrownBy(() -> routineUseCase.updateRoutineCompletions(USER.getId(), request))
+				.isInstanceOf(CommonException.class)
+				.hasMessageContaining(ROUTINE_INVALID_DATE.getMessage());
+			assertThat(routineRecordRepository.findAll()).isEmpty();
+		}
+
+		@Test
+		void 다른_사용자의_루틴이_포함되면_예외를_반환한다() {
+			// given
+			Routine ROUTINE = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			User ANOTHER_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			Routine ANOTHER_ROUTINE = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(ANOTHER_USER));
+			LocalDate monday = getNextDayOfWeek(DayOfWeek.MONDAY);
+
+			RoutineBulkCompletionRequest request = new RoutineBulkCompletionRequest(List.of(
+				new RoutineCompletionItem(ROUTINE.getId(), monday, true),
+				new RoutineCompletionItem(ANOTHER_ROUTINE.getId(), monday, true)
+			));
+
+			// when & then
+			assertThatThrownBy(() -> routineUseCase.updateRoutineCompletions(USER.getId(), request))
+				.isInstanceOf(CommonException.class)
+				.hasMessageContaining(NOT_FOUND_ROUTINE.getMessage());
+		}
+	}
+
+	@Nested
+	@DisplayName("루틴 통계 조회시")
+	class ReadRoutineStatsTest {
+		@BeforeEach
+		void setUp() {
+			// given
+			given(userService.getUserById(any(Long.class))).willReturn(Optional.ofNullable(USER));
+		}
+
+		@Test
+		void 완료_상태_변경이_연속_달성과_달성률에_반영된다() {
+			// given
+			Routine ROUTINE = testFixtureBuilder.buildRoutine(DAILY_EVENING_ROUTINE(USER));
+			routineStatsService.create(ROUTINE);
+
+			// when
+			routineUseCase.updateRoutineCompletion(
+				USER.getId(), ROUTINE.getId(), new RoutinePutCompletionRequest(LocalDate.now(), true)
+			);
+			RoutineStatsResponse response = routineUseCase.readStats(USER.getId(), ROUTINE.getId());
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.currentStreak()).isEqualTo(1);
+				softly.assertThat(response.longestStreak()).isEqualTo(1);
+				softly.assertThat(response.completionRateLast7Days()).isEqualTo(100.0);
+				softly.assertThat(response.completionRateLast90Days()).isEqualTo(100.0);
+			});
+		}
+
+		@Test
+		void 재계산_전이라도_완료_취소가_반영된_통계를_반환한다() {
+			// given
+			Routine ROUTINE = testFixtureBuilder.buildRoutine(DAILY_EVENING_ROUTINE(USER));
+			routineStatsService.create(ROUTINE);
+			routineUseCase.updateRoutineCompletion(
+				USER.getId(), ROUTINE.getId(), new RoutinePutCompletionRequest(LocalDate.now(), true)
+			);
+
+			// when
+			routineUseCase.updateRoutineCompletion(
+				USER.getId(), ROUTINE.getId(), new RoutinePutCompletionRequest(LocalDate.now(), false)
+			);
+			RoutineStatsResponse response = routineUseCase.readStats(USER.getId(), ROUTINE.getId());
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.currentStreak()).isZero();
+				softly.assertThat(response.longestStreak()).isZero();
+				softly.assertThat(response.completionRateLast7Days()).isZero();
+			});
+		}
+
+		@Test
+		void 존재하지_않는_루틴이면_예외를_반환한다() {
+			// when & then
+			assertThatThrownBy(() -> routineUseCase.readStats(USER.getId(), -1L))
+				.isInstanceOf(CommonException.class)
+				.hasMessageContaining(NOT_FOUND_ROUTINE.getMessage());
+		}
+	}
+
 	@Nested
 	@DisplayName("루틴 삭제시")
 	class DeleteRoutineTest {
@@ -270,13 +604,13 @@ class RoutineUseCaseTest extends ServiceTest {
 				COMPLETED_SYNCED_RECORD(routine)
 			);
 			testFixtureBuilder.buildRoutineRecord(
-				INCOMPLETED_SYNCED_RECORD(routine)
+				INCOMPLETED_MODIFIED_RECORD(routine)
 			);
 			testFixtureBuilder.buildRoutineRecord(
 				OFFSET_COMPLETED_SYNCED_RECORD(routine, 1L)
 			);
 			testFixtureBuilder.buildRoutineRecord(
-				OFFSET_INCOMPLETED_SYNCED_RECORD(routine, 1L)
+				OFFSET_INCOMPLETED_SYNCED_RECORD(routine, 2L)
 			);
 
 			// when
@@ -307,7 +641,7 @@ class RoutineUseCaseTest extends ServiceTest {
 
 			// 미래의 완료 기록 (유지되어야 함)
 			RoutineRecord futureComplete = testFixtureBuilder.buildRoutineRecord(
-				OFFSET_COMPLETED_SYNCED_RECORD(routine, 4L)
+				OFFSET_COMPLETED_SYNCED_RECORD(routine, 6L)
 			);
 			// 과거의 미완료 기록 (유지되어야 함)
 			RoutineRecord pastIncomplete = testFixtureBuilder.buildRoutineRecord(
@@ -0,0 +1,115 @@
+package im.toduck.domain.routine.persistence.entity;
+
+import static im.toduck.fixtures.RoutineFixtures.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RoutineStatsTest {
+
+	private static final LocalDate WEDNESDAY = LocalDate.of(2024, 9, 4);  // 2024-09-04는 수요일
+	private static final LocalDate FRIDAY = WEDNESDAY.plusDays(2);
+
+	@Test
+	void 반복하지_않는_요일은_연속_달성을_끊지_않는다() {
+		// given
+		Routine routine = WEDNESDAY_FRIDAY_MORNING_ROUTINE(null);
+		RoutineStats routineStats = RoutineStats.from(routine);
+
+		// when
+		routineStats.applyCompletion(routine, WEDNESDAY, true);
+		routineStats.applyCompletion(routine, FRIDAY, true);
+		routineStats.applyCompletion(routine, WEDNESDAY.plusWeeks(1), true);
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(routineStats.getCurrentStreak()).isEqualTo(3);
+			softly.assertThat(routineStats.getLongestStreak()).isEqualTo(3);
+			softly.assertThat(routineStats.isNeedsRecompute()).isFalse();
+		});
+	}
+
+	@Test
+	void 반복_요일을_놓치면_새로운_연속_달성을_시작한다() {
+		// given
+		Routine routine = WEDNESDAY_FRIDAY_MORNING_ROUTINE(null);
+		RoutineStats routineStats = RoutineStats.from(routine);
+
+		// when
+		routineStats.applyCompletion(routine, WEDNESDAY, true);
+		routineStats.applyCompletion(routine, FRIDAY, true);
+		routineStats.applyCompletion(routine, FRIDAY.plusWeeks(1), true);
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(routineStats.getCurrentStreak()).isEqualTo(1);
+			softly.assertThat(routineStats.getLongestStreak()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void 지난_날짜의_완료를_취소하면_재계산_대상이_되고_재계산_결과에_반영된다() {
+		// given
+		Routine routine = WEDNESDAY_FRIDAY_MORNING_ROUTINE(null);
+		RoutineStats routineStats = RoutineStats.from(routine);
+		routineStats.applyCompletion(routine, WEDNESDAY, true);
+		routineStats.applyCompletion(routine, FRIDAY, true);
+		routineStats.applyCompletion(routine, WEDNESDAY.plusWeeks(1), true);
+
+		// when
+		routineStats.applyCompletion(routine, FRIDAY, false);
+		boolean needsRecompute = routineStats.isNeedsRecompute();
+		routineStats.recompute(routine, List.of(WEDNESDAY, WEDNESDAY.plusWeeks(1)), WEDNESDAY.plusWeeks(1));
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(needsRecompute).isTrue();
+			softly.assertThat(routineStats.isNeedsRecompute()).isFalse();
+			softly.assertThat(routineStats.getCurrentStreak()).isEqualTo(1);
+			softly.assertThat(routineStats.getLongestStreak()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	void 오늘_완료하지_않아도_연속_달성이_유지되지만_지나간_반복_요일을_놓치면_0이다() {
+		// given
+		Routine routine = WEDNESDAY_FRIDAY_MORNING_ROUTINE(null);
+		RoutineStats routineStats = RoutineStats.from(routine);
+		routineStats.applyCompletion(routine, WEDNESDAY, true);
+
+		// when & then
+		assertSoftly(softly -> {
+			softly.assertThat(routineStats.getCurrentStreakOn(routine, WEDNESDAY.plusDays(1))).isEqualTo(1);
+			softly.assertThat(routineStats.getCurrentStreakOn(routine, FRIDAY)).isEqualTo(1);
+			softly.assertThat(routineStats.getCurrentStreakOn(routine, FRIDAY.plusDays(1))).isZero();
+		});
+	}
+
+	@Test
+	void 달성률은_반복된_날짜_중_완료한_날짜의_비율이며_오늘은_완료한_경우에만_포함한다() {
+		// given
+		Routine routine = DAILY_EVENING_ROUTINE(null);
+		ReflectionTestUtils.setField(routine, "createdAt", FRIDAY.minusDays(10).atStartOfDay());
+		RoutineStats routineStats = RoutineStats.from(routine);
+		routineStats.applyCompletion(routine, FRIDAY.minusDays(1), true);
+		routineStats.applyCompletion(routine, FRIDAY.minusDays(3), true);
+		routineStats.applyCompletion(routine, FRIDAY.minusDays(5), true);
+
+		// when
+		double rateBeforeToday = routineStats.getCompletionRateOn(routine, FRIDAY, 7);
+		routineStats.applyCompletion(routine, FRIDAY, true);
+		double rateWithToday = routineStats.getCompletionRateOn(routine, FRIDAY, 7);
+		double rateSinceCreated = routineStats.getCompletionRateOn(routine, FRIDAY, 30);
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(rateBeforeToday).isEqualTo(50.0);
+			softly.assertThat(rateWithToday).isEqualTo(57.1);
+			softly.assertThat(rateSinceCreated).isEqualTo(36.4);
+		});
+	}
+}
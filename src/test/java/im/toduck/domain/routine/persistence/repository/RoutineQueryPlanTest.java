@@ -0,0 +1,313 @@
+package im.toduck.domain.routine.persistence.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import com.p6spy.engine.common.PreparedStatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import com.p6spy.engine.spy.P6SpyOptions;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.routine.persistence.entity.Routine;
+import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.persistence.repository.UserRepository;
+
+/**
+ * 날짜별 루틴 조회 쿼리가 MySQL 에서 인덱스로 처리되는지 실행 계획으로 확인합니다.
+ * <p>
+ * 스키마는 sql/init.sql 로 만들고, 리포지토리 메서드를 실제로 호출해 Hibernate 가 생성한 SQL 을 p6spy 리스너로
+ * 바인딩 값과 함께 수집한 뒤 그 SQL 을 EXPLAIN 합니다. 옵티마이저가 실제 분포를 보고 계획을 세우도록 사용자
+ * {@value USER_COUNT} 명의 루틴과 기록을 적재한 뒤 통계를 갱신합니다. MySQL 컨테이너와 데이터 적재에 시간이 걸리므로
+ * 기본 test 태스크에서는 제외되며, {@code ./gradlew benchmarkTest} 로 실행합니다.
+ */
+@Tag("benchmark")
+@Import(RoutineQueryPlanTest.SqlCaptureConfig.class)
+class RoutineQueryPlanTest extends ServiceTest {
+	private static final Logger log = LoggerFactory.getLogger(RoutineQueryPlanTest.class);
+
+	private static final int USER_COUNT = 10_000;
+	private static final int ROUTINES_PER_USER = 20;
+	private static final int RECORD_DAYS = 14;
+	private static final long TARGET_USER_ID = 42;
+	private static final long TARGET_ROUTINE_ID = 1;
+	private static final LocalDate TARGET_DATE = LocalDate.of(2024, 9, 2);
+	private static final Path SCHEMA_PATH = Path.of("sql", "init.sql");
+	private static final Pattern TABLE_ALIAS_PATTERN = Pattern.compile("(?i)\\b(?:from|join)\\s+(\\w+)\\s+(\\w+)");
+
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0.36");
+	private static final List<String> CAPTURED_QUERIES = new CopyOnWriteArrayList<>();
+
+	private static Connection connection;
+
+	static {
+		MYSQL_CONTAINER.start();
+	}
+
+	@Autowired
+	private RoutineRepository routineRepository;
+
+	@Autowired
+	private RoutineRecordRepository routineRecordRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User user;
+	private Routine routine;
+
+	@DynamicPropertySource
+	static void mysqlProperties(final DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+		registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+		registry.add("spring.datasource.driver-class-name", MYSQL_CONTAINER::getDriverClassName);
+	}
+
+	@BeforeAll
+	static void setUp() throws SQLException, IOException {
+		// 바인딩 값이 MySQL 리터럴로 그대로 쓰일 수 있도록 날짜 형식을 맞춥니다.
+		P6SpyOptions.getActiveInstance().setDatabaseDialectDateFormat("yyyy-MM-dd");
+		P6SpyOptions.getActiveInstance().setDatabaseDialectTimestampFormat("yyyy-MM-dd HH:mm:ss");
+
+		connection = DriverManager.getConnection(
+			MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword()
+		);
+
+		try (Statement statement = connection.createStatement()) {
+			createTables();
+			insertRoutines(statement);
+			insertRecords(statement);
+			statement.execute("ANALYZE TABLE routine, routine_weekday, routine_record");
+		}
+	}
+
+	@AfterAll
+	static void tearDown() throws SQLException {
+		connection.close();
+		MYSQL_CONTAINER.stop();
+	}
+
+	@BeforeEach
+	void loadTargets() {
+		user = userRepository.findById(TARGET_USER_ID).orElseThrow();
+		routine = routineRepository.findById(TARGET_ROUTINE_ID).orElseThrow();
+	}
+
+	@Test
+	void 기록되지_않은_루틴_조회는_사용자_인덱스와_요일_고유_키를_사용한다() throws SQLException {
+		// when
+		String sql = captureQuery(() -> routineRepository.findUnrecordedRoutinesForDate(user, TARGET_DATE, List.of()));
+		List<PlanRow> plan = explain(sql);
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(row(plan, sql, "routine").type()).isEqualTo("ref");
+			softly.assertThat(row(plan, sql, "routine").key()).isEqualTo("user_id");
+			softly.assertThat(row(plan, sql, "routine_weekday").type()).isIn("eq_ref", "ref");
+			softly.assertThat(row(plan, sql, "routine_weekday").key()).isEqualTo("routine_weekday_routine_day_uk");
+		});
+	}
+
+	@Test
+	void 특정_날짜의_루틴_유효성_확인은_기본_키와_요일_고유_키를_사용한다() throws SQLException {
+		// when
+		String sql = captureQuery(() -> routineRepository.isActiveForDate(routine, TARGET_DATE));
+		List<PlanRow> plan = explain(sql);
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(row(plan, sql, "routine").type()).isEqualTo("const");
+			softly.assertThat(row(plan, sql, "routine_weekday").type()).isIn("eq_ref", "ref", "const");
+			softly.assertThat(row(plan, sql, "routine_weekday").key()).isEqualTo("routine_weekday_routine_day_uk");
+		});
+	}
+
+	@Test
+	void 사용자와_날짜의_루틴_기록_조회는_루틴_날짜_고유_키를_사용한다() throws SQLException {
+		// when
+		String sql = captureQuery(() -> routineRecordRepository.findRoutineRecordsForUserAndDate(user, TARGET_DATE));
+		List<PlanRow> plan = explain(sql);
+
+		// then
+		PlanRow routineRow = row(plan, sql, "routine");
+		PlanRow recordRow = row(plan, sql, "routine_record");
+		assertSoftly(softly -> {
+			softly.assertThat(routineRow.key()).isEqualTo("user_id");
+			softly.assertThat(recordRow.type()).isIn("eq_ref", "ref");
+			softly.assertThat(recordRow.key()).isEqualTo("routine_record_routine_date_uk");
+			softly.assertThat(recordRow.keyLength()).isGreaterThan(routineRow.keyLength());
+		});
+	}
+
+	@Test
+	void 루틴과_날짜의_루틴_기록_조회는_루틴_날짜_고유_키를_사용한다() throws SQLException {
+		// when
+		String sql = captureQuery(() -> routineRecordRepository.findByRoutineAndRecordDate(routine, TARGET_DATE));
+		List<PlanRow> plan = explain(sql);
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(row(plan, sql, "routine_record").type()).isIn("const", "ref");
+			softly.assertThat(row(plan, sql, "routine_record").key()).isEqualTo("routine_record_routine_date_uk");
+			softly.assertThat(row(plan, sql, "routine_record").rows()).isLessThanOrEqualTo(1);
+		});
+	}
+
+	/**
+	 * sql/init.sql 의 테이블을 그대로 만듭니다. 컨테이너의 데이터베이스를 사용하므로 USE 문은 제외합니다.
+	 */
+	private static void createTables() throws IOException {
+		String schema = Files.readString(SCHEMA_PATH, StandardCharsets.UTF_8)
+			.replaceFirst("(?m)^USE \\w+;", "");
+		ScriptUtils.executeSqlScript(connection, new ByteArrayResource(schema.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * 사용자마다 {@value ROUTINES_PER_USER} 개의 루틴을 만들고, 루틴마다 요일 비트마스크에 해당하는 요일 행을 추가합니다.
+	 * 10개 중 1개는 삭제된 루틴입니다.
+	 */
+	private static void insertRoutines(final Statement statement) throws SQLException {
+		int routineCount = USER_COUNT * ROUTINES_PER_USER;
+		statement.execute("SET SESSION cte_max_recursion_depth = " + routineCount);
+		statement.execute("INSERT INTO users (id, role, created_at, updated_at) "
+			+ "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + USER_COUNT + ") "
+			+ "SELECT n, 'USER', '2024-01-01', '2024-01-01' FROM seq");
+		statement.execute("INSERT INTO routine "
+			+ "(user_id, title, is_public, time, days_of_week, active_until, created_at, updated_at, deleted_at) "
+			+ "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + routineCount + ") "
+			+ "SELECT 1 + n % " + USER_COUNT + ", CONCAT('routine ', n), false, "
+			+ "IF(n % 3 = 0, NULL, MAKETIME(n % 24, 0, 0)), 1 + n % 127, "
+			+ "IF(n % 10 = 0, '2024-08-15', NULL), '2024-01-01', '2024-01-01', "
+			+ "IF(n % 10 = 0, '2024-08-16 12:00:00', NULL) "
+			+ "FROM seq");
+		statement.execute("INSERT INTO routine_weekday (routine_id, day_of_week, created_at, updated_at) "
+			+ "SELECT r.id, d.day_of_week, '2024-01-01', '2024-01-01' FROM routine r "
+			+ "JOIN (SELECT 0 AS bit_index, 'MONDAY' AS day_of_week UNION ALL SELECT 1, 'TUESDAY' "
+			+ "UNION ALL SELECT 2, 'WEDNESDAY' UNION ALL SELECT 3, 'THURSDAY' UNION ALL SELECT 4, 'FRIDAY' "
+			+ "UNION ALL SELECT 5, 'SATURDAY' UNION ALL SELECT 6, 'SUNDAY') d "
+			+ "ON r.days_of_week & (1 << d.bit_index) > 0");
+	}
+
+	/**
+	 * 목표 날짜까지 {@value RECORD_DAYS} 일 동안, 해당 요일에 반복되는 루틴마다 하루 하나의 기록을 추가합니다.
+	 */
+	private static void insertRecords(final Statement statement) throws SQLException {
+		statement.execute("INSERT INTO routine_record "
+			+ "(routine_id, record_at, record_date, is_all_day, is_completed, created_at, updated_at) "
+			+ "WITH RECURSIVE days (d) AS (SELECT DATE_SUB('" + TARGET_DATE + "', INTERVAL " + (RECORD_DAYS - 1)
+			+ " DAY) UNION ALL SELECT d + INTERVAL 1 DAY FROM days WHERE d < '" + TARGET_DATE + "') "
+			+ "SELECT w.routine_id, TIMESTAMP(days.d, '09:00:00'), days.d, false, w.routine_id % 2 = 0, "
+			+ "days.d, days.d "
+			+ "FROM days JOIN routine_weekday w ON w.day_of_week = UPPER(DAYNAME(days.d))");
+	}
+
+	/**
+	 * 리포지토리 메서드를 호출하는 동안 실행된 SELECT 문을 바인딩 값이 채워진 형태로 반환합니다.
+	 */
+	private String captureQuery(final Runnable repositoryCall) {
+		CAPTURED_QUERIES.clear();
+		repositoryCall.run();
+
+		List<String> queries = CAPTURED_QUERIES.stream()
+			.filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+			.toList();
+		assertThat(queries).hasSize(1);
+		log.info("수집한 쿼리 - {}", queries.get(0));
+		return queries.get(0);
+	}
+
+	private List<PlanRow> explain(final String sql) throws SQLException {
+		List<PlanRow> plan = new ArrayList<>();
+		try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+			 ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				PlanRow row = new PlanRow(
+					resultSet.getString("table"),
+					resultSet.getString("type"),
+					resultSet.getString("key"),
+					resultSet.getInt("key_len"),
+					resultSet.getLong("rows"),
+					resultSet.getString("Extra")
+				);
+				log.info("실행 계획 - {}", row);
+				plan.add(row);
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * 실행 계획에는 테이블 별칭이 표시되므로, 수집한 SQL 에서 테이블의 별칭을 찾아 해당 행을 반환합니다.
+	 */
+	private PlanRow row(final List<PlanRow> plan, final String sql, final String table) {
+		Map<String, String> aliasesByTable = new HashMap<>();
+		Matcher matcher = TABLE_ALIAS_PATTERN.matcher(sql);
+		while (matcher.find()) {
+			aliasesByTable.putIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT), matcher.group(2));
+		}
+
+		String alias = aliasesByTable.getOrDefault(table, table);
+		return plan.stream()
+			.filter(row -> alias.equals(row.table()))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("실행 계획에 테이블이 없습니다: " + table + ", " + plan));
+	}
+
+	private record PlanRow(String table, String type, String key, int keyLength, long rows, String extra) {
+	}
+
+	@TestConfiguration
+	static class SqlCaptureConfig {
+
+		@Bean
+		JdbcEventListener queryCapturingListener() {
+			return new JdbcEventListener() {
+				@Override
+				public void onAfterExecuteQuery(
+					final PreparedStatementInformation statementInformation,
+					final long timeElapsedNanos,
+					final SQLException e
+				) {
+					CAPTURED_QUERIES.add(statementInformation.getSqlWithValues());
+				}
+			};
+		}
+	}
+}
@@ -62,34 +62,36 @@ class RoutineRecordRepositoryTest extends RepositoryTest {
 			// given
 			Routine ROUTINE_WEEKLY1 = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
 			Routine ROUTINE_WEEKLY2 = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			Routine ROUTINE_WEEKLY3 = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
+			Routine ROUTINE_WEEKLY4 = testFixtureBuilder.buildRoutine(WEEKDAY_MORNING_ROUTINE(USER));
 
-			RoutineRecord RECORD_WEEKLY1_1 = testFixtureBuilder.buildRoutineRecord(
+			RoutineRecord RECORD_WEEKLY1 = testFixtureBuilder.buildRoutineRecord(
 				COMPLETED_SYNCED_RECORD(ROUTINE_WEEKLY1)
 			);
-			RoutineRecord RECORD_WEEKLY1_2 = testFixtureBuilder.buildRoutineRecord(
-				INCOMPLETED_SYNCED_RECORD(ROUTINE_WEEKLY1)
+			RoutineRecord RECORD_WEEKLY2 = testFixtureBuilder.buildRoutineRecord(
+				INCOMPLETED_SYNCED_RECORD(ROUTINE_WEEKLY2)
 			);
-			RoutineRecord RECORD_WEEKLY2_1 = testFixtureBuilder.buildRoutineRecord(
-				COMPLETED_SYNCED_RECORD(ROUTINE_WEEKLY2)
+			RoutineRecord RECORD_WEEKLY3 = testFixtureBuilder.buildRoutineRecord(
+				COMPLETED_SYNCED_RECORD(ROUTINE_WEEKLY3)
 			);
-			RoutineRecord RECORD_WEEKLY2_2 = testFixtureBuilder.buildRoutineRecord(
-				INCOMPLETED_SYNCED_RECORD(ROUTINE_WEEKLY2)
+			RoutineRecord RECORD_WEEKLY4 = testFixtureBuilder.buildRoutineRecord(
+				INCOMPLETED_SYNCED_RECORD(ROUTINE_WEEKLY4)
 			);
 
 			// when
 			List<RoutineRecord> records = routineRecordRepository.findRoutineRecordsForUserAndDate(
 				USER,
-				LocalDate.from(RECORD_WEEKLY1_1.getRecordAt())
+				LocalDate.from(RECORD_WEEKLY1.getRecordAt())
 			);
 
 			// then
 			assertSoftly(softly -> {
 				softly.assertThat(records).hasSize(4);
 				softly.assertThat(records).containsExactlyInAnyOrder(
-					RECORD_WEEKLY1_1,
-					RECORD_WEEKLY1_2,
-					RECORD_WEEKLY2_1,
-					RECORD_WEEKLY2_2
+					RECORD_WEEKLY1,
+					RECORD_WEEKLY2,
+					RECORD_WEEKLY3,
+					RECORD_WEEKLY4
 				);
 			});
 		}
@@ -173,7 +175,7 @@ class RoutineRecordRepositoryTest extends RepositoryTest {
 
 			// 미래의 완료 기록 (유지되어야 함)
 			RoutineRecord futureComplete = testFixtureBuilder.buildRoutineRecord(
-				OFFSET_COMPLETED_SYNCED_RECORD(routine, 4L)
+				OFFSET_COMPLETED_SYNCED_RECORD(routine, 6L)
 			);
 
 			// 과거의 미완료 기록 (유지되어야 함)
@@ -163,6 +163,27 @@ class RoutineRepositoryTest extends RepositoryTest {
 			// then
 			assertThat(unrecordedRoutines).contains(ROUTINE);
 		}
+
+		@Test
+		void 삭제된_종일_루틴은_삭제_전날까지_조회된다() {
+			// given
+			LocalDate monday = getNextDayOfWeek(DayOfWeek.MONDAY);
+			Routine ROUTINE_DELETED_NEXT_WEEK = testFixtureBuilder.buildRoutine(
+				DELETED_MONDAY_ONLY_ALL_DAY_ROUTINE(USER, monday.plusDays(7).atTime(12, 0))
+			);
+			Routine ROUTINE_DELETED_ON_MONDAY = testFixtureBuilder.buildRoutine(
+				DELETED_MONDAY_ONLY_ALL_DAY_ROUTINE(USER, monday.atTime(0, 0, 1))
+			);
+
+			// when
+			List<Routine> unrecordedRoutines = routineRepository.findUnrecordedRoutinesForDate(USER, monday, List.of());
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(unrecordedRoutines).contains(ROUTINE_DELETED_NEXT_WEEK);
+				softly.assertThat(unrecordedRoutines).doesNotContain(ROUTINE_DELETED_ON_MONDAY);
+			});
+		}
 	}
 
 	@Nested
@@ -0,0 +1,71 @@
+package im.toduck.domain.social.domain.service;
+
+import static im.toduck.fixtures.social.SocialCategoryFixtures.*;
+import static im.toduck.fixtures.social.SocialFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.entity.SocialCard;
+import im.toduck.domain.social.persistence.entity.SocialCategory;
+import im.toduck.domain.social.persistence.repository.SocialCardRepository;
+import im.toduck.domain.social.persistence.vo.SocialCardCategory;
+import im.toduck.domain.social.persistence.vo.SocialCardImage;
+import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.fixtures.social.SocialImageFileFixtures;
+import jakarta.persistence.EntityManager;
+
+@Transactional
+class SocialCardBackfillServiceTest extends ServiceTest {
+
+	@Autowired
+	private SocialCardBackfillService socialCardBackfillService;
+
+	@Autowired
+	private SocialCardRepository socialCardRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void 카드가_없는_게시글의_카드를_이미지와_카테고리로_생성한다() {
+		// given
+		User USER = testFixtureBuilder.buildUser(GENERAL_USER());
+		List<SocialCategory> categories = testFixtureBuilder.buildCategories(MULTIPLE_CATEGORIES(2));
+		Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+		Social SOCIAL_WITHOUT_IMAGE = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+		testFixtureBuilder.buildSocialImageFiles(
+			SocialImageFileFixtures.MULTIPLE_IMAGE_FILES(SOCIAL, List.of("image1.jpg", "image2.jpg"))
+		);
+		testFixtureBuilder.buildSocialCategoryLinks(categories.get(0), SOCIAL);
+		testFixtureBuilder.buildSocialCategoryLinks(categories.get(1), SOCIAL);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		socialCardBackfillService.backfillSocialCards();
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		SocialCard card = socialCardRepository.findById(SOCIAL.getId()).orElseThrow();
+		SocialCard emptyCard = socialCardRepository.findById(SOCIAL_WITHOUT_IMAGE.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(card.getImages())
+				.extracting(SocialCardImage::url)
+				.containsExactly("image1.jpg", "image2.jpg");
+			softly.assertThat(card.getCategories())
+				.extracting(SocialCardCategory::socialCategoryId)
+				.containsExactlyInAnyOrder(categories.get(0).getId(), categories.get(1).getId());
+			softly.assertThat(emptyCard.getImages()).isEmpty();
+			softly.assertThat(emptyCard.getCategories()).isEmpty();
+		});
+	}
+}
@@ -0,0 +1,155 @@
+package im.toduck.domain.social.domain.service;
+
+import static im.toduck.fixtures.social.CommentFixtures.*;
+import static im.toduck.fixtures.social.CommentLikeFixtures.*;
+import static im.toduck.fixtures.social.SocialFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.social.persistence.entity.Comment;
+import im.toduck.domain.social.persistence.entity.CommentLike;
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.repository.CommentLikeRepository;
+import im.toduck.domain.social.persistence.repository.CommentRepository;
+import im.toduck.domain.social.persistence.repository.SocialCommentCascadeRepository;
+import im.toduck.domain.user.persistence.entity.User;
+import jakarta.persistence.EntityManager;
+
+@Transactional
+class SocialCommentCascadeServiceTest extends ServiceTest {
+
+	@Autowired
+	private SocialCommentCascadeService socialCommentCascadeService;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private CommentLikeRepository commentLikeRepository;
+
+	@Autowired
+	private SocialCommentCascadeRepository socialCommentCascadeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User USER;
+
+	@BeforeEach
+	void setUp() {
+		USER = testFixtureBuilder.buildUser(GENERAL_USER());
+	}
+
+	@Nested
+	@DisplayName("게시글 댓글을 구간 단위로 삭제시")
+	class SoftDeleteCommentsInChunks {
+
+		@Test
+		void 해당_게시글의_댓글과_댓글_좋아요만_soft_delete_된다() {
+			// given
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Social OTHER_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Comment COMMENT = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL));
+			Comment REPLY = testFixtureBuilder.buildComment(REPLY_COMMENT(USER, SOCIAL, COMMENT));
+			Comment OTHER_COMMENT = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, OTHER_SOCIAL));
+			CommentLike COMMENT_LIKE = testFixtureBuilder.buildCommentLike(COMMENT_LIKE(USER, COMMENT));
+
+			// when
+			socialCommentCascadeService.softDeleteCommentsInChunks(SOCIAL.getId(), LocalDateTime.now());
+			entityManager.clear();
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(commentRepository.findById(COMMENT.getId()).orElseThrow().getDeletedAt())
+					.isNotNull();
+				softly.assertThat(commentRepository.findById(REPLY.getId()).orElseThrow().getDeletedAt())
+					.isNotNull();
+				softly.assertThat(commentLikeRepository.findById(COMMENT_LIKE.getId()).orElseThrow().getDeletedAt())
+					.isNotNull();
+				softly.assertThat(commentRepository.findById(OTHER_COMMENT.getId()).orElseThrow().getDeletedAt())
+					.isNull();
+			});
+		}
+
+		@Test
+		void 삭제된_댓글만_영속성_컨텍스트에서_제거된다() {
+			// given
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Social OTHER_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Comment COMMENT = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL));
+			Comment OTHER_COMMENT = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, OTHER_SOCIAL));
+
+			// when
+			socialCommentCascadeService.softDeleteCommentsInChunks(SOCIAL.getId(), LocalDateTime.now());
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(entityManager.contains(COMMENT)).isFalse();
+				softly.assertThat(entityManager.contains(OTHER_COMMENT)).isTrue();
+				softly.assertThat(entityManager.contains(USER)).isTrue();
+			});
+		}
+	}
+
+	@Nested
+	@DisplayName("기록된 댓글 삭제 작업을 재시도시")
+	class RetryPendingCascades {
+
+		@Test
+		void 오래된_작업의_댓글을_삭제하고_작업_기록을_지운다() {
+			// given
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Comment COMMENT = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL));
+			socialCommentCascadeService.markPending(SOCIAL.getId(), LocalDateTime.now());
+			entityManager.flush();
+			entityManager.createNativeQuery("UPDATE social_comment_cascade SET created_at = :createdAt")
+				.setParameter("createdAt", LocalDateTime.now().minusHours(1))
+				.executeUpdate();
+			entityManager.clear();
+
+			// when
+			socialCommentCascadeService.retryPendingCascades();
+			entityManager.flush();
+			entityManager.clear();
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(commentRepository.findById(COMMENT.getId()).orElseThrow().getDeletedAt())
+					.isNotNull();
+				softly.assertThat(socialCommentCascadeRepository.findById(SOCIAL.getId())).isEmpty();
+			});
+		}
+
+		@Test
+		void 방금_기록된_작업은_비동기_작업이_처리하도록_남겨둔다() {
+			// given
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Comment COMMENT = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL));
+			socialCommentCascadeService.markPending(SOCIAL.getId(), LocalDateTime.now());
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			socialCommentCascadeService.retryPendingCascades();
+			entityManager.flush();
+			entityManager.clear();
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(commentRepository.findById(COMMENT.getId()).orElseThrow().getDeletedAt())
+					.isNull();
+				softly.assertThat(socialCommentCascadeRepository.findById(SOCIAL.getId())).isPresent();
+			});
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package im.toduck.domain.social.domain.service;
+
+import static im.toduck.fixtures.social.CommentFixtures.*;
+import static im.toduck.fixtures.social.SocialCategoryFixtures.*;
+import static im.toduck.fixtures.social.SocialFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.entity.SocialCategory;
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.global.helper.SocialCategoryBitmask;
+import jakarta.persistence.EntityManager;
+
+@Transactional
+class SocialReconcileServiceTest extends ServiceTest {
+
+	@Autowired
+	private SocialReconcileService socialReconcileService;
+
+	@Autowired
+	private SocialRepository socialRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User USER;
+
+	@BeforeEach
+	void setUp() {
+		USER = testFixtureBuilder.buildUser(GENERAL_USER());
+	}
+
+	@Nested
+	@DisplayName("게시글 댓글 수 보정시")
+	class ReconcileCommentCounts {
+
+		@Test
+		void 실제_댓글_수와_다른_게시글의_댓글_수를_보정한다() {
+			// given
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL));
+			testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL));
+
+			// when
+			socialReconcileService.reconcileCommentCounts();
+			entityManager.clear();
+
+			// then
+			Social reconciledSocial = socialRepository.findById(SOCIAL.getId()).orElseThrow();
+			assertThat(reconciledSocial.getCommentCount()).isEqualTo(2);
+		}
+	}
+
+	@Nested
+	@DisplayName("게시글 카테고리 비트마스크 보정시")
+	class ReconcileCategoryMasks {
+
+		@Test
+		void 카테고리_연결_정보와_다른_비트마스크를_보정한다() {
+			// given
+			List<SocialCategory> categories = testFixtureBuilder.buildCategories(MULTIPLE_CATEGORIES(2));
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			testFixtureBuilder.buildSocialCategoryLinks(categories.get(0), SOCIAL);
+			testFixtureBuilder.buildSocialCategoryLinks(categories.get(1), SOCIAL);
+			socialRepository.updateCategoryMask(SOCIAL.getId(), 0L);
+
+			// when
+			socialReconcileService.reconcileCategoryMasks();
+			entityManager.clear();
+
+			// then
+			long expectedMask = SocialCategoryBitmask.of(
+				List.of(categories.get(0).getId(), categories.get(1).getId())
+			);
+			Social reconciledSocial = socialRepository.findById(SOCIAL.getId()).orElseThrow();
+			assertThat(reconciledSocial.getCategoryMask()).isEqualTo(expectedMask);
+		}
+
+		@Test
+		void 카테고리가_없는_게시글의_비트마스크를_비운다() {
+			// given
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			socialRepository.updateCategoryMask(SOCIAL.getId(), 1L);
+
+			// when
+			socialReconcileService.reconcileCategoryMasks();
+			entityManager.clear();
+
+			// then
+			Social reconciledSocial = socialRepository.findById(SOCIAL.getId()).orElseThrow();
+			assertThat(reconciledSocial.getCategoryMask()).isZero();
+		}
+	}
+}
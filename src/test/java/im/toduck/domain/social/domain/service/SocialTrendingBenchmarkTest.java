@@ -0,0 +1,225 @@
+package im.toduck.domain.social.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+
+/**
+ * 게시글 수가 늘어날 때 인기 게시글 조회 지연 시간을 비교합니다.
+ * <p>
+ * 조회 시점에 감쇠 점수를 계산해 정렬하는 SQL 은 게시글 수에 비례해 느려지지만, Redis 순위에서 한 페이지의 ID 를 읽고
+ * PK IN 조회로 채우는 방식은 순위 크기가 {@value SocialTrendingService#MAX_RANKING_SIZE} 개로 고정되어 있어 게시글 수와 무관합니다.
+ * <p>
+ * MySQL 컨테이너와 데이터 적재에 수 분이 걸리므로 기본 test 태스크에서는 제외되며,
+ * {@code ./gradlew benchmarkTest} 로 실행합니다.
+ */
+@Tag("benchmark")
+class SocialTrendingBenchmarkTest {
+	private static final Logger log = LoggerFactory.getLogger(SocialTrendingBenchmarkTest.class);
+
+	private static final String RANKING_KEY = "trending:{socials}";
+	private static final int PAGE_SIZE = 11;
+	private static final int BLOCKED_USER_COUNT = 20;
+	private static final int WARM_UP_ROUNDS = 3;
+	private static final int MEASURE_ROUNDS = 20;
+	private static final double DECAY_RATE = Math.log(2) / SocialTrendingService.HALF_LIFE.toSeconds();
+
+	private static final String SQL_RANKING_QUERY = "SELECT id FROM social "
+		+ "WHERE deleted_at IS NULL AND user_id NOT IN (%s) "
+		+ "ORDER BY (1 + like_count + 2 * comment_count) "
+		+ "* EXP(-" + DECAY_RATE + " * TIMESTAMPDIFF(SECOND, created_at, NOW())) DESC "
+		+ "LIMIT " + PAGE_SIZE;
+
+	private static final String HYDRATION_QUERY = "SELECT id FROM social "
+		+ "WHERE id IN (%s) AND deleted_at IS NULL AND user_id NOT IN (%s)";
+
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0.36");
+	private static final GenericContainer<?> REDIS_CONTAINER = new GenericContainer<>("redis:7.0.8-alpine")
+		.withExposedPorts(6379);
+
+	private static Connection connection;
+	private static RedisClient redisClient;
+	private static StatefulRedisConnection<String, String> redisConnection;
+	private static RedisCommands<String, String> redis;
+	private static String blockedUserIds;
+	private static int socialCount = 0;
+
+	@BeforeAll
+	static void setUp() throws SQLException {
+		MYSQL_CONTAINER.start();
+		REDIS_CONTAINER.start();
+
+		connection = DriverManager.getConnection(
+			MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword()
+		);
+		redisClient = RedisClient.create(
+			"redis://" + REDIS_CONTAINER.getHost() + ":" + REDIS_CONTAINER.getMappedPort(6379)
+		);
+		redisConnection = redisClient.connect();
+		redis = redisConnection.sync();
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE social ("
+				+ "id BIGINT PRIMARY KEY AUTO_INCREMENT, "
+				+ "user_id BIGINT NOT NULL, "
+				+ "like_count INT NOT NULL, "
+				+ "comment_count INT NOT NULL, "
+				+ "created_at DATETIME NOT NULL, "
+				+ "deleted_at DATETIME NULL)");
+		}
+
+		blockedUserIds = new Random(7).ints(BLOCKED_USER_COUNT, 1, 10_000)
+			.mapToObj(String::valueOf)
+			.collect(Collectors.joining(","));
+	}
+
+	@AfterAll
+	static void tearDown() throws SQLException {
+		redisConnection.close();
+		redisClient.shutdown();
+		connection.close();
+		REDIS_CONTAINER.stop();
+		MYSQL_CONTAINER.stop();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {10_000, 100_000, 1_000_000})
+	void 게시글_수에_따른_인기_게시글_조회_지연_시간을_비교한다(int targetSocialCount) throws SQLException {
+		// given
+		growSocials(targetSocialCount);
+		fillRanking(targetSocialCount);
+
+		// when
+		long[] sqlLatencies = measure(this::readBySql);
+		long[] rankingLatencies = measure(this::readByRanking);
+
+		// then
+		log.info("인기 게시글 벤치마크 - SocialCount: {}, SQL 정렬 p50/p95(us): {}/{}, Redis 순위 p50/p95(us): {}/{}",
+			targetSocialCount,
+			percentile(sqlLatencies, 50), percentile(sqlLatencies, 95),
+			percentile(rankingLatencies, 50), percentile(rankingLatencies, 95));
+
+		assertThat(readByRanking()).hasSize(PAGE_SIZE);
+	}
+
+	/**
+	 * 최근 30일 안에 작성된 게시글을 목표 개수까지 추가합니다. 100개 중 1개는 삭제된 게시글입니다.
+	 */
+	private void growSocials(int targetSocialCount) throws SQLException {
+		if (socialCount >= targetSocialCount) {
+			return;
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SET SESSION cte_max_recursion_depth = " + targetSocialCount);
+			statement.execute("INSERT INTO social (user_id, like_count, comment_count, created_at, deleted_at) "
+				+ "WITH RECURSIVE seq (n) AS (SELECT " + (socialCount + 1) + " UNION ALL "
+				+ "SELECT n + 1 FROM seq WHERE n < " + targetSocialCount + ") "
+				+ "SELECT 1 + n % 10000, n * 7 % 50, n * 13 % 20, "
+				+ "NOW() - INTERVAL (n * 31 % 2592000) SECOND, IF(n % 100 = 0, NOW(), NULL) "
+				+ "FROM seq");
+		}
+		socialCount = targetSocialCount;
+	}
+
+	/**
+	 * 순위는 게시글 수와 관계없이 상위 {@value SocialTrendingService#MAX_RANKING_SIZE} 개만 유지됩니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void fillRanking(int targetSocialCount) {
+		Random random = new Random(targetSocialCount);
+		redis.del(RANKING_KEY);
+
+		ScoredValue<String>[] scoredValues = new ScoredValue[SocialTrendingService.MAX_RANKING_SIZE];
+		for (int i = 0; i < scoredValues.length; i++) {
+			long socialId = 1 + random.nextInt(targetSocialCount);
+			scoredValues[i] = ScoredValue.just(random.nextDouble() * 100, String.valueOf(socialId));
+		}
+		redis.zadd(RANKING_KEY, scoredValues);
+	}
+
+	private List<Long> readBySql() throws SQLException {
+		return queryIds(SQL_RANKING_QUERY.formatted(blockedUserIds));
+	}
+
+	/**
+	 * 순위에서 한 페이지보다 넉넉하게 ID 를 읽고, 삭제된 게시글과 차단한 사용자의 게시글을 걸러 순위 순서대로 채웁니다.
+	 */
+	private List<Long> readByRanking() throws SQLException {
+		List<Long> rankedIds = redis.zrevrange(RANKING_KEY, 0, PAGE_SIZE * 2 - 1).stream()
+			.map(Long::valueOf)
+			.toList();
+		String ids = rankedIds.stream()
+			.map(String::valueOf)
+			.collect(Collectors.joining(","));
+
+		List<Long> visibleIds = queryIds(HYDRATION_QUERY.formatted(ids, blockedUserIds));
+		return rankedIds.stream()
+			.filter(visibleIds::contains)
+			.limit(PAGE_SIZE)
+			.toList();
+	}
+
+	private List<Long> queryIds(String sql) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			List<Long> ids = new ArrayList<>();
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					ids.add(resultSet.getLong(1));
+				}
+			}
+			return ids;
+		}
+	}
+
+	private long[] measure(TrendingRead read) throws SQLException {
+		for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+			read.run();
+		}
+
+		long[] latencies = new long[MEASURE_ROUNDS];
+		for (int i = 0; i < MEASURE_ROUNDS; i++) {
+			long startedAt = System.nanoTime();
+			read.run();
+			latencies[i] = (System.nanoTime() - startedAt) / 1_000;
+		}
+
+		Arrays.sort(latencies);
+		return latencies;
+	}
+
+	private long percentile(long[] sortedLatencies, int percentile) {
+		int index = (int)Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(index, 0)];
+	}
+
+	@FunctionalInterface
+	private interface TrendingRead {
+		List<Long> run() throws SQLException;
+	}
+}
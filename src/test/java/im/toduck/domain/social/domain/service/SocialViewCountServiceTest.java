@@ -0,0 +1,67 @@
+package im.toduck.domain.social.domain.service;
+
+import static im.toduck.fixtures.social.SocialFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.infra.redis.view.UniqueViewCounterService;
+import jakarta.persistence.EntityManager;
+
+@Transactional
+class SocialViewCountServiceTest extends ServiceTest {
+
+	@Autowired
+	private SocialViewCountService socialViewCountService;
+
+	@Autowired
+	private UniqueViewCounterService uniqueViewCounterService;
+
+	@Autowired
+	private SocialRepository socialRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User USER;
+
+	@BeforeEach
+	void setUp() {
+		USER = testFixtureBuilder.buildUser(GENERAL_USER());
+	}
+
+	@Nested
+	@DisplayName("게시글 조회수 반영시")
+	class FlushViewCounts {
+
+		@Test
+		void 순_방문자_수를_게시글_조회수에_반영한다() {
+			// given
+			User OTHER_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			// 재사용되는 Redis 컨테이너에 남아 있을 수 있는 방문자 집계를 제거합니다.
+			uniqueViewCounterService.evict(SOCIAL.getId());
+
+			socialViewCountService.recordView(SOCIAL, USER.getId());
+			socialViewCountService.recordView(SOCIAL, USER.getId());
+			socialViewCountService.recordView(SOCIAL, OTHER_USER.getId());
+
+			// when
+			socialViewCountService.flushViewCounts();
+			entityManager.clear();
+
+			// then
+			assertThat(socialRepository.findById(SOCIAL.getId()).orElseThrow().getViewCount()).isEqualTo(2L);
+		}
+	}
+}
@@ -2,6 +2,7 @@ package im.toduck.domain.social.domain.usecase;
 
 import static im.toduck.fixtures.RoutineFixtures.*;
 import static im.toduck.fixtures.social.CommentFixtures.*;
+import static im.toduck.fixtures.social.CommentLikeFixtures.*;
 import static im.toduck.fixtures.social.LikeFixtures.*;
 import static im.toduck.fixtures.social.SocialCategoryFixtures.*;
 import static im.toduck.fixtures.social.SocialFixtures.*;
@@ -11,11 +12,15 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,24 +30,36 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.AopTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import im.toduck.ServiceTest;
 import im.toduck.domain.routine.persistence.entity.Routine;
 import im.toduck.domain.routine.persistence.repository.RoutineRepository;
+import im.toduck.domain.social.domain.service.SocialCardService;
+import im.toduck.domain.social.domain.service.SocialTimelineService;
 import im.toduck.domain.social.persistence.entity.Comment;
+import im.toduck.domain.social.persistence.entity.CommentImageFile;
+import im.toduck.domain.social.persistence.entity.CommentLike;
 import im.toduck.domain.social.persistence.entity.Like;
 import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.entity.SocialCard;
 import im.toduck.domain.social.persistence.entity.SocialCategory;
 import im.toduck.domain.social.persistence.entity.SocialImageFile;
+import im.toduck.domain.social.persistence.repository.CommentImageFileRepository;
 import im.toduck.domain.social.persistence.repository.CommentLikeRepository;
 import im.toduck.domain.social.persistence.repository.CommentRepository;
+import im.toduck.domain.social.persistence.repository.SocialCardRepository;
 import im.toduck.domain.social.persistence.repository.SocialCategoryLinkRepository;
 import im.toduck.domain.social.persistence.repository.SocialImageFileRepository;
 import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.social.persistence.vo.SocialCardCategory;
+import im.toduck.domain.social.persistence.vo.SocialCardImage;
 import im.toduck.domain.social.presentation.dto.request.SocialCreateRequest;
 import im.toduck.domain.social.presentation.dto.request.SocialUpdateRequest;
 import im.toduck.domain.social.presentation.dto.response.CommentDto;
+import im.toduck.domain.social.presentation.dto.response.SocialBatchResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialCategoryResponse.SocialCategoryDto;
 import im.toduck.domain.social.presentation.dto.response.SocialCreateResponse;
@@ -57,6 +74,12 @@ import im.toduck.fixtures.user.UserFixtures;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
+import im.toduck.global.util.KeysetCursor;
+import im.toduck.infra.redis.timeline.HomeTimelineService;
+import im.toduck.infra.redis.timeline.TimelineLookup;
+import im.toduck.infra.redis.trending.TrendingRankingService;
+import im.toduck.infra.redis.view.UniqueViewCounterService;
+import jakarta.persistence.EntityManager;
 
 @Transactional
 public class SocialBoardUseCaseTest extends ServiceTest {
@@ -77,12 +100,39 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 	@Autowired
 	private CommentRepository commentRepository;
 
+	@Autowired
+	private SocialCardRepository socialCardRepository;
+
+	@Autowired
+	private SocialCardService socialCardService;
+
 	@Autowired
 	private RoutineRepository routineRepository;
 
 	@Autowired
 	private CommentLikeRepository commentLikeRepository;
 
+	@Autowired
+	private CommentImageFileRepository commentImageFileRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private HomeTimelineService homeTimelineService;
+
+	@Autowired
+	private SocialTimelineService socialTimelineService;
+
+	@Autowired
+	private TrendingRankingService trendingRankingService;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private UniqueViewCounterService uniqueViewCounterService;
+
 	@BeforeEach
 	public void setUp() {
 		USER = testFixtureBuilder.buildUser(GENERAL_USER());
@@ -120,6 +170,34 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			});
 		}
 
+		@Test
+		void 게시글을_생성하면_이미지와_카테고리를_담은_피드_카드가_함께_생성된다() {
+			// when
+			SocialCreateResponse response = socialBoardUseCase.createSocialBoard(USER.getId(), request);
+			entityManager.flush();
+			entityManager.clear();
+
+			// then
+			SocialCard card = socialCardRepository.findById(response.socialId()).orElseThrow();
+			SocialResponse feedCard = socialBoardUseCase.getSocials(USER.getId(), null, 1, null).results().get(0);
+
+			assertSoftly(softly -> {
+				softly.assertThat(card.getImages())
+					.extracting(SocialCardImage::url)
+					.containsExactlyElementsOf(imageUrls);
+				softly.assertThat(card.getCategories())
+					.extracting(SocialCardCategory::socialCategoryId)
+					.containsExactlyInAnyOrderElementsOf(categoryIds);
+				softly.assertThat(feedCard.socialId()).isEqualTo(response.socialId());
+				softly.assertThat(feedCard.images())
+					.extracting(SocialImageDto::url)
+					.containsExactlyElementsOf(imageUrls);
+				softly.assertThat(feedCard.categories())
+					.extracting(SocialCategoryDto::socialCategoryId)
+					.containsExactlyInAnyOrderElementsOf(categoryIds);
+			});
+		}
+
 		@Test
 		void 사용자를_조회할_수_없는_경우_소셜_게시판_생성에_실패한다() {
 			// given
@@ -189,6 +267,24 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 				.hasMessage(ExceptionCode.PRIVATE_ROUTINE.getMessage());
 		}
 
+		@Test
+		void 띄어쓰기나_특수문자를_섞어도_금칙어가_포함되면_게시글_작성에_실패한다() {
+			// given
+			SocialCreateRequest requestWithForbiddenWord = new SocialCreateRequest(
+				null,
+				"오늘 루틴 진짜 씨.1 발 힘들었다",
+				null,
+				isAnonymous,
+				categoryIds,
+				imageUrls
+			);
+
+			// when & then
+			assertThatThrownBy(() -> socialBoardUseCase.createSocialBoard(USER.getId(), requestWithForbiddenWord))
+				.isInstanceOf(CommonException.class)
+				.hasMessage(ExceptionCode.FORBIDDEN_WORD_INCLUDED.getMessage());
+		}
+
 		@ParameterizedTest
 		@NullAndEmptySource
 		void 이미지URL이_null이거나_빈_리스트일때_게시글_작성에_성공한다(List<String> nullAndEmptyImageUrls) {
@@ -300,6 +396,31 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			});
 		}
 
+		@Test
+		@Transactional
+		void 게시글이_삭제되면_이미지와_댓글_좋아요는_soft_delete_되고_좋아요는_삭제된다() {
+			// given
+			List<SocialImageFile> imageFiles = testFixtureBuilder.buildSocialImageFiles(
+				SocialImageFileFixtures.MULTIPLE_IMAGE_FILES(SOCIAL_BOARD, List.of("image1.jpg", "image2.jpg"))
+			);
+			Like like = testFixtureBuilder.buildLike(LIKE(USER, SOCIAL_BOARD));
+			CommentLike commentLike = testFixtureBuilder.buildCommentLike(COMMENT_LIKE(USER, COMMENT));
+
+			// when
+			socialBoardUseCase.deleteSocialBoard(USER.getId(), SOCIAL_BOARD.getId());
+			entityManager.clear();
+
+			// then
+			assertSoftly(softly -> {
+				imageFiles.forEach(imageFile -> softly.assertThat(
+					socialImageFileRepository.findById(imageFile.getId()).orElseThrow().getDeletedAt()
+				).isNotNull());
+				softly.assertThat(entityManager.find(Like.class, like.getId())).isNull();
+				softly.assertThat(commentLikeRepository.findById(commentLike.getId()).orElseThrow().getDeletedAt())
+					.isNotNull();
+			});
+		}
+
 	}
 
 	@Nested
@@ -424,6 +545,34 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			});
 		}
 
+		@Test
+		void 이미지를_수정하면_피드_카드도_함께_갱신된다() {
+			// given
+			SocialUpdateRequest updateRequest = new SocialUpdateRequest(
+				false, null, false, null,
+				null,
+				null,
+				null,
+				imageUrls
+			);
+
+			// when
+			socialBoardUseCase.updateSocialBoard(USER.getId(), SOCIAL_BOARD.getId(), updateRequest);
+			entityManager.flush();
+			entityManager.clear();
+
+			// then
+			SocialCard card = socialCardRepository.findById(SOCIAL_BOARD.getId()).orElseThrow();
+			assertSoftly(softly -> {
+				softly.assertThat(card.getImages())
+					.extracting(SocialCardImage::url)
+					.containsExactlyElementsOf(imageUrls);
+				softly.assertThat(card.getCategories())
+					.extracting(SocialCardCategory::socialCategoryId)
+					.containsExactlyInAnyOrderElementsOf(validCategoryIds);
+			});
+		}
+
 		@Test
 		void 존재하지_않는_게시글을_수정하려고_하면_예외가_발생한다() {
 			Long nonExistentSocialBoardId = -1L;
@@ -651,6 +800,22 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			});
 		}
 
+		@Test
+		void 같은_사용자의_반복_조회는_조회수에_한_번만_반영된다() {
+			// given
+			User OTHER_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			// 재사용되는 Redis 컨테이너에 남아 있을 수 있는 방문자 집계를 제거합니다.
+			uniqueViewCounterService.evict(SOCIAL_BOARD.getId());
+
+			// when
+			socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+			socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+			SocialDetailResponse response = socialBoardUseCase.getSocialDetail(OTHER_USER.getId(), SOCIAL_BOARD.getId());
+
+			// then
+			assertThat(response.viewCount()).isEqualTo(2L);
+		}
+
 		@Test
 		void 댓글_정렬_테스트() {
 			Social SOCIAL_BOARD_FOR_COMMENT = testFixtureBuilder.buildSocial(
@@ -683,21 +848,88 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 				USER.getId(),
 				SOCIAL_BOARD_FOR_COMMENT.getId()
 			);
+			CursorPaginationResponse<CommentDto> repliesOfParent1 = socialBoardUseCase.getReplies(
+				USER.getId(),
+				SOCIAL_BOARD_FOR_COMMENT.getId(),
+				parent1.getId(),
+				null,
+				null
+			);
 
 			assertSoftly(softly -> {
 				softly.assertThat(response.comments())
 					.extracting(CommentDto::commentId)
-					.containsExactly(
-						parent1.getId(), replyToParent1_1.getId(), replyToParent1_2.getId(),
-						parent2.getId(),
-						blockParent.getId(), replyToBlockParent.getId(),
-						parent3.getId(), replyToParent3.getId());
-				softly.assertThat(response.comments().get(4).owner().ownerId()).isEqualTo(0L);
-				softly.assertThat(response.comments().get(4).owner().nickname()).isEqualTo("차단된 사용자");
-				softly.assertThat(response.comments().get(4).content()).isEqualTo("차단한 작성자의 댓글입니다.");
+					.containsExactly(parent1.getId(), parent2.getId(), blockParent.getId(), parent3.getId());
+				softly.assertThat(response.comments())
+					.extracting(CommentDto::replyCount)
+					.containsExactly(2, 0, 1, 1);
+				softly.assertThat(response.hasMoreComments()).isFalse();
+				softly.assertThat(response.comments().get(2).owner().ownerId()).isEqualTo(0L);
+				softly.assertThat(response.comments().get(2).owner().nickname()).isEqualTo("차단된 사용자");
+				softly.assertThat(response.comments().get(2).content()).isEqualTo("차단한 작성자의 댓글입니다.");
+
+				softly.assertThat(repliesOfParent1.results())
+					.extracting(CommentDto::commentId)
+					.containsExactly(replyToParent1_1.getId(), replyToParent1_2.getId());
+				softly.assertThat(repliesOfParent1.results())
+					.allMatch(CommentDto::isReply);
 			});
 		}
 
+		@Test
+		void 댓글_목록을_커서로_이어서_조회할_수_있다() {
+			// given
+			Social SOCIAL_BOARD_FOR_COMMENT = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Comment first = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL_BOARD_FOR_COMMENT));
+			Comment second = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL_BOARD_FOR_COMMENT));
+			testFixtureBuilder.buildComment(REPLY_COMMENT(USER, SOCIAL_BOARD_FOR_COMMENT, first));
+			Comment third = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL_BOARD_FOR_COMMENT));
+
+			// when
+			CursorPaginationResponse<CommentDto> firstPage = socialBoardUseCase.getComments(
+				USER.getId(),
+				SOCIAL_BOARD_FOR_COMMENT.getId(),
+				null,
+				2
+			);
+			CursorPaginationResponse<CommentDto> secondPage = socialBoardUseCase.getComments(
+				USER.getId(),
+				SOCIAL_BOARD_FOR_COMMENT.getId(),
+				KeysetCursor.from(firstPage.nextCursorToken()),
+				2
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(firstPage.results())
+					.extracting(CommentDto::commentId)
+					.containsExactly(first.getId(), second.getId());
+				softly.assertThat(firstPage.hasMore()).isTrue();
+				softly.assertThat(secondPage.results())
+					.extracting(CommentDto::commentId)
+					.containsExactly(third.getId());
+				softly.assertThat(secondPage.hasMore()).isFalse();
+			});
+		}
+
+		@Test
+		void 다른_게시글의_댓글로_답글을_조회하면_실패한다() {
+			// given
+			Social OTHER_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Comment otherComment = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, OTHER_SOCIAL));
+
+			// when & then
+			assertThatThrownBy(() -> socialBoardUseCase.getReplies(
+				USER.getId(),
+				SOCIAL_BOARD.getId(),
+				otherComment.getId(),
+				null,
+				null
+			))
+				.isInstanceOf(CommonException.class)
+				.hasMessage(ExceptionCode.INVALID_COMMENT_FOR_BOARD.getMessage());
+		}
+
 		@Test
 		void 게시글이_없는_경우_단건_조회에_실패_한다() {
 			// given
@@ -729,14 +961,111 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("게시글 일괄 조회시")
+	class GetSocialBatch {
+		Social FIRST_SOCIAL;
+		Social SECOND_SOCIAL;
+		Social BLOCKED_USER_SOCIAL;
+
+		@BeforeEach
+		void setUp() {
+			User AUTHOR = testFixtureBuilder.buildUser(GENERAL_USER());
+			User BLOCKED_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildBlock(BLOCK_USER(USER, BLOCKED_USER));
+
+			FIRST_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(AUTHOR, false));
+			SECOND_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(AUTHOR, false));
+			BLOCKED_USER_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(BLOCKED_USER, false));
+		}
+
+		@Test
+		void 요청한_순서대로_조회할_수_있는_게시글만_반환한다() {
+			// when
+			SocialBatchResponse response = socialBoardUseCase.getSocialBatch(
+				USER.getId(),
+				List.of(SECOND_SOCIAL.getId(), BLOCKED_USER_SOCIAL.getId(), -1L, FIRST_SOCIAL.getId(),
+					SECOND_SOCIAL.getId())
+			);
+
+			// then
+			assertThat(response.socials())
+				.extracting(SocialResponse::socialId)
+				.containsExactly(SECOND_SOCIAL.getId(), FIRST_SOCIAL.getId());
+		}
+
+		@Test
+		void 최대_개수보다_많은_게시글을_요청하면_예외가_발생한다() {
+			// given
+			List<Long> socialIds = LongStream.rangeClosed(1, 21).boxed().toList();
+
+			// when & then
+			assertThatThrownBy(() -> socialBoardUseCase.getSocialBatch(USER.getId(), socialIds))
+				.isInstanceOf(CommonException.class)
+				.hasMessage(ExceptionCode.EXCEEDED_SOCIAL_BATCH_SIZE.getMessage());
+		}
+	}
+
 	@Nested
 	@DisplayName("게시글 목록 조회시")
 	class GetSocials {
+		/**
+		 * 사용자 조회, 차단 사용자 조회, 게시글 목록 조회, 피드 카드/좋아요 여부 일괄 조회
+		 */
+		private static final int MAX_STATEMENT_COUNT_PER_PAGE = 5;
+
+		@Test
+		void 게시글_수와_관계없이_한_페이지_조회에_고정된_수의_쿼리만_실행한다() {
+			// given
+			int numberOfPosts = 10;
+			List<SocialCategory> categories = testFixtureBuilder.buildCategories(MULTIPLE_CATEGORIES(2));
+			List<Social> socials = testFixtureBuilder.buildSocials(MULTIPLE_SOCIALS(USER, numberOfPosts));
+			socials.forEach(social -> {
+				testFixtureBuilder.buildSocialCategoryLinks(categories.get(0), social);
+				testFixtureBuilder.buildSocialCategoryLinks(categories.get(1), social);
+				testFixtureBuilder.buildSocialImageFiles(
+					SocialImageFileFixtures.MULTIPLE_IMAGE_FILES(social, List.of("image1.jpg", "image2.jpg"))
+				);
+				testFixtureBuilder.buildLike(LIKE(USER, social));
+				socialCardService.refreshCard(social.getId());
+			});
+			entityManager.flush();
+			entityManager.clear();
+
+			Statistics statistics = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+			statistics.setStatisticsEnabled(true);
+			statistics.clear();
+
+			// when
+			CursorPaginationResponse<SocialResponse> response = socialBoardUseCase.getSocials(
+				USER.getId(),
+				null,
+				numberOfPosts,
+				null
+			);
+			long statementCount = statistics.getPrepareStatementCount();
+			statistics.setStatisticsEnabled(false);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.results()).hasSize(numberOfPosts);
+				softly.assertThat(response.results())
+					.allSatisfy(socialResponse -> {
+						assertThat(socialResponse.images()).hasSize(2);
+						assertThat(socialResponse.categories()).hasSize(2);
+						assertThat(socialResponse.socialLikeInfo().isLikedByMe()).isTrue();
+					});
+				softly.assertThat(statementCount).isLessThanOrEqualTo(MAX_STATEMENT_COUNT_PER_PAGE);
+			});
+		}
+
 		@Test
 		void 존재하지_않는_사용자일_경우_조회에_실패한다() {
 			// given
 			Long nonExistentUserId = -1L;
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 
 			// when & then
@@ -757,7 +1086,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			// when
 			CursorPaginationResponse<SocialResponse> response = socialBoardUseCase.getSocials(
 				USER.getId(),
-				cursor,
+				KeysetCursor.ofId(cursor),
 				limit,
 				null
 			);
@@ -798,7 +1127,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 				testFixtureBuilder.buildSocialCategoryLinks(categories.get(1), social)
 			);
 
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 
 			// when
@@ -819,7 +1148,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 		@Test
 		void 존재하지_않는_카테고리를_포함하면_예외가_발생한다() {
 			// given
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 			List<Long> invalidCategoryIds = List.of(1L, -1L);
 
@@ -834,7 +1163,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			// given
 			int numberOfPosts = 10;
 			testFixtureBuilder.buildSocials(MULTIPLE_SOCIALS(USER, numberOfPosts));
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 
 			// when
@@ -853,6 +1182,276 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("팔로잉 게시글 목록 조회시")
+	class GetFollowingSocials {
+		User FOLLOWED_USER;
+		User UNFOLLOWED_USER;
+
+		@BeforeEach
+		void setUp() {
+			FOLLOWED_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			UNFOLLOWED_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildFollow(USER, FOLLOWED_USER);
+			// 재사용되는 Redis 컨테이너에 남아 있을 수 있는 타임라인을 제거하여 DB 에서 적재되도록 합니다.
+			homeTimelineService.evict(USER.getId());
+		}
+
+		@Test
+		void 팔로우한_사용자의_게시글만_최신순으로_조회한다() {
+			// given
+			Social FIRST_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+			Social SECOND_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+			testFixtureBuilder.buildSocial(SINGLE_SOCIAL(UNFOLLOWED_USER, false));
+
+			// when
+			CursorPaginationResponse<SocialResponse> response = socialBoardUseCase.getFollowingSocials(
+				USER.getId(),
+				null,
+				10
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(SECOND_SOCIAL.getId(), FIRST_SOCIAL.getId());
+				softly.assertThat(response.hasMore()).isFalse();
+			});
+		}
+
+		@Test
+		void 다음_페이지는_커서_이전의_게시글을_조회한다() {
+			// given
+			Social FIRST_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+			Social SECOND_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+
+			// when
+			CursorPaginationResponse<SocialResponse> firstPage = socialBoardUseCase.getFollowingSocials(
+				USER.getId(),
+				null,
+				1
+			);
+			CursorPaginationResponse<SocialResponse> secondPage = socialBoardUseCase.getFollowingSocials(
+				USER.getId(),
+				KeysetCursor.ofId(firstPage.nextCursor()),
+				1
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(firstPage.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(SECOND_SOCIAL.getId());
+				softly.assertThat(firstPage.hasMore()).isTrue();
+				softly.assertThat(secondPage.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(FIRST_SOCIAL.getId());
+			});
+		}
+
+		@Test
+		void 삭제된_게시글과_차단한_사용자의_게시글은_제외된다() {
+			// given
+			User BLOCKED_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildFollow(USER, BLOCKED_USER);
+			testFixtureBuilder.buildBlock(BLOCK_USER(USER, BLOCKED_USER));
+
+			Social VISIBLE_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+			Social DELETED_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+			testFixtureBuilder.buildSocial(SINGLE_SOCIAL(BLOCKED_USER, false));
+			socialRepository.delete(DELETED_SOCIAL);
+			entityManager.flush();
+			entityManager.clear();
+
+			// when
+			CursorPaginationResponse<SocialResponse> response = socialBoardUseCase.getFollowingSocials(
+				USER.getId(),
+				null,
+				10
+			);
+
+			// then
+			assertThat(response.results())
+				.extracting(SocialResponse::socialId)
+				.containsExactly(VISIBLE_SOCIAL.getId());
+		}
+
+		@Test
+		void 작성된_게시글은_적재된_팔로워_타임라인에_추가된다() {
+			// given
+			socialBoardUseCase.getFollowingSocials(USER.getId(), null, 10);
+			Social NEW_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+
+			// when
+			SocialTimelineService target = AopTestUtils.getTargetObject(socialTimelineService);
+			target.fanOut(NEW_SOCIAL.getId(), FOLLOWED_USER.getId());
+
+			// then
+			TimelineLookup lookup = homeTimelineService.lookup(USER.getId(), null, 10);
+			assertSoftly(softly -> {
+				softly.assertThat(lookup.loaded()).isTrue();
+				softly.assertThat(lookup.socialIds()).containsExactly(NEW_SOCIAL.getId());
+			});
+		}
+
+		@Test
+		void 팔로워가_많은_사용자의_게시글은_조회_시_타임라인과_병합된다() {
+			// given
+			User HIGH_FOLLOWER_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildFollow(USER, HIGH_FOLLOWER_USER);
+			entityManager.createNativeQuery("INSERT INTO user_stats "
+					+ "(user_id, follower_count, following_count, post_count, routine_share_count, created_at, updated_at) "
+					+ "VALUES (:userId, 10001, 0, 0, 0, NOW(), NOW())")
+				.setParameter("userId", HIGH_FOLLOWER_USER.getId())
+				.executeUpdate();
+			socialBoardUseCase.getFollowingSocials(USER.getId(), null, 10);
+
+			Social OLDER_PULLED_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(HIGH_FOLLOWER_USER, false));
+			Social FANNED_OUT_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(FOLLOWED_USER, false));
+			Social NEWER_PULLED_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(HIGH_FOLLOWER_USER, false));
+			SocialTimelineService target = AopTestUtils.getTargetObject(socialTimelineService);
+			target.fanOut(FANNED_OUT_SOCIAL.getId(), FOLLOWED_USER.getId());
+			target.fanOut(NEWER_PULLED_SOCIAL.getId(), HIGH_FOLLOWER_USER.getId());
+
+			// when
+			CursorPaginationResponse<SocialResponse> response = socialBoardUseCase.getFollowingSocials(
+				USER.getId(),
+				null,
+				10
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(homeTimelineService.lookup(USER.getId(), null, 10).socialIds())
+					.containsExactly(FANNED_OUT_SOCIAL.getId());
+				softly.assertThat(response.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(NEWER_PULLED_SOCIAL.getId(), FANNED_OUT_SOCIAL.getId(), OLDER_PULLED_SOCIAL.getId());
+			});
+		}
+	}
+
+	@Nested
+	@DisplayName("인기 게시글 목록 조회시")
+	class GetTrendingSocials {
+
+		@BeforeEach
+		void setUp() {
+			// 재사용되는 Redis 컨테이너에 남아 있을 수 있는 순위를 제거합니다.
+			redisTemplate.delete(List.of("trending:{socials}", "trending:{socials}:epoch"));
+		}
+
+		private void addScore(final Social social, final double weight) {
+			trendingRankingService.addScore(social.getId(), weight, Instant.now().getEpochSecond(), 0.0, 0.01);
+		}
+
+		@Test
+		void 점수가_높은_순으로_조회하고_삭제된_게시글과_차단한_사용자의_게시글은_제외한다() {
+			// given
+			User BLOCKED_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildBlock(BLOCK_USER(USER, BLOCKED_USER));
+
+			Social LOW_SCORE_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Social HIGH_SCORE_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Social DELETED_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Social BLOCKED_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(BLOCKED_USER, false));
+			socialRepository.delete(DELETED_SOCIAL);
+			entityManager.flush();
+			entityManager.clear();
+
+			addScore(LOW_SCORE_SOCIAL, 1.0);
+			addScore(HIGH_SCORE_SOCIAL, 3.0);
+			addScore(DELETED_SOCIAL, 4.0);
+			addScore(BLOCKED_SOCIAL, 5.0);
+
+			// when
+			CursorPaginationResponse<SocialResponse> response = socialBoardUseCase.getTrendingSocials(
+				USER.getId(),
+				null,
+				10,
+				null
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(HIGH_SCORE_SOCIAL.getId(), LOW_SCORE_SOCIAL.getId());
+				softly.assertThat(response.hasMore()).isFalse();
+			});
+		}
+
+		@Test
+		void 조회_횟수_제한_안에_채우지_못하면_짧은_페이지를_반환하고_읽은_위치부터_이어서_조회한다() {
+			// given
+			Social SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			addScore(SOCIAL, 1.0);
+			LongStream.rangeClosed(1, 300).forEach(i -> trendingRankingService.addScore(
+				Long.MAX_VALUE - i, 2.0, Instant.now().getEpochSecond(), 0.0, 0.01));
+
+			// when
+			CursorPaginationResponse<SocialResponse> firstPage = socialBoardUseCase.getTrendingSocials(
+				USER.getId(),
+				null,
+				10,
+				null
+			);
+			CursorPaginationResponse<SocialResponse> secondPage = socialBoardUseCase.getTrendingSocials(
+				USER.getId(),
+				KeysetCursor.ofId(firstPage.nextCursor()),
+				10,
+				null
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(firstPage.results()).isEmpty();
+				softly.assertThat(firstPage.hasMore()).isTrue();
+				softly.assertThat(firstPage.nextCursor()).isEqualTo(250L);
+				softly.assertThat(secondPage.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(SOCIAL.getId());
+				softly.assertThat(secondPage.hasMore()).isFalse();
+			});
+		}
+
+		@Test
+		void 다음_페이지는_커서의_순위부터_조회한다() {
+			// given
+			Social LOW_SCORE_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			Social HIGH_SCORE_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			addScore(LOW_SCORE_SOCIAL, 1.0);
+			addScore(HIGH_SCORE_SOCIAL, 2.0);
+
+			// when
+			CursorPaginationResponse<SocialResponse> firstPage = socialBoardUseCase.getTrendingSocials(
+				USER.getId(),
+				null,
+				1,
+				null
+			);
+			CursorPaginationResponse<SocialResponse> secondPage = socialBoardUseCase.getTrendingSocials(
+				USER.getId(),
+				KeysetCursor.ofId(firstPage.nextCursor()),
+				1,
+				null
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(firstPage.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(HIGH_SCORE_SOCIAL.getId());
+				softly.assertThat(firstPage.hasMore()).isTrue();
+				softly.assertThat(secondPage.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(LOW_SCORE_SOCIAL.getId());
+				softly.assertThat(secondPage.hasMore()).isFalse();
+			});
+		}
+	}
+
 	@Nested
 	@DisplayName("카테고리 전체 조회시")
 	class GetAllCategories {
@@ -909,7 +1508,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 				SocialFixtures.SINGLE_SOCIAL_WITH_TITLE(USER, "루틴을 꾸준히!")
 			));
 
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 
 			// when
@@ -947,7 +1546,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 				SocialFixtures.SINGLE_SOCIAL_WITH_CONTENT(USER, "건강이 가장 중요")
 			));
 
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 
 			// when
@@ -974,6 +1573,45 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			});
 		}
 
+		@Test
+		void 관련도_점수가_높은_게시글을_먼저_조회하고_같은_점수는_최신순으로_조회한다() {
+			// given
+			String keyword = "운동";
+			Social bothMatched = testFixtureBuilder.buildSocial(
+				SINGLE_SOCIAL_WITH_TITLE_AND_CONTENT(USER, "운동 기록", "오늘도 운동 완료"));
+			Social olderContentMatched = testFixtureBuilder.buildSocial(SINGLE_SOCIAL_WITH_CONTENT(USER, "아침 운동"));
+			Social newerContentMatched = testFixtureBuilder.buildSocial(SINGLE_SOCIAL_WITH_CONTENT(USER, "저녁 운동"));
+
+			// when
+			CursorPaginationResponse<SocialResponse> firstPage = socialBoardUseCase.searchSocials(
+				USER.getId(),
+				keyword,
+				null,
+				2,
+				null
+			);
+			CursorPaginationResponse<SocialResponse> secondPage = socialBoardUseCase.searchSocials(
+				USER.getId(),
+				keyword,
+				KeysetCursor.from(firstPage.nextCursorToken()),
+				2,
+				null
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(firstPage.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(bothMatched.getId(), newerContentMatched.getId());
+				softly.assertThat(firstPage.hasMore()).isTrue();
+				softly.assertThat(firstPage.nextCursorToken()).isNotNull();
+				softly.assertThat(secondPage.results())
+					.extracting(SocialResponse::socialId)
+					.containsExactly(olderContentMatched.getId());
+				softly.assertThat(secondPage.hasMore()).isFalse();
+			});
+		}
+
 		@Test
 		void 키워드와_카테고리_필터를_함께_적용하여_게시글을_조회한다() {
 			// given
@@ -993,7 +1631,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			Social social4_cat1 = testFixtureBuilder.buildSocial(SINGLE_SOCIAL_WITH_CONTENT(USER, "독서 기록"));
 			testFixtureBuilder.buildSocialCategoryLinks(categories.get(0), social4_cat1);
 
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 			List<Long> filterCategoryIds = List.of(category1Id); // 카테고리1로 필터링
 
@@ -1021,7 +1659,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 		void 검색시_유효하지_않은_카테고리ID가_포함되면_예외가_발생한다() {
 			// given
 			String keyword = "테스트";
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 			List<Long> invalidCategoryIds = List.of(category1Id, -999L); // 유효하지 않은 ID 포함
 
@@ -1040,7 +1678,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			Social social1_cat1 = testFixtureBuilder.buildSocial(SINGLE_SOCIAL_WITH_CONTENT(USER, "오늘의 운동 루틴"));
 			testFixtureBuilder.buildSocialCategoryLinks(categories.get(0), social1_cat1);
 
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 			List<Long> filterCategoryIds = List.of(category1Id);
 
@@ -1079,7 +1717,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			testFixtureBuilder.buildSocialCategoryLinks(categories.get(1), social3);
 
 			String keyword = null;
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 			List<Long> filterCategoryIds = List.of(category1Id, category2Id); // 카테고리 1과 2를 모두 만족해야 함
 
@@ -1124,7 +1762,7 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 			testFixtureBuilder.buildSocialCategoryLinks(categories.get(1), social4);
 
 			String keyword = "운동";
-			Long cursor = null;
+			KeysetCursor cursor = null;
 			Integer limit = 10;
 			List<Long> filterCategoryIds = List.of(category1Id, category2Id); // 카테고리 1과 2를 모두 만족해야 함
 
@@ -1148,4 +1786,73 @@ public class SocialBoardUseCaseTest extends ServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("댓글 목록 조회시")
+	class CommentListStatementCount {
+		private static final int COMMENT_COUNT = 200;
+		/**
+		 * 사용자, 차단 목록, 게시글, 댓글 목록 조회, 이미지/좋아요 여부/답글 수 일괄 조회
+		 */
+		private static final int MAX_STATEMENT_COUNT_PER_PAGE = 8;
+
+		@Test
+		void 댓글_수와_관계없이_일정한_수의_쿼리로_댓글_목록을_조립한다() {
+			// given
+			User BLOCK_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildBlock(BLOCK_USER(USER, BLOCK_USER));
+			Social SOCIAL_BOARD = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+
+			for (int i = 0; i < COMMENT_COUNT; i++) {
+				User author = i % 10 == 0 ? BLOCK_USER : USER;
+				Comment comment = testFixtureBuilder.buildComment(SINGLE_COMMENT(author, SOCIAL_BOARD));
+				if (i % 3 == 0) {
+					testFixtureBuilder.buildCommentLike(COMMENT_LIKE(USER, comment));
+				}
+				if (i % 5 == 0) {
+					commentImageFileRepository.save(CommentImageFile.builder()
+						.comment(comment)
+						.url("comment-image-" + i + ".jpg")
+						.build());
+				}
+				if (i % 7 == 0) {
+					testFixtureBuilder.buildComment(REPLY_COMMENT(USER, SOCIAL_BOARD, comment));
+				}
+			}
+
+			entityManager.flush();
+			entityManager.clear();
+
+			Statistics statistics = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+			statistics.setStatisticsEnabled(true);
+			statistics.clear();
+
+			// when
+			CursorPaginationResponse<CommentDto> response = socialBoardUseCase.getComments(
+				USER.getId(),
+				SOCIAL_BOARD.getId(),
+				null,
+				COMMENT_COUNT
+			);
+			long statementCount = statistics.getPrepareStatementCount();
+			statistics.setStatisticsEnabled(false);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.results()).hasSize(COMMENT_COUNT);
+				softly.assertThat(response.results()).filteredOn(CommentDto::hasImage).hasSize(40);
+				softly.assertThat(response.results())
+					.filteredOn(comment -> comment.commentLikeInfo().isLikedByMe())
+					.hasSize(67);
+				softly.assertThat(response.results())
+					.filteredOn(comment -> comment.owner().ownerId() == 0L)
+					.hasSize(20);
+				softly.assertThat(response.results())
+					.filteredOn(comment -> comment.replyCount() == 1)
+					.hasSize(29);
+				softly.assertThat(statementCount).isLessThanOrEqualTo(MAX_STATEMENT_COUNT_PER_PAGE);
+			});
+		}
+	}
 }
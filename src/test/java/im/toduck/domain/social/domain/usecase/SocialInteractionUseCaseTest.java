@@ -34,13 +34,19 @@ import im.toduck.domain.social.presentation.dto.request.ReportCreateRequest;
 import im.toduck.domain.social.presentation.dto.response.CommentCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.CommentLikeCreateResponse;
 import im.toduck.domain.social.presentation.dto.response.ReportCreateResponse;
+import im.toduck.domain.social.presentation.dto.response.ReportedSocialResponse;
+import im.toduck.domain.social.presentation.dto.response.SocialDetailResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialLikeCreateResponse;
+import im.toduck.domain.social.presentation.dto.response.SocialResponse;
 import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.fixtures.social.CommentFixtures;
 import im.toduck.fixtures.user.UserFixtures;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.exception.ExceptionCode;
 import im.toduck.global.exception.VoException;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
+import im.toduck.global.util.KeysetCursor;
 
 public class SocialInteractionUseCaseTest extends ServiceTest {
 
@@ -66,6 +72,9 @@ public class SocialInteractionUseCaseTest extends ServiceTest {
 	@Autowired
 	private CommentImageFileRepository commentImageFileRepository;
 
+	@Autowired
+	private SocialBoardUseCase socialBoardUseCase;
+
 	@BeforeEach
 	public void setUp() {
 		USER = testFixtureBuilder.buildUser(GENERAL_USER());
@@ -99,6 +108,19 @@ public class SocialInteractionUseCaseTest extends ServiceTest {
 			});
 		}
 
+		@Test
+		void 댓글을_작성하면_게시글의_댓글_수가_증가한다() {
+			// given
+			int beforeCommentCount = SOCIAL_BOARD.getCommentCount();
+
+			// when
+			socialInteractionUseCase.createComment(USER.getId(), SOCIAL_BOARD.getId(), request);
+
+			// then
+			Social afterSocialBoard = socialRepository.findById(SOCIAL_BOARD.getId()).orElseThrow();
+			assertThat(afterSocialBoard.getCommentCount()).isEqualTo(beforeCommentCount + 1);
+		}
+
 		@Test
 		void 주어진_요청에_따라_대댓글을_생성할_수_있다() {
 			// given
@@ -249,6 +271,25 @@ public class SocialInteractionUseCaseTest extends ServiceTest {
 			assertThat(commentRepository.findById(COMMENT.getId())).isNotPresent();
 		}
 
+		@Test
+		void 댓글을_삭제하면_게시글의_댓글_수가_감소한다() {
+			// given
+			CommentCreateRequest request = new CommentCreateRequest("삭제될 댓글", null, null);
+			CommentCreateResponse response = socialInteractionUseCase.createComment(
+				USER.getId(),
+				SOCIAL_BOARD.getId(),
+				request
+			);
+			int beforeCommentCount = socialRepository.findById(SOCIAL_BOARD.getId()).orElseThrow().getCommentCount();
+
+			// when
+			socialInteractionUseCase.deleteComment(USER.getId(), SOCIAL_BOARD.getId(), response.commentId());
+
+			// then
+			Social afterSocialBoard = socialRepository.findById(SOCIAL_BOARD.getId()).orElseThrow();
+			assertThat(afterSocialBoard.getCommentCount()).isEqualTo(beforeCommentCount - 1);
+		}
+
 		@Test
 		void 사용자를_조회할_수_없는_경우_댓글_삭제에_실패한다() {
 			// given
@@ -416,6 +457,148 @@ public class SocialInteractionUseCaseTest extends ServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("게시글 좋아요 목록 조회시")
+	class GetSocialLikersTest {
+		User FOLLOWED_LIKER;
+		User LIKER;
+
+		@BeforeEach
+		void setUp() {
+			FOLLOWED_LIKER = testFixtureBuilder.buildUser(GENERAL_USER());
+			LIKER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildFollow(USER, FOLLOWED_LIKER);
+			testFixtureBuilder.buildLike(LIKE(FOLLOWED_LIKER, SOCIAL_BOARD));
+			testFixtureBuilder.buildLike(LIKE(LIKER, SOCIAL_BOARD));
+		}
+
+		@Test
+		void 좋아요를_누른_사용자를_최근_순으로_팔로우_여부와_함께_조회한다() {
+			// given
+			User BLOCKED_LIKER = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildBlock(BLOCK_USER(USER, BLOCKED_LIKER));
+			testFixtureBuilder.buildLike(LIKE(BLOCKED_LIKER, SOCIAL_BOARD));
+
+			// when
+			CursorPaginationResponse<UserSummaryDto> response = socialInteractionUseCase.getSocialLikers(
+				USER.getId(),
+				SOCIAL_BOARD.getId(),
+				null,
+				10
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.results())
+					.extracting(UserSummaryDto::userId)
+					.containsExactly(LIKER.getId(), FOLLOWED_LIKER.getId());
+				softly.assertThat(response.results())
+					.extracting(UserSummaryDto::isFollowing)
+					.containsExactly(false, true);
+				softly.assertThat(response.hasMore()).isFalse();
+			});
+		}
+
+		@Test
+		void 다음_페이지는_커서_이전의_좋아요를_조회한다() {
+			// when
+			CursorPaginationResponse<UserSummaryDto> firstPage = socialInteractionUseCase.getSocialLikers(
+				USER.getId(),
+				SOCIAL_BOARD.getId(),
+				null,
+				1
+			);
+			CursorPaginationResponse<UserSummaryDto> secondPage = socialInteractionUseCase.getSocialLikers(
+				USER.getId(),
+				SOCIAL_BOARD.getId(),
+				KeysetCursor.ofId(firstPage.nextCursor()),
+				1
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(firstPage.results())
+					.extracting(UserSummaryDto::userId)
+					.containsExactly(LIKER.getId());
+				softly.assertThat(firstPage.hasMore()).isTrue();
+				softly.assertThat(secondPage.results())
+					.extracting(UserSummaryDto::userId)
+					.containsExactly(FOLLOWED_LIKER.getId());
+				softly.assertThat(secondPage.hasMore()).isFalse();
+			});
+		}
+	}
+
+	@Nested
+	@DisplayName("좋아요 여부 조회시")
+	class LikedByMeTest {
+		Social SOCIAL_BOARD;
+		Comment COMMENT;
+
+		@BeforeEach
+		void setUp() {
+			SOCIAL_BOARD = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+			COMMENT = testFixtureBuilder.buildComment(SINGLE_COMMENT(USER, SOCIAL_BOARD));
+		}
+
+		@Test
+		void 좋아요_생성과_취소가_이미_조회된_게시글의_좋아요_여부에_반영된다() {
+			// given
+			SocialDetailResponse beforeLike = socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			// when
+			socialInteractionUseCase.createSocialLike(USER.getId(), SOCIAL_BOARD.getId());
+			SocialDetailResponse afterLike = socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			socialInteractionUseCase.deleteSocialLike(USER.getId(), SOCIAL_BOARD.getId());
+			SocialDetailResponse afterUnlike = socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(beforeLike.socialLikeInfo().isLikedByMe()).isFalse();
+				softly.assertThat(afterLike.socialLikeInfo().isLikedByMe()).isTrue();
+				softly.assertThat(afterUnlike.socialLikeInfo().isLikedByMe()).isFalse();
+			});
+		}
+
+		@Test
+		void 좋아요_생성과_취소가_이미_조회된_댓글의_좋아요_여부에_반영된다() {
+			// given
+			SocialDetailResponse beforeLike = socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			// when
+			socialInteractionUseCase.createCommentLike(USER.getId(), COMMENT.getId());
+			SocialDetailResponse afterLike = socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			socialInteractionUseCase.deleteCommentLike(USER.getId(), COMMENT.getId());
+			SocialDetailResponse afterUnlike = socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(beforeLike.comments().get(0).commentLikeInfo().isLikedByMe()).isFalse();
+				softly.assertThat(afterLike.comments().get(0).commentLikeInfo().isLikedByMe()).isTrue();
+				softly.assertThat(afterUnlike.comments().get(0).commentLikeInfo().isLikedByMe()).isFalse();
+			});
+		}
+
+		@Test
+		void 다른_사용자의_좋아요는_요청자의_좋아요_여부에_영향을_주지_않는다() {
+			// given
+			User OTHER_USER = testFixtureBuilder.buildUser(GENERAL_USER());
+			socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			// when
+			socialInteractionUseCase.createSocialLike(OTHER_USER.getId(), SOCIAL_BOARD.getId());
+			SocialDetailResponse response = socialBoardUseCase.getSocialDetail(USER.getId(), SOCIAL_BOARD.getId());
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.socialLikeInfo().isLikedByMe()).isFalse();
+				softly.assertThat(response.socialLikeInfo().likeCount()).isEqualTo(1);
+			});
+		}
+	}
+
 	@Nested
 	class ReportSocialTest {
 
@@ -494,6 +677,50 @@ public class SocialInteractionUseCaseTest extends ServiceTest {
 			// then
 			assertThat(response.reportId()).isNotNull();
 		}
+
+		@Test
+		void 신고_수가_기준에_도달하면_게시글이_피드에서_숨겨진다() {
+			// given
+			User ANOTHER_REPORTER = testFixtureBuilder.buildUser(GENERAL_USER());
+			ReportCreateRequest request = new ReportCreateRequest(ReportType.OTHER, "부적절한 내용입니다.", false);
+
+			// when
+			socialInteractionUseCase.reportSocial(USER.getId(), SOCIAL_BOARD.getId(), request);
+			socialInteractionUseCase.reportSocial(ANOTHER_REPORTER.getId(), SOCIAL_BOARD.getId(), request);
+
+			// then
+			Social reportedSocial = socialRepository.findById(SOCIAL_BOARD.getId()).orElseThrow();
+			CursorPaginationResponse<SocialResponse> feed = socialBoardUseCase.getSocials(USER.getId(), null, 50, null);
+
+			assertSoftly(softly -> {
+				softly.assertThat(reportedSocial.getReportCount()).isEqualTo(2);
+				softly.assertThat(reportedSocial.isHidden()).isTrue();
+				softly.assertThat(feed.results())
+					.extracting(SocialResponse::socialId)
+					.doesNotContain(SOCIAL_BOARD.getId());
+			});
+		}
+
+		@Test
+		void 신고된_게시글을_신고_수가_많은_순으로_조회한다() {
+			// given
+			Social LESS_REPORTED_SOCIAL = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(OTHER_USER, false));
+			User ANOTHER_REPORTER = testFixtureBuilder.buildUser(GENERAL_USER());
+			ReportCreateRequest request = new ReportCreateRequest(ReportType.OTHER, "부적절한 내용입니다.", false);
+
+			socialInteractionUseCase.reportSocial(USER.getId(), LESS_REPORTED_SOCIAL.getId(), request);
+			socialInteractionUseCase.reportSocial(USER.getId(), SOCIAL_BOARD.getId(), request);
+			socialInteractionUseCase.reportSocial(ANOTHER_REPORTER.getId(), SOCIAL_BOARD.getId(), request);
+
+			// when
+			CursorPaginationResponse<ReportedSocialResponse> response =
+				socialInteractionUseCase.getReportedSocials(null, 50);
+
+			// then
+			assertThat(response.results())
+				.extracting(ReportedSocialResponse::socialId)
+				.containsSubsequence(SOCIAL_BOARD.getId(), LESS_REPORTED_SOCIAL.getId());
+		}
 	}
 
 	@Nested
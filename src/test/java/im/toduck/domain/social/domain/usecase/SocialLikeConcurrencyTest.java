@@ -0,0 +1,196 @@
+package im.toduck.domain.social.domain.usecase;
+
+import static im.toduck.fixtures.social.SocialFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.social.persistence.entity.Social;
+import im.toduck.domain.social.persistence.repository.LikeRepository;
+import im.toduck.domain.social.persistence.repository.SocialRepository;
+import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.global.exception.CommonException;
+import im.toduck.global.exception.ExceptionCode;
+
+/**
+ * 동시 요청이 각자의 트랜잭션으로 커밋되어야 하므로 {@code @Transactional} 을 사용하지 않습니다.
+ * 대신 테스트가 만든 사용자, 게시글, 좋아요를 매 테스트 후 직접 삭제해 다른 테스트의 개수 검증에 영향을 주지 않도록 합니다.
+ */
+class SocialLikeConcurrencyTest extends ServiceTest {
+	private static final int THREAD_POOL_SIZE = 32;
+	private static final long TIMEOUT_SECONDS = 60L;
+
+	@Autowired
+	private SocialInteractionUseCase socialInteractionUseCase;
+
+	@Autowired
+	private SocialRepository socialRepository;
+
+	@Autowired
+	private LikeRepository likeRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<Long> createdUserIds = new ArrayList<>();
+
+	private Social SOCIAL_BOARD;
+
+	@BeforeEach
+	void setUp() {
+		User writer = buildUser();
+		SOCIAL_BOARD = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(writer, false));
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM likes WHERE social_id = ?", SOCIAL_BOARD.getId());
+		jdbcTemplate.update("DELETE FROM social WHERE id = ?", SOCIAL_BOARD.getId());
+		jdbcTemplate.batchUpdate(
+			"DELETE FROM users WHERE id = ?",
+			createdUserIds.stream().map(id -> new Object[] {id}).toList()
+		);
+		createdUserIds.clear();
+	}
+
+	@Nested
+	@DisplayName("게시글 좋아요가 동시에 요청될 때")
+	class ConcurrentLike {
+
+		@Test
+		void 서로_다른_사용자의_좋아요가_유실되지_않는다() throws InterruptedException {
+			// given
+			int likeCount = 1_000;
+			List<User> users = IntStream.range(0, likeCount)
+				.mapToObj(i -> buildUser())
+				.toList();
+			AtomicInteger failureCount = new AtomicInteger();
+
+			// when
+			runConcurrently(users.size(), index -> {
+				try {
+					socialInteractionUseCase.createSocialLike(users.get(index).getId(), SOCIAL_BOARD.getId());
+				} catch (Exception e) {
+					failureCount.incrementAndGet();
+				}
+			});
+
+			// then
+			Social afterSocialBoard = socialRepository.findById(SOCIAL_BOARD.getId()).orElseThrow();
+			assertSoftly(softly -> {
+				softly.assertThat(failureCount.get()).isZero();
+				softly.assertThat(afterSocialBoard.getLikeCount()).isEqualTo(likeCount);
+				softly.assertThat(likeRepository.findAllBySocial(afterSocialBoard)).hasSize(likeCount);
+			});
+		}
+
+		@Test
+		void 같은_사용자의_중복_좋아요는_한_번만_반영된다() throws InterruptedException {
+			// given
+			int requestCount = 100;
+			User user = buildUser();
+			AtomicInteger duplicatedCount = new AtomicInteger();
+
+			// when
+			runConcurrently(requestCount, index -> {
+				try {
+					socialInteractionUseCase.createSocialLike(user.getId(), SOCIAL_BOARD.getId());
+				} catch (CommonException e) {
+					if (e.isExceptionCode(ExceptionCode.EXISTS_LIKE)) {
+						duplicatedCount.incrementAndGet();
+					}
+				}
+			});
+
+			// then
+			Social afterSocialBoard = socialRepository.findById(SOCIAL_BOARD.getId()).orElseThrow();
+			assertSoftly(softly -> {
+				softly.assertThat(duplicatedCount.get()).isEqualTo(requestCount - 1);
+				softly.assertThat(afterSocialBoard.getLikeCount()).isEqualTo(1);
+			});
+		}
+	}
+
+	@Nested
+	@DisplayName("게시글 좋아요 취소가 동시에 요청될 때")
+	class ConcurrentUnlike {
+
+		@Test
+		void 같은_좋아요를_여러_번_취소해도_좋아요_수는_한_번만_감소한다() throws InterruptedException {
+			// given
+			int requestCount = 50;
+			User user = buildUser();
+			socialInteractionUseCase.createSocialLike(user.getId(), SOCIAL_BOARD.getId());
+
+			// when
+			runConcurrently(requestCount, index -> {
+				try {
+					socialInteractionUseCase.deleteSocialLike(user.getId(), SOCIAL_BOARD.getId());
+				} catch (CommonException ignored) {
+					// 이미 취소된 좋아요에 대한 요청은 실패해야 한다.
+				}
+			});
+
+			// then
+			Social afterSocialBoard = socialRepository.findById(SOCIAL_BOARD.getId()).orElseThrow();
+			assertSoftly(softly -> {
+				softly.assertThat(afterSocialBoard.getLikeCount()).isZero();
+				softly.assertThat(likeRepository.findByUserAndSocial(user, afterSocialBoard)).isNotPresent();
+			});
+		}
+	}
+
+	private User buildUser() {
+		User user = testFixtureBuilder.buildUser(GENERAL_USER());
+		createdUserIds.add(user.getId());
+		return user;
+	}
+
+	private void runConcurrently(final int taskCount, final IndexedTask task) throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(taskCount);
+
+		for (int i = 0; i < taskCount; i++) {
+			int index = i;
+			executorService.submit(() -> {
+				try {
+					startLatch.await();
+					task.run(index);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+
+		startLatch.countDown();
+		boolean completed = doneLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		executorService.shutdown();
+		assertThat(completed).isTrue();
+	}
+
+	@FunctionalInterface
+	private interface IndexedTask {
+		void run(int index);
+	}
+}
@@ -10,6 +10,7 @@ import static org.assertj.core.api.SoftAssertions.*;
 
 import java.lang.reflect.Field;
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import im.toduck.ServiceTest;
@@ -33,9 +35,11 @@ import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.social.presentation.dto.response.SocialProfileResponse;
 import im.toduck.domain.social.presentation.dto.response.SocialResponse;
 import im.toduck.domain.social.presentation.dto.response.UserProfileRoutineListResponse;
+import im.toduck.domain.user.domain.service.UserStatsService;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.global.exception.CommonException;
 import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
+import im.toduck.global.util.KeysetCursor;
 import jakarta.persistence.EntityManager;
 
 public class SocialProfileUseCaseTest extends ServiceTest {
@@ -46,6 +50,9 @@ public class SocialProfileUseCaseTest extends ServiceTest {
 	@Autowired
 	private RoutineRepository routineRepository;
 
+	@Autowired
+	private UserStatsService userStatsService;
+
 	@Autowired
 	private EntityManager entityManager;
 
@@ -104,6 +111,31 @@ public class SocialProfileUseCaseTest extends ServiceTest {
 			assertThat(response.isMe()).isFalse();
 		}
 
+		@Test
+		void 집계_행이_있으면_집계_값으로_프로필을_조회한다() {
+			// given
+			User follower = testFixtureBuilder.buildUser(GENERAL_USER());
+			testFixtureBuilder.buildFollow(follower, PROFILE_USER);
+			userStatsService.increaseFollowCounts(follower.getId(), PROFILE_USER.getId());
+			testFixtureBuilder.buildSocial(SINGLE_SOCIAL(PROFILE_USER, false));
+			userStatsService.increasePostCount(PROFILE_USER.getId());
+			userStatsService.increaseRoutineShareCount(PROFILE_USER.getId(), 3);
+
+			// when
+			SocialProfileResponse response = socialProfileUseCase.getUserProfile(
+				PROFILE_USER.getId(),
+				AUTH_USER.getId()
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.followerCount()).isEqualTo(1);
+				softly.assertThat(response.followingCount()).isZero();
+				softly.assertThat(response.postCount()).isEqualTo(1);
+				softly.assertThat(response.totalRoutineShareCount()).isEqualTo(3);
+			});
+		}
+
 		@Test
 		void 자신의_프로필_조회시_isMe가_true이다() {
 			// when
@@ -179,7 +211,7 @@ public class SocialProfileUseCaseTest extends ServiceTest {
 			CursorPaginationResponse<SocialResponse> nextPage = socialProfileUseCase.getUserSocials(
 				PROFILE_USER.getId(),
 				AUTH_USER.getId(),
-				cursor,
+				KeysetCursor.ofId(cursor),
 				limit
 			);
 
@@ -215,6 +247,28 @@ public class SocialProfileUseCaseTest extends ServiceTest {
 			});
 		}
 
+		@Test
+		void 신고로_숨겨진_게시글은_목록에서_제외된다() {
+			// given
+			Social visibleSocial = testFixtureBuilder.buildSocial(SINGLE_SOCIAL(PROFILE_USER, false));
+			Social hiddenSocial = SINGLE_SOCIAL(PROFILE_USER, false);
+			ReflectionTestUtils.setField(hiddenSocial, "hiddenAt", LocalDateTime.now());
+			testFixtureBuilder.buildSocial(hiddenSocial);
+
+			// when
+			CursorPaginationResponse<SocialResponse> response = socialProfileUseCase.getUserSocials(
+				PROFILE_USER.getId(),
+				AUTH_USER.getId(),
+				null,
+				10
+			);
+
+			// then
+			assertThat(response.results())
+				.extracting(SocialResponse::socialId)
+				.containsExactly(visibleSocial.getId());
+		}
+
 		@Test
 		void 존재하지_않는_사용자의_게시글_조회_시_예외가_발생한다() {
 			// given
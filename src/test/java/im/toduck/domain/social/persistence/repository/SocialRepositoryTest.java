@@ -11,12 +11,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 import im.toduck.RepositoryTest;
 import im.toduck.domain.social.persistence.entity.Social;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.fixtures.user.UserFixtures;
+import im.toduck.global.util.KeysetCursor;
 
 public class SocialRepositoryTest extends RepositoryTest {
 
@@ -53,12 +53,11 @@ public class SocialRepositoryTest extends RepositoryTest {
 	@Test
 	void 차단된_사용자의_게시물과_Soft_Delete_된_게시글을_제외하고_요청받은_커서_이후의_게시물을_최신순으로_조회할_수_있다() {
 		// given
-		Pageable pageable = PageRequest.of(0, 6);
 		Long cursor = SOCIAL_LIST.get(3).getId();
 
 		// categoryIds 파라미터를 추가(여기서는 필터링 없음)
-		List<Social> result = socialRepository.findSocialsExcludingBlocked(cursor, USER.getId(),
-			null, pageable);
+		List<Social> result = socialRepository.findSocialsExcludingBlocked(KeysetCursor.ofId(cursor), USER.getId(),
+			null, null, 6);
 
 		// then
 		assertSoftly(softly -> {
@@ -78,12 +77,11 @@ public class SocialRepositoryTest extends RepositoryTest {
 	@Test
 	void 유효하지_않은_커서로_요청할_경우_빈_리스트를_반환한다() {
 		// given
-		Pageable pageable = PageRequest.of(0, 2);
-		Long invalidCursor = -1L;
+		KeysetCursor invalidCursor = KeysetCursor.ofId(-1L);
 
 		// categoryIds 파라미터를 null로 전달
-		List<Social> result = socialRepository.findSocialsExcludingBlocked(invalidCursor, USER.getId(),
-			null, pageable);
+		List<Social> result = socialRepository.findSocialsExcludingBlocked(invalidCursor, USER.getId(), null,
+			null, 2);
 
 		// then
 		assertSoftly(softly -> {
@@ -95,11 +93,9 @@ public class SocialRepositoryTest extends RepositoryTest {
 	@Test
 	void 차단된_사용자의_게시물과_Soft_Delete_된_게시물을_제외하고_최신_게시물을_조회할_수_있다() {
 		// given
-		Pageable pageable = PageRequest.of(0, 6);
-
 		// 커서 없이 최신 게시물을 조회하는 경우 cursor를 null로 전달
-		List<Social> result = socialRepository.findSocialsExcludingBlocked(null, USER.getId(),
-			null, pageable);
+		List<Social> result = socialRepository.findSocialsExcludingBlocked(null, USER.getId(), null,
+			null, 6);
 
 		// then
 		assertSoftly(softly -> {
@@ -115,4 +111,20 @@ public class SocialRepositoryTest extends RepositoryTest {
 			});
 		});
 	}
+
+	@Test
+	void 미리_조회된_차단_사용자_목록으로_차단된_사용자의_게시물을_제외할_수_있다() {
+		// given
+		// when
+		List<Social> result = socialRepository.findSocialsExcludingBlocked(null, USER.getId(),
+			List.of(BLOCK_USER.getId()), null, 10);
+
+		// then
+		assertSoftly(softly -> {
+			softly.assertThat(result).hasSize(4);
+			result.forEach(social -> {
+				softly.assertThat(social.getUser().getId()).isNotEqualTo(BLOCK_USER.getId());
+			});
+		});
+	}
 }
@@ -0,0 +1,142 @@
+package im.toduck.domain.social.persistence.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 게시글 100만 건에서 LIKE 검색과 ngram FULLTEXT 검색의 지연 시간을 비교합니다.
+ * <p>
+ * MySQL 컨테이너와 데이터 적재에 수 분이 걸리므로 기본 test 태스크에서는 제외되며,
+ * {@code ./gradlew benchmarkTest} 로 실행합니다.
+ */
+@Tag("benchmark")
+class SocialSearchBenchmarkTest {
+	private static final Logger log = LoggerFactory.getLogger(SocialSearchBenchmarkTest.class);
+
+	private static final int SOCIAL_COUNT = 1_000_000;
+	private static final int PAGE_SIZE = 11;
+	private static final int WARM_UP_ROUNDS = 3;
+	private static final int MEASURE_ROUNDS = 20;
+
+	private static final String LIKE_QUERY = "SELECT id FROM social "
+		+ "WHERE deleted_at IS NULL AND (content LIKE ? OR title LIKE ?) "
+		+ "ORDER BY id DESC LIMIT " + PAGE_SIZE;
+
+	private static final String FULLTEXT_QUERY = "SELECT id FROM social "
+		+ "WHERE deleted_at IS NULL AND MATCH(title, content) AGAINST(? IN BOOLEAN MODE) > 0 "
+		+ "ORDER BY id DESC LIMIT " + PAGE_SIZE;
+
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0.36")
+		.withCommand("--ngram_token_size=2", "--innodb_ft_enable_stopword=0");
+
+	private static Connection connection;
+
+	@BeforeAll
+	static void setUp() throws SQLException {
+		MYSQL_CONTAINER.start();
+		connection = DriverManager.getConnection(
+			MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword()
+		);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE social ("
+				+ "id BIGINT PRIMARY KEY AUTO_INCREMENT, "
+				+ "title VARCHAR(100) NULL, "
+				+ "content VARCHAR(255) NOT NULL, "
+				+ "deleted_at DATETIME NULL)");
+
+			// 자주 등장하는 단어 10개와, 1만 건에 한 번 등장하는 단어로 게시글을 생성합니다.
+			statement.execute("SET SESSION cte_max_recursion_depth = " + SOCIAL_COUNT);
+			statement.execute("INSERT INTO social (title, content) "
+				+ "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + SOCIAL_COUNT + ") "
+				+ "SELECT CONCAT('오늘의 ', ELT(1 + n % 10, '운동', '독서', '명상', '산책', '공부', "
+				+ "'요리', '청소', '일기', '수면', '정리')), "
+				+ "CONCAT(ELT(1 + n % 7, '아침에 ', '점심에 ', '저녁에 ', '퇴근 후 ', '주말에 ', '새벽에 ', '자기 전 '), "
+				+ "ELT(1 + n % 10, '스트레칭', '책 읽기', '호흡 정리', '동네 한 바퀴', '영단어 외우기', "
+				+ "'도시락 만들기', '책상 정리', '감정 기록', '일찍 눕기', '메일함 비우기'), "
+				+ "IF(n % 10000 = 0, ' 희귀한키워드', ''), ' #', n) "
+				+ "FROM seq");
+
+			statement.execute("ALTER TABLE social "
+				+ "ADD FULLTEXT INDEX social_title_content_fulltext (title, content) WITH PARSER ngram");
+		}
+	}
+
+	@AfterAll
+	static void tearDown() throws SQLException {
+		connection.close();
+		MYSQL_CONTAINER.stop();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"독서", "스트레칭", "희귀한키워드", "존재하지않는검색어"})
+	void LIKE_검색과_FULLTEXT_검색의_지연_시간을_비교한다(String keyword) throws SQLException {
+		// when
+		long[] likeLatencies = measure(LIKE_QUERY, "%" + keyword + "%", "%" + keyword + "%");
+		long[] fulltextLatencies = measure(FULLTEXT_QUERY, "\"" + keyword + "\"");
+
+		// then
+		log.info("검색 벤치마크 - Keyword: {}, LIKE p50/p95(us): {}/{}, FULLTEXT p50/p95(us): {}/{}",
+			keyword,
+			percentile(likeLatencies, 50), percentile(likeLatencies, 95),
+			percentile(fulltextLatencies, 50), percentile(fulltextLatencies, 95));
+
+		assertThat(search(FULLTEXT_QUERY, "\"" + keyword + "\""))
+			.isEqualTo(search(LIKE_QUERY, "%" + keyword + "%", "%" + keyword + "%"));
+	}
+
+	private long[] measure(String sql, String... params) throws SQLException {
+		for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+			search(sql, params);
+		}
+
+		long[] latencies = new long[MEASURE_ROUNDS];
+		for (int i = 0; i < MEASURE_ROUNDS; i++) {
+			long startedAt = System.nanoTime();
+			search(sql, params);
+			latencies[i] = (System.nanoTime() - startedAt) / 1_000;
+		}
+
+		Arrays.sort(latencies);
+		return latencies;
+	}
+
+	private List<Long> search(String sql, String... params) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			for (int i = 0; i < params.length; i++) {
+				statement.setString(i + 1, params[i]);
+			}
+
+			List<Long> ids = new ArrayList<>();
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					ids.add(resultSet.getLong(1));
+				}
+			}
+			return ids;
+		}
+	}
+
+	private long percentile(long[] sortedLatencies, int percentile) {
+		int index = (int)Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(index, 0)];
+	}
+}
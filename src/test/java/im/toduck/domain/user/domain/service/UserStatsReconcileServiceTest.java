@@ -0,0 +1,73 @@
+package im.toduck.domain.user.domain.service;
+
+import static im.toduck.fixtures.social.SocialFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.persistence.entity.UserStats;
+import im.toduck.domain.user.persistence.repository.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+
+@Transactional
+class UserStatsReconcileServiceTest extends ServiceTest {
+
+	@Autowired
+	private UserStatsReconcileService userStatsReconcileService;
+
+	@Autowired
+	private UserStatsService userStatsService;
+
+	@Autowired
+	private UserStatsRepository userStatsRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void 집계_행이_없는_사용자의_집계_값을_생성한다() {
+		// given
+		User USER = testFixtureBuilder.buildUser(GENERAL_USER());
+		User FOLLOWER = testFixtureBuilder.buildUser(GENERAL_USER());
+		testFixtureBuilder.buildFollow(FOLLOWER, USER);
+		testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+
+		// when
+		userStatsReconcileService.reconcileUserStats();
+		entityManager.clear();
+
+		// then
+		UserStats userStats = userStatsRepository.findById(USER.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(userStats.getFollowerCount()).isEqualTo(1);
+			softly.assertThat(userStats.getFollowingCount()).isZero();
+			softly.assertThat(userStats.getPostCount()).isEqualTo(1);
+			softly.assertThat(userStats.getRoutineShareCount()).isZero();
+		});
+	}
+
+	@Test
+	void 원본과_어긋난_집계_값을_보정한다() {
+		// given
+		User USER = testFixtureBuilder.buildUser(GENERAL_USER());
+		userStatsService.increasePostCount(USER.getId());
+		userStatsService.increasePostCount(USER.getId());
+		userStatsService.increaseFollowCounts(USER.getId(), testFixtureBuilder.buildUser(GENERAL_USER()).getId());
+
+		// when
+		userStatsReconcileService.reconcileUserStats();
+		entityManager.clear();
+
+		// then
+		UserStats userStats = userStatsRepository.findById(USER.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(userStats.getPostCount()).isZero();
+			softly.assertThat(userStats.getFollowingCount()).isZero();
+		});
+	}
+}
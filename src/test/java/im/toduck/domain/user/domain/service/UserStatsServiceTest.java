@@ -0,0 +1,74 @@
+package im.toduck.domain.user.domain.service;
+
+import static im.toduck.fixtures.social.SocialFixtures.*;
+import static im.toduck.fixtures.user.UserFixtures.*;
+import static org.assertj.core.api.SoftAssertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import im.toduck.ServiceTest;
+import im.toduck.domain.user.persistence.entity.User;
+import im.toduck.domain.user.persistence.entity.UserStats;
+import im.toduck.domain.user.persistence.repository.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+
+@Transactional
+class UserStatsServiceTest extends ServiceTest {
+
+	@Autowired
+	private UserStatsService userStatsService;
+
+	@Autowired
+	private UserStatsRepository userStatsRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void 집계_행이_없는_사용자는_원본_테이블의_집계_값으로_행을_만든다() {
+		// given
+		User USER = testFixtureBuilder.buildUser(GENERAL_USER());
+		User FOLLOWER = testFixtureBuilder.buildUser(GENERAL_USER());
+		testFixtureBuilder.buildFollow(FOLLOWER, USER);
+		testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+		testFixtureBuilder.buildSocial(SINGLE_SOCIAL(USER, false));
+
+		// when
+		userStatsService.increasePostCount(USER.getId());
+		entityManager.clear();
+
+		// then
+		UserStats userStats = userStatsRepository.findById(USER.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(userStats.getFollowerCount()).isEqualTo(1);
+			softly.assertThat(userStats.getPostCount()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	void 팔로우하면_두_사용자의_집계_값을_모두_증감한다() {
+		// given
+		User FOLLOWER = testFixtureBuilder.buildUser(GENERAL_USER());
+		User FOLLOWED = testFixtureBuilder.buildUser(GENERAL_USER());
+		userStatsService.increasePostCount(FOLLOWER.getId());
+		userStatsService.increasePostCount(FOLLOWED.getId());
+
+		// when
+		userStatsService.increaseFollowCounts(FOLLOWED.getId(), FOLLOWER.getId());
+		userStatsService.increaseFollowCounts(FOLLOWER.getId(), FOLLOWED.getId());
+		userStatsService.decreaseFollowCounts(FOLLOWED.getId(), FOLLOWER.getId());
+		entityManager.clear();
+
+		// then
+		UserStats followerStats = userStatsRepository.findById(FOLLOWER.getId()).orElseThrow();
+		UserStats followedStats = userStatsRepository.findById(FOLLOWED.getId()).orElseThrow();
+		assertSoftly(softly -> {
+			softly.assertThat(followerStats.getFollowingCount()).isEqualTo(1);
+			softly.assertThat(followerStats.getFollowerCount()).isZero();
+			softly.assertThat(followedStats.getFollowerCount()).isEqualTo(1);
+			softly.assertThat(followedStats.getFollowingCount()).isZero();
+		});
+	}
+}
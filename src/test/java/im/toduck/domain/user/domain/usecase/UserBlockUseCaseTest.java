@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import im.toduck.ServiceTest;
+import im.toduck.domain.user.domain.service.UserService;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.domain.user.persistence.repository.BlockRepository;
 import im.toduck.fixtures.user.UserFixtures;
@@ -22,6 +23,9 @@ class UserBlockUseCaseTest extends ServiceTest {
 	@Autowired
 	private BlockRepository blockRepository;
 
+	@Autowired
+	private UserService userService;
+
 	private User blocker;
 	private User blockedUser;
 
@@ -43,6 +47,18 @@ class UserBlockUseCaseTest extends ServiceTest {
 			assertThat(blockRepository.existsByBlockerAndBlocked(blocker, blockedUser)).isTrue();
 		}
 
+		@Test
+		void 유저를_차단하면_캐시된_차단_목록에_반영된다() {
+			// given
+			userService.getBlockedUserIds(blocker.getId());
+
+			// when
+			userBlockUseCase.blockUser(blocker.getId(), blockedUser.getId());
+
+			// then
+			assertThat(userService.getBlockedUserIds(blocker.getId())).containsExactly(blockedUser.getId());
+		}
+
 		@Test
 		void 이미_차단된_유저_차단_시도시_차단에_실패한다() {
 			// given
@@ -81,6 +97,18 @@ class UserBlockUseCaseTest extends ServiceTest {
 			assertThat(blockRepository.existsByBlockerAndBlocked(blocker, blockedUser)).isFalse();
 		}
 
+		@Test
+		void 유저_차단을_해제하면_캐시된_차단_목록에_반영된다() {
+			// given
+			userService.getBlockedUserIds(blocker.getId());
+
+			// when
+			userBlockUseCase.unblockUser(blocker.getId(), blockedUser.getId());
+
+			// then
+			assertThat(userService.getBlockedUserIds(blocker.getId())).isEmpty();
+		}
+
 		@Test
 		void 차단_관계가_존재하지_않을_시_차단_해제에_실패한다() {
 			// when & then
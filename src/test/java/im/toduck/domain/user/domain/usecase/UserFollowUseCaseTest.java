@@ -2,6 +2,7 @@ package im.toduck.domain.user.domain.usecase;
 
 import static im.toduck.global.exception.ExceptionCode.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.assertj.core.api.SoftAssertions.*;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -11,8 +12,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import im.toduck.ServiceTest;
 import im.toduck.domain.user.persistence.entity.User;
 import im.toduck.domain.user.persistence.repository.FollowRepository;
+import im.toduck.domain.user.presentation.dto.response.UserSummaryDto;
 import im.toduck.fixtures.user.UserFixtures;
 import im.toduck.global.exception.CommonException;
+import im.toduck.global.presentation.dto.response.CursorPaginationResponse;
 
 class UserFollowUseCaseTest extends ServiceTest {
 
@@ -89,4 +92,58 @@ class UserFollowUseCaseTest extends ServiceTest {
 				.hasMessageContaining(NOT_FOUND_FOLLOW.getMessage());
 		}
 	}
+
+	@Nested
+	class GetFollowListTest {
+		User anotherFollower;
+
+		@BeforeEach
+		void setUp() {
+			anotherFollower = testFixtureBuilder.buildUser(UserFixtures.GENERAL_USER());
+			testFixtureBuilder.buildFollow(follower, followedUser);
+			testFixtureBuilder.buildFollow(anotherFollower, followedUser);
+			testFixtureBuilder.buildFollow(follower, anotherFollower);
+		}
+
+		@Test
+		void 팔로워_목록을_최근_팔로우_순으로_팔로우_여부와_함께_조회한다() {
+			// when
+			CursorPaginationResponse<UserSummaryDto> response = userFollowUseCase.getFollowers(
+				follower.getId(),
+				followedUser.getId(),
+				null,
+				10
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.results())
+					.extracting(UserSummaryDto::userId)
+					.containsExactly(anotherFollower.getId(), follower.getId());
+				softly.assertThat(response.results())
+					.extracting(UserSummaryDto::isFollowing)
+					.containsExactly(true, false);
+				softly.assertThat(response.hasMore()).isFalse();
+			});
+		}
+
+		@Test
+		void 팔로잉_목록을_최근_팔로우_순으로_조회한다() {
+			// when
+			CursorPaginationResponse<UserSummaryDto> response = userFollowUseCase.getFollowings(
+				follower.getId(),
+				follower.getId(),
+				null,
+				1
+			);
+
+			// then
+			assertSoftly(softly -> {
+				softly.assertThat(response.results())
+					.extracting(UserSummaryDto::userId)
+					.containsExactly(anotherFollower.getId());
+				softly.assertThat(response.hasMore()).isTrue();
+			});
+		}
+	}
 }
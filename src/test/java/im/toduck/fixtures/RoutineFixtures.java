@@ -145,6 +145,13 @@ public class RoutineFixtures {
 		return routine;
 	}
 
+	public static Routine DELETED_MONDAY_ONLY_ALL_DAY_ROUTINE(User user, LocalDateTime dateTime) {
+		Routine routine = MONDAY_ONLY_MORNING_ROUTINE_ALL_DAY(user);
+		ReflectionTestUtils.setField(routine, "deletedAt", dateTime);
+
+		return routine;
+	}
+
 	public static Routine PRIVATE_ROUTINE(User user) {
 		return Routine.builder()
 			.user(user)
@@ -0,0 +1,154 @@
+package im.toduck.global.helper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 금칙어 {@value TERM_COUNT} 개를 검사할 때 단어마다 {@link String#contains} 를 호출하는 방식과
+ * {@link AhoCorasickMatcher} 로 한 번만 훑는 방식의 처리량(MB/s)과 요청당 지연 시간을 비교합니다.
+ * <p>
+ * 요청 하나는 게시글 본문 크기의 문자열을 정규화하고 검사하는 것으로 봅니다. 측정에 수십 초가 걸리므로
+ * 기본 test 태스크에서는 제외되며, {@code ./gradlew benchmarkTest} 로 실행합니다.
+ */
+@Tag("benchmark")
+class AhoCorasickMatcherBenchmarkTest {
+	private static final Logger log = LoggerFactory.getLogger(AhoCorasickMatcherBenchmarkTest.class);
+
+	private static final int TERM_COUNT = 10_000;
+	private static final int TEXT_COUNT = 500;
+	private static final int TEXT_LENGTH = 500;
+	private static final int WARM_UP_ROUNDS = 2;
+	private static final int MEASURE_ROUNDS = 3;
+	private static final char FIRST_SYLLABLE = '가';
+	private static final int SYLLABLE_RANGE = 400;
+
+	private static List<String> terms;
+	private static List<String> texts;
+	private static long textBytes;
+
+	@BeforeAll
+	static void setUp() {
+		Random random = new Random(42);
+
+		Set<String> generatedTerms = new LinkedHashSet<>();
+		while (generatedTerms.size() < TERM_COUNT) {
+			generatedTerms.add(HangulJamoNormalizer.normalize(randomSyllables(random, 3 + random.nextInt(3))));
+		}
+		terms = List.copyOf(generatedTerms);
+
+		texts = IntStream.range(0, TEXT_COUNT)
+			.mapToObj(i -> randomSentence(random))
+			.toList();
+		textBytes = texts.stream()
+			.mapToLong(text -> text.getBytes(StandardCharsets.UTF_8).length)
+			.sum();
+	}
+
+	@Test
+	void 금칙어_검사_처리량과_요청당_지연_시간을_비교한다() {
+		// given
+		long compileStartedAt = System.nanoTime();
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(terms);
+		long compileMillis = (System.nanoTime() - compileStartedAt) / 1_000_000;
+
+		// when
+		Result naive = measure(text -> {
+			String normalized = HangulJamoNormalizer.normalize(text);
+			for (String term : terms) {
+				if (normalized.contains(term)) {
+					return true;
+				}
+			}
+			return false;
+		});
+		Result automaton = measure(text -> matcher.containsAny(HangulJamoNormalizer.normalize(text)));
+
+		// then
+		log.info("금칙어 검사 벤치마크 - TermCount: {}, 오토마톤 생성(ms): {}", TERM_COUNT, compileMillis);
+		log.info("단어별 contains - 처리량(MB/s): {}, 요청당 p50/p95/p99(us): {}/{}/{}",
+			naive.throughput(), naive.p50(), naive.p95(), naive.p99());
+		log.info("Aho-Corasick - 처리량(MB/s): {}, 요청당 p50/p95/p99(us): {}/{}/{}",
+			automaton.throughput(), automaton.p50(), automaton.p95(), automaton.p99());
+
+		assertThat(naive.matchedCount()).isEqualTo(automaton.matchedCount());
+	}
+
+	private Result measure(final TextCheck check) {
+		for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+			texts.forEach(check::contains);
+		}
+
+		long[] latencies = new long[TEXT_COUNT * MEASURE_ROUNDS];
+		long totalNanos = 0;
+		int matchedCount = 0;
+		for (int round = 0; round < MEASURE_ROUNDS; round++) {
+			matchedCount = 0;
+			for (int i = 0; i < TEXT_COUNT; i++) {
+				long startedAt = System.nanoTime();
+				boolean matched = check.contains(texts.get(i));
+				long elapsed = System.nanoTime() - startedAt;
+
+				latencies[round * TEXT_COUNT + i] = elapsed / 1_000;
+				totalNanos += elapsed;
+				matchedCount += matched ? 1 : 0;
+			}
+		}
+
+		Arrays.sort(latencies);
+		double megabytes = (double)textBytes * MEASURE_ROUNDS / (1024 * 1024);
+		double throughput = megabytes / (totalNanos / 1_000_000_000.0);
+		return new Result(
+			Math.round(throughput * 100) / 100.0,
+			percentile(latencies, 50),
+			percentile(latencies, 95),
+			percentile(latencies, 99),
+			matchedCount
+		);
+	}
+
+	/**
+	 * 공백과 문장부호가 섞인 한글 문장을 만듭니다. 자주 쓰이는 음절 범위에서 뽑으므로 일부 문장은 금칙어를 포함합니다.
+	 */
+	private static String randomSentence(final Random random) {
+		StringBuilder sentence = new StringBuilder(TEXT_LENGTH);
+		while (sentence.length() < TEXT_LENGTH) {
+			sentence.append(randomSyllables(random, 2 + random.nextInt(4)));
+			sentence.append(random.nextInt(10) == 0 ? ". " : " ");
+		}
+		return sentence.toString();
+	}
+
+	private static String randomSyllables(final Random random, final int length) {
+		StringBuilder syllables = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			syllables.append((char)(FIRST_SYLLABLE + random.nextInt(SYLLABLE_RANGE)));
+		}
+		return syllables.toString();
+	}
+
+	private long percentile(long[] sortedLatencies, int percentile) {
+		int index = (int)Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(index, 0)];
+	}
+
+	private record Result(double throughput, long p50, long p95, long p99, int matchedCount) {
+	}
+
+	@FunctionalInterface
+	private interface TextCheck {
+		boolean contains(String text);
+	}
+}
@@ -0,0 +1,49 @@
+package im.toduck.global.helper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+	@Test
+	void 문자열에_포함된_단어를_찾는다() {
+		// given
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("he", "she", "his", "hers"));
+
+		// when & then
+		assertThat(matcher.findFirst("ushers")).contains("she");
+		assertThat(matcher.findFirst("ahishers")).contains("his");
+	}
+
+	@Test
+	void 실패_링크를_따라가며_다른_단어의_접미사로_끝나는_단어도_찾는다() {
+		// given
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("abcd", "bc"));
+
+		// when & then
+		assertThat(matcher.findFirst("xabce")).contains("bc");
+	}
+
+	@Test
+	void 포함된_단어가_없으면_빈_결과를_반환한다() {
+		// given
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("abc", "bcd"));
+
+		// when & then
+		assertThat(matcher.containsAny("abbcabd")).isFalse();
+		assertThat(matcher.containsAny("")).isFalse();
+	}
+
+	@Test
+	void 빈_단어와_중복된_단어는_한_번만_등록된다() {
+		// given
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of("", "abc", "abc"));
+
+		// when & then
+		assertThat(matcher.size()).isEqualTo(1);
+		assertThat(matcher.containsAny("anything")).isFalse();
+	}
+}
@@ -193,4 +193,20 @@ class DaysOfWeekBitmaskTest {
 		// then
 		assertThat(actualBitmask).isEqualTo(expectedBitmask);
 	}
+
+	@Test
+	void nextDateAfter_메서드는_포함되지_않은_요일을_건너뛴_다음_날짜를_반환해야_한다() {
+		// given
+		DaysOfWeekBitmask bitmask = DaysOfWeekBitmask.createByDayOfWeek(
+			Arrays.asList(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+		LocalDate monday = LocalDate.of(2023, 6, 5);  // 2023-06-05는 월요일
+		LocalDate friday = LocalDate.of(2023, 6, 9);
+
+		// when & then
+		assertSoftly(softly -> {
+			softly.assertThat(bitmask.nextDateAfter(monday)).isEqualTo(friday);
+			softly.assertThat(bitmask.nextDateAfter(friday)).isEqualTo(monday.plusWeeks(1));
+			softly.assertThat(bitmask.nextDateAfter(monday.minusDays(1))).isEqualTo(monday);
+		});
+	}
 }
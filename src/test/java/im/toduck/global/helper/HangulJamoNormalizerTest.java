@@ -0,0 +1,67 @@
+package im.toduck.global.helper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HangulJamoNormalizerTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {"바 보", "바.보", "바1보", "ㅂㅏㅂㅗ", "바_보!"})
+	void 공백_숫자_특수문자와_자모_입력은_같은_문자열로_정규화된다(String text) {
+		// when & then
+		assertThat(HangulJamoNormalizer.normalize(text)).isEqualTo(HangulJamoNormalizer.normalize("바보"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"ㅁㅓㅇㅊㅓㅇㅇㅣ", "ㅁㅓㅇ ㅊㅓㅇ ㅇㅣ", "멍ㅊㅓㅇ이"})
+	void 받침이_있는_글자를_자모로_입력해도_완성형과_같은_문자열로_정규화된다(String text) {
+		// when & then
+		assertThat(HangulJamoNormalizer.normalize(text)).isEqualTo(HangulJamoNormalizer.normalize("멍청이"));
+	}
+
+	@Test
+	void 전각_문자와_대문자는_소문자_반각_문자로_정규화되고_단어_경계가_남는다() {
+		// when
+		String normalized = HangulJamoNormalizer.normalize("ＳＰＡＭ Spam");
+
+		// then
+		assertThat(normalized).isEqualTo(" spam spam ");
+	}
+
+	@Test
+	void 영문_금칙어는_단어_단위로만_일치한다() {
+		// given
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of(
+			HangulJamoNormalizer.normalize("shit"),
+			HangulJamoNormalizer.normalize("bitch")
+		));
+
+		// when & then
+		assertThat(matcher.containsAny(HangulJamoNormalizer.normalize("push it"))).isFalse();
+		assertThat(matcher.containsAny(HangulJamoNormalizer.normalize("a bit chilly"))).isFalse();
+		assertThat(matcher.containsAny(HangulJamoNormalizer.normalize("Oh, SHIT!"))).isTrue();
+		assertThat(matcher.containsAny(HangulJamoNormalizer.normalize("bitch야"))).isTrue();
+	}
+
+	@Test
+	void 한글_금칙어는_받침이_다음_글자의_초성과_겹쳐도_일치하지_않는다() {
+		// given
+		AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(List.of(HangulJamoNormalizer.normalize("곰")));
+
+		// when & then
+		assertThat(matcher.containsAny(HangulJamoNormalizer.normalize("고모"))).isFalse();
+		assertThat(matcher.containsAny(HangulJamoNormalizer.normalize("ㄱㅗㅁ 세 마리"))).isTrue();
+	}
+
+	@Test
+	void null과_빈_문자열은_빈_문자열로_정규화된다() {
+		// when & then
+		assertThat(HangulJamoNormalizer.normalize(null)).isEmpty();
+		assertThat(HangulJamoNormalizer.normalize("")).isEmpty();
+	}
+}
@@ -0,0 +1,44 @@
+package im.toduck.global.helper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SocialCategoryBitmaskTest {
+
+	@Test
+	void 카테고리_ID_목록을_ID에_대응하는_비트의_합으로_변환한다() {
+		// when
+		long bitmask = SocialCategoryBitmask.of(List.of(1L, 3L, 5L));
+
+		// then
+		assertThat(bitmask).isEqualTo(0b10101L);
+	}
+
+	@Test
+	void 중복된_카테고리_ID는_한_번만_반영된다() {
+		// when
+		long bitmask = SocialCategoryBitmask.of(List.of(2L, 2L));
+
+		// then
+		assertThat(bitmask).isEqualTo(0b10L);
+	}
+
+	@Test
+	void 비트마스크로_표현할_수_없는_카테고리_ID는_제외한다() {
+		// when
+		long bitmask = SocialCategoryBitmask.of(List.of(1L, 64L, 0L));
+
+		// then
+		assertThat(bitmask).isEqualTo(0b1L);
+	}
+
+	@Test
+	void 표현할_수_없는_카테고리_ID의_비트를_요청하면_예외가_발생한다() {
+		// when & then
+		assertThatThrownBy(() -> SocialCategoryBitmask.getCategoryBit(64L))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
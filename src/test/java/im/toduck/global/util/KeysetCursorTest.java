@@ -0,0 +1,53 @@
+package im.toduck.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+	@Nested
+	@DisplayName("from 메서드 테스트")
+	class FromTest {
+
+		@Test
+		void 숫자로만_이루어진_커서는_ID_커서로_해석한다() {
+			KeysetCursor cursor = KeysetCursor.from("100");
+
+			assertThat(cursor).isEqualTo(KeysetCursor.ofId(100L));
+		}
+
+		@Test
+		void 인코딩된_커서를_정렬_기준_값과_ID로_해석한다() {
+			String token = KeysetCursor.of(1L, 100L).encode();
+
+			KeysetCursor cursor = KeysetCursor.from(token);
+
+			assertThat(cursor).isEqualTo(KeysetCursor.of(1L, 100L));
+		}
+
+		@Test
+		void 인코딩된_ID_커서는_정렬_기준_값이_없다() {
+			String token = KeysetCursor.ofId(100L).encode();
+
+			KeysetCursor cursor = KeysetCursor.from(token);
+
+			assertThat(cursor.hasSortKey()).isFalse();
+			assertThat(cursor.id()).isEqualTo(100L);
+		}
+
+		@Test
+		void 값이_비어_있으면_null을_반환한다() {
+			assertThat(KeysetCursor.from(null)).isNull();
+			assertThat(KeysetCursor.from("")).isNull();
+		}
+
+		@Test
+		void 해석할_수_없는_커서는_예외를_발생시킨다() {
+			assertThatThrownBy(() -> KeysetCursor.from("not-a-cursor!"))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+}
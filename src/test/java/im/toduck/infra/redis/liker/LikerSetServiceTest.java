@@ -0,0 +1,73 @@
+package im.toduck.infra.redis.liker;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import im.toduck.ServiceTest;
+
+class LikerSetServiceTest extends ServiceTest {
+	private static final Long TARGET_ID = Long.MAX_VALUE - 1;
+	private static final Long USER_ID = 1L;
+	private static final Long OTHER_USER_ID = 2L;
+
+	@Autowired
+	private LikerSetService likerSetService;
+
+	@BeforeEach
+	void setUp() {
+		likerSetService.evict(LikerTarget.SOCIAL, List.of(TARGET_ID));
+	}
+
+	@Nested
+	@DisplayName("조회 이후 적재 전에 좋아요가 바뀌었을 때")
+	class WarmUpWithStaleSnapshot {
+
+		@Test
+		void 스냅샷에_없는_좋아요도_적재된_집합에_남는다() {
+			// given
+			LikerLookup lookup = likerSetService.lookup(LikerTarget.SOCIAL, USER_ID, List.of(TARGET_ID));
+			likerSetService.addLiker(LikerTarget.SOCIAL, TARGET_ID, USER_ID);
+			LikerLookup afterWriteLookup = likerSetService.lookup(LikerTarget.SOCIAL, USER_ID, List.of(TARGET_ID));
+
+			// when
+			likerSetService.warmUp(
+				LikerTarget.SOCIAL,
+				Map.of(TARGET_ID, Set.of(OTHER_USER_ID)),
+				afterWriteLookup.versions()
+			);
+
+			// then
+			assertThat(lookup.missedTargetIds()).containsExactly(TARGET_ID);
+			assertThat(likerSetService.lookup(LikerTarget.SOCIAL, USER_ID, List.of(TARGET_ID)).likedTargetIds())
+				.containsExactly(TARGET_ID);
+		}
+
+		@Test
+		void 스냅샷에_남아_있는_취소된_좋아요는_적재되지_않는다() {
+			// given
+			likerSetService.removeLiker(LikerTarget.SOCIAL, TARGET_ID, USER_ID);
+			LikerLookup lookup = likerSetService.lookup(LikerTarget.SOCIAL, USER_ID, List.of(TARGET_ID));
+
+			// when
+			likerSetService.warmUp(
+				LikerTarget.SOCIAL,
+				Map.of(TARGET_ID, Set.of(USER_ID, OTHER_USER_ID)),
+				lookup.versions()
+			);
+
+			// then
+			LikerLookup afterWarmUpLookup = likerSetService.lookup(LikerTarget.SOCIAL, USER_ID, List.of(TARGET_ID));
+			assertThat(afterWarmUpLookup.missedTargetIds()).isEmpty();
+			assertThat(afterWarmUpLookup.likedTargetIds()).isEmpty();
+		}
+	}
+}